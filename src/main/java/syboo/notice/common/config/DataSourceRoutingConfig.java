@@ -0,0 +1,91 @@
+package syboo.notice.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import syboo.notice.common.datasource.DataSourceRoute;
+import syboo.notice.common.datasource.ReadYourWritesFilter;
+import syboo.notice.common.datasource.ReplicaLagMonitor;
+import syboo.notice.common.datasource.ReplicationRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary/replica 읽기·쓰기 분리 설정.
+ * <p>
+ * {@code notice.datasource.replica.jdbc-url}이 설정된 경우에만 활성화되며, 그렇지 않으면 Spring Boot 기본 단일 DataSource를 사용한다.
+ * primary는 {@code spring.datasource.*}, replica는 {@code notice.datasource.replica.*}(Hikari 속성)로 구성한다.
+ * 두 풀은 각각 {@code hikaricp.*{pool=primary|replica}} 메트릭으로 노출된다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notice.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+    private static final String DEFAULT_LAG_QUERY =
+            "select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("notice.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${notice.datasource.replica.lag-query:" + DEFAULT_LAG_QUERY + "}") String lagQuery,
+            @Value("${notice.datasource.replica.max-lag:PT1S}") Duration maxLag) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, meterRegistry);
+    }
+
+    /**
+     * JPA와 JdbcTemplate이 사용하는 DataSource.
+     * 트랜잭션의 readOnly 여부가 확정된 뒤 라우팅되도록 실제 커넥션 획득을 첫 쿼리 시점까지 미룬다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            Clock clock,
+            @Value("${notice.datasource.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesFilter(clock, window);
+    }
+}
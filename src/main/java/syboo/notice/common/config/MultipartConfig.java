@@ -0,0 +1,48 @@
+package syboo.notice.common.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.Set;
+
+@Configuration
+public class MultipartConfig {
+
+    /**
+     * 요청 본문을 직접 스트리밍으로 소비하는 업로드 엔드포인트.
+     * 이 경로는 DispatcherServlet의 multipart 사전 파싱(임시 파일 스풀링)에서 제외된다.
+     */
+    public static final String STREAMING_UPLOAD_PATH = "/api/notices/stream";
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(
+            @Value("${spring.servlet.multipart.resolve-lazily:false}") boolean resolveLazily) {
+        StreamingAwareMultipartResolver resolver = new StreamingAwareMultipartResolver(Set.of(STREAMING_UPLOAD_PATH));
+        resolver.setResolveLazily(resolveLazily);
+        return resolver;
+    }
+
+    /**
+     * 스트리밍 업로드 경로를 multipart 요청으로 취급하지 않아, 컨테이너가 Part를 미리 파싱하지 않도록 한다.
+     * 그 외 경로는 기본 {@link StandardServletMultipartResolver}와 동일하게 동작한다.
+     */
+    static class StreamingAwareMultipartResolver extends StandardServletMultipartResolver {
+
+        private final Set<String> streamingPaths;
+
+        StreamingAwareMultipartResolver(Set<String> streamingPaths) {
+            this.streamingPaths = streamingPaths;
+        }
+
+        @Override
+        public boolean isMultipart(HttpServletRequest request) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            return !streamingPaths.contains(path) && super.isMultipart(request);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package syboo.notice.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 작업 실행 설정.
+ * <p>
+ * 집계·정리·점검 같은 일반 작업은 {@code notice.scheduling.pool-size}개(기본 4) 스레드를 나눠 쓴다.
+ * 지연에 민감한 작업(노드 간 캐시 무효화 전송, 활성 공지사항 인덱스의 게시 기간 타이머)은 {@link #TIMING_SCHEDULER}의
+ * 전용 스레드에서 실행하므로, 오래 걸리는 집계나 정리 작업이 끝나기를 기다리지 않는다.
+ * 따라서 다른 노드의 캐시 무효화는 보통 {@code notice.invalidation-bus.batch-interval}(기본 200ms) 안에,
+ * 게시 시작/종료는 {@code notice.active-index.tick}(기본 1초) 안에 반영된다.
+ * 일반 작업은 스레드가 모두 사용 중이면 앞선 작업이 끝날 때까지 밀릴 수 있다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String TIMING_SCHEDULER = "timingTaskScheduler";
+
+    /**
+     * 일반 작업용 스케줄러. {@code @Scheduled}에 스케줄러를 지정하지 않으면 이름으로 이 빈을 사용한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${notice.scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(TIMING_SCHEDULER)
+    public ThreadPoolTaskScheduler timingTaskScheduler() {
+        return scheduler("scheduling-timing-", 2);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
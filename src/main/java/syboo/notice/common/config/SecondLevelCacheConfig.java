@@ -0,0 +1,105 @@
+package syboo.notice.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 설정.
+ * <p>
+ * 공지사항/첨부파일 엔티티와 첨부파일 컬렉션, 쿼리 캐시 리전을 애플리케이션 내 Caffeine 캐시로 구성한다.
+ * 리전은 미리 생성해 두고 {@code missing_cache_strategy=fail}로 설정하므로, 설정되지 않은 리전을 쓰는 매핑은 기동 시점에 실패한다.
+ * 리전별 적중/미스/제거 통계는 {@code cache.*} 메트릭으로, Hibernate 통계는 {@code hibernate.*} 메트릭으로 노출된다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String NOTICE_REGION = "notice";
+    public static final String NOTICE_ATTACHMENT_REGION = "noticeAttachment";
+    public static final String NOTICE_ATTACHMENTS_REGION = "notice.attachments";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * 2차 캐시 리전을 담는 JCache CacheManager.
+     * <p>
+     * Caffeine 기본 CacheManager는 JVM 단위로 공유되므로(테스트의 여러 애플리케이션 컨텍스트 포함), 이미 만들어진 리전은 재사용한다.
+     * </p>
+     */
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${notice.second-level-cache.entity-max-entries:10000}") long entityMaxEntries,
+            @Value("${notice.second-level-cache.collection-max-entries:10000}") long collectionMaxEntries,
+            @Value("${notice.second-level-cache.query-max-entries:1000}") long queryMaxEntries,
+            @Value("${notice.second-level-cache.ttl:PT10M}") Duration ttl) {
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createIfAbsent(cacheManager, NOTICE_REGION, regionConfig(OptionalLong.of(entityMaxEntries), ttl));
+        createIfAbsent(cacheManager, NOTICE_ATTACHMENT_REGION, regionConfig(OptionalLong.of(entityMaxEntries), ttl));
+        createIfAbsent(cacheManager, NOTICE_ATTACHMENTS_REGION, regionConfig(OptionalLong.of(collectionMaxEntries), ttl));
+        createIfAbsent(cacheManager, QUERY_RESULTS_REGION, regionConfig(OptionalLong.of(queryMaxEntries), ttl));
+        // 타임스탬프 리전이 먼저 만료되면 오래된 쿼리 결과가 유효한 것으로 판단될 수 있으므로 크기/시간 제한을 두지 않는다.
+        createIfAbsent(cacheManager, UPDATE_TIMESTAMPS_REGION, regionConfig(OptionalLong.empty(), null));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> List.of(NOTICE_REGION, NOTICE_ATTACHMENT_REGION, NOTICE_ATTACHMENTS_REGION,
+                        QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION)
+                .forEach(region -> JCacheMetrics.monitor(registry,
+                        hibernateCacheManager.getCache(region), Tags.of("cache.type", "hibernate-l2")));
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfig(OptionalLong maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+        config.setMaximumSize(maximumSize);
+        config.setExpireAfterWrite(ttl != null ? OptionalLong.of(ttl.toNanos()) : OptionalLong.empty());
+        // Hibernate가 엔티티를 분해된 상태(CacheEntry)로 저장하므로 값 복사(store-by-value)는 불필요하다.
+        config.setStoreByValue(false);
+        config.setStatisticsEnabled(true);
+        return config;
+    }
+
+    private void createIfAbsent(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> config) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        if (cache == null) {
+            cacheManager.createCache(region, config);
+            log.info("2차 캐시 리전 생성: region='{}', maximumSize={}, expireAfterWrite={}",
+                    region, config.getMaximumSize(), config.getExpireAfterWrite());
+        }
+    }
+}
@@ -19,6 +19,12 @@ public class SwaggerConfig {
     @Value("${spring.servlet.multipart.max-request-size:50MB}")
     private String maxRequestSize;
 
+    @Value("${notice.upload.stream.max-file-size:100MB}")
+    private String streamMaxFileSize;
+
+    @Value("${notice.upload.stream.max-request-size:500MB}")
+    private String streamMaxRequestSize;
+
     @Bean
     public OpenAPI noticeOpenAPI() {
         String description = """
@@ -33,7 +39,8 @@ public class SwaggerConfig {
                 **[파일 업로드 제한]**
                 - 개별 파일 최대: %s
                 - 전체 요청 최대: %s
-                """.formatted(maxFileSize, maxRequestSize);
+                - 스트리밍 업로드(`/api/notices/stream`) 개별 파일 최대: %s, 전체 요청 최대: %s
+                """.formatted(maxFileSize, maxRequestSize, streamMaxFileSize, streamMaxRequestSize);
 
         return new OpenAPI()
                 .servers(List.of(new Server().url("http://localhost:8080").description("로컬 서버")))
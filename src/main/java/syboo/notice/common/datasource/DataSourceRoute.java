@@ -0,0 +1,9 @@
+package syboo.notice.common.datasource;
+
+/**
+ * 커넥션을 가져올 대상 풀.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
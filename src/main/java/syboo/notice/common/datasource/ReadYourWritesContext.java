@@ -0,0 +1,49 @@
+package syboo.notice.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청의 읽기 전용 트랜잭션을 primary로 고정해야 하는지 여부를 담는 스레드 로컬 컨텍스트.
+ * <p>
+ * 클라이언트가 직전에 변경 요청을 보냈다면 replica에는 아직 변경이 반영되지 않았을 수 있으므로,
+ * {@link ReadYourWritesFilter}가 일정 시간 동안 해당 클라이언트의 조회를 primary로 보낸다.
+ * </p>
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * 작업 동안만 읽기 전용 트랜잭션을 primary로 고정하고, 끝나면 이전 상태로 되돌린다.
+     * 결과가 여러 요청이 공유하는 캐시에 들어가 replica 지연이 캐시에 남으면 안 되는 조회에 사용한다.
+     * 작업 전에 이미 쿼리를 실행해 커넥션을 얻은 트랜잭션에는 영향이 없다.
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package syboo.notice.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 변경 요청을 보낸 클라이언트의 조회를 일정 시간 동안 primary로 고정한다(read-your-writes).
+ * <p>
+ * 변경 요청(POST/PUT/PATCH/DELETE)이 들어오면 고정 만료 시각을 쿠키로 내려주고,
+ * 이후 요청에서 쿠키가 유효하면 해당 요청의 읽기 전용 트랜잭션을 primary로 보낸다.
+ * 상태를 쿠키에 담으므로 서버 인스턴스가 여러 대여도 별도 저장소 없이 동작한다.
+ * </p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "notice-primary-until";
+
+    private static final Set<String> MUTATING_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final Clock clock;
+    private final Duration window;
+
+    public ReadYourWritesFilter(Clock clock, Duration window) {
+        this.clock = clock;
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean pinned = pinnedUntil(request) > now;
+
+        // 응답 본문이 쓰이기 전에 쿠키를 내려야 하므로 처리 결과와 무관하게 요청 시점에 발급한다.
+        if (MUTATING_METHODS.contains(request.getMethod())) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, String.valueOf(now + window.toMillis()))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            pinned = true;
+        }
+
+        if (pinned) {
+            ReadYourWritesContext.pinPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
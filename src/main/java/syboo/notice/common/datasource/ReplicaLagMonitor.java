@@ -0,0 +1,86 @@
+package syboo.notice.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica의 복제 지연을 주기적으로 측정하여 읽기 트래픽을 보내도 되는지 판단한다.
+ * <p>
+ * 지연 측정 쿼리는 초 단위 지연값 하나를 반환해야 한다(PostgreSQL 기본값: 마지막 WAL 재생 이후 경과 시간).
+ * 쿼리가 비어 있으면 연결 가능 여부만 확인한다. 측정에 실패하거나 지연이 허용치를 넘으면
+ * 다음 측정에서 회복될 때까지 모든 읽기를 primary로 보낸다.
+ * </p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Gauge.builder("notice.datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("replica 복제 지연(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("notice.datasource.replica.usable", this, m -> m.replicaUsable ? 1 : 0)
+                .description("replica로 읽기를 보내는지 여부")
+                .register(meterRegistry);
+
+        // 기동 직후의 읽기 요청도 판단할 수 있도록 첫 측정은 즉시 수행한다.
+        check();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${notice.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        boolean usable;
+        try (Connection connection = replica.getConnection()) {
+            if (StringUtils.hasText(lagQuery)) {
+                lagSeconds = queryLag(connection);
+                usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+            } else {
+                lagSeconds = 0;
+                usable = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+        } catch (SQLException e) {
+            log.warn("replica 상태 확인 실패, 읽기를 primary로 전환합니다: {}", e.getMessage());
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.info("replica 읽기 라우팅 상태 변경: usable={}, lag={}s, maxLag={}", usable, lagSeconds, maxLag);
+        }
+        replicaUsable = usable;
+    }
+
+    private double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getDouble(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package syboo.notice.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 외에는 primary로 커넥션을 라우팅한다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 이후에야 확정되므로, 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 커넥션을 얻도록 한다.
+ * 다음 경우에는 읽기 전용이더라도 primary를 사용한다.
+ * </p>
+ * <ul>
+ *     <li>클라이언트가 직전에 변경 요청을 보낸 경우 ({@link ReadYourWritesContext})</li>
+ *     <li>replica 지연이 허용치를 넘었거나 연결할 수 없는 경우 ({@link ReplicaLagMonitor})</li>
+ * </ul>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<DataSourceRoute, Counter> routeCounters = new EnumMap<>(DataSourceRoute.class);
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routeCounters.put(route, Counter.builder("notice.datasource.route")
+                    .description("라우팅된 커넥션 획득 수")
+                    .tag("target", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = resolveRoute();
+        routeCounters.get(route).increment();
+        return route;
+    }
+
+    private DataSourceRoute resolveRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        if (ReadYourWritesContext.isPrimaryPinned()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+}
@@ -1,5 +1,6 @@
 package syboo.notice.common.exception;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +38,22 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("VALIDATION_FAILED", errors));
     }
 
+    /**
+     * [400] 수동 검증(스트리밍 업로드 등) 실패 시 상세 메시지 반환
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    protected ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException e) {
+        Map<String, String> errors = new HashMap<>();
+        e.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        log.warn("입력값 검증 실패: {}", errors);
+
+        return ResponseEntity
+                .badRequest()
+                .body(ErrorResponse.of("VALIDATION_FAILED", errors));
+    }
+
     /**
      * [400] 비즈니스 로직 제약 조건 위반 시 발생한다.
      */
@@ -73,10 +90,14 @@ public class GlobalExceptionHandler {
     /**
      * [404] 리소스(공지사항, 파일 등)를 찾을 수 없을 때 발생한다.
      */
-    @ExceptionHandler({NoticeNotFoundException.class, FileInvalidException.class})
+    @ExceptionHandler({NoticeNotFoundException.class, FileInvalidException.class, UploadSessionNotFoundException.class})
     protected ResponseEntity<ErrorResponse> handleNotFoundException(RuntimeException e) {
         log.warn("리소스 조회 실패: {}", e.getMessage());
-        String code = (e instanceof NoticeNotFoundException) ? "NOT_FOUND" : "FILE_NOT_FOUND";
+        String code = switch (e) {
+            case NoticeNotFoundException ignored -> "NOT_FOUND";
+            case UploadSessionNotFoundException ignored -> "UPLOAD_SESSION_NOT_FOUND";
+            default -> "FILE_NOT_FOUND";
+        };
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(ErrorResponse.of(code, e.getMessage()));
@@ -93,6 +114,19 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("CONCURRENCY_CONFLICT", "다른 사용자에 의해 수정된 데이터입니다. 새로고침 후 다시 시도해주세요."));
     }
 
+    /**
+     * [409] 업로드 세션의 현재 오프셋과 맞지 않는 청크가 전달되었을 때 발생한다.
+     * 클라이언트가 바로 이어 올릴 수 있도록 현재 오프셋을 Upload-Offset 헤더로 알려준다.
+     */
+    @ExceptionHandler(UploadConflictException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadConflictException(UploadConflictException e) {
+        log.warn("업로드 세션 충돌: {} (currentOffset={})", e.getMessage(), e.getCurrentOffset());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .header("Upload-Offset", String.valueOf(e.getCurrentOffset()))
+                .body(ErrorResponse.of("UPLOAD_OFFSET_MISMATCH", e.getMessage()));
+    }
+
     /**
      * [413] 파일 용량 제한을 초과했을 때 발생한다.
      */
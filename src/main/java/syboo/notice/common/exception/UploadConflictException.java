@@ -0,0 +1,17 @@
+package syboo.notice.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 청크 오프셋 불일치, 동시 청크 업로드 등 업로드 세션 상태와 충돌하는 요청 시 발생하는 예외입니다.
+ * 클라이언트는 {@link #getCurrentOffset()}부터 이어서 업로드하면 됩니다.
+ */
+@Getter
+public class UploadConflictException extends RuntimeException {
+    private final long currentOffset;
+
+    public UploadConflictException(String message, long currentOffset) {
+        super(message);
+        this.currentOffset = currentOffset;
+    }
+}
@@ -0,0 +1,7 @@
+package syboo.notice.common.exception;
+
+public class UploadSessionNotFoundException extends RuntimeException {
+    public UploadSessionNotFoundException(String sessionId) {
+        super("업로드 세션이 존재하지 않거나 만료되었습니다. id=" + sessionId);
+    }
+}
@@ -0,0 +1,151 @@
+package syboo.notice.notice.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.notice.api.request.CompleteUploadRequest;
+import syboo.notice.notice.api.request.CreateUploadSessionRequest;
+import syboo.notice.notice.api.response.UploadSessionResponse;
+import syboo.notice.notice.application.ChunkedUploadService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+@Tag(name = "Chunked Upload API", description = "대용량 첨부파일의 청크 단위 이어 올리기(Resumable Upload)를 관리한다.")
+@Slf4j
+@RestController
+@RequestMapping("/api/notices/uploads")
+@RequiredArgsConstructor
+@Validated
+public class ChunkedUploadController {
+
+    private static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 업로드 세션을 생성한다.
+     * @return 생성된 세션 정보와 201 Created 상태코드 (Location 헤더에 세션 URI 포함)
+     */
+    @Operation(summary = "업로드 세션 생성", description = "파일명과 전체 크기를 선언하여 청크 업로드 세션을 생성한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "세션 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "유효성 검사 실패"),
+            @ApiResponse(responseCode = "413", description = "허용 용량 초과")
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UploadSessionResponse> createSession(@RequestBody @Valid CreateUploadSessionRequest request) {
+        log.info("청크 업로드 세션 생성 요청: fileName='{}', fileSize={}", request.fileName(), request.fileSize());
+
+        UploadSessionResponse response = chunkedUploadService.createSession(request.fileName(), request.fileSize());
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{sessionId}")
+                .buildAndExpand(response.sessionId())
+                .toUri();
+
+        return ResponseEntity.created(location)
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.receivedBytes()))
+                .body(response);
+    }
+
+    /**
+     * 업로드 세션 상태를 조회한다. 중단된 업로드는 응답의 receivedBytes부터 이어서 보낸다.
+     */
+    @Operation(summary = "업로드 세션 상태 조회", description = "서버에 확정된 오프셋(receivedBytes)을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨")
+    })
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<UploadSessionResponse> getSession(@PathVariable String sessionId) {
+        UploadSessionResponse response = chunkedUploadService.getSession(sessionId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.receivedBytes()))
+                .body(response);
+    }
+
+    /**
+     * 요청 본문(application/octet-stream)을 지정한 오프셋부터 기록한다.
+     * 본문은 메모리에 올리지 않고 요청 스트림에서 바로 저장소로 흘려보낸다.
+     *
+     * @param offset 청크의 시작 오프셋 (세션의 receivedBytes와 같아야 함)
+     */
+    @Operation(summary = "청크 업로드", description = "지정한 오프셋부터 청크를 기록한다. 오프셋이 어긋나면 409와 함께 현재 오프셋을 Upload-Offset 헤더로 반환한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "청크 기록 성공"),
+            @ApiResponse(responseCode = "403", description = "허용되지 않는 파일 형식 (첫 청크)"),
+            @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨"),
+            @ApiResponse(responseCode = "409", description = "오프셋 불일치 또는 동시 업로드")
+    })
+    @PutMapping(value = "/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            @PathVariable String sessionId,
+            @RequestParam @Min(0) long offset,
+            HttpServletRequest request) {
+
+        UploadSessionResponse response;
+        try (InputStream content = request.getInputStream()) {
+            response = chunkedUploadService.appendChunk(sessionId, offset, content);
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 청크를 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.receivedBytes()))
+                .body(response);
+    }
+
+    /**
+     * 모든 청크가 수신된 파일을 공지사항의 첨부파일로 확정한다.
+     * @return 생성된 첨부파일 ID와 201 Created 상태코드 (Location 헤더에 다운로드 URI 포함)
+     */
+    @Operation(summary = "업로드 완료", description = "수신이 끝난 파일을 검증(선택적 체크섬 대조)한 뒤 공지사항에 첨부한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "첨부 확정 성공"),
+            @ApiResponse(responseCode = "403", description = "체크섬 불일치"),
+            @ApiResponse(responseCode = "404", description = "세션 또는 공지사항이 없음"),
+            @ApiResponse(responseCode = "409", description = "아직 수신되지 않은 청크가 있음")
+    })
+    @PostMapping(value = "/{sessionId}/complete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Long> complete(
+            @PathVariable String sessionId,
+            @RequestBody @Valid CompleteUploadRequest request) {
+
+        Long attachmentId = chunkedUploadService.complete(sessionId, request.noticeId(), request.checksum());
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/notices/attachments/{fileId}")
+                .buildAndExpand(attachmentId)
+                .toUri();
+
+        return ResponseEntity.created(location).body(attachmentId);
+    }
+
+    /**
+     * 업로드를 중단하고 세션과 스테이징 파일을 폐기한다.
+     */
+    @Operation(summary = "업로드 중단", description = "업로드 세션과 지금까지 수신한 데이터를 폐기한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "중단 성공"),
+            @ApiResponse(responseCode = "404", description = "세션이 없음")
+    })
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> abort(@PathVariable String sessionId) {
+        chunkedUploadService.abort(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
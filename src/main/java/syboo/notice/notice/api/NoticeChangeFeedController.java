@@ -0,0 +1,156 @@
+package syboo.notice.notice.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import syboo.notice.notice.api.response.NoticeChangeFeedResponse;
+import syboo.notice.notice.application.NoticeChangeFeedService;
+import syboo.notice.notice.infra.changefeed.ChangeFeedSignal;
+import syboo.notice.notice.infra.push.NoticePushBroadcaster;
+
+import java.time.Duration;
+
+@Tag(name = "Notice Change Feed API", description = "클라이언트 로컬 사본 동기화를 위한 공지사항 변경 피드와 실시간 구독을 제공한다.")
+@Slf4j
+@RestController
+@RequestMapping("/api/notices/changes")
+public class NoticeChangeFeedController {
+
+    private final NoticeChangeFeedService changeFeedService;
+    private final ChangeFeedSignal changeFeedSignal;
+    private final NoticePushBroadcaster pushBroadcaster;
+    private final Duration maxWait;
+
+    public NoticeChangeFeedController(
+            NoticeChangeFeedService changeFeedService,
+            ChangeFeedSignal changeFeedSignal,
+            NoticePushBroadcaster pushBroadcaster,
+            @Value("${notice.change-feed.max-wait:PT30S}") Duration maxWait) {
+        this.changeFeedService = changeFeedService;
+        this.changeFeedSignal = changeFeedSignal;
+        this.pushBroadcaster = pushBroadcaster;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 커서 이후의 공지사항 변경(생성/수정/삭제)을 조회합니다.
+     * <p>
+     * {@code wait}(초)를 지정하면 새 변경이 없을 때 최대 그 시간 동안 응답을 보류했다가(long-poll) 변경이 커밋되는 즉시 반환합니다.
+     * 대기 시간이 끝나도 변경이 없으면 같은 커서로 빈 목록을 반환합니다.
+     * </p>
+     *
+     * @param since 마지막으로 받은 커서 (생략 시 현재 커서만 반환)
+     * @param limit 한 번에 받을 최대 변경 수
+     * @param wait  변경이 없을 때 기다릴 최대 시간(초), 0이면 바로 반환
+     */
+    @Operation(summary = "공지사항 변경 피드 조회",
+            description = "since 커서 이후의 생성/수정/삭제를 번호 순으로 반환한다. wait를 지정하면 변경이 생길 때까지 기다린다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (resyncRequired=true이면 전체 목록을 다시 받아야 함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 limit")
+    })
+    @GetMapping
+    public DeferredResult<ResponseEntity<NoticeChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") long wait) {
+
+        Duration waitTime = Duration.ofSeconds(Math.max(0, wait));
+        if (waitTime.compareTo(maxWait) > 0) {
+            waitTime = maxWait;
+        }
+
+        if (since == null || waitTime.isZero()) {
+            DeferredResult<ResponseEntity<NoticeChangeFeedResponse>> result = new DeferredResult<>();
+            result.setResult(toResponse(changeFeedService.getChanges(since, limit)));
+            return result;
+        }
+
+        DeferredResult<ResponseEntity<NoticeChangeFeedResponse>> result = new DeferredResult<>(waitTime.toMillis());
+        result.onTimeout(() -> result.setResult(toResponse(NoticeChangeFeedResponse.empty(since))));
+
+        // 조회와 대기 등록 사이에 커밋된 변경을 놓치지 않도록, 먼저 알림을 구독한 뒤 조회한다.
+        Runnable unsubscribe = awaitChanges(result, since, limit);
+        NoticeChangeFeedResponse feed;
+        try {
+            feed = changeFeedService.getChanges(since, limit);
+        } catch (RuntimeException e) {
+            unsubscribe.run();
+            throw e;
+        }
+        if (hasNews(feed)) {
+            result.setResult(toResponse(feed));
+        }
+        return result;
+    }
+
+    /**
+     * 공지사항 변경을 Server-Sent Events로 구독합니다.
+     * <p>
+     * 커밋된 생성/수정/삭제는 {@code created}/{@code updated}/{@code deleted} 이벤트로, 게시 시작/종료는
+     * {@code activated}/{@code expired} 이벤트로 전달됩니다. 생성/수정/게시 시작 이벤트의 본문은 목록 요약 정보입니다.
+     * 재연결 시 {@code Last-Event-ID}(또는 {@code lastEventId} 파라미터)를 보내면 그 이후의 변경을 먼저 재생하며,
+     * 재생할 수 없을 만큼 오래된 경우 {@code resync} 이벤트를 보냅니다.
+     * </p>
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시)
+     */
+    @Operation(summary = "공지사항 변경 구독 (SSE)",
+            description = "공지사항 생성/수정/삭제와 게시 시작/종료를 Server-Sent Events로 실시간 전달한다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventId) {
+        Long resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        if (resumeFrom != null && resumeFrom < 0) {
+            throw new IllegalArgumentException("Last-Event-ID는 0 이상이어야 합니다.");
+        }
+        log.debug("SSE 구독 시작: lastEventId={}", resumeFrom);
+        return pushBroadcaster.subscribe(resumeFrom);
+    }
+
+    private Runnable awaitChanges(DeferredResult<ResponseEntity<NoticeChangeFeedResponse>> result, long since, int limit) {
+        Runnable unsubscribe = changeFeedSignal.subscribe(() -> {
+            if (result.isSetOrExpired()) {
+                return;
+            }
+            try {
+                NoticeChangeFeedResponse feed = changeFeedService.getChanges(since, limit);
+                if (!hasNews(feed)) {
+                    // 복제 지연 등으로 아직 보이지 않으면 다음 알림을 기다린다.
+                    awaitChanges(result, since, limit);
+                    return;
+                }
+                result.setResult(toResponse(feed));
+            } catch (RuntimeException e) {
+                log.warn("변경 피드 대기 중 조회 실패: since={}", since, e);
+                result.setErrorResult(e);
+            }
+        });
+        result.onCompletion(unsubscribe);
+        return unsubscribe;
+    }
+
+    private boolean hasNews(NoticeChangeFeedResponse feed) {
+        return !feed.changes().isEmpty() || feed.resyncRequired();
+    }
+
+    private ResponseEntity<NoticeChangeFeedResponse> toResponse(NoticeChangeFeedResponse feed) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(feed);
+    }
+}
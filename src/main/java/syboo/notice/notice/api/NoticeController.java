@@ -5,31 +5,53 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriUtils;
 import syboo.notice.notice.api.request.CreateNoticeRequest;
 import syboo.notice.notice.api.request.UpdateNoticeRequest;
 import syboo.notice.notice.api.response.FileDownloadResponse;
+import syboo.notice.notice.api.response.ThumbnailResponse;
+import syboo.notice.notice.application.AttachmentThumbnailService;
 import syboo.notice.notice.application.NoticeFileService;
 import syboo.notice.notice.application.NoticeService;
 import syboo.notice.notice.application.command.CreateNoticeCommand;
 import syboo.notice.notice.application.command.UpdateNoticeCommand;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.download.DownloadGrant;
+import syboo.notice.notice.infra.upload.StreamingMultipartReader;
+import syboo.notice.notice.infra.util.HttpValidators;
+import syboo.notice.notice.repository.AttachmentArchiveEntry;
+import syboo.notice.notice.repository.AttachmentRevision;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Tag(name = "Notice API", description = "공지사항 생성, 수정, 삭제 및 첨부파일 다운로드를 관리한다.")
 @Slf4j
@@ -41,6 +63,9 @@ public class NoticeController {
 
     private final NoticeService noticeService;
     private final NoticeFileService noticeFileService;
+    private final AttachmentThumbnailService attachmentThumbnailService;
+    private final StreamingMultipartReader streamingMultipartReader;
+    private final Validator validator;
 
     /**
      * 신규 공지사항을 등록한다.
@@ -68,6 +93,52 @@ public class NoticeController {
         return ResponseEntity.created(location).body(noticeId);
     }
 
+    /**
+     * 첨부파일을 임시 파일로 스풀링하지 않고, 요청 본문을 파트 단위로 흘려보내며 신규 공지사항을 등록한다.
+     * <p>
+     * 파일 파트는 도착하는 즉시 MIME 검증 → SHA-256 해싱 → 저장소 기록을 한 번의 읽기로 수행한다.
+     * 폼 필드는 파일 파트보다 뒤에 와도 되며, 필드 검증에 실패하면 먼저 저장된 파일은 정리된다.
+     * </p>
+     * @param request multipart/form-data 원본 요청 (title, content, author, noticeStartAt, noticeEndAt, attachments)
+     * @return 생성된 공지사항의 식별자(ID)와 201 Created 상태코드
+     */
+    @Operation(summary = "신규 공지사항 등록 (스트리밍 업로드)", description = "대용량 첨부파일을 임시 파일 없이 스트리밍으로 업로드하며 공지사항을 생성한다. 요청 형식은 일반 등록 API와 동일하다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "등록 성공 (Location 헤더에 생성된 리소스 URI 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 유효성 검사 실패"),
+            @ApiResponse(responseCode = "413", description = "파일 또는 요청 전체 용량 제한 초과")
+    })
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Long> createNoticeStreaming(HttpServletRequest request) {
+        Map<String, String> fields = new HashMap<>();
+        List<NoticeAttachment> storedAttachments = new ArrayList<>();
+
+        try {
+            streamingMultipartReader.read(request, fields::put, (fieldName, originFileName, content) -> {
+                if (!"attachments".equals(fieldName)) {
+                    log.warn("알 수 없는 파일 파트 무시: field='{}'", fieldName);
+                    return;
+                }
+                storedAttachments.add(noticeFileService.storeStream(originFileName, content));
+            });
+
+            CreateNoticeRequest createRequest = toStreamingRequest(fields);
+
+            log.info("공지사항 스트리밍 등록 요청: title='{}', author='{}', fileCount={}",
+                    createRequest.title(), createRequest.author(), storedAttachments.size());
+
+            Long noticeId = noticeService.createNotice(toCommand(createRequest), storedAttachments);
+
+            log.info("공지사항 스트리밍 등록 완료: id={}", noticeId);
+
+            return ResponseEntity.created(createNoticeLocationUri(noticeId)).body(noticeId);
+        } catch (RuntimeException e) {
+            // 공지사항에 연결되지 못한 물리 파일 정리
+            noticeFileService.discardStored(storedAttachments);
+            throw e;
+        }
+    }
+
     /**
      * 기존 공지사항을 수정한다.
      *
@@ -131,6 +202,50 @@ public class NoticeController {
                 .toUri();
     }
 
+    /**
+     * 스트리밍 요청처럼 현재 요청 경로가 리소스 컬렉션 경로와 다를 때 사용하는 Location URI를 생성한다.
+     */
+    private static URI createNoticeLocationUri(Long noticeId) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/notices/{id}")
+                .buildAndExpand(noticeId)
+                .toUri();
+    }
+
+    /**
+     * 스트리밍으로 수신한 폼 필드를 등록 요청 DTO로 변환하고, {@code @Valid}와 동일한 제약 조건으로 검증한다.
+     */
+    private CreateNoticeRequest toStreamingRequest(Map<String, String> fields) {
+        CreateNoticeRequest request = new CreateNoticeRequest(
+                fields.get("title"),
+                fields.get("content"),
+                fields.get("author"),
+                parseDateTime(fields, "noticeStartAt"),
+                parseDateTime(fields, "noticeEndAt"),
+                null
+        );
+
+        Set<ConstraintViolation<CreateNoticeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        return request;
+    }
+
+    private static LocalDateTime parseDateTime(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " 값이 올바른 일시 형식(ISO-8601)이 아닙니다.");
+        }
+    }
+
     /**
      * 등록 요청 DTO를 서비스용 Command 객체로 매핑한다.
      */
@@ -189,16 +304,61 @@ public class NoticeController {
                     responseCode = "200", description = "파일 다운로드 성공",
                     content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)
             ),
+            @ApiResponse(responseCode = "304", description = "파일 변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "403", description = "비정상적인 경로 접근 (보안 위반)"),
             @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
     })
     @GetMapping("/attachments/{fileId}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable @Min(1) Long fileId) {
+    public ResponseEntity<Resource> downloadFile(@PathVariable @Min(1) Long fileId, WebRequest webRequest) {
         log.info("첨부파일 다운로드 API 호출: fileId={}", fileId);
 
+        // 첨부파일은 저장 후 변경되지 않으므로 체크섬을 강한 ETag로 사용
+        // 클라이언트 사본이 최신이면 파일을 읽거나 해시를 재계산하지 않고 304 응답
+        AttachmentRevision revision = noticeFileService.getAttachmentRevision(fileId);
+        if (webRequest.checkNotModified(
+                HttpValidators.strongETag(revision.checksum()),
+                HttpValidators.toEpochMilli(revision.createdDate()))) {
+            return null;
+        }
+
         // Record의 필드 접근은 메서드 호출 방식을 사용 (get 접미사 없음)
         FileDownloadResponse response = noticeFileService.downloadFile(fileId);
 
+        return attachmentResponse(response, CacheControl.noCache()); // 게시 기간 종료 여부를 매번 재검증
+    }
+
+    /**
+     * 공지사항 상세 응답의 서명된 링크로 첨부파일을 내려받는다.
+     * <p>
+     * 링크에 파일 정보와 만료 시각(게시 종료일시)이 서명되어 있으므로 DB를 조회하지 않고 바로 파일을 응답한다.
+     * </p>
+     *
+     * @param token 서명된 다운로드 토큰
+     * @return 파일 바이너리 리소스를 포함한 {@link ResponseEntity}
+     */
+    @Operation(summary = "서명된 링크로 첨부파일 다운로드", description = "상세 조회 응답의 downloadUrl로 첨부파일을 내려받습니다. 링크는 공지사항 게시 종료 시 만료됩니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "파일 다운로드 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            ),
+            @ApiResponse(responseCode = "304", description = "파일 변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "403", description = "위조·만료된 링크, 게시 종료된 공지사항, 파일 변조 감지"),
+            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+    })
+    @GetMapping("/downloads/{token}")
+    public ResponseEntity<Resource> downloadSigned(@PathVariable String token, WebRequest webRequest) {
+        DownloadGrant grant = noticeFileService.verifyDownloadToken(token);
+
+        // 체크섬을 강한 ETag로 사용해 클라이언트 사본이 최신이면 파일을 읽지 않고 304 응답
+        if (webRequest.checkNotModified(HttpValidators.strongETag(grant.checksum()))) {
+            return null;
+        }
+
+        return attachmentResponse(noticeFileService.downloadFile(grant), CacheControl.noCache());
+    }
+
+    private ResponseEntity<Resource> attachmentResponse(FileDownloadResponse response, CacheControl cacheControl) {
         // 한글 파일명 깨짐 방지 인코딩 (StandardCharsets.UTF_8 사용)
         String encodedFileName = UriUtils.encode(response.originFileName(), StandardCharsets.UTF_8);
 
@@ -210,8 +370,89 @@ public class NoticeController {
         log.debug("파일 다운로드 응답 생성 완료: originName='{}'", response.originFileName());
 
         return ResponseEntity.ok()
+                .cacheControl(cacheControl)
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
                 .contentType(MediaType.APPLICATION_OCTET_STREAM) // 이진 데이터 스트림 명시
                 .body(response.resource());
     }
+
+    /**
+     * 이미지 첨부파일의 썸네일을 내려받는다.
+     * <p>
+     * 업로드 직후 미리 만든 썸네일을 제공하며, 없으면 요청 시 생성한다. 썸네일은 원본과 너비로 결정되므로
+     * 원본 체크섬과 너비를 강한 ETag로 사용한다.
+     * </p>
+     *
+     * @param fileId 첨부파일 식별자
+     * @param width  썸네일 너비 (설정된 값 중 하나, 생략 시 가장 작은 너비)
+     * @return 썸네일 이미지 리소스
+     */
+    @Operation(summary = "첨부 이미지 썸네일", description = "이미지 첨부파일(JPEG, PNG)을 설정된 너비로 축소한 썸네일을 반환합니다. 원본보다 크게 늘리지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "썸네일 반환 성공",
+                    content = {@Content(mediaType = MediaType.IMAGE_JPEG_VALUE), @Content(mediaType = MediaType.IMAGE_PNG_VALUE)}
+            ),
+            @ApiResponse(responseCode = "304", description = "썸네일 변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 썸네일 너비"),
+            @ApiResponse(responseCode = "403", description = "게시 기간이 아니거나 원본 파일 변조 감지"),
+            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없거나 이미지가 아님")
+    })
+    @GetMapping("/attachments/{fileId}/thumbnail")
+    public ResponseEntity<Resource> downloadThumbnail(
+            @PathVariable @Min(1) Long fileId,
+            @RequestParam(required = false) Integer width,
+            WebRequest webRequest) {
+        log.debug("첨부 이미지 썸네일 API 호출: fileId={}, width={}", fileId, width);
+
+        int resolvedWidth = attachmentThumbnailService.resolveWidth(width);
+
+        // 게시 기간 확인 및 조건부 요청 판단 (원본 다운로드와 동일한 기준)
+        AttachmentRevision revision = noticeFileService.getAttachmentRevision(fileId);
+        String eTag = HttpValidators.strongETag(revision.checksum() + "-w" + resolvedWidth);
+        if (webRequest.checkNotModified(eTag, HttpValidators.toEpochMilli(revision.createdDate()))) {
+            return null;
+        }
+
+        ThumbnailResponse response = attachmentThumbnailService.getThumbnail(fileId, resolvedWidth);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 게시 기간 종료 여부를 매번 재검증
+                .contentType(MediaType.parseMediaType(response.contentType()))
+                .body(response.resource());
+    }
+
+    /**
+     * 공지사항의 모든 첨부파일을 ZIP 하나로 내려받는다.
+     * <p>
+     * 임시 파일 없이 응답을 쓰면서 ZIP을 만들기 때문에 Content-Length 없이 전송되며, 파일 수·크기와 관계없이 메모리 사용량이 일정하다.
+     * 스트리밍 중 파일 변조가 감지되면 전송을 중단한다.
+     * </p>
+     *
+     * @param id 공지사항 식별자
+     * @return ZIP 바이너리 스트림
+     */
+    @Operation(summary = "첨부파일 묶음 다운로드", description = "공지사항의 모든 첨부파일을 ZIP으로 묶어 스트리밍합니다. 각 파일의 무결성을 전송 중에 검증합니다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "ZIP 스트리밍 시작",
+                    content = @Content(mediaType = "application/zip")
+            ),
+            @ApiResponse(responseCode = "403", description = "게시 기간이 아님"),
+            @ApiResponse(responseCode = "404", description = "공지사항 또는 첨부파일 없음")
+    })
+    @GetMapping("/{id}/attachments.zip")
+    public ResponseEntity<StreamingResponseBody> downloadAllAttachments(@PathVariable @Min(1) Long id) {
+        log.info("첨부파일 묶음 다운로드 API 호출: noticeId={}", id);
+
+        // 게시 기간과 첨부파일 목록은 응답을 시작하기 전에 확인해 오류를 상태 코드로 돌려준다.
+        List<AttachmentArchiveEntry> entries = noticeFileService.prepareArchive(id);
+        String fileName = "notice-" + id + "-attachments.zip";
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(out -> noticeFileService.writeArchive(entries, out));
+    }
 }
@@ -1,25 +1,51 @@
 package syboo.notice.notice.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import syboo.notice.notice.api.request.NoticeSearchCondition;
 import syboo.notice.notice.api.response.NoticeDetailResponse;
-import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.api.response.NoticeViewHistoryResponse;
+import syboo.notice.notice.api.response.PopularNoticeResponse;
 import syboo.notice.notice.application.NoticeQueryService;
+import syboo.notice.notice.infra.cache.EncodedPayload;
+import syboo.notice.notice.infra.cache.NoticePayloadCache;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
+import syboo.notice.notice.infra.popular.PopularNoticeTracker;
+import syboo.notice.notice.infra.popular.PopularWindow;
+import syboo.notice.notice.infra.util.HttpValidators;
+import syboo.notice.notice.infra.view.ViewDeduplicator;
+import syboo.notice.notice.infra.viewstats.ViewEventAggregator;
+import syboo.notice.notice.repository.AttachmentTextRevision;
+import syboo.notice.notice.repository.NoticeListRevision;
+import syboo.notice.notice.repository.NoticeRevision;
+import syboo.notice.notice.repository.ViewGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(name = "Notice Query API", description = "공지사항 목록 조회 및 상세 조회를 관리한다.")
 @Slf4j
@@ -29,11 +55,18 @@ import syboo.notice.notice.application.NoticeQueryService;
 public class NoticeQueryController {
 
     private final NoticeQueryService noticeQueryService;
+    private final NoticePayloadCache noticePayloadCache;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ActiveNoticeIndex activeNoticeIndex;
+    private final PopularNoticeTracker popularNoticeTracker;
+    private final ViewEventAggregator viewEventAggregator;
 
     /**
      * 공지사항 목록을 페이징하여 조회합니다.
      * <p>
      * 기본적으로 최신 등록순(createdDate DESC)으로 정렬되며, 한 페이지당 10개의 데이터를 반환합니다.
+     * 응답은 직렬화·압축이 끝난 바이트 캐시에서 제공되며, Accept-Encoding에 따라 gzip 본문을 반환합니다.
+     * 조회수 정렬은 공지사항 버전 변경 없이 순서가 바뀌므로 조건부 응답(304)을 하지 않습니다.
      * </p>
      *
      * @param pageable 페이징 및 정렬 정보 (기본값: 10개, createdDate 내림차순)
@@ -41,19 +74,96 @@ public class NoticeQueryController {
      */
     @Operation(summary = "공지사항 전체 목록 조회", description = "공지사항 목록을 페이징하여 조회한다. 기본적으로 최신 등록순으로 정렬된다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PagedModel.class))),
+            @ApiResponse(responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
-    public ResponseEntity<Page<NoticeListResponse>> getNotices(
-            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC)Pageable pageable) {
+    public ResponseEntity<byte[]> getNotices(
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC)Pageable pageable,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
 
         log.info("공지사항 목록 조회 API 호출 - Page: {}, Size: {}, Sort: {}",
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
 
-        Page<NoticeListResponse> responses = noticeQueryService.getNoticeList(pageable);
+        // 목록 전체가 바뀌지 않았다면 페이지 조회 없이 304 응답
+        NoticeListRevision revision = noticeQueryService.getNoticeListRevision();
+        if (supportsConditionalGet(pageable) && webRequest.checkNotModified(listETag(revision))) {
+            return null;
+        }
+
+        EncodedPayload payload = noticePayloadCache.getList("list:" + pageable, revision,
+                EncodedPayload.acceptsGzip(acceptEncoding),
+                () -> noticeQueryService.getNoticeList(pageable));
 
         // ResponseEntity를 사용하여 HTTP 상태 코드(200 OK)를 명시적으로 반환
-        return ResponseEntity.ok(responses);
+        return toJsonResponse(payload);
+    }
+
+    /**
+     * 현재 게시 중인 공지사항 목록을 페이징하여 조회합니다.
+     * <p>
+     * 게시 시작/종료로 목록이 바뀌면 게시 중 ID 집합이 바뀌므로, 목록 집계값과 게시 중 ID 집합의 해시를 함께 ETag로 사용합니다.
+     * 해시는 어느 노드에서나 같으므로 요청이 다른 노드로 가도 ETag가 유효합니다. 응답 캐시 키에는 이 노드의 인덱스 세대(generation)를 사용합니다.
+     * 게시 상태 전이는 인덱스 갱신 주기(기본 1초) 단위로 반영됩니다.
+     * </p>
+     */
+    @Operation(summary = "게시 중인 공지사항 목록 조회", description = "현재 게시 기간에 해당하는 공지사항 목록을 페이징하여 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PagedModel.class))),
+            @ApiResponse(responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)")
+    })
+    @GetMapping("/active")
+    public ResponseEntity<byte[]> getActiveNotices(
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        NoticeListRevision revision = noticeQueryService.getNoticeListRevision();
+
+        // 인덱스 구성 전에는 게시 상태 전이를 세대로 추적할 수 없으므로 조건부 응답 없이, 목록 캐시 TTL 동안만 재사용한다.
+        String cacheKey = "active-cold:" + pageable;
+        if (activeNoticeIndex.isReady()) {
+            long generation = activeNoticeIndex.generation();
+            if (supportsConditionalGet(pageable) && webRequest.checkNotModified(HttpValidators.weakETag("active-notices",
+                    revision.count(), revision.versionSum(), revision.maxId(), activeNoticeIndex.activeFingerprint()))) {
+                return null;
+            }
+            cacheKey = "active:" + generation + ":" + pageable;
+        }
+
+        EncodedPayload payload = noticePayloadCache.getList(cacheKey, revision,
+                EncodedPayload.acceptsGzip(acceptEncoding),
+                () -> noticeQueryService.getActiveNoticeList(pageable));
+
+        return toJsonResponse(payload);
+    }
+
+    /**
+     * 최근 구간(1시간/1일/1주)에 가장 많이 조회된 공지사항을 조회합니다.
+     * <p>
+     * 순위는 상세 조회 스트림으로 백그라운드에서 주기적으로 계산해 두므로 DB를 조회하지 않으며,
+     * 조회수는 노드별 추정값(실제 값 이상)입니다.
+     * </p>
+     *
+     * @param window 집계 구간 (기본값: WEEK)
+     * @param size   반환할 개수 (기본값: 10)
+     */
+    @Operation(summary = "인기 공지사항 조회", description = "최근 1시간/1일/1주 동안 조회수가 많은 공지사항을 순위대로 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularNoticeResponse>> getPopularNotices(
+            @RequestParam(defaultValue = "WEEK") PopularWindow window,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(popularNoticeTracker.getTop(window, size));
     }
 
     /**
@@ -62,31 +172,156 @@ public class NoticeQueryController {
      */
     @Operation(summary = "공지사항 조건 검색", description = "검색어, 기간, 검색 타입을 기반으로 공지사항 목록을 검색한다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "검색 성공")
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PagedModel.class))),
+            @ApiResponse(responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)")
     })
     @GetMapping("/search")
-    public ResponseEntity<Page<NoticeListResponse>> search(
+    public ResponseEntity<byte[]> search(
             NoticeSearchCondition condition,
-            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
     ) {
-        Page<NoticeListResponse> responses = noticeQueryService.searchNotices(condition, pageable);
-        return ResponseEntity.ok(responses);
+        NoticeListRevision revision = noticeQueryService.getNoticeListRevision();
+
+        // 첨부파일 본문 검색 결과는 공지사항 변경 없이 본문 추출이 기록될 때도 바뀌므로, 본문 색인 집계값을 함께 검증한다.
+        String etag = listETag(revision);
+        String requestKey = "search:" + condition + ":" + pageable;
+        if (condition != null && "ATTACHMENT".equals(condition.searchType())) {
+            AttachmentTextRevision textRevision = noticeQueryService.getAttachmentTextRevision();
+            long lastExtractedAt = HttpValidators.toEpochMilli(textRevision.lastExtractedAt());
+            etag = HttpValidators.weakETag("notices", revision.count(), revision.versionSum(), revision.maxId(),
+                    textRevision.count(), lastExtractedAt);
+            requestKey += "@" + textRevision.count() + "-" + lastExtractedAt;
+        }
+        if (supportsConditionalGet(pageable) && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        EncodedPayload payload = noticePayloadCache.getList(requestKey, revision,
+                EncodedPayload.acceptsGzip(acceptEncoding),
+                () -> noticeQueryService.searchNotices(condition, pageable));
+
+        return toJsonResponse(payload);
     }
 
     /**
      * 공지사항 상세 정보를 조회합니다.
+     * <p>
+     * 조회수를 먼저 증가시킨 뒤 버전·조회수만 경량 조회하여, 캐시된 직렬화 템플릿에 현재 조회수를 채워 응답합니다.
+     * 같은 클라이언트(IP + User-Agent)의 반복 조회는 일정 시간 동안 DB 조회 없이 조회수에서 제외됩니다.
+     * 본문과 첨부파일은 공지사항이 수정되어 버전이 바뀐 경우에만 다시 조회합니다.
+     * </p>
      *
      * @param id 공지사항 ID
      * @return 공지사항 상세 정보
      */
     @Operation(summary = "공지사항 상세 조회", description = "ID를 통해 특정 공지사항의 상세 정보와 첨부파일 목록을 조회한다. 조회수 증가 로직이 포함되어 있다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NoticeDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "공지사항 변경 없음 (If-None-Match / If-Modified-Since 일치)"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 공지사항")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<NoticeDetailResponse> getNotice(@PathVariable @Min(1) Long id) {
+    public ResponseEntity<byte[]> getNotice(
+            @PathVariable @Min(1) Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         log.info("공지사항 상세 조회 API 호출 - ID: {}", id);
-        return ResponseEntity.ok(noticeQueryService.getNoticeDetail(id));
+
+        // 조회수 증가 (304 응답도 조회로 집계, 구간 내 중복 조회는 제외)
+        boolean firstView = viewDeduplicator.isFirstView(id, viewerFingerprint(request));
+        if (firstView) {
+            noticeQueryService.increaseViewCount(id);
+        }
+
+        // 버전만 먼저 조회하여, 클라이언트 사본이 최신이면 본문/첨부파일을 읽지 않고 304 응답
+        NoticeRevision revision = noticeQueryService.getNoticeRevision(id);
+
+        // 존재하는 공지사항의 조회만 인기 공지사항/조회수 이력 집계에 반영
+        if (firstView) {
+            popularNoticeTracker.recordView(id);
+            viewEventAggregator.record(id);
+        }
+        if (webRequest.checkNotModified(
+                HttpValidators.weakETag("notice", revision.id(), revision.version()),
+                HttpValidators.toEpochMilli(revision.updateDate()))) {
+            return null;
+        }
+
+        EncodedPayload payload = noticePayloadCache.getDetail(revision,
+                EncodedPayload.acceptsGzip(acceptEncoding),
+                () -> noticeQueryService.findNoticeDetail(id));
+
+        return toJsonResponse(payload);
+    }
+
+    /**
+     * 공지사항의 분/시간/일 단위 조회수 이력을 조회합니다.
+     *
+     * @param id          공지사항 ID
+     * @param granularity 집계 단위 (기본값: HOUR)
+     * @param from        조회 시작 일시 (포함, 생략 시 단위별 기본 기간)
+     * @param to          조회 종료 일시 (제외, 생략 시 현재 구간까지)
+     */
+    @Operation(summary = "공지사항 조회수 이력 조회", description = "특정 공지사항의 분/시간/일 단위 조회수 이력을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NoticeViewHistoryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 공지사항")
+    })
+    @GetMapping("/{id}/views")
+    public ResponseEntity<NoticeViewHistoryResponse> getViewHistory(
+            @PathVariable @Min(1) Long id,
+            @RequestParam(defaultValue = "HOUR") ViewGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(noticeQueryService.getViewHistory(id, granularity, from, to));
+    }
+
+    /**
+     * 목록 응답의 ETag. 항목의 조회수는 버전 증가 없이 바뀌어 반영하지 않으므로 약한 ETag를 사용하며,
+     * 삭제된 공지는 수정일시를 남기지 않으므로 Last-Modified는 사용하지 않는다.
+     */
+    private String listETag(NoticeListRevision revision) {
+        return HttpValidators.weakETag("notices", revision.count(), revision.versionSum(), revision.maxId());
+    }
+
+    /**
+     * 목록 ETag로 조건부 응답을 할 수 있는지 여부. 조회수 정렬은 버전 변경 없이 순서와 페이지 구성이 바뀌어
+     * 목록 ETag가 같아도 응답이 달라지므로 제외한다.
+     */
+    private boolean supportsConditionalGet(Pageable pageable) {
+        return pageable.getSort().getOrderFor("viewCount") == null;
+    }
+
+    /**
+     * 조회수 중복 판별용 클라이언트 지문. 프록시 뒤에서는 server.forward-headers-strategy 설정으로
+     * 원격 주소가 실제 클라이언트 IP가 되도록 구성해야 한다.
+     */
+    private String viewerFingerprint(HttpServletRequest request) {
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+    }
+
+    private ResponseEntity<byte[]> toJsonResponse(EncodedPayload payload) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (payload.contentEncoding() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, payload.contentEncoding());
+        }
+        return builder.body(payload.body());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package syboo.notice.notice.api.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "청크 업로드 완료(확정) 요청")
+public record CompleteUploadRequest(
+        @Schema(description = "파일을 첨부할 공지사항 ID", example = "1")
+        @NotNull(message = "공지사항 ID는 필수입니다.")
+        @Min(1)
+        Long noticeId,
+
+        @Schema(description = "(선택) 클라이언트가 계산한 SHA-256 체크섬. 전달 시 서버 계산값과 대조한다.",
+                example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", nullable = true)
+        String checksum
+) {
+}
@@ -0,0 +1,19 @@
+package syboo.notice.notice.api.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "청크 업로드 세션 생성 요청")
+public record CreateUploadSessionRequest(
+        @Schema(description = "원본 파일명", example = "2026_annual_report.pdf")
+        @NotBlank(message = "파일명은 필수입니다.")
+        String fileName,
+
+        @Schema(description = "전체 파일 크기 (Byte 단위)", example = "734003200")
+        @NotNull(message = "파일 크기는 필수입니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long fileSize
+) {
+}
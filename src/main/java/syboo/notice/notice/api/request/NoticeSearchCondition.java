@@ -8,7 +8,7 @@ public record NoticeSearchCondition(
         @Schema(description = "검색어 (제목 또는 내용에 포함된 단어, 앞뒤 공백은 자동으로 제거됨)", example = "업데이트")
         String query,
 
-        @Schema(description = "검색 타입 (TITLE: 제목 검색, TITLE_CONTENT: 제목+내용 통합 검색)", example = "TITLE_CONTENT")
+        @Schema(description = "검색 타입 (TITLE: 제목 검색, TITLE_CONTENT: 제목+내용 통합 검색, ATTACHMENT: PDF 첨부파일 본문 검색)", example = "TITLE_CONTENT")
         String searchType,
 
         @Schema(description = "조회 시작일 (등록일 기준)", example = "2026-01-01T00:00:00")
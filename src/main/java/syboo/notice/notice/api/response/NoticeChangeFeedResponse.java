@@ -0,0 +1,48 @@
+package syboo.notice.notice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import syboo.notice.notice.domain.NoticeChangeType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "공지사항 변경 피드 (since 커서 이후의 생성/수정/삭제)")
+public record NoticeChangeFeedResponse(
+        @Schema(description = "변경 목록 (같은 공지사항의 여러 변경은 마지막 것만 포함, 번호 오름차순)")
+        List<Change> changes,
+
+        @Schema(description = "다음 요청의 since로 사용할 커서", example = "1024")
+        long cursor,
+
+        @Schema(description = "이 커서 이후에 아직 받지 않은 변경이 더 있는지 여부", example = "false")
+        boolean hasMore,
+
+        @Schema(description = "커서가 보관 기간보다 오래되어 전체 목록을 다시 받아야 하는지 여부", example = "false")
+        boolean resyncRequired
+) {
+    public static NoticeChangeFeedResponse empty(long cursor) {
+        return new NoticeChangeFeedResponse(List.of(), cursor, false, false);
+    }
+
+    public static NoticeChangeFeedResponse resync(long cursor) {
+        return new NoticeChangeFeedResponse(List.of(), cursor, false, true);
+    }
+
+    public record Change(
+            @Schema(description = "변경 번호", example = "1024")
+            long seq,
+
+            @Schema(description = "공지사항 ID", example = "1")
+            Long noticeId,
+
+            @Schema(description = "변경 유형 (CREATED/UPDATED는 upsert, DELETED는 로컬 사본에서 삭제)", example = "UPDATED")
+            NoticeChangeType type,
+
+            @Schema(description = "변경 일시")
+            LocalDateTime changedAt,
+
+            @Schema(description = "변경 후 요약 정보 (DELETED이면 null)")
+            NoticeListResponse notice
+    ) {
+    }
+}
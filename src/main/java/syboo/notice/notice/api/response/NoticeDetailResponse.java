@@ -39,6 +39,10 @@ public record NoticeDetailResponse(
             long fileSize,
 
             @Schema(description = "파일 확장자/타입", example = "application/pdf")
-            String contentType
+            String contentType,
+
+            @Schema(description = "서명된 다운로드 링크 (공지사항 게시 종료 시 만료)",
+                    example = "/api/notices/downloads/AQAAAAAAAAAK....x1Yc")
+            String downloadUrl
     ) {}
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package syboo.notice.notice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import syboo.notice.notice.repository.ViewGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "공지사항 구간별 조회수 이력")
+public record NoticeViewHistoryResponse(
+        @Schema(description = "공지사항 ID", example = "1")
+        Long noticeId,
+
+        @Schema(description = "집계 단위", example = "HOUR")
+        ViewGranularity granularity,
+
+        @Schema(description = "조회 시작 일시 (포함)")
+        LocalDateTime from,
+
+        @Schema(description = "조회 종료 일시 (제외)")
+        LocalDateTime to,
+
+        @Schema(description = "구간별 조회수 (조회가 없던 구간은 생략)")
+        List<Point> points
+) {
+    public record Point(
+            @Schema(description = "구간 시작 일시")
+            LocalDateTime bucketStart,
+
+            @Schema(description = "구간 내 조회수", example = "42")
+            long views
+    ) {
+    }
+}
@@ -0,0 +1,30 @@
+package syboo.notice.notice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "인기 공지사항 응답 (집계 구간 내 조회수 기준)")
+public record PopularNoticeResponse(
+        @Schema(description = "순위 (1부터 시작)", example = "1")
+        int rank,
+
+        @Schema(description = "공지사항 ID", example = "1")
+        Long id,
+
+        @Schema(description = "제목", example = "2026년 설 연휴 고객센터 휴무 안내")
+        String title,
+
+        @Schema(description = "작성자", example = "운영팀")
+        String author,
+
+        @Schema(description = "등록 일시")
+        LocalDateTime createdDate,
+
+        @Schema(description = "첨부파일 존재 여부", example = "true")
+        boolean hasAttachment,
+
+        @Schema(description = "집계 구간 내 추정 조회수 (실제 조회수 이상)", example = "120")
+        long views
+) {
+}
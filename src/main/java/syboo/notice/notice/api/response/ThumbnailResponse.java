@@ -0,0 +1,19 @@
+package syboo.notice.notice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.core.io.Resource;
+
+/**
+ * 첨부 이미지 썸네일 요청에 대한 응답 데이터를 담는 객체
+ */
+@Schema(description = "첨부 이미지 썸네일 응답 모델")
+public record ThumbnailResponse(
+
+        @Schema(description = "썸네일 MIME 타입 (원본과 동일)", example = "image/jpeg")
+        String contentType,
+
+        @Schema(description = "썸네일 리소스 (바이너리 데이터)", hidden = true)
+        Resource resource
+) {
+
+}
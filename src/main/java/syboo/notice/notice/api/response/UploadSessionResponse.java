@@ -0,0 +1,34 @@
+package syboo.notice.notice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import syboo.notice.notice.domain.UploadSession;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "청크 업로드 세션 상태 응답")
+public record UploadSessionResponse(
+        @Schema(description = "업로드 세션 ID", example = "6f1c2a9e-8d4b-4c1e-9a7f-2b3c4d5e6f70")
+        String sessionId,
+
+        @Schema(description = "원본 파일명", example = "2026_annual_report.pdf")
+        String originFileName,
+
+        @Schema(description = "전체 파일 크기 (Byte 단위)", example = "734003200")
+        long totalSize,
+
+        @Schema(description = "서버에 확정된 바이트 수 (다음 청크의 시작 오프셋)", example = "16777216")
+        long receivedBytes,
+
+        @Schema(description = "세션 만료 일시 (청크 수신 시마다 연장됨)")
+        LocalDateTime expiresAt
+) {
+    public static UploadSessionResponse from(UploadSession session) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getOriginFileName(),
+                session.getTotalSize(),
+                session.getReceivedBytes(),
+                session.getExpiresAt()
+        );
+    }
+}
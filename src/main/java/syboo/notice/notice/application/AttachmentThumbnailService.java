@@ -0,0 +1,181 @@
+package syboo.notice.notice.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import syboo.notice.common.exception.FileInvalidException;
+import syboo.notice.common.exception.FileSecurityException;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.notice.api.response.ThumbnailResponse;
+import syboo.notice.notice.infra.coalesce.RequestCoalescer;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.thumbnail.ThumbnailRenderer;
+import syboo.notice.notice.infra.thumbnail.ThumbnailStore;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.repository.NoticeAttachmentRepository;
+import syboo.notice.notice.repository.ThumbnailSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이미지 첨부파일의 썸네일을 제공한다.
+ * <p>
+ * 썸네일은 업로드 직후 설정된 너비별로 미리 만들어 두고({@link #pregenerate}), 없거나 디스크 예산 때문에 지워졌으면 요청 시 만든다.
+ * 같은 썸네일을 동시에 요청하면 한 번만 생성하며, 이미지 디코딩은 CPU와 메모리를 많이 쓰므로 노드당 동시 생성 수를 제한한다.
+ * 생성 시 원본을 읽으면서 체크섬을 확인해 변조된 원본으로 썸네일을 만들지 않는다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class AttachmentThumbnailService {
+
+    private static final String THUMBNAIL_NAMESPACE = "attachment-thumbnail";
+
+    private final NoticeAttachmentRepository noticeAttachmentRepository;
+    private final StorageService storageService;
+    private final ThumbnailStore thumbnailStore;
+    private final ThumbnailRenderer thumbnailRenderer;
+    private final RequestCoalescer requestCoalescer;
+    private final MeterRegistry meterRegistry;
+    private final List<Integer> widths;
+    private final Duration renderTimeout;
+    private final Semaphore renderPermits;
+
+    public AttachmentThumbnailService(
+            NoticeAttachmentRepository noticeAttachmentRepository,
+            StorageService storageService,
+            ThumbnailStore thumbnailStore,
+            ThumbnailRenderer thumbnailRenderer,
+            RequestCoalescer requestCoalescer,
+            MeterRegistry meterRegistry,
+            @Value("${notice.thumbnail.widths:160,480}") List<Integer> widths,
+            @Value("${notice.thumbnail.render-timeout:PT30S}") Duration renderTimeout,
+            @Value("${notice.thumbnail.max-concurrent-renders:2}") int maxConcurrentRenders) {
+        this.noticeAttachmentRepository = noticeAttachmentRepository;
+        this.storageService = storageService;
+        this.thumbnailStore = thumbnailStore;
+        this.thumbnailRenderer = thumbnailRenderer;
+        this.requestCoalescer = requestCoalescer;
+        this.meterRegistry = meterRegistry;
+        this.widths = widths.stream().sorted().toList();
+        this.renderTimeout = renderTimeout;
+        this.renderPermits = new Semaphore(maxConcurrentRenders, true);
+    }
+
+    /**
+     * 첨부 이미지의 썸네일을 반환한다. 게시 기간 확인은 호출자({@link NoticeFileService#getAttachmentRevision})가 먼저 수행한다.
+     *
+     * @param width 썸네일 너비 (없으면 가장 작은 너비)
+     * @throws IllegalArgumentException 설정되지 않은 너비인 경우
+     * @throws FileInvalidException     존재하지 않는 첨부파일이거나 이미지가 아닌 경우
+     * @throws FileSecurityException    원본 파일 변조가 감지된 경우
+     */
+    public ThumbnailResponse getThumbnail(Long attachmentId, Integer width) {
+        int resolvedWidth = resolveWidth(width);
+
+        ThumbnailSource source = noticeAttachmentRepository.findThumbnailSourceById(attachmentId)
+                .orElseThrow(() -> new FileInvalidException("존재하지 않는 파일입니다."));
+        if (!ThumbnailRenderer.SUPPORTED_TYPES.contains(source.contentType())) {
+            throw new FileInvalidException("썸네일을 제공하지 않는 파일 형식입니다: " + source.contentType());
+        }
+
+        return new ThumbnailResponse(source.contentType(), loadOrGenerate(source, resolvedWidth, "request"));
+    }
+
+    /**
+     * 공지사항에 첨부된 이미지들의 썸네일을 설정된 모든 너비로 미리 만든다. 이미 있는 썸네일은 건너뛴다.
+     */
+    public void pregenerate(Long noticeId) {
+        List<ThumbnailSource> sources =
+                noticeAttachmentRepository.findThumbnailSourcesByNoticeId(noticeId, ThumbnailRenderer.SUPPORTED_TYPES);
+
+        for (ThumbnailSource source : sources) {
+            for (int width : widths) {
+                try {
+                    loadOrGenerate(source, width, "pregenerate");
+                } catch (RuntimeException e) {
+                    // 미리 만들지 못한 썸네일은 요청 시 다시 시도한다.
+                    log.warn("썸네일 사전 생성 실패: attachmentId={}, width={}", source.attachmentId(), width, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청한 너비를 검증한다. 너비가 없으면 가장 작은 너비를 사용한다.
+     *
+     * @throws IllegalArgumentException 설정되지 않은 너비인 경우
+     */
+    public int resolveWidth(Integer width) {
+        if (width == null) {
+            return widths.getFirst();
+        }
+        if (!widths.contains(width)) {
+            throw new IllegalArgumentException("지원하지 않는 썸네일 너비입니다. 가능한 값: " + widths);
+        }
+        return width;
+    }
+
+    private Resource loadOrGenerate(ThumbnailSource source, int width, String trigger) {
+        String derivativeName = ThumbnailStore.derivativeName(source.storedFileName(), width, source.contentType());
+
+        Resource cached = thumbnailStore.find(derivativeName).orElse(null);
+        if (cached != null) {
+            count(trigger, "hit");
+            return cached;
+        }
+
+        return requestCoalescer.execute(THUMBNAIL_NAMESPACE, derivativeName, renderTimeout, () ->
+                // 앞서 생성을 마친 요청이 있으면 그 결과를 쓴다.
+                thumbnailStore.find(derivativeName).orElseGet(() -> {
+                    Resource generated = thumbnailStore.save(derivativeName, render(source, width));
+                    count(trigger, "generated");
+                    return generated;
+                }));
+    }
+
+    private byte[] render(ThumbnailSource source, int width) {
+        try {
+            renderPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("썸네일 생성 대기 중 인터럽트되었습니다.", e);
+        }
+
+        try {
+            MessageDigest digest = ChecksumGenerator.newDigest();
+            byte[] thumbnail;
+            try (InputStream original = new DigestInputStream(
+                    storageService.loadAsResource(source.storedFileName()).getInputStream(), digest)) {
+                thumbnail = thumbnailRenderer.render(original, source.contentType(), width);
+                // 이미지 디코더가 읽지 않은 꼬리 바이트까지 해시에 포함한다.
+                original.transferTo(OutputStream.nullOutputStream());
+            }
+
+            if (!source.checksum().equals(ChecksumGenerator.toHex(digest))) {
+                log.error("보안 경고: 썸네일 생성 중 원본 무결성 검증 실패! (ID: {})", source.attachmentId());
+                throw new FileSecurityException("파일이 서버에서 변조되었을 가능성이 있습니다.");
+            }
+
+            log.debug("썸네일 생성 완료: attachmentId={}, width={}, bytes={}", source.attachmentId(), width, thumbnail.length);
+            return thumbnail;
+        } catch (IOException e) {
+            throw new FileStorageException("썸네일 생성 중 원본 파일을 읽지 못했습니다.", e);
+        } finally {
+            renderPermits.release();
+        }
+    }
+
+    private void count(String trigger, String result) {
+        meterRegistry.counter("notice.thumbnail.requests", "trigger", trigger, "result", result).increment();
+    }
+}
@@ -0,0 +1,336 @@
+package syboo.notice.notice.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import syboo.notice.common.exception.FileSecurityException;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.common.exception.NoticeNotFoundException;
+import syboo.notice.common.exception.UploadConflictException;
+import syboo.notice.common.exception.UploadSessionNotFoundException;
+import syboo.notice.notice.api.response.UploadSessionResponse;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.domain.UploadSession;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.upload.SizeLimitedInputStream;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.infra.util.FileValidator;
+import syboo.notice.notice.repository.NoticeRepository;
+import syboo.notice.notice.repository.UploadSessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대용량 첨부파일의 청크 단위 이어 올리기(Resumable Upload)를 처리한다.
+ * <p>
+ * 세션의 확정 오프셋({@code receivedBytes})은 DB에 저장되므로, 연결이 끊긴 클라이언트는
+ * 세션 상태를 조회한 뒤 해당 오프셋부터 남은 바이트만 다시 보내면 된다.
+ * SHA-256 다이제스트는 청크가 흘러가는 동안 메모리에 누적하며, 서버 재시작 등으로 유실되었거나
+ * 다른 노드가 청크를 받아 누적한 길이가 확정 오프셋과 다르면 스테이징 파일의 확정 구간을 다시 읽어 복구한다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private final Clock clock;
+    private final StorageService storageService;
+    private final FileValidator fileValidator;
+    private final NoticeFileService noticeFileService;
+    private final NoticeRepository noticeRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 세션별 누적 중인 SHA-256 다이제스트 (세션 락을 잡은 스레드만 접근)
+    private final Map<String, RunningDigest> digests = new ConcurrentHashMap<>();
+
+    // 같은 세션에 대한 청크 동시 기록 방지용 락
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Value("${notice.upload.chunk.max-file-size:5GB}")
+    private DataSize maxFileSize;
+
+    @Value("${notice.upload.chunk.max-chunk-size:64MB}")
+    private DataSize maxChunkSize;
+
+    @Value("${notice.upload.chunk.session-ttl:PT24H}")
+    private Duration sessionTtl;
+
+    /**
+     * 새 업로드 세션을 생성한다.
+     *
+     * @throws MaxUploadSizeExceededException 선언된 파일 크기가 허용 용량을 초과한 경우
+     */
+    @Transactional
+    public UploadSessionResponse createSession(String originFileName, long fileSize) {
+        if (fileSize > maxFileSize.toBytes()) {
+            throw new MaxUploadSizeExceededException(maxFileSize.toBytes());
+        }
+
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .originFileName(originFileName)
+                .totalSize(fileSize)
+                .expiresAt(LocalDateTime.now(clock).plus(sessionTtl))
+                .build();
+
+        uploadSessionRepository.save(session);
+        digests.put(session.getId(), new RunningDigest(ChecksumGenerator.newDigest()));
+
+        log.info("청크 업로드 세션 생성: sessionId={}, originName='{}', totalSize={}",
+                session.getId(), originFileName, fileSize);
+        return UploadSessionResponse.from(session);
+    }
+
+    /**
+     * 세션 상태(확정 오프셋)를 조회한다. 클라이언트는 재개 시 이 값부터 청크를 보낸다.
+     */
+    @Transactional(readOnly = true)
+    public UploadSessionResponse getSession(String sessionId) {
+        return UploadSessionResponse.from(findActiveSession(sessionId));
+    }
+
+    /**
+     * 지정한 오프셋부터 청크를 기록하고 확정 오프셋을 전진시킨다.
+     * <p>
+     * 청크 기록은 트랜잭션 밖에서 수행하여 대용량 스트림을 받는 동안 DB 커넥션을 점유하지 않으며,
+     * 기록이 끝난 뒤 세션의 {@code @Version}으로 오프셋 갱신 충돌을 검출한다.
+     * 기록 도중 실패하면 스테이징 파일을 이전 오프셋으로 잘라내어 확정 구간만 남긴다.
+     * </p>
+     *
+     * @param offset 청크의 시작 오프셋 (세션의 확정 오프셋과 같아야 함)
+     * @throws UploadConflictException 오프셋 불일치 또는 같은 세션에 다른 청크가 기록 중인 경우
+     * @throws FileSecurityException   첫 청크에서 판별된 파일 형식이 허용되지 않는 경우 (세션 폐기)
+     */
+    public UploadSessionResponse appendChunk(String sessionId, long offset, InputStream content) {
+        ReentrantLock lock = locks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new UploadConflictException("같은 세션에 다른 청크가 업로드 중입니다.",
+                    findActiveSession(sessionId).getReceivedBytes());
+        }
+
+        try {
+            UploadSession session = findActiveSession(sessionId);
+
+            if (offset != session.getReceivedBytes()) {
+                throw new UploadConflictException("청크 오프셋이 현재 업로드 위치와 일치하지 않습니다.",
+                        session.getReceivedBytes());
+            }
+            if (session.isCompleted()) {
+                throw new UploadConflictException("이미 모든 청크가 업로드되었습니다.", session.getReceivedBytes());
+            }
+
+            RunningDigest digest = currentDigest(session);
+            InputStream chunk = new SizeLimitedInputStream(content,
+                    Math.min(maxChunkSize.toBytes(), session.getRemainingBytes()));
+
+            if (offset == 0) {
+                chunk = validateFirstChunk(session, chunk);
+            }
+
+            try {
+                long written = storageService.append(session.getStagedFileName(), offset,
+                        new DigestInputStream(chunk, digest.digest));
+
+                session.advance(written, LocalDateTime.now(clock).plus(sessionTtl));
+                UploadSession saved = uploadSessionRepository.save(session);
+                digest.hashedBytes = saved.getReceivedBytes();
+
+                log.debug("청크 기록 완료: sessionId={}, offset={}, written={}, received={}/{}",
+                        sessionId, offset, written, saved.getReceivedBytes(), saved.getTotalSize());
+                return UploadSessionResponse.from(saved);
+            } catch (RuntimeException e) {
+                // 확정되지 않은 바이트를 잘라내고, 다이제스트는 다음 청크에서 확정 구간 기준으로 다시 계산한다.
+                log.warn("청크 기록 실패, 오프셋 {}로 복구: sessionId={}", offset, sessionId, e);
+                digests.remove(sessionId);
+                storageService.truncate(session.getStagedFileName(), offset);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 청크가 수신된 세션을 확정하여 공지사항의 첨부파일로 등록한다.
+     *
+     * @param expectedChecksum (선택) 클라이언트가 계산한 SHA-256. 서버 계산값과 다르면 거부한다.
+     * @return 생성된 첨부파일 ID
+     */
+    @Transactional
+    public Long complete(String sessionId, Long noticeId, String expectedChecksum) {
+        ReentrantLock lock = locks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new UploadConflictException("같은 세션에 다른 청크가 업로드 중입니다.",
+                    findActiveSession(sessionId).getReceivedBytes());
+        }
+
+        try {
+            UploadSession session = findActiveSession(sessionId);
+            if (!session.isCompleted()) {
+                throw new UploadConflictException("아직 업로드되지 않은 청크가 있습니다.", session.getReceivedBytes());
+            }
+
+            Notice notice = noticeRepository.findById(noticeId)
+                    .orElseThrow(() -> new NoticeNotFoundException(noticeId));
+
+            String checksum = ChecksumGenerator.toHex(currentDigest(session).digest);
+            digests.remove(sessionId);
+
+            if (StringUtils.hasText(expectedChecksum) && !expectedChecksum.equalsIgnoreCase(checksum)) {
+                log.error("청크 업로드 체크섬 불일치: sessionId={}, expected={}, actual={}",
+                        sessionId, expectedChecksum, checksum);
+                throw new FileSecurityException("업로드된 파일이 클라이언트 체크섬과 일치하지 않습니다.");
+            }
+
+            NoticeAttachment attachment = noticeFileService.attachStaged(notice, session.getStagedFileName(),
+                    session.getOriginFileName(), session.getTotalSize(), session.getContentType(), checksum);
+
+            uploadSessionRepository.delete(session);
+            eventPublisher.publishEvent(NoticeChangedEvent.updated(noticeId));
+            // 첨부파일 ID를 응답하기 위해 INSERT를 즉시 반영
+            noticeRepository.flush();
+
+            log.info("청크 업로드 확정: sessionId={}, noticeId={}, attachmentId={}",
+                    sessionId, noticeId, attachment.getId());
+            return attachment.getId();
+        } finally {
+            lock.unlock();
+            locks.remove(sessionId);
+        }
+    }
+
+    /**
+     * 업로드를 중단하고 스테이징 파일과 세션을 폐기한다.
+     */
+    @Transactional
+    public void abort(String sessionId) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new UploadSessionNotFoundException(sessionId));
+        discard(session);
+        log.info("청크 업로드 세션 중단: sessionId={}", sessionId);
+    }
+
+    /**
+     * 만료된 세션의 스테이징 파일과 세션 정보를 주기적으로 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${notice.upload.chunk.gc-interval:PT10M}")
+    @Transactional
+    public void purgeExpiredSessions() {
+        List<UploadSession> expired = uploadSessionRepository.findAllByExpiresAtBefore(LocalDateTime.now(clock));
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        expired.forEach(this::discard);
+        log.info("만료된 청크 업로드 세션 정리 완료: count={}", expired.size());
+    }
+
+    private void discard(UploadSession session) {
+        storageService.delete(session.getStagedFileName());
+        uploadSessionRepository.delete(session);
+        digests.remove(session.getId());
+        locks.remove(session.getId());
+    }
+
+    private UploadSession findActiveSession(String sessionId) {
+        return uploadSessionRepository.findById(sessionId)
+                .filter(session -> !session.isExpired(LocalDateTime.now(clock)))
+                .orElseThrow(() -> new UploadSessionNotFoundException(sessionId));
+    }
+
+    /**
+     * 첫 청크의 앞부분으로 실제 파일 형식을 판별한다. 허용되지 않는 형식이면 세션을 즉시 폐기한다.
+     * 판별에 사용한 바이트는 다시 스트림 앞에 붙여 그대로 기록되도록 한다.
+     */
+    private InputStream validateFirstChunk(UploadSession session, InputStream chunk) {
+        try {
+            byte[] head = chunk.readNBytes(FileValidator.MIME_SNIFF_BYTES);
+            session.assignContentType(fileValidator.validateAndReturnMimeType(head));
+            return new SequenceInputStream(new ByteArrayInputStream(head), chunk);
+        } catch (FileSecurityException e) {
+            discard(session);
+            throw e;
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 청크를 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 확정 오프셋까지 누적된 다이제스트를 반환한다. 메모리에 없거나(서버 재시작 등) 누적한 길이가 확정 오프셋과 다르면
+     * (다른 노드가 청크를 받은 경우 등) 스테이징 파일로 다시 만든다.
+     */
+    private RunningDigest currentDigest(UploadSession session) {
+        RunningDigest digest = digests.get(session.getId());
+        if (digest == null || digest.hashedBytes != session.getReceivedBytes()) {
+            digest = new RunningDigest(rebuildDigest(session));
+            digest.hashedBytes = session.getReceivedBytes();
+            digests.put(session.getId(), digest);
+        }
+        return digest;
+    }
+
+    /**
+     * 스테이징 파일의 확정 구간을 다시 읽어 다이제스트를 복구한다.
+     */
+    private MessageDigest rebuildDigest(UploadSession session) {
+        MessageDigest digest = ChecksumGenerator.newDigest();
+        long remaining = session.getReceivedBytes();
+        if (remaining == 0) {
+            return digest;
+        }
+
+        log.info("청크 업로드 다이제스트 복구: sessionId={}, bytes={}", session.getId(), remaining);
+
+        try (InputStream is = storageService.loadAsResource(session.getStagedFileName()).getInputStream()) {
+            byte[] buffer = new byte[8192];
+            while (remaining > 0) {
+                int read = is.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    throw new FileStorageException("스테이징 파일이 확정된 오프셋보다 짧습니다. id=" + session.getId());
+                }
+                digest.update(buffer, 0, read);
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("스테이징 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+        return digest;
+    }
+
+    /**
+     * 누적 중인 다이제스트와, 지금까지 반영한 바이트 수 (세션 락을 잡은 스레드만 접근)
+     */
+    private static final class RunningDigest {
+
+        private final MessageDigest digest;
+        private long hashedBytes;
+
+        private RunningDigest(MessageDigest digest) {
+            this.digest = digest;
+        }
+    }
+}
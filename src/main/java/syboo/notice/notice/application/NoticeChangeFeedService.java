@@ -0,0 +1,111 @@
+package syboo.notice.notice.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import syboo.notice.notice.api.response.NoticeChangeFeedResponse;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.NoticeChange;
+import syboo.notice.notice.domain.NoticeChangeSequence;
+import syboo.notice.notice.domain.NoticeChangeType;
+import syboo.notice.notice.repository.NoticeChangeRepository;
+import syboo.notice.notice.repository.NoticeChangeSequenceRepository;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 클라이언트의 로컬 사본을 맞추기 위한 변경 피드(delta sync) 조회.
+ * <p>
+ * 클라이언트는 처음에 커서 없이 현재 커서를 받고 전체 목록을 한 번 받은 뒤, 이후에는 {@code since=커서}로 그 사이의 변경만 받는다.
+ * 요약 정보는 조회 시점의 최신 상태이므로, 한 페이지 안에서 같은 공지사항이 여러 번 바뀌었으면 마지막 변경 하나로 합친다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoticeChangeFeedService {
+
+    public static final int MAX_LIMIT = 500;
+
+    private final NoticeChangeRepository changeRepository;
+    private final NoticeChangeSequenceRepository sequenceRepository;
+    private final NoticeRepository noticeRepository;
+
+    /**
+     * {@code since} 이후의 변경을 번호 순으로 최대 {@code limit}건 조회한다.
+     *
+     * @param since 마지막으로 받은 커서. null이면 변경 없이 현재 커서만 반환한다.
+     * @param limit 한 번에 읽을 변경 수 (1 ~ {@value #MAX_LIMIT})
+     */
+    public NoticeChangeFeedResponse getChanges(Long since, int limit) {
+        if (since != null && since < 0) {
+            throw new IllegalArgumentException("since는 0 이상이어야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit는 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+
+        long head = sequenceRepository.findById(NoticeChangeSequence.SINGLETON_ID)
+                .map(NoticeChangeSequence::getLastValue)
+                .orElse(0L);
+        if (since == null) {
+            return NoticeChangeFeedResponse.empty(head);
+        }
+
+        // 보관 기간이 지나 삭제된 변경이 커서 바로 다음에 있었다면 이어 읽을 수 없다.
+        long oldest = changeRepository.findOldestSeq();
+        long firstAvailable = oldest == 0 ? head + 1 : oldest;
+        if (since < firstAvailable - 1) {
+            log.info("변경 피드 커서가 보관 범위를 벗어남: since={}, oldest={}", since, oldest);
+            return NoticeChangeFeedResponse.resync(head);
+        }
+
+        List<NoticeChange> page = changeRepository.findBySeqGreaterThanOrderBySeqAsc(since, Limit.of(limit + 1));
+        boolean hasMore = page.size() > limit;
+        if (hasMore) {
+            page = page.subList(0, limit);
+        }
+        if (page.isEmpty()) {
+            return NoticeChangeFeedResponse.empty(since);
+        }
+
+        return new NoticeChangeFeedResponse(toChanges(page), page.getLast().getSeq(), hasMore, false);
+    }
+
+    private List<NoticeChangeFeedResponse.Change> toChanges(List<NoticeChange> page) {
+        // 공지사항별 마지막 변경만 남기되, 그 변경의 위치(번호 순서)를 유지한다.
+        Map<Long, NoticeChange> latest = new LinkedHashMap<>();
+        for (NoticeChange change : page) {
+            latest.remove(change.getNoticeId());
+            latest.put(change.getNoticeId(), change);
+        }
+
+        List<Long> liveIds = latest.values().stream()
+                .filter(change -> change.getChangeType() != NoticeChangeType.DELETED)
+                .map(NoticeChange::getNoticeId)
+                .toList();
+        Map<Long, NoticeListResponse> summaries = liveIds.isEmpty() ? Map.of()
+                : noticeRepository.findNoticeListByIds(liveIds, PageRequest.of(0, liveIds.size())).stream()
+                        .collect(Collectors.toMap(NoticeListResponse::id, Function.identity()));
+
+        List<NoticeChangeFeedResponse.Change> changes = new ArrayList<>(latest.size());
+        for (NoticeChange change : latest.values()) {
+            NoticeListResponse summary = summaries.get(change.getNoticeId());
+            // 이 페이지 이후에 삭제되어 요약이 없으면 삭제로 내려준다 (삭제 항목은 다음 페이지에서 다시 온다).
+            NoticeChangeType type = summary == null ? NoticeChangeType.DELETED : change.getChangeType();
+            changes.add(new NoticeChangeFeedResponse.Change(
+                    change.getSeq(), change.getNoticeId(), type, change.getChangedAt(), summary));
+        }
+        return changes;
+    }
+}
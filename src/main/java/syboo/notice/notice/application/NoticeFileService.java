@@ -4,19 +4,46 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import syboo.notice.common.exception.FileInvalidException;
 import syboo.notice.common.exception.FileSecurityException;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.common.exception.NoticeNotFoundException;
 import syboo.notice.notice.api.response.FileDownloadResponse;
 import syboo.notice.notice.domain.Notice;
 import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.archive.AttachmentZipWriter;
+import syboo.notice.notice.infra.cache.AttachmentContentCache;
+import syboo.notice.notice.infra.cache.AttachmentMetadataCache;
+import syboo.notice.notice.infra.cache.CachedAttachment;
+import syboo.notice.notice.infra.coalesce.RequestCoalescer;
+import syboo.notice.notice.infra.download.DownloadGrant;
+import syboo.notice.notice.infra.download.DownloadTokenSigner;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
 import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.thumbnail.ThumbnailStore;
 import syboo.notice.notice.infra.util.ChecksumGenerator;
 import syboo.notice.notice.infra.util.FileValidator;
+import syboo.notice.notice.repository.AttachmentArchiveEntry;
+import syboo.notice.notice.repository.AttachmentMetadata;
+import syboo.notice.notice.repository.AttachmentRevision;
 import syboo.notice.notice.repository.NoticeAttachmentRepository;
-
+import syboo.notice.notice.repository.NoticePeriod;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -24,10 +51,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NoticeFileService {
 
+    private static final String CHECKSUM_NAMESPACE = "attachment-checksum";
+    private static final String CONTENT_NAMESPACE = "attachment-content";
+
     private final Clock clock;
     private final StorageService storageService;
     private final FileValidator fileValidator;
     private final NoticeAttachmentRepository noticeAttachmentRepository;
+    private final NoticeRepository noticeRepository;
+    private final RequestCoalescer requestCoalescer;
+    private final ActiveNoticeIndex activeNoticeIndex;
+    private final AttachmentZipWriter attachmentZipWriter;
+    private final ThumbnailStore thumbnailStore;
+    private final AttachmentContentCache attachmentContentCache;
+    private final AttachmentMetadataCache attachmentMetadataCache;
+    private final DownloadTokenSigner downloadTokenSigner;
 
     /**
      * 신규 파일들을 저장하고 NoticeAttachment 엔티티 리스트를 반환한다.
@@ -70,6 +108,115 @@ public class NoticeFileService {
         }
     }
 
+    /**
+     * 스트리밍 업로드된 파일 하나를 한 번의 읽기로 검증·해싱·저장하고, 아직 공지사항에 연결되지 않은 첨부파일 엔티티를 반환한다.
+     * <p>
+     * 선두 {@link FileValidator#MIME_SNIFF_BYTES} 바이트로 MIME 타입을 먼저 판별하고,
+     * 나머지 바이트는 {@link DigestInputStream}을 통과시키며 저장소로 바로 흘려보낸다.
+     * 저장 도중 실패(용량 초과, 디스크 오류 등)하면 기록 중이던 물리 파일을 정리한다.
+     * </p>
+     *
+     * @param originFileName 클라이언트가 전달한 원본 파일명
+     * @param content        파일 파트의 본문 스트림 (닫는 책임은 호출자에게 있음)
+     * @return 저장이 완료된 첨부파일 엔티티 (연관관계 미설정)
+     */
+    public NoticeAttachment storeStream(String originFileName, InputStream content) {
+        byte[] head;
+        try {
+            head = content.readNBytes(FileValidator.MIME_SNIFF_BYTES);
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        // 보안 검증 (선두 바이트의 Magic Number 기반 MIME 타입 및 화이트리스트 체크)
+        String validatedMimeType = fileValidator.validateAndReturnMimeType(head);
+
+        String storedFileName = UUID.randomUUID() + "_" + originFileName;
+        MessageDigest digest = ChecksumGenerator.newDigest();
+
+        log.debug("스트리밍 파일 저장 시도: originName='{}', storedName='{}'", originFileName, storedFileName);
+
+        long fileSize;
+        try (InputStream body = new DigestInputStream(
+                new SequenceInputStream(new ByteArrayInputStream(head), content), digest)) {
+            fileSize = storageService.storeStream(body, storedFileName);
+        } catch (IOException | RuntimeException e) {
+            storageService.delete(storedFileName);
+            if (e instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new FileStorageException("업로드 파일을 저장하는 중 오류가 발생했습니다.", e);
+        }
+
+        log.info("스트리밍 파일 저장 완료: {} ({} bytes)", storedFileName, fileSize);
+
+        return NoticeAttachment.builder()
+                .originFileName(originFileName)
+                .storedFileName(storedFileName)
+                .fileSize(fileSize)
+                .contentType(validatedMimeType)
+                .checksum(ChecksumGenerator.toHex(digest))
+                .build();
+    }
+
+    /**
+     * 청크 업로드로 스테이징 영역에 완성된 파일을 정식 저장 경로로 옮기고 공지사항에 첨부한다.
+     * <p>
+     * MIME 검증과 SHA-256 계산은 청크 수신 과정에서 이미 끝났으므로 파일을 다시 읽지 않는다.
+     * 파일 이동은 트랜잭션으로 되돌려지지 않으므로, 트랜잭션이 롤백되면 스테이징 위치로 되돌려 세션을 다시 확정할 수 있게 한다.
+     * </p>
+     *
+     * @return 공지사항에 연결된 첨부파일 엔티티
+     */
+    public NoticeAttachment attachStaged(Notice notice, String stagedFileName, String originFileName,
+                                         long fileSize, String contentType, String checksum) {
+        String storedFileName = UUID.randomUUID() + "_" + originFileName;
+
+        storageService.move(stagedFileName, storedFileName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        restoreStaged(storedFileName, stagedFileName);
+                    }
+                }
+            });
+        }
+
+        NoticeAttachment attachment = NoticeAttachment.builder()
+                .originFileName(originFileName)
+                .storedFileName(storedFileName)
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .checksum(checksum)
+                .build();
+        notice.addAttachment(attachment);
+
+        log.info("청크 업로드 파일 확정 및 엔티티 매핑 완료: noticeId={}, storedName='{}'", notice.getId(), storedFileName);
+        return attachment;
+    }
+
+    private void restoreStaged(String storedFileName, String stagedFileName) {
+        try {
+            storageService.move(storedFileName, stagedFileName);
+            log.info("롤백된 청크 업로드 파일을 스테이징 위치로 복구: {} -> {}", storedFileName, stagedFileName);
+        } catch (RuntimeException e) {
+            // 세션은 만료 후 정리되며, 옮겨진 파일은 어떤 첨부파일에도 연결되지 않는다.
+            log.error("롤백된 청크 업로드 파일 복구 실패: {} -> {}", storedFileName, stagedFileName, e);
+        }
+    }
+
+    /**
+     * 공지사항에 연결되기 전에 요청이 실패한 경우, 미리 저장해 둔 물리 파일을 정리한다.
+     */
+    public void discardStored(List<NoticeAttachment> attachments) {
+        attachments.forEach(att -> {
+            storageService.delete(att.getStoredFileName());
+            log.info("미연결 업로드 파일 정리 완료: {}", att.getStoredFileName());
+        });
+    }
+
     /**
      * 특정 첨부파일들을 물리적으로 삭제하고 연관관계를 끊는다.
      */
@@ -86,6 +233,8 @@ public class NoticeFileService {
             log.debug("파일 삭제 시도: storedName='{}'", att.getStoredFileName());
 
             storageService.delete(att.getStoredFileName());
+            thumbnailStore.deleteDerivatives(att.getStoredFileName());
+            attachmentContentCache.invalidate(att.getStoredFileName());
             notice.removeAttachment(att);
 
             log.info("파일 삭제 및 연관관계 제거 완료: {}", att.getStoredFileName());
@@ -109,6 +258,8 @@ public class NoticeFileService {
             try {
                 // 물리 서버의 파일 삭제
                 storageService.delete(att.getStoredFileName());
+                thumbnailStore.deleteDerivatives(att.getStoredFileName());
+                attachmentContentCache.invalidate(att.getStoredFileName());
 
                 // 엔티티 간 양방향 연관관계 제거
                 notice.removeAttachment(att);
@@ -119,9 +270,29 @@ public class NoticeFileService {
         });
     }
 
+    /**
+     * 조건부 다운로드 요청 판단용으로 첨부파일의 체크섬과 게시 기간만 조회한다.
+     * <p>
+     * 파일을 읽거나 무결성 해시를 다시 계산하지 않으므로, 클라이언트가 가진 사본이 최신이면
+     * 저장소 접근 없이 304로 응답할 수 있다.
+     * </p>
+     *
+     * @throws FileInvalidException  존재하지 않는 첨부파일인 경우
+     * @throws FileSecurityException 게시 기간이 아닌 경우
+     */
+    public AttachmentRevision getAttachmentRevision(Long attachmentId) {
+        // 304 응답도 파일 제공에 해당하므로 게시 기간을 동일하게 확인한다.
+        return findDownloadable(attachmentId).toRevision();
+    }
+
     /**
      * 첨부파일 식별자를 통해 파일을 로드하고, SHA-256 체크섬 대조를 통해 무결성을 검증합니다.
      * <p>
+     * 첨부파일 메타데이터는 {@link AttachmentMetadataCache}에서 찾으므로 반복 다운로드는 DB를 거치지 않습니다.
+     * 게시 직후 같은 첨부파일 다운로드가 몰리는 경우를 위해, 메타데이터 조회(첨부파일 ID 기준)와
+     * 무결성 해시 계산(저장 파일 기준)은 동시에 들어온 요청끼리 한 번만 수행하고 결과를 나눠 받습니다.
+     * 반복해서 요청되는 파일은 검증된 내용을 {@link AttachmentContentCache}에 올려 두고 파일을 다시 읽지 않고 응답합니다.
+     * </p>
      * @param attachmentId 첨부파일 식별자 (ID)
      * @return 원본 파일명과 검증된 리소스를 포함한 {@link FileDownloadResponse}
      * @throws FileInvalidException  존재하지 않는 파일 ID일 경우 발생
@@ -130,35 +301,140 @@ public class NoticeFileService {
     public FileDownloadResponse downloadFile(Long attachmentId) {
         log.info("첨부파일 다운로드 프로세스 시작: ID={}", attachmentId);
 
-        NoticeAttachment attachment = noticeAttachmentRepository.findById(attachmentId)
-                .orElseThrow(() -> {
-                    log.warn("파일 다운로드 실패 - 존재하지 않는 ID: {}", attachmentId);
-                    return new FileInvalidException("존재하지 않는 파일입니다.");
-                });
+        AttachmentMetadata target = findDownloadable(attachmentId);
+        return serve(attachmentId, target.noticeId(), target.originFileName(), target.storedFileName(),
+                target.checksum(), target.fileSize());
+    }
 
-        // 해당 파일이 속한 공지사항의 게시 기간 확인
-        Notice notice = attachment.getNotice();
-        if (notice == null || !notice.isViewable(clock)) {
-            log.warn("권한 없는 파일 다운로드 시도: FileID={}, NoticeID={}",
-                    attachmentId, (notice != null ? notice.getId() : "null"));
+    /**
+     * 서명된 다운로드 링크를 검증한다. 링크에 담긴 정보를 그대로 사용하므로 DB를 조회하지 않는다.
+     * <p>
+     * 게시 기간은 링크에 서명된 게시 시작·종료일시로 먼저 확인하고, 활성 공지사항 인덱스로 다시 확인한다.
+     * 인덱스가 게시 중이 아니라고 판단하거나, 구성이 끝난 인덱스가 알지 못하는 공지사항(삭제됨)이면 거부한다.
+     * 인덱스 구성 전에는 서명된 게시 기간만으로 판단한다.
+     * </p>
+     *
+     * @param token {@link DownloadTokenSigner}가 발급한 토큰
+     * @throws FileSecurityException 위조·만료된 링크이거나 게시 중이 아닌 경우
+     */
+    public DownloadGrant verifyDownloadToken(String token) {
+        DownloadGrant grant = downloadTokenSigner.verify(token);
+
+        boolean viewable = activeNoticeIndex.findViewability(grant.noticeId())
+                .orElseGet(() -> !activeNoticeIndex.isReady());
+        if (!viewable) {
+            log.warn("게시 중이 아닌 공지사항의 다운로드 링크 사용: FileID={}, NoticeID={}",
+                    grant.attachmentId(), grant.noticeId());
             throw new FileSecurityException("현재 다운로드 가능한 공지 기간이 아닙니다.");
         }
 
-        Resource resource = storageService.loadAsResource(attachment.getStoredFileName());
+        return grant;
+    }
+
+    /**
+     * 검증된 다운로드 링크의 파일을 로드한다. 무결성 검증과 캐시 사용은 {@link #downloadFile(Long)}과 같다.
+     *
+     * @throws FileSecurityException 서버 내 파일 위변조가 감지될 경우 발생
+     */
+    public FileDownloadResponse downloadFile(DownloadGrant grant) {
+        return serve(grant.attachmentId(), grant.noticeId(), grant.originFileName(), grant.storedFileName(),
+                grant.checksum(), grant.fileSize());
+    }
+
+    private FileDownloadResponse serve(Long attachmentId, Long noticeId, String originFileName,
+                                       String storedFileName, String checksum, long fileSize) {
+        // 자주 내려받는 파일은 검증이 끝난 캐시 버퍼에서 바로 응답한다.
+        Optional<CachedAttachment> cached = attachmentContentCache.find(storedFileName, checksum);
+        if (cached.isPresent()) {
+            log.debug("첨부파일 캐시 응답: {}", originFileName);
+            return new FileDownloadResponse(originFileName, cached.get().toResource(storedFileName));
+        }
+
+        Resource resource = storageService.loadAsResource(storedFileName);
 
         // 무결성 검증 (보안 요구사항)
-        log.debug("파일 무결성 검증 시작: {}", attachment.getOriginFileName());
-        String currentChecksum = ChecksumGenerator.generate(resource);
+        log.debug("파일 무결성 검증 시작: {}", originFileName);
+        if (attachmentContentCache.shouldLoad(storedFileName, fileSize)) {
+            // 캐시에 올릴 파일은 한 번 읽으면서 해시 계산과 버퍼 적재를 함께 한다.
+            CachedAttachment loaded = requestCoalescer.execute(CONTENT_NAMESPACE, storedFileName,
+                    () -> attachmentContentCache.load(noticeId, storedFileName, checksum, resource, fileSize));
+            verifyChecksum(attachmentId, originFileName, checksum, loaded.checksum());
+            return new FileDownloadResponse(originFileName, loaded.toResource(storedFileName));
+        }
+
+        String currentChecksum = requestCoalescer.execute(CHECKSUM_NAMESPACE, storedFileName,
+                () -> ChecksumGenerator.generate(resource));
+        verifyChecksum(attachmentId, originFileName, checksum, currentChecksum);
+
+        log.info("첨부파일 검증 완료 및 다운로드 준비: {}", originFileName);
+
+        return new FileDownloadResponse(originFileName, resource);
+    }
 
-        if (!attachment.getChecksum().equals(currentChecksum)) {
+    private void verifyChecksum(Long attachmentId, String originFileName, String expectedChecksum,
+                                String currentChecksum) {
+        if (!expectedChecksum.equals(currentChecksum)) {
             log.error("보안 경고: 파일 무결성 검증 실패! (ID: {}, 파일명: {})",
-                    attachmentId, attachment.getOriginFileName());
-            log.error("무결성 검증 실패! DB: {}, 실제: {}", attachment.getChecksum(), currentChecksum);
+                    attachmentId, originFileName);
+            log.error("무결성 검증 실패! DB: {}, 실제: {}", expectedChecksum, currentChecksum);
             throw new FileSecurityException("파일이 서버에서 변조되었을 가능성이 있습니다.");
         }
+    }
+
+    /**
+     * 공지사항의 모든 첨부파일을 한 번에 내려받기 위해 게시 기간을 확인하고 첨부파일 목록을 조회한다.
+     * <p>
+     * 파일 바이너리와 무결성 검증은 {@link #writeArchive}에서 응답을 스트리밍하며 처리한다.
+     * </p>
+     *
+     * @throws NoticeNotFoundException 존재하지 않는 공지사항인 경우
+     * @throws FileSecurityException   게시 기간이 아닌 경우
+     * @throws FileInvalidException    첨부파일이 없는 경우
+     */
+    public List<AttachmentArchiveEntry> prepareArchive(Long noticeId) {
+        NoticePeriod period = noticeRepository.findPeriodsByIdIn(List.of(noticeId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NoticeNotFoundException(noticeId));
+
+        if (!period.contains(LocalDateTime.now(clock))) {
+            log.warn("권한 없는 첨부파일 묶음 다운로드 시도: NoticeID={}", noticeId);
+            throw new FileSecurityException("현재 다운로드 가능한 공지 기간이 아닙니다.");
+        }
+
+        List<AttachmentArchiveEntry> entries = noticeAttachmentRepository.findArchiveEntriesByNoticeId(noticeId);
+        if (entries.isEmpty()) {
+            throw new FileInvalidException("첨부파일이 없는 공지사항입니다.");
+        }
 
-        log.info("첨부파일 검증 완료 및 다운로드 준비: {}", attachment.getOriginFileName());
+        log.info("첨부파일 묶음 다운로드 준비: noticeId={}, files={}", noticeId, entries.size());
+        return entries;
+    }
+
+    /**
+     * 첨부파일들을 ZIP으로 묶어 출력 스트림에 쓴다. 파일마다 한 번만 읽으며 체크섬을 함께 검증한다.
+     *
+     * @throws FileSecurityException 서버 내 파일 위변조가 감지될 경우 (이미 보낸 응답은 중단된다)
+     */
+    public void writeArchive(List<AttachmentArchiveEntry> entries, OutputStream out) throws IOException {
+        attachmentZipWriter.write(entries, out);
+    }
+
+    /**
+     * 다운로드에 필요한 첨부파일 정보를 메타데이터 캐시에서 찾고 게시 기간을 확인한다.
+     * 활성 공지사항 인덱스가 아는 공지사항이면 인덱스의 게시 여부를, 아니면 캐시된 게시 기간을 기준으로 판단한다.
+     */
+    private AttachmentMetadata findDownloadable(Long attachmentId) {
+        AttachmentMetadata metadata = attachmentMetadataCache.get(attachmentId)
+                .orElseThrow(() -> {
+                    log.warn("파일 다운로드 실패 - 존재하지 않는 ID: {}", attachmentId);
+                    return new FileInvalidException("존재하지 않는 파일입니다.");
+                });
+
+        if (!activeNoticeIndex.findViewability(metadata.noticeId()).orElseGet(() -> metadata.isViewable(clock))) {
+            log.warn("권한 없는 파일 다운로드 시도: FileID={}, NoticeID={}", attachmentId, metadata.noticeId());
+            throw new FileSecurityException("현재 다운로드 가능한 공지 기간이 아닙니다.");
+        }
 
-        return new FileDownloadResponse(attachment.getOriginFileName(), resource);
+        return metadata;
     }
 }
@@ -8,13 +8,31 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import syboo.notice.common.datasource.ReadYourWritesContext;
 import syboo.notice.common.exception.NoticeNotFoundException;
 import syboo.notice.notice.api.request.NoticeSearchCondition;
 import syboo.notice.notice.api.response.NoticeDetailResponse;
 import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.api.response.NoticeViewHistoryResponse;
 import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.download.DownloadGrant;
+import syboo.notice.notice.infra.download.DownloadTokenSigner;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
+import syboo.notice.notice.infra.readmodel.NoticeReadModelRebuilder;
+import syboo.notice.notice.repository.AttachmentTextRepository;
+import syboo.notice.notice.repository.AttachmentTextRevision;
+import syboo.notice.notice.repository.NoticeListRevision;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
 import syboo.notice.notice.repository.NoticeRepository;
+import syboo.notice.notice.repository.NoticeRevision;
+import syboo.notice.notice.repository.NoticeViewStatsJdbcRepository;
+import syboo.notice.notice.repository.ViewGranularity;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -24,7 +42,17 @@ import java.util.Set;
 @Transactional(readOnly = true)
 public class NoticeQueryService {
 
+    private static final int MAX_VIEW_HISTORY_POINTS = 2_000;
+    private static final String SIGNED_DOWNLOAD_PATH = "/api/notices/downloads/";
+
+    private final Clock clock;
     private final NoticeRepository noticeRepository;
+    private final ActiveNoticeIndex activeNoticeIndex;
+    private final NoticeViewStatsJdbcRepository viewStatsRepository;
+    private final NoticeReadModelRepository readModelRepository;
+    private final NoticeReadModelRebuilder readModelRebuilder;
+    private final DownloadTokenSigner downloadTokenSigner;
+    private final AttachmentTextRepository attachmentTextRepository;
 
     /**
      * 공지사항 목록을 페이징하여 조회합니다.
@@ -38,12 +66,33 @@ public class NoticeQueryService {
 
         log.info("공지사항 목록 조회를 시작합니다. 설정된 페이징 정보: {}", safePageable);
 
-        Page<Notice> noticePage = noticeRepository.findAll(safePageable);
+        // 읽기 모델이 준비되어 있으면 비정규화된 요약 테이블에서, 아니면 원본에서 목록 컬럼만 DTO로 직접 조회
+        Page<NoticeListResponse> noticePage = readModelRebuilder.canServe()
+                ? readModelRepository.findNoticeList(safePageable)
+                : noticeRepository.findNoticeList(safePageable);
 
         log.debug("DB 조회 완료. 전체 데이터 수: {}, 현재 페이지 요소 수: {}",
                 noticePage.getTotalElements(), noticePage.getNumberOfElements());
 
-        return noticePage.map(this::toResponse);
+        return noticePage;
+    }
+
+    /**
+     * 현재 게시 중인 공지사항 목록을 페이징하여 조회합니다.
+     * <p>
+     * 활성 공지사항 인덱스가 준비되어 있으면 게시 중 ID 집합을 PK 조건으로 조회하고,
+     * 인덱스 구성 전이거나 게시 중 공지사항이 너무 많으면 게시 기간 조건으로 DB에서 직접 조회합니다.
+     * </p>
+     */
+    public Page<NoticeListResponse> getActiveNoticeList(Pageable pageable) {
+        Pageable safePageable = validatePageable(pageable);
+
+        if (activeNoticeIndex.canServeList()) {
+            return noticeRepository.findNoticeListByIds(activeNoticeIndex.activeIds(), safePageable);
+        }
+
+        log.debug("활성 공지사항 인덱스를 사용할 수 없어 게시 기간 조건으로 조회합니다.");
+        return noticeRepository.findActiveNoticeList(LocalDateTime.now(clock), safePageable);
     }
 
     /**
@@ -54,27 +103,13 @@ public class NoticeQueryService {
         Pageable safePageable = validatePageable(pageable);
 
         log.info("공지사항 검색을 시작합니다. 조건: {}, 페이징: {}", condition, safePageable);
-        return noticeRepository.search(condition, safePageable);
-    }
 
-    /**
-     * Notice 엔티티를 NoticeListResponse DTO로 변환합니다.
-     * <p>
-     * DTO의 독립성을 유지하기 위해 DTO 내부가 아닌 서비스 레이어에서 매핑을 수행합니다.
-     * </p>
-     *
-     * @param notice 변환할 공지사항 엔티티
-     * @return 변환된 공지사항 목록 응답 DTO
-     */
-    private NoticeListResponse toResponse(Notice notice) {
-        return new NoticeListResponse(
-                notice.getId(),
-                notice.getTitle(),
-                notice.getAuthor(),
-                notice.getCreatedDate(),
-                notice.getViewCount(),
-                notice.isHasAttachment()
-        );
+        // 본문 검색은 본문이 없는 읽기 모델로 처리할 수 없다.
+        boolean searchesContent = condition != null && "TITLE_CONTENT".equals(condition.searchType());
+        if (readModelRebuilder.canServe() && !searchesContent) {
+            return readModelRepository.search(condition, safePageable);
+        }
+        return noticeRepository.search(condition, safePageable);
     }
 
     /**
@@ -93,7 +128,20 @@ public class NoticeQueryService {
         // 대규모 트래픽 환경에서는 Redis/벌크 업데이트 등 CQRS 분리 가능성을 고려
         noticeRepository.updateViewCount(id);
 
-        Notice notice = noticeRepository.findById(id)
+        return findNoticeDetail(id);
+    }
+
+    /**
+     * 조회수를 증가시키지 않고 공지사항 상세 정보를 조회합니다.
+     * <p>
+     * 직렬화된 응답 캐시를 채울 때처럼, 조회수 집계와 본문 조회가 분리된 경로에서 사용합니다.
+     * 엔티티가 2차 캐시에 들어가므로, 무효화 직후 지연된 replica의 이전 행이 다시 캐시되지 않도록 primary에서 조회합니다.
+     * </p>
+     *
+     * @throws NoticeNotFoundException 존재하지 않는 ID일 경우 발생
+     */
+    public NoticeDetailResponse findNoticeDetail(Long id) {
+        Notice notice = ReadYourWritesContext.callOnPrimary(() -> noticeRepository.findById(id))
                 .orElseThrow(() -> {
                     log.warn("공지사항을 찾을 수 없습니다. ID: {}", id);
                     return new NoticeNotFoundException(id);
@@ -102,13 +150,102 @@ public class NoticeQueryService {
         return toDetailResponse(notice);
     }
 
+    /**
+     * 조건부 요청 판단용으로 공지사항의 버전과 수정일시만 조회합니다.
+     * <p>
+     * 본문(TEXT)과 첨부파일 컬렉션을 읽지 않으므로, 클라이언트의 사본이 최신이면 상세 조회 비용 없이 304로 응답할 수 있습니다.
+     * 버전이 응답 캐시의 검증 기준이므로 primary에서 조회합니다.
+     * </p>
+     *
+     * @throws NoticeNotFoundException 존재하지 않는 ID일 경우 발생
+     */
+    public NoticeRevision getNoticeRevision(Long id) {
+        return ReadYourWritesContext.callOnPrimary(() -> noticeRepository.findRevisionById(id))
+                .orElseThrow(() -> {
+                    log.warn("공지사항을 찾을 수 없습니다. ID: {}", id);
+                    return new NoticeNotFoundException(id);
+                });
+    }
+
+    /**
+     * 조건부 요청 판단용으로 공지사항 목록 전체의 변경 여부를 나타내는 집계값을 조회합니다.
+     * <p>
+     * 결과가 모든 노드 요청이 공유하는 쿼리 캐시에 들어가므로, 지연된 replica의 값이 캐시되지 않도록 primary에서 조회합니다.
+     * </p>
+     */
+    public NoticeListRevision getNoticeListRevision() {
+        // 커넥션은 첫 쿼리 시점에 얻으므로 (LazyConnectionDataSourceProxy) 트랜잭션 안에서 고정해도 된다.
+        return ReadYourWritesContext.callOnPrimary(noticeRepository::findListRevision);
+    }
+
+    /**
+     * 첨부파일 본문 검색(ATTACHMENT) 결과의 검증용으로 본문 색인 집계값을 조회합니다.
+     * <p>
+     * 응답 캐시 키에 사용되므로 목록 집계값과 마찬가지로 primary에서 조회합니다.
+     * </p>
+     */
+    public AttachmentTextRevision getAttachmentTextRevision() {
+        return ReadYourWritesContext.callOnPrimary(attachmentTextRepository::findIndexRevision);
+    }
+
+    /**
+     * 공지사항의 구간별 조회수 이력을 조회합니다.
+     * <p>
+     * 조회 이벤트는 메모리에서 모아 주기적으로 반영되고 시간/일 단위는 다시 주기적으로 집계되므로, 최근 구간은 수십 초~1분가량 늦게 반영됩니다.
+     * 기간을 생략하면 단위별 기본 기간(분: 1시간, 시간: 2일, 일: 30일)을 조회하며, 최대 {@value #MAX_VIEW_HISTORY_POINTS}개 구간까지 조회할 수 있습니다.
+     * </p>
+     *
+     * @param from 조회 시작 일시 (포함, 단위에 맞춰 내림)
+     * @param to   조회 종료 일시 (제외, 생략 시 현재 구간까지)
+     * @throws NoticeNotFoundException  존재하지 않는 ID일 경우 발생
+     * @throws IllegalArgumentException 기간이 잘못되었거나 너무 긴 경우 발생
+     */
+    public NoticeViewHistoryResponse getViewHistory(Long id, ViewGranularity granularity,
+                                                    LocalDateTime from, LocalDateTime to) {
+        getNoticeRevision(id);
+
+        LocalDateTime end = to != null ? to : granularity.truncate(LocalDateTime.now(clock)).plus(1, granularity.unit());
+        LocalDateTime start = granularity.truncate(from != null ? from : end.minus(defaultHistoryRange(granularity)));
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("조회 시작 일시는 종료 일시보다 앞서야 합니다.");
+        }
+        if (granularity.unit().between(start, end) > MAX_VIEW_HISTORY_POINTS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 구간은 최대 " + MAX_VIEW_HISTORY_POINTS + "개입니다.");
+        }
+
+        List<NoticeViewHistoryResponse.Point> points = viewStatsRepository.findHistory(id, granularity, start, end).stream()
+                .map(point -> new NoticeViewHistoryResponse.Point(point.bucketStart(), point.views()))
+                .toList();
+        return new NoticeViewHistoryResponse(id, granularity, start, end, points);
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. 상세 내용을 다시 내려주지 않는 조회(304 Not Modified)에서도 호출됩니다.
+     * <p>
+     * 같은 사용자의 반복 조회 제외는 호출 측에서 {@link syboo.notice.notice.infra.view.ViewDeduplicator}로 판별합니다.
+     * </p>
+     */
+    @Transactional
+    public void increaseViewCount(Long id) {
+        noticeRepository.updateViewCount(id);
+    }
+
+    private Duration defaultHistoryRange(ViewGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> Duration.ofHours(1);
+            case HOUR -> Duration.ofDays(2);
+            case DAY -> Duration.ofDays(30);
+        };
+    }
+
     private NoticeDetailResponse toDetailResponse(Notice notice) {
         List<NoticeDetailResponse.AttachmentResponse> attachments = notice.getAttachments().stream()
                 .map(attachment -> new NoticeDetailResponse.AttachmentResponse(
                         attachment.getId(),
                         attachment.getOriginFileName(),
                         attachment.getFileSize(),
-                        attachment.getContentType()
+                        attachment.getContentType(),
+                        signedDownloadUrl(notice, attachment)
                 )).toList();
 
         return new NoticeDetailResponse(
@@ -122,6 +259,29 @@ public class NoticeQueryService {
         );
     }
 
+    /**
+     * DB 조회 없이 내려받을 수 있는 서명된 링크를 만든다. 사용 가능 기간은 공지사항 게시 기간이므로,
+     * 같은 버전의 상세 응답은 항상 같은 링크를 담아 응답 캐시에 그대로 보관할 수 있다.
+     */
+    private String signedDownloadUrl(Notice notice, NoticeAttachment attachment) {
+        Instant startsAt = notice.getNoticeStartAt() == null
+                ? null
+                : notice.getNoticeStartAt().atZone(clock.getZone()).toInstant();
+        Instant expiresAt = notice.getNoticeEndAt() == null
+                ? null
+                : notice.getNoticeEndAt().atZone(clock.getZone()).toInstant();
+
+        return SIGNED_DOWNLOAD_PATH + downloadTokenSigner.sign(new DownloadGrant(
+                attachment.getId(),
+                notice.getId(),
+                attachment.getOriginFileName(),
+                attachment.getStoredFileName(),
+                attachment.getChecksum(),
+                attachment.getFileSize(),
+                startsAt,
+                expiresAt));
+    }
+
     /**
      * 전달된 Pageable 객체의 정렬 필드 유효성을 검증하고, 허용되지 않은 필드일 경우 기본 정렬로 대체합니다.
      * <p>
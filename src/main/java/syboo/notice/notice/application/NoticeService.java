@@ -2,11 +2,13 @@ package syboo.notice.notice.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import syboo.notice.common.exception.NoticeNotFoundException;
 import syboo.notice.notice.application.command.CreateNoticeCommand;
 import syboo.notice.notice.application.command.UpdateNoticeCommand;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
 import syboo.notice.notice.domain.Notice;
 import syboo.notice.notice.domain.NoticeAttachment;
 import syboo.notice.notice.repository.NoticeRepository;
@@ -20,6 +22,7 @@ import java.util.List;
 public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final NoticeFileService noticeFileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 신규 공지사항을 등록한다.
@@ -30,23 +33,48 @@ public class NoticeService {
         log.info("공지사항 생성 시작: title='{}', author='{}'", command.getTitle(), command.getAuthor());
 
         // 기본 정보 생성 (내부에서 기간 검증 수행)
-        Notice notice = Notice.builder()
-                .title(command.getTitle())
-                .content(command.getContent())
-                .author(command.getAuthor())
-                .noticeStartAt(command.getNoticeStartAt())
-                .noticeEndAt(command.getNoticeEndAt())
-                .build();
+        Notice notice = buildNotice(command);
 
         // 첨부파일 물리 저장 및 엔티티 매핑
         noticeFileService.storeFiles(command.getAttachments(), notice);
 
         Notice savedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.created(savedNotice.getId()));
 
         log.info("공지사항 저장 완료: id={}", savedNotice.getId());
         return savedNotice.getId();
     }
 
+    /**
+     * 스트리밍 업로드로 이미 저장이 끝난 첨부파일을 연결하여 신규 공지사항을 등록한다.
+     *
+     * @param command             공지사항 생성에 필요한 데이터 (첨부파일 목록은 사용하지 않음)
+     * @param storedAttachments   {@link NoticeFileService#storeStream}으로 저장된 첨부파일 엔티티
+     * @return 생성된 공지사항의 식별자(ID)
+     */
+    public Long createNotice(CreateNoticeCommand command, List<NoticeAttachment> storedAttachments) {
+        log.info("공지사항 생성 시작(스트리밍 업로드): title='{}', files={}", command.getTitle(), storedAttachments.size());
+
+        Notice notice = buildNotice(command);
+        storedAttachments.forEach(notice::addAttachment);
+
+        Notice savedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.created(savedNotice.getId()));
+
+        log.info("공지사항 저장 완료: id={}", savedNotice.getId());
+        return savedNotice.getId();
+    }
+
+    private Notice buildNotice(CreateNoticeCommand command) {
+        return Notice.builder()
+                .title(command.getTitle())
+                .content(command.getContent())
+                .author(command.getAuthor())
+                .noticeStartAt(command.getNoticeStartAt())
+                .noticeEndAt(command.getNoticeEndAt())
+                .build();
+    }
+
     /**
      * 공지사항 정보를 수정한다.
      * <p>
@@ -85,6 +113,8 @@ public class NoticeService {
         // 2. 신규 파일 저장 위임
         noticeFileService.storeFiles(command.getNewAttachments(), notice);
 
+        eventPublisher.publishEvent(NoticeChangedEvent.updated(noticeId));
+
         log.info("공지사항 수정 완료: id={}", noticeId);
         // @Transactional에 의해 별도의 save() 호출 없이도 변경사항이 DB에 반영(Dirty Checking)됩니다.
     }
@@ -95,6 +125,8 @@ public class NoticeService {
      * <p>
      * {@link CascadeType#ALL} 및 {@code orphanRemoval = true} 설정에 의해
      * 해당 공지사항과 연관된 모든 첨부파일(NoticeAttachment) 데이터도 함께 삭제된다.
+     * 본문(NoticeContent)은 cascade 삭제 시 프록시가 초기화되어 본문 전체를 읽게 되므로,
+     * 공지사항 행을 먼저 삭제한 뒤 식별자로 직접 삭제한다.
      *
      * @param noticeId 삭제할 공지사항의 식별자
      * @throws NoticeNotFoundException 존재하지 않는 ID일 경우 발생
@@ -110,7 +142,11 @@ public class NoticeService {
 
         noticeFileService.deleteAllFiles(notice);
 
+        Long contentId = notice.getContentId();
         noticeRepository.delete(notice);
+        noticeRepository.flush();
+        noticeRepository.deleteContentById(contentId);
+        eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeId));
 
         log.info("공지사항 삭제 완료: id={}", noticeId);
     }
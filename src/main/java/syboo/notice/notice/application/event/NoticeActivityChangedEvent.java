@@ -0,0 +1,19 @@
+package syboo.notice.notice.application.event;
+
+import java.util.List;
+
+/**
+ * 게시 시작/종료 시각이 지나 공지사항의 게시 상태가 바뀌었음을 알리는 이벤트.
+ * <p>
+ * 데이터 변경 없이 시간 경과로만 일어나는 전이이므로 변경 피드에는 기록되지 않으며,
+ * {@link syboo.notice.notice.infra.period.ActiveNoticeIndex}가 타이머를 처리할 때 트랜잭션 밖에서 발행한다.
+ * </p>
+ *
+ * @param activatedIds 게시가 시작된 공지사항 ID
+ * @param expiredIds   게시가 종료된 공지사항 ID
+ */
+public record NoticeActivityChangedEvent(
+        List<Long> activatedIds,
+        List<Long> expiredIds
+) {
+}
@@ -0,0 +1,32 @@
+package syboo.notice.notice.application.event;
+
+/**
+ * 공지사항(본문 또는 첨부파일 구성)이 변경되었음을 알리는 이벤트.
+ * <p>
+ * 트랜잭션 안에서 발행되며, 캐시 무효화처럼 커밋 이후에만 반영되어야 하는 후속 처리는
+ * {@link org.springframework.transaction.event.TransactionalEventListener}로 구독한다.
+ * </p>
+ *
+ * @param noticeId   변경된 공지사항 ID
+ * @param changeType 변경 유형
+ */
+public record NoticeChangedEvent(
+        Long noticeId,
+        ChangeType changeType
+) {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static NoticeChangedEvent created(Long noticeId) {
+        return new NoticeChangedEvent(noticeId, ChangeType.CREATED);
+    }
+
+    public static NoticeChangedEvent updated(Long noticeId) {
+        return new NoticeChangedEvent(noticeId, ChangeType.UPDATED);
+    }
+
+    public static NoticeChangedEvent deleted(Long noticeId) {
+        return new NoticeChangedEvent(noticeId, ChangeType.DELETED);
+    }
+}
@@ -0,0 +1,62 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일(PDF)에서 추출한 본문.
+ * <p>
+ * 추출은 업로드 요청 밖에서 백그라운드로 수행되며, 실패한 경우에도 결과를 남겨 같은 파일을 반복해서 시도하지 않는다.
+ * 검색은 본문 대신 {@link AttachmentTextTerm} 색인으로 수행한다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "attachment_texts", indexes = {
+        @Index(name = "idx_attachment_text_notice_id", columnList = "noticeId")
+})
+public class AttachmentText {
+
+    // 첨부파일 ID (notice_attachments.id)
+    @Id
+    private Long attachmentId;
+
+    @Column(nullable = false)
+    private Long noticeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AttachmentTextStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private int termCount;
+
+    @Column(nullable = false)
+    private LocalDateTime extractedAt;
+
+    @Builder
+    private AttachmentText(Long attachmentId, Long noticeId, AttachmentTextStatus status, String body,
+                           int termCount, LocalDateTime extractedAt) {
+        this.attachmentId = attachmentId;
+        this.noticeId = noticeId;
+        this.status = status;
+        this.body = body;
+        this.termCount = termCount;
+        this.extractedAt = extractedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package syboo.notice.notice.domain;
+
+/**
+ * 첨부파일 본문 추출 결과.
+ */
+public enum AttachmentTextStatus {
+    /** 본문 전체를 추출함 */
+    EXTRACTED,
+    /** 최대 글자 수에서 잘라 추출함 */
+    TRUNCATED,
+    /** 파일이 너무 커서 추출하지 않음 */
+    SKIPPED,
+    /** 제한 시간 안에 추출하지 못함 */
+    TIMED_OUT,
+    /** 손상되었거나 암호화된 문서 등으로 추출하지 못함 */
+    FAILED
+}
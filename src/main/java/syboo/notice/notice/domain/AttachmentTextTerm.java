@@ -0,0 +1,46 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 첨부파일 본문 검색용 역색인. (검색어, 공지사항, 첨부파일)마다 한 행이다.
+ * <p>
+ * 앞뒤가 열린 {@code LIKE '%검색어%'}는 인덱스를 쓰지 못하므로, 추출한 본문을 {@link TextTokenizer}로 나눈 검색어를 저장하고
+ * 검색어 일치로 조회한다. 행은 {@link syboo.notice.notice.repository.AttachmentTextTermJdbcRepository}가 배치로만 쓴다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(AttachmentTextTerm.Key.class)
+@Table(name = "attachment_text_terms", indexes = {
+        // 검색: 검색어로 공지사항 ID를 찾는다 (테이블을 읽지 않는 커버링 인덱스)
+        @Index(name = "idx_attachment_text_terms_term", columnList = "term, noticeId"),
+        // 첨부파일 삭제 시 정리
+        @Index(name = "idx_attachment_text_terms_notice", columnList = "noticeId, attachmentId")
+})
+public class AttachmentTextTerm {
+
+    @Id
+    @Column(length = TextTokenizer.MAX_TERM_LENGTH)
+    private String term;
+
+    @Id
+    private Long noticeId;
+
+    @Id
+    private Long attachmentId;
+
+    public record Key(String term, Long noticeId, Long attachmentId) implements Serializable {
+    }
+}
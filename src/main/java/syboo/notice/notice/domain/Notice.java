@@ -5,6 +5,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import syboo.notice.common.config.SecondLevelCacheConfig;
 import syboo.notice.common.domain.baseentity.BaseEntity;
 
 import java.time.Clock;
@@ -15,9 +19,17 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.NOTICE_REGION)
+// 조회수는 JDBC로 따로 갱신되므로, 수정 시 변경된 컬럼만 UPDATE하여 캐시/영속성 컨텍스트의 옛 조회수를 덮어쓰지 않는다.
+@DynamicUpdate
 @Table(name = "notices", indexes = {
-        @Index(name = "idx_notice_created_at", columnList = "createdAt"),
-        @Index(name = "idx_notice_title", columnList = "title")
+        // 목록 정렬 키별 (정렬 컬럼, id) 복합 인덱스: 페이지 조회 시 전체 정렬 없이 인덱스 순서대로 상위 N건만 읽는다.
+        @Index(name = "idx_notice_created_date_id", columnList = "createdDate, id"),
+        @Index(name = "idx_notice_view_count_id", columnList = "viewCount, id"),
+        @Index(name = "idx_notice_title_id", columnList = "title, id"),
+        // 게시 중인 공지사항 조회(시작일시 <= now <= 종료일시)용
+        @Index(name = "idx_notice_period", columnList = "noticeStartAt, noticeEndAt")
 })
 public class Notice extends BaseEntity {
 
@@ -28,8 +40,15 @@ public class Notice extends BaseEntity {
     @Column(nullable = false, length = 500)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 본문은 별도 테이블에서 지연 로딩 (목록/첨부파일/기간 변경 시 본문을 읽지 않음)
+    @Getter(AccessLevel.NONE)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST, optional = false)
+    @JoinColumn(name = "content_id", nullable = false, unique = true)
+    private NoticeContent noticeContent;
+
+    // 본문 변경 감지용 SHA-256 해시 (본문 행을 읽지 않고 변경 여부 판단)
+    @Column(nullable = false, length = 64)
+    private String contentHash;
 
     @Column(nullable = false, updatable = false)
     private String author;
@@ -49,6 +68,7 @@ public class Notice extends BaseEntity {
     @Version
     private Long version;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.NOTICE_ATTACHMENTS_REGION)
     @OneToMany(mappedBy = "notice",
             cascade = CascadeType.ALL,
             orphanRemoval = true)
@@ -64,7 +84,8 @@ public class Notice extends BaseEntity {
     ) {
         validateNoticePeriod(noticeStartAt, noticeEndAt);
         this.title = title;
-        this.content = content;
+        this.noticeContent = new NoticeContent(content);
+        this.contentHash = NoticeContent.hash(content);
         this.author = author;
         this.noticeStartAt = noticeStartAt;
         this.noticeEndAt = noticeEndAt;
@@ -79,11 +100,38 @@ public class Notice extends BaseEntity {
     ) {
         validateNoticePeriod(startAt, endAt);
         this.title = title;
-        this.content = content;
+        changeContent(content);
         this.noticeStartAt = startAt;
         this.noticeEndAt = endAt;
     }
 
+    /**
+     * 본문 해시가 달라진 경우에만 본문 엔티티를 변경한다.
+     * 제목이나 게시 기간만 바뀐 수정에서는 본문 행을 조회하거나 변경 감지 대상으로 올리지 않는다.
+     */
+    private void changeContent(String content) {
+        String hash = NoticeContent.hash(content);
+        if (hash.equals(this.contentHash)) {
+            return;
+        }
+        this.noticeContent.changeBody(content);
+        this.contentHash = hash;
+    }
+
+    /**
+     * 본문을 반환한다. 지연 로딩 프록시가 초기화되므로 본문이 필요한 상세 조회에서만 호출한다.
+     */
+    public String getContent() {
+        return noticeContent.getBody();
+    }
+
+    /**
+     * 본문 행의 식별자를 반환한다. 프록시의 식별자 접근은 본문을 로딩하지 않는다.
+     */
+    public Long getContentId() {
+        return noticeContent.getId();
+    }
+
     private void validateNoticePeriod(LocalDateTime startAt, LocalDateTime endAt) {
         if (endAt.isBefore(startAt)) {
             throw new IllegalArgumentException("공지 종료일은 시작일보다 빠를 수 없습니다.");
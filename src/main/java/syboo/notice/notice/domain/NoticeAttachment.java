@@ -5,11 +5,16 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import syboo.notice.common.config.SecondLevelCacheConfig;
 import syboo.notice.common.domain.baseentity.BaseEntity;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.NOTICE_ATTACHMENT_REGION)
 @Table(name = "notice_attachments", indexes = {
         @Index(name = "idx_attachment_stored_name", columnList = "storedFileName"),
         @Index(name = "idx_attachment_notice_id", columnList = "notice_id")
@@ -0,0 +1,51 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 변경 피드의 한 항목. 삭제도 기록(tombstone)하여 클라이언트가 로컬 사본에서 지울 수 있게 한다.
+ * <p>
+ * {@code seq}는 {@link NoticeChangeSequence}에서 커밋 순서대로 1씩 증가하며 발급되므로 빈 번호가 없고,
+ * 클라이언트는 마지막으로 받은 {@code seq}를 커서로 사용한다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_changes", indexes = {
+        // 보관 기간이 지난 항목 삭제용
+        @Index(name = "idx_notice_change_changed_at", columnList = "changedAt")
+})
+public class NoticeChange {
+
+    @Id
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long noticeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private NoticeChangeType changeType;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public NoticeChange(Long seq, Long noticeId, NoticeChangeType changeType, LocalDateTime changedAt) {
+        this.seq = seq;
+        this.noticeId = noticeId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+    }
+}
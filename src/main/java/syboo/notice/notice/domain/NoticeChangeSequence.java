@@ -0,0 +1,41 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 피드 번호를 발급하는 단일 행 카운터.
+ * <p>
+ * 발급하는 트랜잭션이 이 행을 비관적 잠금으로 잡은 채 커밋하므로, 번호 순서가 커밋 순서와 같고 롤백된 번호는 재사용된다.
+ * 덕분에 피드를 읽는 쪽은 {@code seq > cursor}만으로 아직 커밋되지 않은 변경을 건너뛰는 일 없이 이어 읽을 수 있다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_change_sequence")
+public class NoticeChangeSequence {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long lastValue;
+
+    public static NoticeChangeSequence initial() {
+        NoticeChangeSequence sequence = new NoticeChangeSequence();
+        sequence.id = SINGLETON_ID;
+        return sequence;
+    }
+
+    public long next() {
+        return ++lastValue;
+    }
+}
@@ -0,0 +1,8 @@
+package syboo.notice.notice.domain;
+
+/**
+ * 변경 피드에 기록되는 공지사항 변경 유형.
+ */
+public enum NoticeChangeType {
+    CREATED, UPDATED, DELETED
+}
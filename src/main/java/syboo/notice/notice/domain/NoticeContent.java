@@ -0,0 +1,55 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 공지사항 본문.
+ * <p>
+ * 본문은 수 KB~수백 KB에 달할 수 있으므로 {@link Notice}와 별도 테이블에 두고 지연 로딩한다.
+ * 목록 조회, 첨부파일/게시 기간 변경, 삭제처럼 본문이 필요 없는 작업에서는 이 행을 읽지 않는다.
+ * 일정 크기(기본 약 2KB)를 넘는 본문은 PostgreSQL TOAST에 의해 저장 시 자동으로 압축되며,
+ * 애플리케이션에서 압축하지 않으므로 본문 LIKE 검색은 그대로 동작한다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_contents")
+public class NoticeContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    NoticeContent(String body) {
+        this.body = body;
+    }
+
+    void changeBody(String body) {
+        this.body = body;
+    }
+
+    /**
+     * 본문 변경 여부 판단용 SHA-256 해시를 계산한다.
+     * {@link Notice}에 함께 저장해 두고 비교하므로, 본문이 바뀌지 않은 수정에서는 본문 행을 읽지 않는다.
+     */
+    static String hash(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/검색 조회 전용으로 비정규화한 공지사항 요약 (CQRS 읽기 모델).
+ * <p>
+ * 원본({@code notices}, {@code notice_attachments})이 바뀌는 트랜잭션 안에서 함께 갱신되므로 목록과 원본이 어긋나지 않는다.
+ * 예외적으로 조회수는 상세 조회마다 갱신되는 값이라 주기적으로 복사한 스냅샷이다.
+ * 게시 중 여부는 시각에 따라 바뀌어 행에 저장하면 낡으므로 두지 않는다. (게시 중 목록은 {@code ActiveNoticeIndex}가 맡는다)
+ * 본문과 첨부파일 행을 읽지 않고 좁은 행과 정렬 키 인덱스만으로 목록 페이지를 만든다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_read_model", indexes = {
+        // 목록 정렬 키별 (정렬 컬럼, id) 복합 인덱스 (원본 테이블과 같은 구성)
+        @Index(name = "idx_nrm_created_date_id", columnList = "createdDate, noticeId"),
+        @Index(name = "idx_nrm_view_count_id", columnList = "viewCount, noticeId"),
+        @Index(name = "idx_nrm_title_id", columnList = "title, noticeId")
+})
+public class NoticeReadModel {
+
+    @Id
+    private Long noticeId;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(nullable = false)
+    private String author;
+
+    private LocalDateTime createdDate;
+
+    @Column(nullable = false)
+    private LocalDateTime noticeStartAt;
+
+    @Column(nullable = false)
+    private LocalDateTime noticeEndAt;
+
+    @Column(nullable = false)
+    private int attachmentCount;
+
+    @Column(nullable = false)
+    private long attachmentBytes;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    @Builder
+    private NoticeReadModel(
+            Long noticeId,
+            String title,
+            String author,
+            LocalDateTime createdDate,
+            LocalDateTime noticeStartAt,
+            LocalDateTime noticeEndAt,
+            int attachmentCount,
+            long attachmentBytes,
+            long viewCount,
+            LocalDateTime syncedAt
+    ) {
+        this.noticeId = noticeId;
+        this.title = title;
+        this.author = author;
+        this.createdDate = createdDate;
+        this.noticeStartAt = noticeStartAt;
+        this.noticeEndAt = noticeEndAt;
+        this.attachmentCount = attachmentCount;
+        this.attachmentBytes = attachmentBytes;
+        this.viewCount = viewCount;
+        this.syncedAt = syncedAt;
+    }
+
+    /**
+     * 원본에서 새로 만든 요약으로 덮어쓴다.
+     */
+    public void apply(NoticeReadModel latest) {
+        this.title = latest.title;
+        this.author = latest.author;
+        this.createdDate = latest.createdDate;
+        this.noticeStartAt = latest.noticeStartAt;
+        this.noticeEndAt = latest.noticeEndAt;
+        this.attachmentCount = latest.attachmentCount;
+        this.attachmentBytes = latest.attachmentBytes;
+        this.viewCount = latest.viewCount;
+        this.syncedAt = latest.syncedAt;
+    }
+
+    public boolean hasAttachment() {
+        return attachmentCount > 0;
+    }
+}
@@ -0,0 +1,35 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항별 시간 구간 조회수 행의 공통 매핑. (공지사항 ID, 구간 시작 시각)이 기본 키이다.
+ * <p>
+ * 행은 {@link syboo.notice.notice.repository.NoticeViewStatsJdbcRepository}가 배치 MERGE로만 쓰므로 엔티티로 변경하지 않는다.
+ * </p>
+ */
+@Getter
+@MappedSuperclass
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class NoticeViewBucket {
+
+    @Id
+    private Long noticeId;
+
+    @Id
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long views;
+
+    public record Key(Long noticeId, LocalDateTime bucketStart) implements Serializable {
+    }
+}
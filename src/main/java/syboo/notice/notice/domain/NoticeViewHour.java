@@ -0,0 +1,21 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시간 단위 조회수. 분 단위 조회수를 집계(rollup)하여 채운다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(NoticeViewBucket.Key.class)
+@Table(name = "notice_view_hours", indexes = {
+        // 보관 기간이 지난 행 삭제용
+        @Index(name = "idx_notice_view_hours_bucket_start", columnList = "bucketStart")
+})
+public class NoticeViewHour extends NoticeViewBucket {
+}
@@ -0,0 +1,21 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분 단위 조회수. 조회 이벤트를 메모리에서 모아 주기적으로 더한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(NoticeViewBucket.Key.class)
+@Table(name = "notice_view_minutes", indexes = {
+        // 보관 기간이 지난 행 삭제용
+        @Index(name = "idx_notice_view_minutes_bucket_start", columnList = "bucketStart")
+})
+public class NoticeViewMinute extends NoticeViewBucket {
+}
@@ -0,0 +1,87 @@
+package syboo.notice.notice.domain;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 첨부파일 본문과 검색어를 같은 규칙으로 검색어 단위(term)로 나눈다.
+ * <p>
+ * 글자/숫자가 이어진 구간을 한 단어로 보고, 라틴 문자 등은 소문자 단어 그대로 사용한다.
+ * 한글·한자·가나는 띄어쓰기와 조사가 붙어 단어 경계가 불분명하므로 두 글자씩 겹쳐 자른다(bigram).
+ * 예: "공지사항을" → 공지, 지사, 사항, 항을 / 검색어 "공지사항" → 공지, 지사, 사항
+ * 모든 검색어 term이 포함된 문서를 찾으므로, 부분 문자열 검색과 비슷하게 동작한다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TextTokenizer {
+
+    public static final int MAX_TERM_LENGTH = 64;
+
+    /**
+     * @param text     나눌 문자열
+     * @param maxTerms 반환할 최대 term 수 (초과분은 버림)
+     * @return 중복 없는 term (등장 순서 유지)
+     */
+    public static Set<String> tokenize(String text, int maxTerms) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length && terms.size() < maxTerms) {
+            int codePoint = normalized.codePointAt(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+
+            // 같은 종류(CJK 여부)의 글자/숫자가 이어지는 구간을 한 단어로 자른다.
+            boolean cjk = isCjk(codePoint);
+            int end = start;
+            while (end < length) {
+                int next = normalized.codePointAt(end);
+                if (!Character.isLetterOrDigit(next) || isCjk(next) != cjk) {
+                    break;
+                }
+                end += Character.charCount(next);
+            }
+
+            String word = normalized.substring(start, end);
+            if (cjk) {
+                addBigrams(word, terms, maxTerms);
+            } else {
+                terms.add(word.length() > MAX_TERM_LENGTH ? word.substring(0, MAX_TERM_LENGTH) : word);
+            }
+            start = end;
+        }
+
+        return terms;
+    }
+
+    private static void addBigrams(String word, Set<String> terms, int maxTerms) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            terms.add(word);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length && terms.size() < maxTerms; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
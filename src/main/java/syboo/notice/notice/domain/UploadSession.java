@@ -0,0 +1,98 @@
+package syboo.notice.notice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import syboo.notice.common.domain.baseentity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 단위 이어 올리기(Resumable Upload) 세션.
+ * <p>
+ * 업로드 중인 파일은 저장소의 스테이징 영역에 누적되며,
+ * {@code receivedBytes}는 지금까지 확정된(다음 청크가 시작해야 하는) 오프셋을 의미한다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_session_expires_at", columnList = "expiresAt")
+})
+public class UploadSession extends BaseEntity {
+
+    private static final String STAGING_PREFIX = ".staging/";
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private String originFileName;
+
+    @Column(nullable = false)
+    private long totalSize;
+
+    @Column(nullable = false)
+    private long receivedBytes = 0L;
+
+    // 첫 청크에서 Tika로 판별된 실제 MIME 타입
+    private String contentType;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Version
+    private Long version;
+
+    @Builder
+    private UploadSession(String id, String originFileName, long totalSize, LocalDateTime expiresAt) {
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException("업로드할 파일 크기는 0보다 커야 합니다.");
+        }
+        this.id = id;
+        this.originFileName = originFileName;
+        this.totalSize = totalSize;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 스테이징 영역에 누적 중인 파일의 저장소 내 이름
+     */
+    public String getStagedFileName() {
+        return STAGING_PREFIX + id;
+    }
+
+    public long getRemainingBytes() {
+        return totalSize - receivedBytes;
+    }
+
+    public boolean isCompleted() {
+        return receivedBytes == totalSize;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expiresAt);
+    }
+
+    /**
+     * 첫 청크에서 판별된 MIME 타입을 기록한다.
+     */
+    public void assignContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * 청크 기록이 끝난 뒤 확정 오프셋을 전진시키고 만료 시각을 연장한다.
+     */
+    public void advance(long writtenBytes, LocalDateTime newExpiresAt) {
+        if (receivedBytes + writtenBytes > totalSize) {
+            throw new IllegalArgumentException("선언된 파일 크기를 초과하여 업로드할 수 없습니다.");
+        }
+        this.receivedBytes += writtenBytes;
+        this.expiresAt = newExpiresAt;
+    }
+}
@@ -0,0 +1,114 @@
+package syboo.notice.notice.infra.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import syboo.notice.common.exception.FileSecurityException;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.repository.AttachmentArchiveEntry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 첨부파일들을 임시 파일 없이 ZIP으로 묶어 출력 스트림에 바로 쓴다.
+ * <p>
+ * 파일마다 한 번만 읽으면서 압축과 SHA-256 검증을 함께 하므로 메모리 사용량은 파일 크기·개수와 무관하게 버퍼 하나 수준이다.
+ * 크기와 CRC를 미리 알아야 하는 STORED 대신, 이미 압축된 형식(PDF, JPEG, PNG 등)은 압축 수준 0(무압축 deflate 블록)으로 기록해
+ * 파일을 두 번 읽지 않고도 CPU를 거의 쓰지 않는다. 4GB를 넘는 파일이나 65,535개를 넘는 항목은 ZIP64로 기록된다.
+ * </p>
+ * <p>
+ * 저장된 파일이 체크섬과 다르면 즉시 {@link FileSecurityException}을 던진다. 응답이 이미 나가고 있으므로 연결이 끊기고
+ * 클라이언트는 불완전한 ZIP을 받게 되며, 변조된 파일이 정상 묶음으로 전달되지는 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentZipWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "application/pdf",
+            "application/zip",
+            "application/gzip",
+            "application/x-7z-compressed",
+            "image/jpeg",
+            "image/png",
+            "image/gif",
+            "image/webp");
+
+    private final StorageService storageService;
+
+    public void write(List<AttachmentArchiveEntry> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Set<String> usedNames = new HashSet<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (AttachmentArchiveEntry entry : entries) {
+            zip.setLevel(isCompressed(entry.contentType()) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(uniqueName(entry.originFileName(), usedNames)));
+
+            MessageDigest digest = ChecksumGenerator.newDigest();
+            try (InputStream in = new DigestInputStream(
+                    storageService.loadAsResource(entry.storedFileName()).getInputStream(), digest)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                }
+            }
+
+            String checksum = ChecksumGenerator.toHex(digest);
+            if (!entry.checksum().equals(checksum)) {
+                log.error("보안 경고: 묶음 다운로드 중 파일 무결성 검증 실패! (ID: {}, 파일명: {}) DB: {}, 실제: {}",
+                        entry.id(), entry.originFileName(), entry.checksum(), checksum);
+                throw new FileSecurityException("파일이 서버에서 변조되었을 가능성이 있습니다.");
+            }
+            zip.closeEntry();
+        }
+
+        // 중앙 디렉터리만 기록하고, 응답 스트림은 컨테이너가 닫는다.
+        zip.finish();
+        zip.flush();
+    }
+
+    private boolean isCompressed(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return COMPRESSED_TYPES.contains(type) || type.startsWith("video/") || type.startsWith("audio/");
+    }
+
+    /**
+     * ZIP 항목 이름으로 쓸 수 있게 경로 구분자를 없애고, 같은 이름은 {@code 이름 (2).확장자} 형태로 구분한다.
+     */
+    static String uniqueName(String originFileName, Set<String> usedNames) {
+        String name = originFileName.replace('\\', '_').replace('/', '_');
+        if (usedNames.add(name)) {
+            return name;
+        }
+
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int i = 2; ; i++) {
+            String candidate = base + " (" + i + ")" + extension;
+            if (usedNames.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
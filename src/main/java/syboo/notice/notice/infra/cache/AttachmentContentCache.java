@@ -0,0 +1,161 @@
+package syboo.notice.notice.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 자주 내려받는 첨부파일의 검증된 내용을 힙 밖(다이렉트 버퍼)에 보관하는 캐시.
+ * <p>
+ * 캐시에 있는 파일은 다운로드마다 파일을 다시 열고 해시를 다시 계산하지 않고 버퍼에서 바로 응답한다.
+ * 내용은 읽으면서 계산한 체크섬이 DB 체크섬과 같을 때만 저장하므로, 캐시에서 응답하는 바이트는 항상 검증된 원본이다.
+ * 첨부파일은 저장 후 바뀌지 않으며, 이 노드에서 삭제하면 {@link #invalidate}로 비운다.
+ * 다른 노드에서 삭제된 공지사항은 저장 파일명을 알 수 없으므로, 항목마다 소속 공지사항 ID를 함께 두고 {@link #invalidateNotices}로 비운다.
+ * </p>
+ * <p>
+ * 용량은 {@code max-size} 바이트로 제한하고, Caffeine의 W-TinyLFU 정책이 새 항목과 밀려날 항목의 접근 빈도를 비교해
+ * 자주 쓰이는 쪽을 남긴다. 여기에 더해 처음 요청된 파일은 기억만 해 두고(doorkeeper) 두 번째 요청부터 읽어 들이므로,
+ * 한 번 내려받고 마는 큰 파일이 버퍼를 할당하거나 인기 있는 작은 파일을 밀어내지 않는다.
+ * {@code max-entry-size}보다 큰 파일은 캐시하지 않는다.
+ * 다이렉트 버퍼 메모리는 GC가 버퍼를 회수할 때 반환되므로, {@code -XX:MaxDirectMemorySize}는 {@code max-size}보다 여유 있게 잡는다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AttachmentContentCache {
+
+    private final Cache<String, Entry> contents;
+    private final Cache<String, Boolean> doorkeeper;
+    private final long maxEntrySize;
+    private final MeterRegistry meterRegistry;
+
+    public AttachmentContentCache(
+            MeterRegistry meterRegistry,
+            @Value("${notice.attachment-cache.max-size:256MB}") DataSize maxSize,
+            @Value("${notice.attachment-cache.max-entry-size:16MB}") DataSize maxEntrySize,
+            @Value("${notice.attachment-cache.doorkeeper-size:10000}") long doorkeeperSize) {
+        this.meterRegistry = meterRegistry;
+        this.maxEntrySize = Math.min(maxEntrySize.toBytes(), Integer.MAX_VALUE);
+        this.contents = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String storedFileName, Entry entry) -> entry.attachment().size())
+                .build();
+        this.doorkeeper = Caffeine.newBuilder()
+                .maximumSize(doorkeeperSize)
+                .build();
+
+        Gauge.builder("notice.attachment-cache.bytes", contents,
+                        cache -> cache.policy().eviction()
+                                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                                .orElse(0L))
+                .description("첨부파일 캐시가 보관 중인 바이트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 내용을 반환한다. 체크섬이 다르면(같은 이름에 다른 내용) 없는 것으로 본다.
+     */
+    public Optional<CachedAttachment> find(String storedFileName, String checksum) {
+        Entry entry = contents.getIfPresent(storedFileName);
+        if (entry == null || !entry.attachment().checksum().equals(checksum)) {
+            return Optional.empty();
+        }
+        record("hit");
+        return Optional.of(entry.attachment());
+    }
+
+    /**
+     * 캐시에 없는 파일을 읽어 들일 가치가 있는지 판단한다.
+     * 너무 큰 파일은 제외하고, 처음 요청된 파일은 다음 요청을 위해 기억만 한다.
+     */
+    public boolean shouldLoad(String storedFileName, long size) {
+        if (size > maxEntrySize) {
+            record("bypass");
+            return false;
+        }
+        if (doorkeeper.asMap().remove(storedFileName) != null) {
+            return true;
+        }
+        doorkeeper.put(storedFileName, Boolean.TRUE);
+        record("miss");
+        return false;
+    }
+
+    /**
+     * 파일을 다이렉트 버퍼로 읽으며 체크섬을 계산한다. 체크섬이 기대값과 같을 때만 캐시에 넣는다.
+     * 호출자는 반환된 체크섬으로 무결성을 판단한다.
+     *
+     * @param noticeId 소속 공지사항 ID (다른 노드의 삭제를 반영할 때 사용)
+     * @param size     파일 크기 (DB에 기록된 값, 실제 파일이 더 길면 체크섬이 달라진다)
+     */
+    public CachedAttachment load(Long noticeId, String storedFileName, String expectedChecksum, Resource source, long size) {
+        record("load");
+        MessageDigest digest = ChecksumGenerator.newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(size));
+
+        try (InputStream in = source.getInputStream()) {
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                digest.update(chunk, 0, read);
+                if (read > buffer.remaining()) {
+                    // 기록된 크기보다 긴 파일: 나머지는 해시만 계산해 불일치로 판정되게 한다.
+                    buffer.put(chunk, 0, buffer.remaining());
+                    continue;
+                }
+                buffer.put(chunk, 0, read);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("저장된 리소스를 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        CachedAttachment loaded = new CachedAttachment(ChecksumGenerator.toHex(digest), buffer.flip());
+        if (loaded.checksum().equals(expectedChecksum)) {
+            contents.put(storedFileName, new Entry(noticeId, loaded));
+            log.debug("첨부파일 캐시 적재: {} ({} bytes)", storedFileName, loaded.size());
+        }
+        return loaded;
+    }
+
+    public void invalidate(String storedFileName) {
+        contents.invalidate(storedFileName);
+        doorkeeper.invalidate(storedFileName);
+    }
+
+    /**
+     * 다른 노드에서 변경된 공지사항의 첨부파일 항목을 비운다.
+     */
+    public void invalidateNotices(Collection<Long> noticeIds) {
+        contents.asMap().values().removeIf(entry -> noticeIds.contains(entry.noticeId()));
+    }
+
+    /**
+     * 모든 항목을 비운다. 변경 이벤트 일부를 놓쳤을 수 있는 경우에 사용한다.
+     */
+    public void invalidateAll() {
+        contents.invalidateAll();
+        doorkeeper.invalidateAll();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("notice.attachment-cache.requests", "result", result).increment();
+    }
+
+    private record Entry(Long noticeId, CachedAttachment attachment) {
+    }
+}
@@ -0,0 +1,122 @@
+package syboo.notice.notice.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.common.datasource.ReadYourWritesContext;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.repository.AttachmentMetadata;
+import syboo.notice.notice.repository.NoticeAttachmentRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 다운로드에 필요한 첨부파일 메타데이터(저장 파일명, 체크섬, 크기, 게시 기간 등)를 첨부파일 ID로 보관하는 캐시.
+ * <p>
+ * 캐시에 있는 첨부파일은 조건부 요청 확인과 다운로드 모두 DB를 거치지 않는다. 없으면 첨부파일과 공지사항을 한 번의 조인으로 읽어 채우며,
+ * 같은 ID의 동시 미스는 Caffeine이 하나의 조회로 합친다. 존재하지 않는 ID는 캐시하지 않는다.
+ * 공지사항 등록/수정이 커밋되면 해당 공지사항의 항목을 비우고 새 첨부파일 정보로 미리 채우며, 삭제되면 비운다.
+ * 다른 노드의 변경은 {@link #invalidate(Collection)}로 반영한다.
+ * </p>
+ * <p>
+ * 저장 파일명과 체크섬은 첨부파일이 바뀌지 않으므로 항상 유효하고, 자주 바뀌는 게시 여부는 호출자가 활성 공지사항 인덱스로 먼저 판단한다.
+ * 커밋 직후 미리 채우기와 무효화 뒤의 미스 조회는 primary에서 읽는다. 지연된 replica에서 읽으면 새 첨부파일이 없거나
+ * 삭제된 첨부파일이 {@code ttl} 동안 남기 때문이다.
+ * 무효화와 동시에 진행 중이던 조회가 이전 값을 넣는 드문 경우를 대비해 항목은 {@code ttl} 뒤에 만료된다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AttachmentMetadataCache {
+
+    private final NoticeAttachmentRepository noticeAttachmentRepository;
+    private final Cache<Long, AttachmentMetadata> entries;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AttachmentMetadataCache(
+            NoticeAttachmentRepository noticeAttachmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notice.attachment-metadata-cache.max-size:100000}") long maxSize,
+            @Value("${notice.attachment-metadata-cache.ttl:PT10M}") Duration ttl) {
+        this.noticeAttachmentRepository = noticeAttachmentRepository;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        Gauge.builder("notice.attachment-metadata-cache.size", entries, Cache::estimatedSize)
+                .description("캐시된 첨부파일 메타데이터 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 첨부파일 메타데이터를 반환한다. 캐시에 없으면 DB에서 읽어 채운다.
+     */
+    public Optional<AttachmentMetadata> get(Long attachmentId) {
+        return Optional.ofNullable(entries.get(attachmentId, id -> {
+            log.debug("첨부파일 메타데이터 캐시 미스: id={}", id);
+            return ReadYourWritesContext.callOnPrimary(() -> noticeAttachmentRepository.findMetadataById(id))
+                    .orElse(null);
+        }));
+    }
+
+    /**
+     * DB를 조회하지 않고 캐시에 항목이 있는지만 확인한다.
+     */
+    boolean contains(Long attachmentId) {
+        return entries.getIfPresent(attachmentId) != null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        evictNotice(event.noticeId());
+        if (event.changeType() != NoticeChangedEvent.ChangeType.DELETED) {
+            executor.execute(() -> preload(event.noticeId()));
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 공지사항의 첨부파일 항목을 비운다.
+     */
+    public void invalidate(Collection<Long> noticeIds) {
+        noticeIds.forEach(this::evictNotice);
+    }
+
+    /**
+     * 모든 항목을 비운다. 변경 이벤트 일부를 놓쳤을 수 있는 경우에 사용한다.
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void evictNotice(Long noticeId) {
+        entries.asMap().values().removeIf(metadata -> metadata.noticeId().equals(noticeId));
+    }
+
+    private void preload(Long noticeId) {
+        try {
+            ReadYourWritesContext.callOnPrimary(() -> noticeAttachmentRepository.findMetadataByNoticeId(noticeId))
+                    .forEach(metadata -> entries.put(metadata.id(), metadata));
+        } catch (DataAccessException e) {
+            // 다음 다운로드 요청에서 다시 읽으므로 실패해도 무시한다.
+            log.warn("첨부파일 메타데이터 미리 채우기 실패: noticeId={}", noticeId, e);
+        }
+    }
+}
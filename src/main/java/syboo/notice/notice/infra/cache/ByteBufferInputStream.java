@@ -0,0 +1,65 @@
+package syboo.notice.notice.infra.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteBuffer}를 읽는 입력 스트림.
+ * <p>
+ * 응답 전송({@link #transferTo})은 버퍼에서 출력 스트림으로 큰 조각 단위로 바로 옮겨, 중간에 파일을 다시 열거나 전체를 힙에 복사하지 않는다.
+ * </p>
+ */
+class ByteBufferInputStream extends InputStream {
+
+    private static final int TRANSFER_CHUNK_SIZE = 64 * 1024;
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        long transferred = buffer.remaining();
+        byte[] chunk = new byte[(int) Math.min(TRANSFER_CHUNK_SIZE, Math.max(1, transferred))];
+        while (buffer.hasRemaining()) {
+            int n = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, n);
+            out.write(chunk, 0, n);
+        }
+        return transferred;
+    }
+}
@@ -0,0 +1,40 @@
+package syboo.notice.notice.infra.cache;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 캐시된 버퍼를 복사하지 않고 감싸는 읽기 전용 리소스. 요청마다 독립된 읽기 위치를 갖는 뷰를 만든다.
+ */
+class ByteBufferResource extends AbstractResource {
+
+    private final ByteBuffer content;
+    private final String description;
+
+    ByteBufferResource(ByteBuffer content, String description) {
+        this.content = content.asReadOnlyBuffer();
+        this.description = description;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.remaining();
+    }
+
+    @Override
+    public String getDescription() {
+        return "cached attachment [" + description + "]";
+    }
+}
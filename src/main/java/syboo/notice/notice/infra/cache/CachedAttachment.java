@@ -0,0 +1,25 @@
+package syboo.notice.notice.infra.cache;
+
+import org.springframework.core.io.Resource;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 오프힙 버퍼에 보관한 첨부파일 내용과, 읽으면서 계산한 체크섬.
+ *
+ * @param checksum 버퍼 내용의 SHA-256 체크섬
+ * @param content  파일 내용 (다이렉트 버퍼, 읽기 위치는 항상 0)
+ */
+public record CachedAttachment(String checksum, ByteBuffer content) {
+
+    public int size() {
+        return content.remaining();
+    }
+
+    /**
+     * 응답 본문으로 쓸 리소스를 만든다. 버퍼를 복사하지 않는다.
+     */
+    public Resource toResource(String description) {
+        return new ByteBufferResource(content, description);
+    }
+}
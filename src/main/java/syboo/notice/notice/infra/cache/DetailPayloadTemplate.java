@@ -0,0 +1,98 @@
+package syboo.notice.notice.infra.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 조회수 값 자리만 비워 둔 공지사항 상세 JSON 템플릿.
+ * <p>
+ * 조회수는 버전 증가 없이 요청마다 바뀌므로, 직렬화 결과를 조회수 앞/뒤 두 조각으로 나누어 보관하고
+ * 요청 시 현재 조회수 숫자만 끼워 넣는다. gzip 변형도 앞 조각은 SYNC_FLUSH로, 뒤 조각은 독립 스트림으로
+ * 미리 압축해 두고 숫자는 비압축(stored) 블록으로 이어 붙이므로, 요청 경로에서는 압축을 수행하지 않는다.
+ * </p>
+ */
+final class DetailPayloadTemplate {
+
+    private final long version;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    // gzip 헤더 + deflate(prefix, SYNC_FLUSH) / deflate(suffix, FINISH). 압축하지 않는 경우 null
+    private final byte[] gzipHead;
+    private final byte[] gzipTail;
+    private final long prefixCrc;
+    private final long suffixCrc;
+
+    private DetailPayloadTemplate(long version, byte[] prefix, byte[] suffix, boolean compress) {
+        this.version = version;
+        this.prefix = prefix;
+        this.suffix = suffix;
+
+        if (compress) {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            head.writeBytes(GzipSegments.header());
+            head.writeBytes(GzipSegments.deflate(prefix, false));
+            this.gzipHead = head.toByteArray();
+            this.gzipTail = GzipSegments.deflate(suffix, true);
+        } else {
+            this.gzipHead = null;
+            this.gzipTail = null;
+        }
+        this.prefixCrc = GzipSegments.crc32(prefix);
+        this.suffixCrc = GzipSegments.crc32(suffix);
+    }
+
+    /**
+     * @param json       조회수 자리에 임의의 숫자가 들어간 직렬화 결과
+     * @param valueStart 조회수 숫자의 시작 위치
+     * @param valueEnd   조회수 숫자의 끝 위치 (exclusive)
+     * @param compress   gzip 변형을 미리 만들지 여부
+     */
+    static DetailPayloadTemplate of(long version, byte[] json, int valueStart, int valueEnd, boolean compress) {
+        byte[] prefix = new byte[valueStart];
+        byte[] suffix = new byte[json.length - valueEnd];
+        System.arraycopy(json, 0, prefix, 0, prefix.length);
+        System.arraycopy(json, valueEnd, suffix, 0, suffix.length);
+        return new DetailPayloadTemplate(version, prefix, suffix, compress);
+    }
+
+    long version() {
+        return version;
+    }
+
+    int weight() {
+        return prefix.length + suffix.length
+                + (gzipHead != null ? gzipHead.length + gzipTail.length : 0);
+    }
+
+    EncodedPayload render(long viewCount, boolean gzipAccepted) {
+        byte[] digits = Long.toString(viewCount).getBytes(StandardCharsets.US_ASCII);
+        return gzipAccepted && gzipHead != null
+                ? EncodedPayload.gzip(renderGzip(digits))
+                : EncodedPayload.identity(renderIdentity(digits));
+    }
+
+    private byte[] renderIdentity(byte[] digits) {
+        byte[] body = new byte[prefix.length + digits.length + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(digits, 0, body, prefix.length, digits.length);
+        System.arraycopy(suffix, 0, body, prefix.length + digits.length, suffix.length);
+        return body;
+    }
+
+    private byte[] renderGzip(byte[] digits) {
+        CRC32 digitsCrc = new CRC32();
+        digitsCrc.update(digits);
+
+        long crc = GzipSegments.crc32Combine(prefixCrc, digitsCrc.getValue(), digits.length);
+        crc = GzipSegments.crc32Combine(crc, suffixCrc, suffix.length);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(gzipHead.length + digits.length + gzipTail.length + 13);
+        out.writeBytes(gzipHead);
+        GzipSegments.writeStoredBlock(out, digits);
+        out.writeBytes(gzipTail);
+        GzipSegments.writeTrailer(out, crc, (long) prefix.length + digits.length + suffix.length);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,57 @@
+package syboo.notice.notice.infra.cache;
+
+/**
+ * 전송 준비가 끝난 응답 바이트와 적용된 Content-Encoding.
+ *
+ * @param body            응답 본문 바이트
+ * @param contentEncoding 압축 방식 (압축하지 않은 경우 {@code null})
+ */
+public record EncodedPayload(
+        byte[] body,
+        String contentEncoding
+) {
+    public static final String GZIP = "gzip";
+
+    public static EncodedPayload identity(byte[] body) {
+        return new EncodedPayload(body, null);
+    }
+
+    public static EncodedPayload gzip(byte[] body) {
+        return new EncodedPayload(body, GZIP);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip(또는 *)을 q=0이 아닌 값으로 허용하는지 확인한다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.trim().split(";");
+            String name = params[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            if (isAcceptable(params)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAcceptable(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,170 @@
+package syboo.notice.notice.infra.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 미리 압축해 둔 조각을 이어 붙여 하나의 gzip 스트림을 만들기 위한 저수준 유틸리티.
+ * <p>
+ * SYNC_FLUSH로 끝난 deflate 블록은 바이트 경계에서 끝나므로, 그 뒤에 비압축(stored) 블록이나
+ * 독립적으로 압축한 다른 deflate 스트림을 이어 붙여도 유효한 스트림이 된다(RFC 1951).
+ * CRC-32는 조각별 값을 zlib의 crc32_combine과 같은 방식으로 합성하여 전체를 다시 읽지 않는다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class GzipSegments {
+
+    // ID1, ID2, CM=deflate, FLG, MTIME(4), XFL, OS=unknown (RFC 1952)
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final long CRC32_POLYNOMIAL = 0xedb88320L;
+    private static final int MAX_STORED_BLOCK = 0xffff;
+
+    static byte[] header() {
+        return GZIP_HEADER.clone();
+    }
+
+    /**
+     * 입력 전체를 하나의 완결된 gzip 스트림으로 압축한다.
+     */
+    static byte[] gzip(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 32);
+        out.writeBytes(GZIP_HEADER);
+        out.writeBytes(deflate(input, true));
+        writeTrailer(out, crc32(input), input.length);
+        return out.toByteArray();
+    }
+
+    /**
+     * 헤더 없는(raw) deflate 데이터를 만든다.
+     *
+     * @param finish {@code true}면 마지막 블록(BFINAL)으로 끝내고, {@code false}면 SYNC_FLUSH로 바이트 경계에 맞춰 끝낸다.
+     */
+    static byte[] deflate(byte[] input, boolean finish) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 16);
+            byte[] buffer = new byte[8192];
+
+            if (finish) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int written;
+                do {
+                    written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, written);
+                } while (written == buffer.length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 비압축(stored) deflate 블록을 기록한다. 직전 블록이 바이트 경계에서 끝났어야 한다.
+     */
+    static void writeStoredBlock(ByteArrayOutputStream out, byte[] data) {
+        if (data.length > MAX_STORED_BLOCK) {
+            throw new IllegalArgumentException("stored 블록은 65535바이트를 넘을 수 없습니다.");
+        }
+        int len = data.length;
+        int nlen = ~len & 0xffff;
+        out.write(0x00); // BFINAL=0, BTYPE=00 (이후 바이트 경계까지 패딩)
+        out.write(len & 0xff);
+        out.write(len >>> 8);
+        out.write(nlen & 0xff);
+        out.write(nlen >>> 8);
+        out.writeBytes(data);
+    }
+
+    /**
+     * CRC-32와 원본 길이(mod 2^32)로 gzip 트레일러를 기록한다.
+     */
+    static void writeTrailer(ByteArrayOutputStream out, long crc, long length) {
+        writeIntLE(out, crc);
+        writeIntLE(out, length);
+    }
+
+    static long crc32(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    /**
+     * crc(A)와 crc(B), B의 길이로 crc(A || B)를 계산한다. (zlib crc32_combine)
+     */
+    static long crc32Combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // 1비트 0을 이어 붙이는 연산자
+        odd[0] = CRC32_POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        gf2MatrixSquare(even, odd); // 2비트
+        gf2MatrixSquare(odd, even); // 4비트
+
+        // len2 바이트만큼의 0을 crc1 뒤에 붙인다 (첫 제곱에서 1바이트 연산자가 됨)
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] mat, long vec) {
+        long sum = 0;
+        int i = 0;
+        while (vec != 0) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+            vec >>>= 1;
+            i++;
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] mat) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(mat, mat[n]);
+        }
+    }
+
+    private static void writeIntLE(ByteArrayOutputStream out, long value) {
+        out.write((int) (value & 0xff));
+        out.write((int) ((value >>> 8) & 0xff));
+        out.write((int) ((value >>> 16) & 0xff));
+        out.write((int) ((value >>> 24) & 0xff));
+    }
+}
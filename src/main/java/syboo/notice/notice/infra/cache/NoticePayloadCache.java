@@ -0,0 +1,175 @@
+package syboo.notice.notice.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.datasource.ReadYourWritesContext;
+import syboo.notice.notice.api.response.NoticeDetailResponse;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.infra.coalesce.RequestCoalescer;
+import syboo.notice.notice.repository.NoticeListRevision;
+import syboo.notice.notice.repository.NoticeRevision;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 공지사항 상세/목록 응답을 직렬화·압축이 끝난 바이트로 보관하는 캐시.
+ * <p>
+ * 상세 응답은 공지사항 버전({@link NoticeRevision#version()})으로, 목록 응답은 목록 집계값으로 스스로 검증하므로
+ * 다른 노드에서 일어난 변경도 놓치지 않는다. 같은 노드의 쓰기는 커밋 직후 이벤트로 즉시 비워 메모리를 회수한다.
+ * 목록의 조회수는 버전과 무관하게 바뀌므로 목록 캐시는 짧은 TTL 동안만 유지한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NoticePayloadCache {
+
+    private static final String VIEW_COUNT_FIELD = "\"viewCount\":";
+    private static final long VIEW_COUNT_PLACEHOLDER = Long.MIN_VALUE;
+    private static final byte[] VIEW_COUNT_MARKER =
+            (VIEW_COUNT_FIELD + VIEW_COUNT_PLACEHOLDER).getBytes(StandardCharsets.UTF_8);
+
+    private static final String DETAIL_NAMESPACE = "notice-detail";
+
+    private final JsonMapper jsonMapper;
+    private final RequestCoalescer requestCoalescer;
+    private final int minCompressSize;
+    private final Cache<Long, DetailPayloadTemplate> details;
+    private final Cache<String, PayloadVariants> lists;
+
+    public NoticePayloadCache(
+            JsonMapper jsonMapper,
+            RequestCoalescer requestCoalescer,
+            @Value("${notice.payload-cache.detail-max-size:48MB}") DataSize detailMaxSize,
+            @Value("${notice.payload-cache.list-max-size:16MB}") DataSize listMaxSize,
+            @Value("${notice.payload-cache.list-ttl:PT5S}") Duration listTtl,
+            @Value("${notice.payload-cache.min-compress-size:1KB}") DataSize minCompressSize) {
+        this.jsonMapper = jsonMapper;
+        this.requestCoalescer = requestCoalescer;
+        this.minCompressSize = (int) minCompressSize.toBytes();
+        this.details = Caffeine.newBuilder()
+                .maximumWeight(detailMaxSize.toBytes())
+                .weigher((Long id, DetailPayloadTemplate template) -> template.weight())
+                .build();
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(listMaxSize.toBytes())
+                .weigher((String key, PayloadVariants variants) -> variants.weight())
+                .expireAfterWrite(listTtl)
+                .build();
+    }
+
+    /**
+     * 상세 응답 바이트를 반환한다. 캐시된 템플릿의 버전이 다르면 다시 직렬화한다.
+     * 지연된 replica의 이전 본문이 새 버전으로 캐시되지 않도록 미스 시 조회는 primary에서 한다.
+     *
+     * @param revision     방금 조회한 버전/조회수 (조회수는 응답에 그대로 채워짐)
+     * @param gzipAccepted 클라이언트가 gzip을 허용하는지 여부
+     * @param loader       캐시 미스 시 상세 정보를 조회하는 함수
+     */
+    public EncodedPayload getDetail(NoticeRevision revision, boolean gzipAccepted,
+                                    Supplier<NoticeDetailResponse> loader) {
+        DetailPayloadTemplate template = details.getIfPresent(revision.id());
+
+        if (template == null || template.version() != revision.version()) {
+            log.debug("상세 응답 캐시 미스: id={}, version={}", revision.id(), revision.version());
+            // 게시 직후처럼 같은 공지사항의 미스가 몰리면 조회와 직렬화를 한 번만 수행하고 결과를 나눠 받는다.
+            template = requestCoalescer.execute(DETAIL_NAMESPACE, revision.id() + ":" + revision.version(), () -> {
+                DetailPayloadTemplate built = buildTemplate(revision.version(),
+                        ReadYourWritesContext.callOnPrimary(loader));
+                details.put(revision.id(), built);
+                return built;
+            });
+        }
+
+        return template.render(revision.viewCount(), gzipAccepted);
+    }
+
+    /**
+     * 목록 응답 바이트를 반환한다. 같은 요청 조건이라도 목록 집계값이 바뀌면 다른 캐시 키가 된다.
+     * 같은 키의 동시 미스는 Caffeine이 하나의 계산으로 합친다.
+     * 캐시 키의 집계값은 primary에서 읽으므로, 지연된 replica의 목록이 새 집계값으로 캐시되지 않도록 미스 시 조회도 primary에서 한다.
+     *
+     * @param requestKey 페이징/검색 조건을 구분하는 키
+     */
+    public EncodedPayload getList(String requestKey, NoticeListRevision revision, boolean gzipAccepted,
+                                  Supplier<Page<NoticeListResponse>> loader) {
+        String key = requestKey + "#" + revision.count() + "-" + revision.versionSum() + "-" + revision.maxId();
+
+        return lists.get(key, k -> {
+                    log.debug("목록 응답 캐시 미스: key={}", k);
+                    return PayloadVariants.of(jsonMapper.writeValueAsBytes(new PagedModel<>(ReadYourWritesContext.callOnPrimary(loader))), minCompressSize);
+                })
+                .select(gzipAccepted);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        details.invalidate(event.noticeId());
+        lists.invalidateAll();
+        log.debug("응답 캐시 무효화: id={}, type={}", event.noticeId(), event.changeType());
+    }
+
+    /**
+     * 다른 노드에서 변경된 공지사항의 캐시 항목을 비운다.
+     */
+    public void invalidate(Collection<Long> noticeIds) {
+        details.invalidateAll(noticeIds);
+        lists.invalidateAll();
+    }
+
+    /**
+     * 모든 캐시 항목을 비운다. 변경 이벤트 일부를 놓쳤을 수 있는 경우에 사용한다.
+     */
+    public void invalidateAll() {
+        details.invalidateAll();
+        lists.invalidateAll();
+    }
+
+    private DetailPayloadTemplate buildTemplate(long version, NoticeDetailResponse detail) {
+        NoticeDetailResponse placeholder = new NoticeDetailResponse(
+                detail.id(),
+                detail.title(),
+                detail.content(),
+                detail.author(),
+                detail.createdDate(),
+                VIEW_COUNT_PLACEHOLDER,
+                detail.attachments()
+        );
+        byte[] json = jsonMapper.writeValueAsBytes(placeholder);
+
+        // 문자열 값 안의 따옴표는 이스케이프되므로 "viewCount": 는 필드 키 위치에서만 나타난다.
+        int at = indexOf(json, VIEW_COUNT_MARKER);
+        if (at < 0) {
+            throw new IllegalStateException("상세 응답에서 조회수 필드 위치를 찾을 수 없습니다.");
+        }
+
+        int valueStart = at + VIEW_COUNT_FIELD.length();
+        int valueEnd = at + VIEW_COUNT_MARKER.length;
+        return DetailPayloadTemplate.of(version, json, valueStart, valueEnd, json.length >= minCompressSize);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,25 @@
+package syboo.notice.notice.infra.cache;
+
+/**
+ * 하나의 응답에 대해 미리 만들어 둔 원본/압축 바이트.
+ *
+ * @param identity 압축하지 않은 바이트
+ * @param gzip     gzip 압축 바이트 (압축 이득이 없는 작은 응답은 {@code null})
+ */
+record PayloadVariants(
+        byte[] identity,
+        byte[] gzip
+) {
+    static PayloadVariants of(byte[] identity, int minCompressSize) {
+        return new PayloadVariants(identity,
+                identity.length >= minCompressSize ? GzipSegments.gzip(identity) : null);
+    }
+
+    EncodedPayload select(boolean gzipAccepted) {
+        return gzipAccepted && gzip != null ? EncodedPayload.gzip(gzip) : EncodedPayload.identity(identity);
+    }
+
+    int weight() {
+        return identity.length + (gzip != null ? gzip.length : 0);
+    }
+}
@@ -0,0 +1,63 @@
+package syboo.notice.notice.infra.changefeed;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 변경 피드에 새 항목이 커밋되었음을 기다리는 요청(long-poll)에 알린다.
+ * <p>
+ * 구독은 한 번 알림을 받으면 해제된다. 알림은 커밋한 요청 스레드를 붙잡지 않도록 가상 스레드에서 실행된다.
+ * 다른 노드의 변경은 무효화 버스({@link syboo.notice.notice.infra.invalidation.LocalNoticeCacheInvalidator})를 통해 전달되며,
+ * 버스를 쓰지 않는 구성에서는 대기 시간이 끝날 때 다시 조회하게 된다.
+ * </p>
+ */
+@Component
+public class ChangeFeedSignal {
+
+    private final Set<Runnable> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChangeFeedSignal(MeterRegistry meterRegistry) {
+        Gauge.builder("notice.change-feed.waiting", subscribers, Set::size)
+                .description("변경 피드를 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 변경 알림 때 한 번 실행할 작업을 등록한다.
+     *
+     * @return 구독 해제 함수
+     */
+    public Runnable subscribe(Runnable subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        signal();
+    }
+
+    public void signal() {
+        for (Runnable subscriber : subscribers) {
+            if (subscribers.remove(subscriber)) {
+                executor.execute(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
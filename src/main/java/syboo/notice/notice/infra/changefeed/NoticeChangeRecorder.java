@@ -0,0 +1,90 @@
+package syboo.notice.notice.infra.changefeed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.domain.NoticeChange;
+import syboo.notice.notice.domain.NoticeChangeSequence;
+import syboo.notice.notice.domain.NoticeChangeType;
+import syboo.notice.notice.repository.NoticeChangeRepository;
+import syboo.notice.notice.repository.NoticeChangeSequenceRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 변경 이벤트를 같은 트랜잭션 안에서 변경 피드({@code notice_changes})에 기록한다.
+ * <p>
+ * 커밋 직전에 번호 카운터 행을 잠그고 기록하므로 잠금 보유 시간이 짧고, 변경이 롤백되면 피드 항목도 함께 사라진다.
+ * 보관 기간({@code retention})이 지난 항목은 주기적으로 삭제하며, 그보다 오래된 커서로 요청한 클라이언트는 전체 목록을 다시 받아야 한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NoticeChangeRecorder {
+
+    private final Clock clock;
+    private final NoticeChangeRepository changeRepository;
+    private final NoticeChangeSequenceRepository sequenceRepository;
+    private final TransactionTemplate newTransaction;
+    private final Duration retention;
+
+    public NoticeChangeRecorder(
+            Clock clock,
+            NoticeChangeRepository changeRepository,
+            NoticeChangeSequenceRepository sequenceRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${notice.change-feed.retention:P30D}") Duration retention) {
+        this.clock = clock;
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retention = retention;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        NoticeChangeSequence sequence = sequenceRepository.findForUpdate(NoticeChangeSequence.SINGLETON_ID)
+                .orElseGet(this::createAndLockSequence);
+
+        long seq = sequence.next();
+        changeRepository.save(new NoticeChange(seq, event.noticeId(),
+                NoticeChangeType.valueOf(event.changeType().name()), LocalDateTime.now(clock)));
+
+        log.debug("변경 피드 기록: seq={}, id={}, type={}", seq, event.noticeId(), event.changeType());
+    }
+
+    /**
+     * 첫 변경 때 카운터 행을 만든다. 여러 트랜잭션이 동시에 만들려 해도 하나만 성공하고
+     * 나머지는 중복 키로 실패하므로, 별도 트랜잭션에서 만든 뒤 다시 잠가서 원래 트랜잭션이 실패하지 않게 한다.
+     */
+    private NoticeChangeSequence createAndLockSequence() {
+        try {
+            newTransaction.executeWithoutResult(status -> sequenceRepository.saveAndFlush(NoticeChangeSequence.initial()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("변경 피드 카운터가 이미 생성됨");
+        }
+        return sequenceRepository.findForUpdate(NoticeChangeSequence.SINGLETON_ID)
+                .orElseThrow(() -> new IllegalStateException("변경 피드 카운터를 만들지 못했습니다."));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${notice.change-feed.prune-interval:PT1H}")
+    public void prune() {
+        int deleted = changeRepository.deleteByChangedAtBefore(LocalDateTime.now(clock).minus(retention));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 변경 피드 항목 삭제: count={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package syboo.notice.notice.infra.coalesce;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합친다(single-flight).
+ * <p>
+ * 먼저 도착한 요청(leader)만 실제로 값을 계산하고, 계산이 끝나기 전에 같은 키로 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 결과는 계산이 끝나는 즉시 버려지므로 캐시가 아니며, 오래된 값을 돌려줄 위험이 없다.
+ * 기다리던 요청이 {@code timeout} 안에 결과를 받지 못하면 leader를 더 기다리지 않고 직접 계산한다.
+ * </p>
+ * <ul>
+ *     <li>{@code notice.coalesce.requests{namespace, result=leader|coalesced|timeout}}: 처리 결과별 요청 수</li>
+ *     <li>{@code notice.coalesce.in-flight}: 진행 중인 계산 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultTimeout;
+
+    public RequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${notice.coalesce.timeout:PT5S}") Duration defaultTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeout = defaultTimeout;
+
+        Gauge.builder("notice.coalesce.in-flight", inFlight, Map::size)
+                .description("진행 중인 합쳐진 계산 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String namespace, Object key, Supplier<T> loader) {
+        return execute(namespace, key, defaultTimeout, loader);
+    }
+
+    /**
+     * @param namespace 계산 종류 (메트릭 태그로 사용)
+     * @param key       같은 계산을 식별하는 키
+     * @param timeout   다른 요청의 계산을 기다리는 최대 시간
+     * @param loader    실제 계산
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String namespace, Object key, Duration timeout, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(namespace, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, mine);
+
+        if (leader != null) {
+            return (T) await(flightKey, leader, timeout, loader);
+        }
+
+        count(namespace, "leader");
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Object await(FlightKey flightKey, CompletableFuture<Object> leader, Duration timeout, Supplier<?> loader) {
+        try {
+            Object value = leader.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            count(flightKey.namespace(), "coalesced");
+            return value;
+        } catch (TimeoutException e) {
+            count(flightKey.namespace(), "timeout");
+            log.warn("합쳐진 계산 대기 시간 초과, 직접 계산합니다: key={}, timeout={}", flightKey, timeout);
+            return loader.get();
+        } catch (ExecutionException e) {
+            count(flightKey.namespace(), "coalesced");
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 계산을 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void count(String namespace, String result) {
+        meterRegistry.counter("notice.coalesce.requests", "namespace", namespace, "result", result).increment();
+    }
+
+    private record FlightKey(String namespace, Object key) {
+    }
+}
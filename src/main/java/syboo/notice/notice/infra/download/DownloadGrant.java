@@ -0,0 +1,21 @@
+package syboo.notice.notice.infra.download;
+
+import java.time.Instant;
+
+/**
+ * 서명된 다운로드 링크에 담기는 첨부파일 정보. 링크를 검증하면 DB 조회 없이 파일을 찾아 무결성을 확인할 수 있다.
+ *
+ * @param startsAt  링크 사용 시작 시각 (공지사항 게시 시작일시, 시작일시가 없는 공지사항이면 {@code null})
+ * @param expiresAt 링크 만료 시각 (공지사항 게시 종료일시, 종료일시가 없는 공지사항이면 {@code null})
+ */
+public record DownloadGrant(
+        Long attachmentId,
+        Long noticeId,
+        String originFileName,
+        String storedFileName,
+        String checksum,
+        long fileSize,
+        Instant startsAt,
+        Instant expiresAt
+) {
+}
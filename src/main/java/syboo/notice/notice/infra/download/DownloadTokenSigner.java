@@ -0,0 +1,165 @@
+package syboo.notice.notice.infra.download;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import syboo.notice.common.exception.FileSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 첨부파일 다운로드 링크 토큰을 HMAC-SHA256으로 서명하고 검증한다.
+ * <p>
+ * 토큰은 {@code base64url(내용).base64url(서명)} 형식이며, 내용에는 첨부파일 ID, 공지사항 ID, 원본/저장 파일명, 체크섬,
+ * 크기, 게시 시작·종료 시각이 들어 있다. 서명이 맞으면 내용을 그대로 신뢰하므로 다운로드 시 DB를 조회하지 않는다.
+ * </p>
+ * <p>
+ * 여러 노드가 서로 발급한 링크를 검증하려면 {@code notice.download-token.secret}을 같게 설정해야 한다.
+ * 설정하지 않으면 기동 시 임의 키를 만들며, 재기동하면 이전에 발급한 링크는 모두 무효가 된다.
+ * 키를 바꾸면 발급된 링크를 한 번에 폐기할 수 있다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DownloadTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 2;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Clock clock;
+    private final SecretKeySpec key;
+
+    public DownloadTokenSigner(Clock clock, @Value("${notice.download-token.secret:}") String secret) {
+        this.clock = clock;
+        this.key = new SecretKeySpec(keyBytes(secret), ALGORITHM);
+    }
+
+    /**
+     * 다운로드 링크 토큰을 발급한다. 같은 내용이면 항상 같은 토큰이 나오므로 응답 캐시에 그대로 보관할 수 있다.
+     */
+    public String sign(DownloadGrant grant) {
+        byte[] payload = encode(grant);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    /**
+     * 토큰의 서명과 사용 가능 기간(게시 시작~종료)을 확인하고 담긴 내용을 반환한다.
+     *
+     * @throws FileSecurityException 위조·손상된 토큰이거나, 아직 사용할 수 없거나 만료된 경우
+     */
+    public DownloadGrant verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            throw new FileSecurityException("유효하지 않은 다운로드 링크입니다.");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new FileSecurityException("유효하지 않은 다운로드 링크입니다.");
+        }
+
+        // 비교 시간으로 서명을 추측할 수 없도록 상수 시간 비교를 사용한다.
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            log.warn("다운로드 링크 서명 불일치");
+            throw new FileSecurityException("유효하지 않은 다운로드 링크입니다.");
+        }
+
+        DownloadGrant grant = decode(payload);
+        Instant now = clock.instant();
+        if (grant.startsAt() != null && now.isBefore(grant.startsAt())) {
+            throw new FileSecurityException("현재 다운로드 가능한 공지 기간이 아닙니다.");
+        }
+        if (grant.expiresAt() != null && now.isAfter(grant.expiresAt())) {
+            throw new FileSecurityException("다운로드 링크가 만료되었습니다.");
+        }
+        return grant;
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("다운로드 링크 서명 키를 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] encode(DownloadGrant grant) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(grant.attachmentId());
+            out.writeLong(grant.noticeId());
+            out.writeUTF(grant.originFileName());
+            out.writeUTF(grant.storedFileName());
+            out.writeUTF(grant.checksum());
+            out.writeLong(grant.fileSize());
+            out.writeLong(toEpochSecond(grant.startsAt()));
+            out.writeLong(toEpochSecond(grant.expiresAt()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static DownloadGrant decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new FileSecurityException("유효하지 않은 다운로드 링크입니다.");
+            }
+            Long attachmentId = in.readLong();
+            Long noticeId = in.readLong();
+            String originFileName = in.readUTF();
+            String storedFileName = in.readUTF();
+            String checksum = in.readUTF();
+            long fileSize = in.readLong();
+            Instant startsAt = fromEpochSecond(in.readLong());
+            Instant expiresAt = fromEpochSecond(in.readLong());
+            return new DownloadGrant(attachmentId, noticeId, originFileName, storedFileName, checksum, fileSize,
+                    startsAt, expiresAt);
+        } catch (IOException e) {
+            // 서명은 맞지만 형식이 다른 경우 (다른 버전의 서버가 같은 키로 발급한 토큰 등)
+            throw new FileSecurityException("유효하지 않은 다운로드 링크입니다.");
+        }
+    }
+
+    // 시각이 없으면 (기간 제한 없음) 0으로 기록한다.
+    private static long toEpochSecond(Instant instant) {
+        return instant == null ? 0L : instant.getEpochSecond();
+    }
+
+    private static Instant fromEpochSecond(long epochSecond) {
+        return epochSecond == 0L ? null : Instant.ofEpochSecond(epochSecond);
+    }
+
+    private static byte[] keyBytes(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("notice.download-token.secret이 설정되지 않아 임의 키를 사용합니다. 재기동하거나 다른 노드로 요청이 가면 다운로드 링크가 무효가 됩니다.");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,92 @@
+package syboo.notice.notice.infra.invalidation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * NOTIFY 페이로드로 전달되는 캐시 무효화 메시지.
+ * <p>
+ * 형식은 {@code <발신 노드 ID>|<공지사항 ID 목록(쉼표 구분)>}이며, ID 목록 대신 {@code *}이면 전체 무효화를 뜻한다.
+ * PostgreSQL NOTIFY 페이로드는 8000바이트 미만이어야 하므로 ID가 많으면 여러 메시지로 나눈다(노드 ID와 ID 목록은 모두 ASCII).
+ * </p>
+ *
+ * @param nodeId    발신 노드 ID (자기 자신이 보낸 메시지를 무시하기 위함)
+ * @param noticeIds 무효화할 공지사항 ID
+ * @param all       전체 무효화 여부
+ */
+record InvalidationMessage(String nodeId, Set<Long> noticeIds, boolean all) {
+
+    static final int MAX_PAYLOAD_BYTES = 7_900;
+
+    private static final char NODE_SEPARATOR = '|';
+    private static final String ALL = "*";
+
+    static InvalidationMessage flushAll(String nodeId) {
+        return new InvalidationMessage(nodeId, Set.of(), true);
+    }
+
+    String encode() {
+        return nodeId + NODE_SEPARATOR + (all ? ALL : String.join(",", noticeIds.stream().map(String::valueOf).toList()));
+    }
+
+    /**
+     * ID 목록을 페이로드 크기 제한에 맞춰 여러 메시지 문자열로 나눈다.
+     */
+    static List<String> encode(String nodeId, Collection<Long> noticeIds) {
+        List<String> payloads = new ArrayList<>();
+        String prefix = nodeId + NODE_SEPARATOR;
+        StringBuilder current = new StringBuilder(prefix);
+
+        for (Long id : noticeIds) {
+            String token = String.valueOf(id);
+            boolean first = current.length() == prefix.length();
+            int added = token.length() + (first ? 0 : 1);
+
+            if (!first && current.length() + added > MAX_PAYLOAD_BYTES) {
+                payloads.add(current.toString());
+                current = new StringBuilder(prefix);
+                first = true;
+            }
+            if (!first) {
+                current.append(',');
+            }
+            current.append(token);
+        }
+
+        if (current.length() > prefix.length()) {
+            payloads.add(current.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * @return 형식이 잘못된 페이로드이면 전체 무효화 메시지 (안전한 쪽으로 처리)
+     */
+    static InvalidationMessage decode(String payload) {
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        if (separator < 0) {
+            return flushAll("");
+        }
+
+        String nodeId = payload.substring(0, separator);
+        String body = payload.substring(separator + 1);
+        if (ALL.equals(body)) {
+            return flushAll(nodeId);
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        try {
+            for (String token : body.split(",")) {
+                if (!token.isBlank()) {
+                    ids.add(Long.parseLong(token.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return flushAll(nodeId);
+        }
+        return new InvalidationMessage(nodeId, ids, false);
+    }
+}
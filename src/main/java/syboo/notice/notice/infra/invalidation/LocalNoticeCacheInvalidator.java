@@ -0,0 +1,73 @@
+package syboo.notice.notice.infra.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.cache.AttachmentContentCache;
+import syboo.notice.notice.infra.cache.AttachmentMetadataCache;
+import syboo.notice.notice.infra.cache.NoticePayloadCache;
+import syboo.notice.notice.infra.changefeed.ChangeFeedSignal;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
+import syboo.notice.notice.infra.popular.PopularNoticeTracker;
+
+import java.util.Collection;
+
+/**
+ * 이 노드의 프로세스 내 캐시(응답 바이트 캐시, 첨부파일 메타데이터/내용 캐시, Hibernate 2차 캐시, 활성 공지사항 인덱스)에서 공지사항 관련 항목을 갱신하고,
+ * 이 노드에서 변경 피드를 기다리는 요청을 깨운다.
+ * <p>
+ * 다른 노드에서 일어난 변경은 Hibernate가 알 수 없으므로 엔티티/컬렉션 항목과 쿼리 캐시를 직접 비운다.
+ * 첨부파일 엔티티는 소속 공지사항으로 골라낼 수 없으므로 리전 전체를 비운다(첨부파일은 변경이 드물다).
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalNoticeCacheInvalidator {
+
+    private static final String ATTACHMENTS_ROLE = Notice.class.getName() + ".attachments";
+
+    private final NoticePayloadCache payloadCache;
+    private final AttachmentMetadataCache attachmentMetadataCache;
+    private final AttachmentContentCache attachmentContentCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ActiveNoticeIndex activeNoticeIndex;
+    private final PopularNoticeTracker popularNoticeTracker;
+    private final ChangeFeedSignal changeFeedSignal;
+
+    public void invalidate(Collection<Long> noticeIds) {
+        payloadCache.invalidate(noticeIds);
+        attachmentMetadataCache.invalidate(noticeIds);
+        attachmentContentCache.invalidateNotices(noticeIds);
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Long id : noticeIds) {
+            cache.evictEntityData(Notice.class, id);
+            cache.evictCollectionData(ATTACHMENTS_ROLE, id);
+        }
+        cache.evictEntityData(NoticeAttachment.class);
+        cache.evictQueryRegions();
+        activeNoticeIndex.refresh(noticeIds);
+        popularNoticeTracker.invalidate(noticeIds);
+        changeFeedSignal.signal();
+
+        log.debug("원격 변경에 따른 로컬 캐시 무효화: ids={}", noticeIds);
+    }
+
+    public void invalidateAll() {
+        payloadCache.invalidateAll();
+        attachmentMetadataCache.invalidateAll();
+        attachmentContentCache.invalidateAll();
+        entityManagerFactory.getCache().evictAll();
+        activeNoticeIndex.rebuild();
+        popularNoticeTracker.invalidateAll();
+        changeFeedSignal.signal();
+
+        log.info("로컬 캐시 전체 무효화");
+    }
+}
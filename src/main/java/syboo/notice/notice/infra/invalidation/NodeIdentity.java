@@ -0,0 +1,18 @@
+package syboo.notice.notice.infra.invalidation;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 애플리케이션 인스턴스의 식별자. 자신이 보낸 무효화 메시지를 구분하는 데 사용한다.
+ */
+@Component
+public class NodeIdentity {
+
+    private final String id = UUID.randomUUID().toString();
+
+    public String id() {
+        return id;
+    }
+}
@@ -0,0 +1,196 @@
+package syboo.notice.notice.infra.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 다른 노드가 보낸 캐시 무효화 메시지를 PostgreSQL {@code LISTEN}으로 받아 로컬 캐시에 반영한다.
+ * <p>
+ * 커넥션 풀과 별개인 전용 커넥션 하나를 전용 스레드에서 유지한다. 커넥션이 끊기면 지수 백오프로 다시 연결하고,
+ * 끊겨 있는 동안 받지 못한 메시지가 있을 수 있으므로 재연결 직후 로컬 캐시를 전체 무효화한다.
+ * 한 번의 폴링에서 {@code max-backlog}개를 넘는 메시지가 쌓여 있으면(처리가 밀린 상태) 개별 반영 대신 전체 무효화한다.
+ * 메시지 반영 중 예외가 나도 마찬가지로 전체 무효화하고 구독을 계속한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.invalidation-bus.enabled", havingValue = "true")
+public class NoticeInvalidationListener implements SmartLifecycle {
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(500);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final LocalNoticeCacheInvalidator invalidator;
+    private final NodeIdentity nodeIdentity;
+    private final int pollTimeoutMillis;
+    private final int maxBacklog;
+
+    private final Counter receivedMessages;
+    private final Counter fullFlushes;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NoticeInvalidationListener(
+            DataSourceProperties dataSourceProperties,
+            LocalNoticeCacheInvalidator invalidator,
+            NodeIdentity nodeIdentity,
+            MeterRegistry meterRegistry,
+            @Value("${notice.invalidation-bus.poll-timeout:PT1S}") Duration pollTimeout,
+            @Value("${notice.invalidation-bus.max-backlog:500}") int maxBacklog) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.invalidator = invalidator;
+        this.nodeIdentity = nodeIdentity;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.maxBacklog = maxBacklog;
+
+        this.receivedMessages = Counter.builder("notice.invalidation.received")
+                .description("수신한 다른 노드의 무효화 메시지 수")
+                .register(meterRegistry);
+        this.fullFlushes = Counter.builder("notice.invalidation.full-flush")
+                .description("재연결/처리 지연/전체 무효화 메시지로 인한 로컬 캐시 전체 무효화 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("notice-invalidation-listener")
+                .daemon(true)
+                .start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        Duration backoff = MIN_BACKOFF;
+        boolean firstConnection = true;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + NoticeInvalidationPublisher.CHANNEL);
+                }
+                log.info("캐시 무효화 채널 구독 시작: channel={}", NoticeInvalidationPublisher.CHANNEL);
+
+                if (!firstConnection) {
+                    fullFlush("재연결");
+                }
+                firstConnection = false;
+                backoff = MIN_BACKOFF;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        apply(notifications);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("캐시 무효화 채널 연결이 끊겼습니다. {}ms 후 재연결합니다: {}", backoff.toMillis(), e.getMessage());
+                firstConnection = false;
+                if (!sleep(backoff)) {
+                    break;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : doubled;
+            }
+        }
+        log.info("캐시 무효화 채널 구독 종료");
+    }
+
+    /**
+     * 받은 메시지를 로컬 캐시에 반영한다. 반영 중 예외가 나도 구독 스레드가 죽지 않도록,
+     * 어떤 항목을 놓쳤는지 알 수 없으므로 전체 무효화로 대신한다.
+     */
+    void apply(PGNotification[] notifications) {
+        try {
+            applyMessages(notifications);
+        } catch (RuntimeException e) {
+            log.error("캐시 무효화 메시지 반영 실패, 전체 무효화로 대신합니다.", e);
+            fullFlush("반영 실패");
+        }
+    }
+
+    private void applyMessages(PGNotification[] notifications) {
+        if (notifications.length > maxBacklog) {
+            fullFlush("처리 지연(" + notifications.length + "건 적체)");
+            return;
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (PGNotification notification : notifications) {
+            InvalidationMessage message = InvalidationMessage.decode(notification.getParameter());
+            if (nodeIdentity.id().equals(message.nodeId())) {
+                continue;
+            }
+            receivedMessages.increment();
+            if (message.all()) {
+                fullFlush("전체 무효화 메시지");
+                return;
+            }
+            ids.addAll(message.noticeIds());
+        }
+
+        if (!ids.isEmpty()) {
+            invalidator.invalidate(ids);
+        }
+    }
+
+    private void fullFlush(String reason) {
+        fullFlushes.increment();
+        log.info("로컬 캐시 전체 무효화: reason={}", reason);
+        try {
+            invalidator.invalidateAll();
+        } catch (RuntimeException e) {
+            // 구독은 계속 유지하고, 다음 메시지나 재연결 시 다시 무효화된다.
+            log.error("로컬 캐시 전체 무효화 실패: reason={}", reason, e);
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package syboo.notice.notice.infra.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.common.config.SchedulingConfig;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커밋된 공지사항 변경을 PostgreSQL {@code NOTIFY}로 다른 노드에 알린다.
+ * <p>
+ * 변경 이벤트는 커밋 직후 메모리에 모아 두었다가 {@code batch-interval}마다 한 번에 보낸다.
+ * 같은 공지사항이 여러 번 바뀌어도 한 번만 전송되며(coalescing), 모인 ID가 {@code max-batch-ids}를 넘으면
+ * ID 목록 대신 전체 무효화 메시지 하나를 보낸다. 전송에 실패하면 다음 주기에 다시 시도하되,
+ * 실패가 이어지는 동안 다른 노드가 변경을 놓칠 수 있으므로 재전송은 전체 무효화로 보낸다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.invalidation-bus.enabled", havingValue = "true")
+public class NoticeInvalidationPublisher {
+
+    static final String CHANNEL = "notice_invalidation";
+
+    private static final String NOTIFY_SQL = "select pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NodeIdentity nodeIdentity;
+    private final int maxBatchIds;
+
+    private final Counter publishedMessages;
+    private final Counter fullFlushMessages;
+
+    private final Object lock = new Object();
+    private Set<Long> pending = new LinkedHashSet<>();
+    private boolean flushAllPending;
+
+    public NoticeInvalidationPublisher(
+            JdbcTemplate jdbcTemplate,
+            NodeIdentity nodeIdentity,
+            MeterRegistry meterRegistry,
+            @Value("${notice.invalidation-bus.max-batch-ids:1000}") int maxBatchIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeIdentity = nodeIdentity;
+        this.maxBatchIds = maxBatchIds;
+
+        this.publishedMessages = Counter.builder("notice.invalidation.published")
+                .description("전송한 무효화 메시지 수")
+                .register(meterRegistry);
+        this.fullFlushMessages = Counter.builder("notice.invalidation.published.full-flush")
+                .description("전송한 전체 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        synchronized (lock) {
+            if (!flushAllPending) {
+                pending.add(event.noticeId());
+                flushAllPending = pending.size() > maxBatchIds;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notice.invalidation-bus.batch-interval:PT0.2S}",
+            scheduler = SchedulingConfig.TIMING_SCHEDULER)
+    public void flush() {
+        Set<Long> batch;
+        boolean all;
+        synchronized (lock) {
+            if (pending.isEmpty() && !flushAllPending) {
+                return;
+            }
+            batch = pending;
+            all = flushAllPending;
+            pending = new LinkedHashSet<>();
+            flushAllPending = false;
+        }
+
+        List<String> payloads = new ArrayList<>();
+        if (all) {
+            payloads.add(InvalidationMessage.flushAll(nodeIdentity.id()).encode());
+        } else {
+            payloads.addAll(InvalidationMessage.encode(nodeIdentity.id(), batch));
+        }
+
+        try {
+            for (String payload : payloads) {
+                jdbcTemplate.query(NOTIFY_SQL, rs -> {
+                }, CHANNEL, payload);
+            }
+            publishedMessages.increment(payloads.size());
+            if (all) {
+                fullFlushMessages.increment();
+            }
+            log.debug("캐시 무효화 메시지 전송: messages={}, ids={}, all={}", payloads.size(), batch.size(), all);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 메시지 전송 실패, 다음 주기에 전체 무효화로 재시도합니다: {}", e.getMessage());
+            synchronized (lock) {
+                flushAllPending = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package syboo.notice.notice.infra.period;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.common.config.SchedulingConfig;
+import syboo.notice.common.datasource.ReadYourWritesContext;
+import syboo.notice.notice.application.event.NoticeActivityChangedEvent;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.repository.NoticePeriod;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지사항 게시 기간(시작일시~종료일시)을 메모리에 유지하는 활성 공지사항 인덱스.
+ * <p>
+ * 기동 시 전체 게시 기간을 한 번 읽어 구성하고, 이후에는 커밋된 변경 이벤트와 다른 노드의 무효화 메시지로 해당 공지사항만 다시 읽는다.
+ * 게시 시작/종료 시각은 {@link TimerWheel}에 등록해 두었다가 {@code tick}마다 경과한 타이머만 꺼내 게시 중 집합을 갱신하므로,
+ * 현재 게시 중인 공지사항 ID 집합을 매 요청마다 계산하지 않는다.
+ * 게시 중 집합이 바뀔 때마다 {@link #generation()}이 증가하며, 이 노드의 목록 응답 캐시 키에 사용된다.
+ * 세대는 노드마다 다르므로 ETag에는 어느 노드에서나 같은 {@link #activeFingerprint()}를 사용한다.
+ * 타이머로 일어난 전이는 {@link NoticeActivityChangedEvent}로 알린다.
+ * </p>
+ * <p>
+ * 게시 기간은 항상 primary에서 읽는다. 무효화 직후 지연된 replica의 이전 기간을 읽으면 다음 변경 전까지 틀린 상태로 남기 때문이다.
+ * </p>
+ * <p>
+ * 인덱스에 없는 공지사항(기동 직후, 커밋 전 등)은 판단하지 않고 {@link Optional#empty()}를 반환하므로 호출 측은 DB로 확인한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ActiveNoticeIndex {
+
+    private final Clock clock;
+    private final NoticeRepository noticeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxInList;
+
+    private final Map<Long, NoticePeriod> periods = new ConcurrentHashMap<>();
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 재구성 중 들어온 변경. 재구성이 읽은 스냅샷보다 새로울 수 있으므로 재구성이 끝난 뒤 다시 읽는다.
+     */
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private final Object lock = new Object();
+    private final TimerWheel<Long> timers;
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private volatile Fingerprint fingerprint = new Fingerprint(-1, "");
+
+    public ActiveNoticeIndex(
+            Clock clock,
+            NoticeRepository noticeRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${notice.active-index.tick:PT1S}") Duration tick,
+            @Value("${notice.active-index.wheel-size:3600}") int wheelSize,
+            @Value("${notice.active-index.max-in-list:1000}") int maxInList) {
+        this.clock = clock;
+        this.noticeRepository = noticeRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxInList = maxInList;
+        this.timers = new TimerWheel<>(tick.toMillis(), wheelSize, clock.millis());
+
+        Gauge.builder("notice.active-index.active", active, Set::size)
+                .description("현재 게시 중인 공지사항 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.active-index.tracked", periods, Map::size)
+                .description("게시 기간을 추적 중인 공지사항 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.active-index.timers", this, index -> index.pendingTimers())
+                .description("예약된 게시 시작/종료 타이머 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 게시 기간을 다시 읽어 인덱스를 구성한다. 변경 이벤트를 놓쳤을 수 있는 경우에도 호출된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            List<NoticePeriod> snapshot = ReadYourWritesContext.callOnPrimary(noticeRepository::findAllPeriods);
+
+            synchronized (lock) {
+                periods.clear();
+                active.clear();
+                timers.clear(clock.millis());
+                snapshot.forEach(this::track);
+                generation.incrementAndGet();
+            }
+            ready = true;
+            log.info("활성 공지사항 인덱스 구성 완료: tracked={}, active={}", periods.size(), active.size());
+        } finally {
+            rebuilding = false;
+        }
+
+        if (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = List.copyOf(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            refresh(changed);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        refresh(List.of(event.noticeId()));
+    }
+
+    /**
+     * 지정한 공지사항의 게시 기간을 DB에서 다시 읽어 반영한다. 삭제된 공지사항은 인덱스에서 제거된다.
+     */
+    public void refresh(Collection<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(noticeIds);
+        }
+
+        List<NoticePeriod> loaded = ReadYourWritesContext.callOnPrimary(
+                () -> noticeRepository.findPeriodsByIdIn(noticeIds));
+
+        synchronized (lock) {
+            boolean changed = false;
+            for (Long id : noticeIds) {
+                periods.remove(id);
+                changed |= active.remove(id);
+            }
+            for (NoticePeriod period : loaded) {
+                changed |= track(period);
+            }
+            if (changed) {
+                generation.incrementAndGet();
+            }
+        }
+        log.debug("활성 공지사항 인덱스 갱신: ids={}", noticeIds);
+    }
+
+    /**
+     * 경과한 게시 시작/종료 타이머를 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${notice.active-index.tick:PT1S}", scheduler = SchedulingConfig.TIMING_SCHEDULER)
+    public void advance() {
+        List<Long> activated = new ArrayList<>();
+        List<Long> expired = new ArrayList<>();
+
+        synchronized (lock) {
+            List<Long> due = timers.advance(clock.millis());
+            if (due.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (Long id : due) {
+                // 타이머 등록 후 기간이 바뀌었을 수 있으므로 현재 기간으로 다시 판단한다.
+                NoticePeriod period = periods.get(id);
+                if (period == null) {
+                    continue;
+                }
+                boolean viewable = period.contains(now);
+                if (updateMembership(id, viewable)) {
+                    (viewable ? activated : expired).add(id);
+                }
+            }
+            if (activated.isEmpty() && expired.isEmpty()) {
+                return;
+            }
+            generation.incrementAndGet();
+            log.debug("게시 상태 전이 처리: fired={}, active={}", due.size(), active.size());
+        }
+
+        // 구독자가 DB를 읽을 수 있으므로 잠금을 놓은 뒤 알린다.
+        eventPublisher.publishEvent(new NoticeActivityChangedEvent(List.copyOf(activated), List.copyOf(expired)));
+    }
+
+    /**
+     * 공지사항이 지금 게시 중인지 판단한다. 게시 기간만 비교하므로 O(1)이다.
+     *
+     * @return 인덱스가 알지 못하는 공지사항이면 {@link Optional#empty()}
+     */
+    public Optional<Boolean> findViewability(Long noticeId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        NoticePeriod period = periods.get(noticeId);
+        return period != null ? Optional.of(period.contains(LocalDateTime.now(clock))) : Optional.empty();
+    }
+
+    /**
+     * 게시 중 ID 집합으로 목록을 조회해도 되는지 여부. 집합이 크면 기간 조건의 DB 조회가 더 싸다.
+     */
+    public boolean canServeList() {
+        return ready && active.size() <= maxInList;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 게시 중인 공지사항 ID. 상태 전이는 {@code tick} 단위로 반영된다.
+     */
+    public Set<Long> activeIds() {
+        return Set.copyOf(active);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 현재 게시 중인 공지사항 ID 집합의 해시. 같은 집합이면 어느 노드에서나 같은 값이므로 ETag에 사용할 수 있다.
+     * 세대가 바뀐 뒤 처음 호출될 때만 계산한다.
+     */
+    public String activeFingerprint() {
+        Fingerprint current = fingerprint;
+        long currentGeneration = generation.get();
+        if (current.generation() != currentGeneration) {
+            current = new Fingerprint(currentGeneration, hash(activeIds()));
+            fingerprint = current;
+        }
+        return current.value();
+    }
+
+    private int pendingTimers() {
+        synchronized (lock) {
+            return timers.size();
+        }
+    }
+
+    /**
+     * 게시 기간을 등록하고 아직 오지 않은 시작/종료 시각에 타이머를 건다. (lock 보유 상태에서 호출)
+     *
+     * @return 게시 중 집합이 바뀌었으면 {@code true}
+     */
+    private boolean track(NoticePeriod period) {
+        periods.put(period.id(), period);
+
+        long now = clock.millis();
+        if (period.noticeStartAt() != null) {
+            long startMillis = toEpochMilli(period.noticeStartAt());
+            if (startMillis > now) {
+                timers.schedule(startMillis, period.id());
+            }
+        }
+        if (period.noticeEndAt() != null) {
+            // 종료일시까지는 게시 중이므로 그 직후에 만료시킨다.
+            long expiryMillis = toEpochMilli(period.noticeEndAt()) + 1;
+            if (expiryMillis > now) {
+                timers.schedule(expiryMillis, period.id());
+            }
+        }
+
+        return updateMembership(period.id(), period.contains(LocalDateTime.now(clock)));
+    }
+
+    private boolean updateMembership(Long id, boolean viewable) {
+        return viewable ? active.add(id) : active.remove(id);
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static String hash(Set<Long> ids) {
+        MessageDigest digest = ChecksumGenerator.newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        ids.stream().sorted().forEach(id -> digest.update(buffer.clear().putLong(id).array()));
+        // ETag 길이를 줄이기 위해 앞 16자(64비트)만 사용한다.
+        return ChecksumGenerator.toHex(digest).substring(0, 16);
+    }
+
+    private record Fingerprint(long generation, String value) {
+    }
+}
@@ -0,0 +1,88 @@
+package syboo.notice.notice.infra.period;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시드 타이머 휠(hashed timing wheel).
+ * <p>
+ * 마감 시각을 {@code tickMillis} 단위 틱으로 바꿔 {@code tick % wheelSize} 버킷에 넣는다.
+ * 시간이 흐르면 경과한 틱의 버킷만 훑어 마감된 타이머를 꺼내므로, 등록/만료 비용이 전체 타이머 수와 무관하다.
+ * 한 바퀴({@code tickMillis * wheelSize})보다 먼 타이머는 같은 버킷에 남아 있다가 마감 틱이 된 회전에서 꺼내진다.
+ * 동기화하지 않으므로 호출자가 잠금을 책임진다.
+ * </p>
+ *
+ * @param <T> 타이머에 실어 보낼 값
+ */
+final class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final List<List<Timer<T>>> buckets;
+    private long currentTick;
+    private int size;
+
+    TimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * {@code deadlineMillis} 이후 처음 {@link #advance}되는 시점에 꺼내지도록 등록한다.
+     * 이미 지난 마감 시각은 다음 틱에 꺼내진다.
+     */
+    void schedule(long deadlineMillis, T value) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        buckets.get(bucketIndex(deadlineTick)).add(new Timer<>(deadlineTick, value));
+        size++;
+    }
+
+    /**
+     * 현재 시각까지 경과한 틱을 처리하고 마감된 타이머의 값을 반환한다.
+     */
+    List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if (targetTick <= currentTick) {
+            return expired;
+        }
+
+        // 한 바퀴 이상 밀렸다면 모든 버킷을 한 번씩만 훑으면 된다.
+        long from = Math.max(currentTick + 1, targetTick - buckets.size() + 1);
+        for (long tick = from; tick <= targetTick; tick++) {
+            Iterator<Timer<T>> iterator = buckets.get(bucketIndex(tick)).iterator();
+            while (iterator.hasNext()) {
+                Timer<T> timer = iterator.next();
+                if (timer.deadlineTick() <= targetTick) {
+                    expired.add(timer.value());
+                    iterator.remove();
+                    size--;
+                }
+            }
+        }
+
+        currentTick = targetTick;
+        return expired;
+    }
+
+    void clear(long nowMillis) {
+        buckets.forEach(List::clear);
+        currentTick = nowMillis / tickMillis;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.size());
+    }
+
+    private record Timer<T>(long deadlineTick, T value) {
+    }
+}
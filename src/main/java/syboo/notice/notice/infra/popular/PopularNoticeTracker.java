@@ -0,0 +1,329 @@
+package syboo.notice.notice.infra.popular;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.api.response.PopularNoticeResponse;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.repository.NoticeRepository;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상세 조회 스트림으로 구간별(최근 1시간/1일/1주) 인기 공지사항을 집계한다.
+ * <p>
+ * 조회는 {@code bucket} 길이(기본 10분)의 시간 버킷마다 하나씩 둔 {@link SpaceSaving} 요약에 기록되고,
+ * 1주보다 오래된 버킷은 버린다. {@code refresh-interval}마다 구간에 걸친 버킷들을 병합해 순위를 다시 계산하고
+ * 제목 등 목록 정보를 붙여 둔 불변 목록으로 교체하므로, 조회 API는 DB나 병합 연산 없이 미리 계산된 목록을 반환한다.
+ * 구간 경계는 버킷 단위로 근사되며(가장 오래된 버킷은 일부만 겹쳐도 포함), 조회수는 실제 값 이상으로 추정된다.
+ * </p>
+ * <p>
+ * 집계는 노드별로 이루어진다. 요청이 노드에 고르게 분산된다면 순위는 전체 트래픽을 대표하지만 조회수는 노드 몫만 반영된다.
+ * 재기동 시 집계를 잃지 않도록 {@code snapshot-interval}마다, 그리고 종료 시 버킷을 파일로 저장했다가 기동 시 복원한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PopularNoticeTracker {
+
+    private static final Duration RETENTION = PopularWindow.WEEK.length();
+
+    private final Clock clock;
+    private final NoticeRepository noticeRepository;
+    private final JsonMapper jsonMapper;
+    private final long bucketMillis;
+    private final int capacity;
+    private final int maxResults;
+    private final Path snapshotPath;
+
+    private final Counter recordedViews;
+
+    private final Object lock = new Object();
+    /**
+     * 오래된 순서의 버킷. 마지막 버킷만 기록 중이며, 이전 버킷은 닫힌 뒤 변경되지 않는다.
+     */
+    private final ArrayDeque<Bucket> buckets = new ArrayDeque<>();
+    private boolean dirty;
+
+    /**
+     * 순위에 오른 공지사항의 목록 정보. 변경 이벤트로 제거되며 다음 순위 갱신 때 다시 읽는다.
+     */
+    private final Map<Long, NoticeListResponse> summaries = new ConcurrentHashMap<>();
+    /**
+     * 순위에는 있지만 삭제되어 목록 정보를 찾을 수 없는 공지사항.
+     */
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<PopularWindow, List<PopularNoticeResponse>> rankings = emptyRankings();
+
+    public PopularNoticeTracker(
+            Clock clock,
+            NoticeRepository noticeRepository,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notice.popular.bucket:PT10M}") Duration bucket,
+            @Value("${notice.popular.capacity:200}") int capacity,
+            @Value("${notice.popular.max-results:100}") int maxResults,
+            @Value("${notice.popular.snapshot-path:${storage.location}/.meta/popular-notices.json}") String snapshotPath) {
+        this.clock = clock;
+        this.noticeRepository = noticeRepository;
+        this.jsonMapper = jsonMapper;
+        this.bucketMillis = bucket.toMillis();
+        this.capacity = capacity;
+        this.maxResults = Math.min(maxResults, capacity);
+        this.snapshotPath = Paths.get(snapshotPath);
+
+        this.recordedViews = Counter.builder("notice.popular.views")
+                .description("인기 공지사항 집계에 반영된 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.popular.buckets", this, tracker -> tracker.bucketCount())
+                .description("보관 중인 인기 공지사항 집계 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상세 조회 한 건을 현재 버킷에 기록한다. O(log capacity)
+     */
+    public void recordView(Long noticeId) {
+        synchronized (lock) {
+            currentBucket(clock.millis()).summary().offer(noticeId);
+            dirty = true;
+        }
+        recordedViews.increment();
+    }
+
+    /**
+     * 미리 계산된 구간별 순위에서 상위 {@code size}개를 반환한다. DB에 접근하지 않는다.
+     */
+    public List<PopularNoticeResponse> getTop(PopularWindow window, int size) {
+        List<PopularNoticeResponse> ranking = rankings.get(window);
+        return ranking.subList(0, Math.clamp(size, 0, ranking.size()));
+    }
+
+    /**
+     * 구간별 순위를 다시 계산한다. 닫힌 버킷은 변경되지 않으므로 잠금은 현재 버킷을 복사하는 동안만 잡는다.
+     */
+    @Scheduled(fixedDelayString = "${notice.popular.refresh-interval:PT5S}")
+    public void refresh() {
+        long now = clock.millis();
+        List<Bucket> snapshot;
+        synchronized (lock) {
+            expire(now);
+            snapshot = new ArrayList<>(buckets);
+            if (!snapshot.isEmpty()) {
+                Bucket current = snapshot.removeLast();
+                snapshot.add(new Bucket(current.startMillis(),
+                        SpaceSaving.restore(capacity, current.summary().counters())));
+            }
+        }
+
+        Map<PopularWindow, List<SpaceSaving.Counter>> tops = new EnumMap<>(PopularWindow.class);
+        for (PopularWindow window : PopularWindow.values()) {
+            SpaceSaving merged = new SpaceSaving(capacity);
+            long from = now - window.length().toMillis();
+            snapshot.stream()
+                    .filter(bucket -> bucket.startMillis() + bucketMillis > from)
+                    .forEach(bucket -> merged.merge(bucket.summary()));
+            tops.put(window, merged.top(maxResults));
+        }
+
+        loadMissingSummaries(tops);
+
+        Map<PopularWindow, List<PopularNoticeResponse>> refreshed = new EnumMap<>(PopularWindow.class);
+        tops.forEach((window, counters) -> refreshed.put(window, toResponses(counters)));
+        rankings = Collections.unmodifiableMap(refreshed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        summaries.remove(event.noticeId());
+        if (event.changeType() == NoticeChangedEvent.ChangeType.DELETED) {
+            deleted.add(event.noticeId());
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 공지사항의 목록 정보를 버린다. 다음 순위 갱신 때 다시 읽는다.
+     */
+    public void invalidate(Collection<Long> noticeIds) {
+        noticeIds.forEach(summaries::remove);
+        deleted.removeAll(noticeIds);
+    }
+
+    public void invalidateAll() {
+        summaries.clear();
+        deleted.clear();
+    }
+
+    @PostConstruct
+    public void restoreSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        try {
+            Snapshot snapshot = jsonMapper.readValue(Files.readAllBytes(snapshotPath), Snapshot.class);
+            if (snapshot.bucketMillis() != bucketMillis) {
+                log.warn("버킷 길이가 달라 인기 공지사항 스냅샷을 사용하지 않습니다: snapshot={}ms, current={}ms",
+                        snapshot.bucketMillis(), bucketMillis);
+                return;
+            }
+
+            synchronized (lock) {
+                buckets.clear();
+                snapshot.buckets().forEach(bucket -> buckets.addLast(
+                        new Bucket(bucket.startMillis(), SpaceSaving.restore(capacity, bucket.counters()))));
+                expire(clock.millis());
+            }
+            log.info("인기 공지사항 스냅샷 복원 완료: path={}, buckets={}", snapshotPath, bucketCount());
+        } catch (IOException | JacksonException e) {
+            log.warn("인기 공지사항 스냅샷을 읽지 못해 빈 상태로 시작합니다: path={}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 변경이 있었으면 버킷을 파일로 저장한다. 임시 파일에 쓴 뒤 원자적으로 교체하므로 저장 도중 종료되어도 이전 스냅샷이 남는다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${notice.popular.snapshot-interval:PT1M}")
+    public void saveSnapshot() {
+        Snapshot snapshot;
+        synchronized (lock) {
+            if (!dirty) {
+                return;
+            }
+            expire(clock.millis());
+            snapshot = new Snapshot(bucketMillis, buckets.stream()
+                    .map(bucket -> new BucketSnapshot(bucket.startMillis(), bucket.summary().counters()))
+                    .toList());
+            dirty = false;
+        }
+
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(), "popular-", ".tmp");
+            try {
+                Files.write(temp, jsonMapper.writeValueAsBytes(snapshot));
+                Files.move(temp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("인기 공지사항 스냅샷 저장: buckets={}", snapshot.buckets().size());
+        } catch (IOException | JacksonException e) {
+            synchronized (lock) {
+                dirty = true;
+            }
+            log.warn("인기 공지사항 스냅샷 저장 실패: path={}", snapshotPath, e);
+        }
+    }
+
+    private Bucket currentBucket(long now) {
+        long start = now - Math.floorMod(now, bucketMillis);
+        Bucket last = buckets.peekLast();
+        // 시계가 되돌아간 경우에도 새 버킷을 만들지 않고 마지막 버킷에 기록한다.
+        if (last != null && last.startMillis() >= start) {
+            return last;
+        }
+
+        Bucket bucket = new Bucket(start, new SpaceSaving(capacity));
+        buckets.addLast(bucket);
+        expire(now);
+        return bucket;
+    }
+
+    private void expire(long now) {
+        long from = now - RETENTION.toMillis();
+        while (!buckets.isEmpty() && buckets.peekFirst().startMillis() + bucketMillis <= from) {
+            buckets.removeFirst();
+        }
+    }
+
+    private int bucketCount() {
+        synchronized (lock) {
+            return buckets.size();
+        }
+    }
+
+    /**
+     * 순위에 새로 오른 공지사항의 목록 정보를 한 번의 조회로 읽는다. 찾지 못한 ID는 삭제된 것으로 기록한다.
+     */
+    private void loadMissingSummaries(Map<PopularWindow, List<SpaceSaving.Counter>> tops) {
+        Set<Long> ranked = new LinkedHashSet<>();
+        tops.values().forEach(counters -> counters.forEach(counter -> ranked.add(counter.id())));
+
+        // 순위에서 빠진 공지사항의 정보는 더 이상 필요하지 않다.
+        summaries.keySet().retainAll(ranked);
+        deleted.retainAll(ranked);
+
+        List<Long> missing = ranked.stream()
+                .filter(id -> !summaries.containsKey(id) && !deleted.contains(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        List<NoticeListResponse> loaded = noticeRepository
+                .findNoticeListByIds(missing, PageRequest.of(0, missing.size()))
+                .getContent();
+        loaded.forEach(summary -> summaries.put(summary.id(), summary));
+        missing.stream().filter(id -> !summaries.containsKey(id)).forEach(deleted::add);
+    }
+
+    private List<PopularNoticeResponse> toResponses(List<SpaceSaving.Counter> counters) {
+        List<PopularNoticeResponse> responses = new ArrayList<>(counters.size());
+        for (SpaceSaving.Counter counter : counters) {
+            NoticeListResponse summary = summaries.get(counter.id());
+            if (summary == null) {
+                continue;
+            }
+            responses.add(new PopularNoticeResponse(responses.size() + 1, summary.id(), summary.title(),
+                    summary.author(), summary.createdDate(), summary.hasAttachment(), counter.count()));
+        }
+        return List.copyOf(responses);
+    }
+
+    private static Map<PopularWindow, List<PopularNoticeResponse>> emptyRankings() {
+        Map<PopularWindow, List<PopularNoticeResponse>> empty = new EnumMap<>(PopularWindow.class);
+        for (PopularWindow window : PopularWindow.values()) {
+            empty.put(window, List.of());
+        }
+        return Collections.unmodifiableMap(empty);
+    }
+
+    private record Bucket(long startMillis, SpaceSaving summary) {
+    }
+
+    private record Snapshot(long bucketMillis, List<BucketSnapshot> buckets) {
+    }
+
+    private record BucketSnapshot(long startMillis, List<SpaceSaving.Counter> counters) {
+    }
+}
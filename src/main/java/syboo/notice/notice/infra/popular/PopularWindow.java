@@ -0,0 +1,22 @@
+package syboo.notice.notice.infra.popular;
+
+import java.time.Duration;
+
+/**
+ * 인기 공지사항 집계 구간.
+ */
+public enum PopularWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration length;
+
+    PopularWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration length() {
+        return length;
+    }
+}
@@ -0,0 +1,165 @@
+package syboo.notice.notice.infra.popular;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘으로 스트림의 상위 빈도 항목(heavy hitters)을 추정하는 요약 구조.
+ * <p>
+ * 최대 {@code capacity}개의 카운터만 유지한다. 추적 중이 아닌 항목이 들어오고 카운터가 가득 차 있으면
+ * 가장 작은 카운터를 빼앗아 {@code 최소값 + 1}로 시작하며, 빼앗긴 값은 과대 추정 오차({@code error})로 기록한다.
+ * 따라서 실제 빈도는 {@code 추정값 - error} 이상 추정값 이하이며, 전체 건수의 {@code 1/capacity}보다 자주 나온 항목은 반드시 추적된다.
+ * 최소 카운터는 ID → 위치 색인을 가진 최소 힙으로 관리하므로 한 건 반영은 O(log capacity)이다.
+ * 동기화하지 않으므로 호출자가 잠금을 책임진다.
+ * </p>
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final long[] ids;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<Long, Integer> positions;
+    private int size;
+    private long total;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    void offer(long id) {
+        offer(id, 1, 0);
+    }
+
+    /**
+     * {@code increment}만큼 반영한다. 다른 요약을 병합할 때는 그 요약의 오차도 함께 더한다.
+     */
+    void offer(long id, long increment, long error) {
+        total += increment;
+
+        Integer position = positions.get(id);
+        if (position != null) {
+            counts[position] += increment;
+            errors[position] += error;
+            siftDown(position);
+            return;
+        }
+
+        if (size < capacity) {
+            ids[size] = id;
+            counts[size] = increment;
+            errors[size] = error;
+            positions.put(id, size);
+            siftUp(size++);
+            return;
+        }
+
+        // 가장 작은 카운터를 새 항목에 넘겨준다.
+        long evicted = counts[0];
+        positions.remove(ids[0]);
+        ids[0] = id;
+        counts[0] = evicted + increment;
+        errors[0] = evicted + error;
+        positions.put(id, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 다른 요약의 카운터를 이 요약에 더한다. 카운터 합은 항상 전체 건수와 같으므로 병합 후에도 유지된다.
+     */
+    void merge(SpaceSaving other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.ids[i], other.counts[i], other.errors[i]);
+        }
+    }
+
+    /**
+     * 추정 빈도가 큰 순서로 최대 {@code limit}개를 반환한다.
+     */
+    List<Counter> top(int limit) {
+        List<Counter> counters = counters();
+        counters.sort(Comparator.comparingLong(Counter::count).reversed().thenComparingLong(Counter::id));
+        return counters.size() > limit ? List.copyOf(counters.subList(0, limit)) : counters;
+    }
+
+    List<Counter> counters() {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            counters.add(new Counter(ids[i], counts[i], errors[i]));
+        }
+        return counters;
+    }
+
+    /**
+     * 스냅샷에 저장해 둔 카운터로 요약을 복원한다.
+     */
+    static SpaceSaving restore(int capacity, List<Counter> counters) {
+        SpaceSaving summary = new SpaceSaving(capacity);
+        counters.forEach(c -> summary.offer(c.id(), c.count(), c.error()));
+        return summary;
+    }
+
+    long total() {
+        return total;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (counts[parent] <= counts[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < size && counts[right] < counts[left] ? right : left;
+            if (counts[index] <= counts[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        long count = counts[a];
+        long error = errors[a];
+        ids[a] = ids[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        ids[b] = id;
+        counts[b] = count;
+        errors[b] = error;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    /**
+     * @param id    공지사항 ID
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 최대 과대 추정 오차
+     */
+    record Counter(long id, long count, long error) {
+    }
+}
@@ -0,0 +1,292 @@
+package syboo.notice.notice.infra.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import syboo.notice.notice.api.response.NoticeChangeFeedResponse;
+import syboo.notice.notice.application.NoticeChangeFeedService;
+import syboo.notice.notice.application.event.NoticeActivityChangedEvent;
+import syboo.notice.notice.domain.NoticeChangeType;
+import syboo.notice.notice.infra.changefeed.ChangeFeedSignal;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공지사항 변경을 SSE 구독자에게 퍼뜨린다.
+ * <p>
+ * 커밋된 변경은 변경 피드에서 읽어 피드 번호를 이벤트 ID로 보내므로, 끊겼던 클라이언트가 {@code Last-Event-ID}로 다시 연결하면
+ * 그 사이의 변경을 피드에서 재생한 뒤 실시간 이벤트로 이어 받는다. 게시 시작/종료는 피드에 없으므로 재생되지 않는다.
+ * </p>
+ * <p>
+ * 유휴 연결은 비동기 요청으로만 유지되어 스레드를 차지하지 않는다. 구독자마다 크기가 정해진 버퍼를 두고 가상 스레드가 비우며,
+ * 버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊는다(클라이언트는 재연결해서 피드로 따라잡는다).
+ * </p>
+ */
+@Slf4j
+@Component
+public class NoticePushBroadcaster {
+
+    private static final int REPLAY_BATCH = NoticeChangeFeedService.MAX_LIMIT;
+
+    private final NoticeChangeFeedService changeFeedService;
+    private final NoticeRepository noticeRepository;
+    private final ChangeFeedSignal changeFeedSignal;
+    private final Duration timeout;
+    private final int bufferSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ReentrantLock pumpLock = new ReentrantLock();
+    private long cursor = -1;
+
+    private final Counter sentEvents;
+    private final Counter droppedSubscribers;
+
+    public NoticePushBroadcaster(
+            NoticeChangeFeedService changeFeedService,
+            NoticeRepository noticeRepository,
+            ChangeFeedSignal changeFeedSignal,
+            MeterRegistry meterRegistry,
+            @Value("${notice.push.timeout:PT30M}") Duration timeout,
+            @Value("${notice.push.buffer-size:256}") int bufferSize) {
+        this.changeFeedService = changeFeedService;
+        this.noticeRepository = noticeRepository;
+        this.changeFeedSignal = changeFeedSignal;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+
+        this.sentEvents = Counter.builder("notice.push.sent")
+                .description("SSE 구독자에게 보낸 이벤트 수")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("notice.push.dropped")
+                .description("버퍼가 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.push.subscribers", subscribers, Set::size)
+                .description("SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        changeFeedSignal.subscribe(this::onChangeCommitted);
+        pump();
+    }
+
+    /**
+     * 새 구독을 연다.
+     *
+     * @param lastEventId 재연결한 클라이언트가 마지막으로 받은 이벤트 ID. null이면 지금부터의 변경만 받는다.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize), lastEventId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        // 재생과 실시간 이벤트 사이의 변경을 놓치지 않도록 먼저 등록한 뒤 재생한다 (중복은 번호로 건너뛴다).
+        subscribers.add(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    @EventListener
+    public void onActivityChanged(NoticeActivityChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (!event.activatedIds().isEmpty()) {
+            noticeRepository.findNoticeListByIds(event.activatedIds(), PageRequest.of(0, event.activatedIds().size()))
+                    .forEach(summary -> broadcast(new PushEvent(null, "activated", summary)));
+        }
+        event.expiredIds().forEach(id -> broadcast(new PushEvent(null, "expired", Map.of("id", id))));
+    }
+
+    /**
+     * 연결 유지를 위한 주석을 보내고, 알림을 놓쳤을 경우에 대비해 피드를 한 번 더 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${notice.push.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(PushEvent.HEARTBEAT);
+        pump();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        executor.shutdownNow();
+    }
+
+    private void onChangeCommitted() {
+        // 구독은 한 번 알림을 받으면 해제되므로, 읽기 전에 다시 구독해서 읽는 도중의 커밋을 놓치지 않는다.
+        changeFeedSignal.subscribe(this::onChangeCommitted);
+        pump();
+    }
+
+    /**
+     * 마지막으로 퍼뜨린 번호 이후의 변경을 피드에서 읽어 모든 구독자에게 보낸다. 한 번에 하나의 스레드만 읽는다.
+     */
+    void pump() {
+        pumpLock.lock();
+        try {
+            if (cursor < 0) {
+                // 기동 이후의 변경만 퍼뜨린다. 그 이전 변경은 Last-Event-ID 재생으로 받는다.
+                cursor = changeFeedService.getChanges(null, 1).cursor();
+                return;
+            }
+            NoticeChangeFeedResponse feed;
+            do {
+                feed = changeFeedService.getChanges(cursor, REPLAY_BATCH);
+                if (!subscribers.isEmpty()) {
+                    feed.changes().forEach(change -> broadcast(toEvent(change)));
+                }
+                cursor = feed.cursor();
+            } while (feed.hasMore());
+        } catch (RuntimeException e) {
+            log.warn("SSE 변경 전파 실패, 다음 알림 또는 heartbeat에 재시도합니다: cursor={}", cursor, e);
+        } finally {
+            pumpLock.unlock();
+        }
+    }
+
+    private void broadcast(PushEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(event)) {
+                scheduleDrain(subscriber);
+            } else {
+                droppedSubscribers.increment();
+                log.info("SSE 구독자 버퍼 초과로 연결 종료: buffered={}", subscriber.queue.size());
+                close(subscriber);
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 버퍼를 비운다. 구독자마다 최대 하나의 가상 스레드만 실행되므로 같은 연결에 동시에 쓰지 않는다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.replayFrom != null) {
+                replay(subscriber);
+            }
+            PushEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (event.seq() != null && event.seq() <= subscriber.sentSeq) {
+                    continue;
+                }
+                send(subscriber, event);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("SSE 전송 실패로 구독 종료: {}", e.toString());
+            close(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void replay(Subscriber subscriber) throws IOException {
+        long since = subscriber.replayFrom;
+        subscriber.replayFrom = null;
+
+        NoticeChangeFeedResponse feed;
+        do {
+            feed = changeFeedService.getChanges(since, REPLAY_BATCH);
+            if (feed.resyncRequired()) {
+                send(subscriber, new PushEvent(feed.cursor(), "resync", Map.of("cursor", feed.cursor())));
+                return;
+            }
+            for (NoticeChangeFeedResponse.Change change : feed.changes()) {
+                send(subscriber, toEvent(change));
+            }
+            since = feed.cursor();
+        } while (feed.hasMore());
+    }
+
+    private void send(Subscriber subscriber, PushEvent event) throws IOException {
+        if (event.isHeartbeat()) {
+            subscriber.emitter.send(SseEmitter.event().comment((String) event.data()));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.seq() != null) {
+            builder.id(String.valueOf(event.seq()));
+        }
+        subscriber.emitter.send(builder.name(event.name()).data(event.data()));
+        if (event.seq() != null) {
+            subscriber.sentSeq = event.seq();
+        }
+        sentEvents.increment();
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private PushEvent toEvent(NoticeChangeFeedResponse.Change change) {
+        String name = change.type().name().toLowerCase(Locale.ROOT);
+        Object data = change.type() == NoticeChangeType.DELETED ? Map.of("id", change.noticeId()) : change.notice();
+        return new PushEvent(change.seq(), name, data);
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<PushEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 재생을 시작할 번호. 첫 drain에서 한 번만 사용한다. */
+        private volatile Long replayFrom;
+        /** 마지막으로 보낸 피드 번호. 재생과 실시간 이벤트가 겹칠 때 중복을 건너뛴다. */
+        private volatile long sentSeq = -1;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<PushEvent> queue, Long replayFrom) {
+            this.emitter = emitter;
+            this.queue = queue;
+            this.replayFrom = replayFrom;
+        }
+    }
+}
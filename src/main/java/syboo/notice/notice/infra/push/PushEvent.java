@@ -0,0 +1,17 @@
+package syboo.notice.notice.infra.push;
+
+/**
+ * 구독자에게 보낼 SSE 이벤트 하나.
+ *
+ * @param seq  변경 피드 번호 ({@code id:} 필드, 재연결 시 Last-Event-ID로 돌아온다). 피드에 없는 이벤트면 null
+ * @param name 이벤트 이름 (null이면 주석(heartbeat)으로 보낸다)
+ * @param data 본문
+ */
+record PushEvent(Long seq, String name, Object data) {
+
+    static final PushEvent HEARTBEAT = new PushEvent(null, null, "heartbeat");
+
+    boolean isHeartbeat() {
+        return name == null;
+    }
+}
@@ -0,0 +1,36 @@
+package syboo.notice.notice.infra.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
+
+/**
+ * 읽기 모델 상태 조회와 재구성 명령 ({@code /actuator/readmodel}).
+ * <p>
+ * 웹으로 노출하려면 {@code management.endpoints.web.exposure.include}에 {@code readmodel}을 추가한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "readmodel")
+public class NoticeReadModelEndpoint {
+
+    private final NoticeReadModelRebuilder rebuilder;
+    private final NoticeReadModelRepository readModelRepository;
+
+    @ReadOperation
+    public Status status() {
+        return new Status(rebuilder.canServe(), rebuilder.isRebuilding(), readModelRepository.count());
+    }
+
+    @WriteOperation
+    public NoticeReadModelRebuilder.RebuildResult rebuild() {
+        return rebuilder.rebuild();
+    }
+
+    public record Status(boolean serving, boolean rebuilding, long rows) {
+    }
+}
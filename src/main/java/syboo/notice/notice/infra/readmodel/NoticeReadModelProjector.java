@@ -0,0 +1,99 @@
+package syboo.notice.notice.infra.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.domain.NoticeReadModel;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
+import syboo.notice.notice.repository.NoticeReadModelSource;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도메인 이벤트로 읽기 모델({@link NoticeReadModel})을 갱신한다.
+ * <p>
+ * 생성/수정/삭제(첨부파일 추가·삭제 포함)는 커밋 직전 같은 트랜잭션에서 원본을 다시 집계해 덮어쓰므로,
+ * 변경이 롤백되면 읽기 모델도 함께 롤백된다. 조회수는 원본 트랜잭션 밖에서 따라간다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeReadModelProjector {
+
+    private final Clock clock;
+    private final NoticeRepository noticeRepository;
+    private final NoticeReadModelRepository readModelRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        project(List.of(event.noticeId()));
+    }
+
+    /**
+     * 지정한 공지사항의 읽기 모델을 원본으로 다시 만든다. 원본이 없으면 읽기 모델에서도 지운다. (트랜잭션 안에서 호출)
+     */
+    public void project(Collection<Long> noticeIds) {
+        List<NoticeReadModelSource> sources = noticeRepository.findReadModelSourcesByIdIn(noticeIds);
+        upsert(sources);
+
+        Set<Long> removed = new HashSet<>(noticeIds);
+        sources.forEach(source -> removed.remove(source.id()));
+        if (!removed.isEmpty()) {
+            readModelRepository.deleteAllByIdInBatch(removed);
+        }
+        log.debug("읽기 모델 갱신: ids={}, removed={}", noticeIds, removed);
+    }
+
+    /**
+     * 원본 집계로 읽기 모델 행을 만들거나 덮어쓴다. (트랜잭션 안에서 호출)
+     */
+    public void upsert(List<NoticeReadModelSource> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<Long, NoticeReadModel> existing = readModelRepository.findAllById(
+                        sources.stream().map(NoticeReadModelSource::id).toList()).stream()
+                .collect(Collectors.toMap(NoticeReadModel::getNoticeId, Function.identity()));
+
+        for (NoticeReadModelSource source : sources) {
+            NoticeReadModel latest = source.toReadModel(now);
+            NoticeReadModel current = existing.get(source.id());
+            if (current != null) {
+                current.apply(latest);
+            } else {
+                readModelRepository.save(latest);
+            }
+        }
+    }
+
+    /**
+     * 조회수 스냅샷을 원본에 맞춘다. 목록의 조회수는 이 주기만큼 늦게 반영된다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${notice.read-model.view-count-sync-interval:PT1M}")
+    public void syncViewCounts() {
+        try {
+            int updated = readModelRepository.syncViewCounts();
+            log.debug("읽기 모델 조회수 동기화: rows={}", updated);
+        } catch (DataAccessException e) {
+            log.warn("읽기 모델 조회수 동기화 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+}
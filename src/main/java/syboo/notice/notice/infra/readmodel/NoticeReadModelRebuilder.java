@@ -0,0 +1,141 @@
+package syboo.notice.notice.infra.readmodel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
+import syboo.notice.notice.repository.NoticeReadModelSource;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 원본 테이블에서 읽기 모델을 다시 만든다.
+ * <p>
+ * 공지사항을 ID 순으로 {@code batch-size}건씩 키셋 페이징하여 배치마다 짧은 트랜잭션으로 반영하므로,
+ * 전체를 한 번에 메모리에 올리거나 긴 트랜잭션을 잡지 않는다. 재구성 중에도 이벤트에 의한 갱신은 계속되며,
+ * 마지막에 원본이 없는 행을 지운다.
+ * </p>
+ * <p>
+ * 기동 시 읽기 모델과 원본의 행 수가 다르면(처음 배포 등) 재구성한 뒤에야 목록 조회에 사용한다.
+ * 운영 중에는 {@link NoticeReadModelEndpoint}로 재구성할 수 있다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NoticeReadModelRebuilder {
+
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeReadModelRepository readModelRepository;
+    private final NoticeReadModelProjector projector;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean ready;
+
+    public NoticeReadModelRebuilder(
+            NoticeRepository noticeRepository,
+            NoticeReadModelRepository readModelRepository,
+            NoticeReadModelProjector projector,
+            PlatformTransactionManager transactionManager,
+            @Value("${notice.read-model.enabled:true}") boolean enabled,
+            @Value("${notice.read-model.rebuild-batch-size:500}") int batchSize) {
+        this.noticeRepository = noticeRepository;
+        this.readModelRepository = readModelRepository;
+        this.projector = projector;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        long notices = noticeRepository.count();
+        long rows = readModelRepository.count();
+        if (notices == rows) {
+            ready = true;
+            log.info("읽기 모델 확인 완료: rows={}", rows);
+            return;
+        }
+        log.info("읽기 모델 행 수가 원본과 달라 재구성합니다: notices={}, readModel={}", notices, rows);
+        rebuild();
+    }
+
+    /**
+     * 읽기 모델 전체를 원본으로 다시 만든다.
+     *
+     * @throws IllegalStateException 이미 재구성 중인 경우
+     */
+    public RebuildResult rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("읽기 모델을 이미 재구성하고 있습니다.");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            long rows = 0;
+            long after = 0;
+            List<NoticeReadModelSource> batch;
+            do {
+                batch = applyBatch(after);
+                if (!batch.isEmpty()) {
+                    rows += batch.size();
+                    after = batch.getLast().id();
+                }
+            } while (batch.size() == batchSize);
+
+            Integer orphans = transactionTemplate.execute(status -> readModelRepository.deleteOrphans());
+            ready = true;
+
+            RebuildResult result = new RebuildResult(rows, orphans != null ? orphans : 0,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            log.info("읽기 모델 재구성 완료: {}", result);
+            return result;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 목록/검색을 읽기 모델로 처리해도 되는지 여부.
+     */
+    public boolean canServe() {
+        return enabled && ready;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    private List<NoticeReadModelSource> applyBatch(long after) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    List<NoticeReadModelSource> sources =
+                            noticeRepository.findReadModelSourcesAfter(after, Limit.of(batchSize));
+                    projector.upsert(sources);
+                    return sources;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 같은 공지사항의 이벤트 반영이 먼저 행을 만든 경우. 다시 읽으면 갱신으로 처리된다.
+                if (attempt >= MAX_BATCH_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("읽기 모델 배치 충돌, 재시도합니다: after={}, attempt={}", after, attempt);
+            }
+        }
+    }
+
+    public record RebuildResult(long rows, int orphansRemoved, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,153 @@
+package syboo.notice.notice.infra.storage;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 큰 파일의 뒷부분을 페이지 캐시를 거치지 않는 Direct I/O로 기록한다.
+ * <p>
+ * 대용량 업로드가 페이지 캐시를 채우면 자주 내려받는 작은 파일이 밀려나므로,
+ * 파일 앞부분 {@code threshold}까지는 일반 쓰기로, 그 이후는 {@link ExtendedOpenOption#DIRECT}로 기록한다.
+ * 크기를 미리 알 수 없는 스트림도 임계값을 넘는 순간 전환되므로, 작은 파일은 전부 일반 쓰기로 남는다.
+ * Direct I/O는 파일 오프셋·길이·메모리 주소가 블록 크기에 정렬되어야 하므로, 정렬된 다이렉트 버퍼로 블록 단위로 쓰고
+ * 마지막 블록은 0으로 채워 쓴 뒤 실제 크기로 잘라낸다.
+ * 파일 시스템이 Direct I/O를 지원하지 않으면(tmpfs 등) 경고 후 일반 쓰기로 계속한다.
+ * </p>
+ */
+@Slf4j
+class DirectIoWriter {
+
+    private static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    private final long threshold;
+    private final int bufferSize;
+    private volatile boolean directSupported = true;
+
+    DirectIoWriter(long threshold, int bufferSize) {
+        this.threshold = threshold;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * {@code offset}부터 스트림을 끝까지 기록하고 기록된 바이트 수를 반환한다.
+     * 오프셋 이후에 남아 있던 데이터는 잘라낸다. 파일이 없으면 생성한다.
+     *
+     * @param force 반환 전에 파일 내용을 디스크에 반영할지 여부
+     */
+    long write(InputStream content, Path file, long offset, boolean force) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > offset) {
+                channel.truncate(offset);
+            }
+
+            int blockSize = blockSize(file);
+            long directFrom = directSupported ? alignUp(Math.max(threshold, offset), blockSize) : Long.MAX_VALUE;
+            long position = offset + copyBuffered(content, channel, offset, directFrom - offset);
+
+            if (position == directFrom) {
+                position = writeRest(content, channel, file, position, blockSize);
+            }
+
+            if (channel.size() > position) {
+                channel.truncate(position);
+            }
+            if (force) {
+                channel.force(false);
+            }
+            return position - offset;
+        }
+    }
+
+    private long writeRest(InputStream content, FileChannel buffered, Path file,
+                           long position, int blockSize) throws IOException {
+        FileChannel direct;
+        try {
+            direct = FileChannel.open(file, StandardOpenOption.WRITE, ExtendedOpenOption.DIRECT);
+        } catch (IOException | UnsupportedOperationException e) {
+            directSupported = false;
+            log.warn("Direct I/O를 사용할 수 없어 일반 쓰기로 대체합니다: {}", e.getMessage());
+            return position + copyBuffered(content, buffered, position, Long.MAX_VALUE);
+        }
+
+        try (direct) {
+            return writeDirect(Channels.newChannel(content), direct, position, blockSize);
+        }
+    }
+
+    private long writeDirect(ReadableByteChannel source, FileChannel direct,
+                             long position, int blockSize) throws IOException {
+        int size = Math.max(blockSize, bufferSize / blockSize * blockSize);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size + blockSize).alignedSlice(blockSize);
+
+        boolean eof = false;
+        while (!eof) {
+            buffer.clear().limit(size);
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer) == -1) {
+                    eof = true;
+                    break;
+                }
+            }
+
+            int length = buffer.position();
+            if (length == 0) {
+                break;
+            }
+
+            // 마지막 블록은 0으로 채워 블록 크기에 맞추고, 호출한 쪽에서 실제 크기로 잘라낸다.
+            int padded = (int) alignUp(length, blockSize);
+            buffer.limit(padded);
+            while (buffer.position() < padded) {
+                buffer.put((byte) 0);
+            }
+            buffer.flip();
+
+            long writeAt = position;
+            while (buffer.hasRemaining()) {
+                writeAt += direct.write(buffer, writeAt);
+            }
+            position += length;
+        }
+        return position;
+    }
+
+    private static long copyBuffered(InputStream content, FileChannel channel,
+                                     long position, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long copied = 0;
+        while (copied < limit) {
+            int read = content.read(buffer, 0, (int) Math.min(buffer.length, limit - copied));
+            if (read == -1) {
+                break;
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                copied += channel.write(chunk, position + copied);
+            }
+        }
+        return copied;
+    }
+
+    private static int blockSize(Path file) {
+        try {
+            long blockSize = Files.getFileStore(file).getBlockSize();
+            return blockSize > 0 && blockSize <= Integer.MAX_VALUE ? (int) blockSize : DEFAULT_BLOCK_SIZE;
+        } catch (IOException | UnsupportedOperationException e) {
+            return DEFAULT_BLOCK_SIZE;
+        }
+    }
+
+    private static long alignUp(long value, long blockSize) {
+        return (value + blockSize - 1) / blockSize * blockSize;
+    }
+}
@@ -0,0 +1,151 @@
+package syboo.notice.notice.infra.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디렉토리 fsync를 동시에 요청한 쓰기끼리 묶어 수행한다(group commit).
+ * <p>
+ * 요청 스레드는 디렉토리를 대기열에 넣고 완료를 기다리며, 전용 스레드가 대기열에 쌓인 요청을 한 번에 꺼내
+ * 디렉토리마다 한 번만 fsync한 뒤 모두에게 알린다. fsync가 진행되는 동안 들어온 요청은 다음 묶음이 되므로,
+ * 동시 업로드가 많을수록 파일당 디스크 플러시 횟수가 줄어든다. {@code maxDelay}를 주면 묶음을 더 모은 뒤 플러시한다.
+ * </p>
+ */
+@Slf4j
+class DirectorySyncGroup implements AutoCloseable {
+
+    // Windows는 디렉토리를 열어 fsync할 수 없으며, 이름 변경이 파일 시스템 메타데이터에 바로 반영된다.
+    private static final boolean DIRECTORY_SYNC_SUPPORTED =
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final Duration maxDelay;
+    private final Thread flusher;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private volatile boolean closed;
+
+    DirectorySyncGroup(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+        this.flusher = Thread.ofPlatform().name("storage-dir-sync").daemon(true).start(this::run);
+    }
+
+    /**
+     * 디렉토리 항목(생성·이름 변경)이 디스크에 기록될 때까지 기다린다.
+     *
+     * @throws InterruptedIOException 이미 종료되었거나 기다리는 도중 종료된 경우
+     */
+    void sync(Path directory) throws IOException {
+        if (closed) {
+            throw new InterruptedIOException("저장소가 종료되었습니다.");
+        }
+        Request request = new Request(directory, new CompletableFuture<>());
+        requests.incrementAndGet();
+        queue.add(request);
+
+        // 넣는 사이 종료되었다면 플러시 스레드가 없으므로 직접 실패시킨다. (종료 처리가 먼저 꺼냈어도 결과는 같다)
+        if (closed) {
+            queue.remove(request);
+            request.done().completeExceptionally(new InterruptedIOException("저장소가 종료되었습니다."));
+        }
+
+        try {
+            request.done().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("디렉토리 동기화 실패: " + directory, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("디렉토리 동기화 대기 중 인터럽트되었습니다.");
+        }
+    }
+
+    /**
+     * 지금까지 받은 동기화 요청 수. {@link #flushCount()}와 비교해 묶음 효과를 확인한다.
+     */
+    long requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * 지금까지 실제로 수행한 디렉토리 fsync 횟수.
+     */
+    long flushCount() {
+        return flushes.get();
+    }
+
+    static void syncNow(Path directory) throws IOException {
+        if (!DIRECTORY_SYNC_SUPPORTED) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Request> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+                if (!maxDelay.isZero()) {
+                    Thread.sleep(maxDelay);
+                }
+            } catch (InterruptedException e) {
+                batch.forEach(request -> request.done().completeExceptionally(
+                        new InterruptedIOException("저장소가 종료되었습니다.")));
+                break;
+            }
+            queue.drainTo(batch);
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Request> batch) {
+        Map<Path, List<Request>> byDirectory = new LinkedHashMap<>();
+        batch.forEach(request -> byDirectory.computeIfAbsent(request.directory(), dir -> new ArrayList<>()).add(request));
+
+        byDirectory.forEach((directory, waiters) -> {
+            try {
+                syncNow(directory);
+                flushes.incrementAndGet();
+                waiters.forEach(request -> request.done().complete(null));
+            } catch (IOException | RuntimeException e) {
+                log.error("디렉토리 동기화 실패: {}", directory, e);
+                waiters.forEach(request -> request.done().completeExceptionally(e));
+            }
+        });
+        log.trace("디렉토리 동기화 묶음 처리: requests={}, directories={}", batch.size(), byDirectory.size());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flusher.interrupt();
+        List<Request> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.done().completeExceptionally(
+                new InterruptedIOException("저장소가 종료되었습니다.")));
+    }
+
+    private record Request(Path directory, CompletableFuture<Void> done) {
+    }
+}
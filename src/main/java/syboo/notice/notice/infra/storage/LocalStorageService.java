@@ -1,30 +1,78 @@
 package syboo.notice.notice.infra.storage;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import syboo.notice.common.exception.FileSecurityException;
 import syboo.notice.common.exception.FileStorageException;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * 로컬 파일 시스템 저장소.
+ * <p>
+ * 파일은 루트 아래 {@code .tmp} 디렉토리에 먼저 기록한 뒤 최종 경로로 원자적으로 이름을 바꾼다.
+ * 따라서 기록 도중 장애가 나도 최종 경로에는 이전 파일이 그대로 있거나 완성된 새 파일만 보인다.
+ * 장애 후에도 저장 완료를 응답한 파일이 남아 있도록 {@link StorageDurability}에 따라 파일과 디렉토리를 fsync하며,
+ * 기본값({@code GROUP})은 동시에 들어온 쓰기들의 디렉토리 fsync를 한 번으로 묶는다.
+ * </p>
+ * <p>
+ * {@code storage.direct-io.enabled}를 켜면 {@code threshold}를 넘는 파일의 나머지 부분은
+ * 페이지 캐시를 거치지 않고 기록해({@link DirectIoWriter}), 대용량 업로드가 자주 내려받는 작은 파일을 캐시에서 밀어내지 않게 한다.
+ * </p>
+ */
 @Slf4j
 @Service
 public class LocalStorageService implements StorageService{
+    static final String TEMP_DIRECTORY = ".tmp";
+
     private final Path rootLocation;
+    private final StorageDurability durability;
+    private final DirectorySyncGroup directorySyncGroup;
+    private final DirectIoWriter directIoWriter;
 
     // 생성자 주입을 통해 yml 설정값을 가져옵니다.
-    public LocalStorageService(@Value("${storage.location}") String location) {
+    public LocalStorageService(
+            @Value("${storage.location}") String location,
+            @Value("${storage.durability:GROUP}") StorageDurability durability,
+            @Value("${storage.group-commit.max-delay:PT0S}") Duration groupCommitMaxDelay,
+            @Value("${storage.direct-io.enabled:false}") boolean directIoEnabled,
+            @Value("${storage.direct-io.threshold:8MB}") DataSize directIoThreshold,
+            @Value("${storage.direct-io.buffer-size:1MB}") DataSize directIoBufferSize) {
         this.rootLocation = Paths.get(location);
+        this.durability = durability;
+        this.directorySyncGroup = durability == StorageDurability.GROUP
+                ? new DirectorySyncGroup(groupCommitMaxDelay)
+                : null;
+        this.directIoWriter = directIoEnabled
+                ? new DirectIoWriter(directIoThreshold.toBytes(), Math.toIntExact(directIoBufferSize.toBytes()))
+                : null;
     }
 
     /**
@@ -35,20 +83,38 @@ public class LocalStorageService implements StorageService{
     public void init() {
         try {
             Files.createDirectories(this.rootLocation);
-            log.info("파일 저장소 준비 완료: {}", this.rootLocation.toAbsolutePath());
+            clearTempDirectory();
+            log.info("파일 저장소 준비 완료: {} (durability={})", this.rootLocation.toAbsolutePath(), durability);
         } catch (IOException e) {
             log.error("파일 저장소 디렉토리 생성 실패: {}", this.rootLocation, e);
             throw new FileStorageException("저장소 초기화에 실패했습니다.", e);
         }
     }
 
+    @PreDestroy
+    public void close() {
+        if (directorySyncGroup != null) {
+            directorySyncGroup.close();
+        }
+    }
+
     @Override
     public void store(MultipartFile file, String storedFileName) {
-        try {
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("빈 파일은 저장할 수 없습니다.");
-            }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일은 저장할 수 없습니다.");
+        }
+
+        try (InputStream is = file.getInputStream()) {
+            storeStream(is, storedFileName);
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", storedFileName, e);
+            throw new FileStorageException("물리 파일 저장 중 오류가 발생했습니다.", e);
+        }
+    }
 
+    @Override
+    public long storeStream(InputStream content, String storedFileName) {
+        try {
             Path rootAbsPath = this.rootLocation.toAbsolutePath().normalize();
 
             // 저장할 절대 경로 생성
@@ -60,14 +126,19 @@ public class LocalStorageService implements StorageService{
                 throw new FileSecurityException("파일 저장 경로가 허용된 범위를 벗어났습니다.");
             }
 
-            // 파일 저장 (기존 파일이 있으면 덮어쓰기)
-            Files.copy(
-                    file.getInputStream(),
-                    destinationFile,
-                    StandardCopyOption.REPLACE_EXISTING
-            );
+            // 임시 파일에 끝까지 기록한 뒤 최종 경로로 교체 (기존 파일이 있으면 덮어쓰기)
+            Files.createDirectories(destinationFile.getParent());
+            Path tempFile = newTempFile();
+            long written;
+            try {
+                written = writeFully(content, tempFile);
+                replace(tempFile, destinationFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
 
-            log.debug("파일 물리 저장 완료: {}", destinationFile);
+            log.debug("파일 물리 저장 완료: {} ({} bytes)", destinationFile, written);
+            return written;
 
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", storedFileName, e);
@@ -75,6 +146,93 @@ public class LocalStorageService implements StorageService{
         }
     }
 
+    @Override
+    public long append(String storedFileName, long offset, InputStream content) {
+        Path target = resolveWithinRoot(storedFileName);
+
+        try {
+            Files.createDirectories(target.getParent());
+            boolean created = !Files.exists(target);
+
+            if (directIoWriter != null) {
+                long written = directIoWriter.write(content, target, offset, durability != StorageDurability.NONE);
+                if (created) {
+                    syncDirectory(target.getParent());
+                }
+                log.debug("파일 이어쓰기 완료: {} (offset={}, written={})", storedFileName, offset, written);
+                return written;
+            }
+
+            try (FileChannel channel = FileChannel.open(target,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // 중단된 이전 기록이 남아 있다면 오프셋 이후를 잘라내고 이어 쓴다.
+                if (channel.size() > offset) {
+                    channel.truncate(offset);
+                }
+
+                long position = offset;
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        position += channel.write(chunk, position);
+                    }
+                }
+
+                // 청크 기록이 끝났다고 응답하기 전에 디스크에 반영한다. (다음 청크는 이 오프셋을 신뢰한다)
+                if (durability != StorageDurability.NONE) {
+                    channel.force(false);
+                }
+                if (created) {
+                    syncDirectory(target.getParent());
+                }
+
+                log.debug("파일 이어쓰기 완료: {} (offset={}, written={})", storedFileName, offset, position - offset);
+                return position - offset;
+            }
+        } catch (IOException e) {
+            log.error("파일 이어쓰기 실패: {} (offset={})", storedFileName, offset, e);
+            throw new FileStorageException("물리 파일 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public void truncate(String storedFileName, long size) {
+        Path target = resolveWithinRoot(storedFileName);
+
+        if (!Files.exists(target)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            log.error("파일 잘라내기 실패: {} (size={})", storedFileName, size, e);
+            throw new FileStorageException("물리 파일 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public void move(String sourceFileName, String targetFileName) {
+        Path source = resolveWithinRoot(sourceFileName);
+        Path target = resolveWithinRoot(targetFileName);
+
+        try {
+            Files.createDirectories(target.getParent());
+            if (durability != StorageDurability.NONE) {
+                try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+                    channel.force(false);
+                }
+            }
+            replace(source, target);
+            log.debug("파일 이동 완료: {} -> {}", sourceFileName, targetFileName);
+        } catch (IOException e) {
+            log.error("파일 이동 실패: {} -> {}", sourceFileName, targetFileName, e);
+            throw new FileStorageException("물리 파일 이동 중 오류가 발생했습니다.", e);
+        }
+    }
+
     @Override
     public void delete(String storedFileName) {
         try {
@@ -128,4 +286,123 @@ public class LocalStorageService implements StorageService{
             throw new FileStorageException("파일 경로가 유효하지 않습니다.", e);
         }
     }
+
+    @Override
+    public List<StoredFile> list(String directory) {
+        Path rootAbsPath = this.rootLocation.toAbsolutePath().normalize();
+        Path dir = resolveWithinRoot(directory);
+
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .map(file -> toStoredFile(rootAbsPath, file))
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException | UncheckedIOException e) {
+            log.error("파일 목록 조회 실패: {}", directory, e);
+            throw new FileStorageException("저장소 파일 목록을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private static StoredFile toStoredFile(Path rootAbsPath, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            String storedFileName = rootAbsPath.relativize(file).toString().replace(File.separatorChar, '/');
+            return new StoredFile(storedFileName, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            // 목록을 읽는 사이 삭제된 파일
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path tempDirectory() {
+        return this.rootLocation.toAbsolutePath().normalize().resolve(TEMP_DIRECTORY);
+    }
+
+    private Path newTempFile() throws IOException {
+        Path dir = tempDirectory();
+        Files.createDirectories(dir);
+        return dir.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    /**
+     * 이전 실행에서 이름을 바꾸지 못하고 남은 임시 파일을 지운다. 최종 경로에는 영향이 없다.
+     */
+    private void clearTempDirectory() throws IOException {
+        Path dir = tempDirectory();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> leftovers = files.toList();
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+            if (!leftovers.isEmpty()) {
+                log.info("남은 임시 파일 정리: {}개", leftovers.size());
+            }
+        }
+    }
+
+    /**
+     * 스트림을 파일에 끝까지 기록하고, 내구성 수준에 따라 내용을 디스크에 반영한다.
+     */
+    private long writeFully(InputStream content, Path file) throws IOException {
+        if (directIoWriter != null) {
+            return directIoWriter.write(content, file, 0, durability != StorageDurability.NONE);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long written = content.transferTo(Channels.newOutputStream(channel));
+            if (durability != StorageDurability.NONE) {
+                channel.force(false);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * 파일을 대상 경로로 원자적으로 교체하고, 바뀐 디렉토리 항목을 내구성 수준에 따라 디스크에 반영한다.
+     */
+    private void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.warn("원자적 이름 변경을 지원하지 않아 일반 이동으로 대체합니다: {}", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.getParent());
+    }
+
+    private void syncDirectory(Path directory) throws IOException {
+        switch (durability) {
+            case NONE -> {
+            }
+            case FSYNC -> DirectorySyncGroup.syncNow(directory);
+            case GROUP -> directorySyncGroup.sync(directory);
+        }
+    }
+
+    /**
+     * 저장소 루트 기준 절대 경로로 변환하고, 루트 밖을 가리키면 차단한다. (Path Traversal 방지)
+     */
+    private Path resolveWithinRoot(String storedFileName) {
+        Path rootAbsPath = this.rootLocation.toAbsolutePath().normalize();
+        Path resolved = rootAbsPath.resolve(storedFileName).normalize().toAbsolutePath();
+
+        if (!resolved.startsWith(rootAbsPath)) {
+            log.error("Path Traversal 시도 감지: {}", storedFileName);
+            throw new FileSecurityException("허용되지 않은 파일 접근입니다.");
+        }
+
+        return resolved;
+    }
 }
@@ -0,0 +1,20 @@
+package syboo.notice.notice.infra.storage;
+
+/**
+ * 로컬 저장소의 쓰기 내구성 수준. 모든 수준에서 파일은 임시 파일에 기록한 뒤 원자적으로 이름을 바꾸므로,
+ * 최종 경로에 기록 중인 파일이 보이지 않는다. 차이는 OS/전원 장애 시 이미 응답한 파일이 남아 있는지이다.
+ */
+public enum StorageDurability {
+    /**
+     * fsync하지 않는다. 프로세스 장애에는 안전하지만, OS 장애 시 최근에 저장한 파일이 사라지거나 비어 있을 수 있다.
+     */
+    NONE,
+    /**
+     * 파일 내용과 디렉토리 항목을 쓰기마다 fsync한다.
+     */
+    FSYNC,
+    /**
+     * 파일 내용은 쓰기마다 fsync하고, 디렉토리 fsync는 동시에 들어온 쓰기끼리 모아 디렉토리당 한 번만 수행한다. (기본값)
+     */
+    GROUP
+}
@@ -3,12 +3,37 @@ package syboo.notice.notice.infra.storage;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
+
 public interface StorageService {
     /**
      * 파일을 저장하고 저장된 상대 경로를 반환한다.
      */
     void store(MultipartFile file, String storedFileName);
 
+    /**
+     * 스트림을 끝까지 읽어 파일로 저장하고, 기록된 바이트 수를 반환한다.
+     * 스트림을 닫는 책임은 호출자에게 있다.
+     */
+    long storeStream(InputStream content, String storedFileName);
+
+    /**
+     * 지정한 오프셋부터 스트림 내용을 기록하고, 기록된 바이트 수를 반환한다.
+     * 오프셋 이후에 남아 있던 데이터(중단된 이전 기록)는 잘라낸다. 파일이 없으면 생성한다.
+     */
+    long append(String storedFileName, long offset, InputStream content);
+
+    /**
+     * 파일을 지정한 크기로 잘라낸다. 실패한 청크 기록을 되돌릴 때 사용한다.
+     */
+    void truncate(String storedFileName, long size);
+
+    /**
+     * 저장소 내부에서 파일을 다른 이름으로 옮긴다. (스테이징 파일 확정 등)
+     */
+    void move(String sourceFileName, String targetFileName);
+
     /**
      * 저장된 파일을 삭제한다.
      */
@@ -18,4 +43,9 @@ public interface StorageService {
      * 리소스 로드 메서드
      */
     Resource loadAsResource(String storedFileName);
+
+    /**
+     * 디렉토리 바로 아래의 파일 목록을 반환한다. 디렉토리가 없으면 빈 목록을 반환한다.
+     */
+    List<StoredFile> list(String directory);
 }
\ No newline at end of file
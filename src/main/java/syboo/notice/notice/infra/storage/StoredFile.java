@@ -0,0 +1,13 @@
+package syboo.notice.notice.infra.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 있는 파일의 이름(저장소 루트 기준 상대 경로)과 크기, 마지막 수정 시각.
+ */
+public record StoredFile(
+        String storedFileName,
+        long size,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,251 @@
+package syboo.notice.notice.infra.textextract;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.domain.AttachmentText;
+import syboo.notice.notice.domain.AttachmentTextStatus;
+import syboo.notice.notice.domain.TextTokenizer;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.repository.AttachmentTextRepository;
+import syboo.notice.notice.repository.AttachmentTextTermJdbcRepository;
+import syboo.notice.notice.repository.NoticeAttachmentRepository;
+import syboo.notice.notice.repository.TextExtractionTarget;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 첨부파일의 본문을 백그라운드에서 추출해 검색 색인에 반영한다.
+ * <p>
+ * PDF 파싱은 CPU를 많이 쓰므로 요청 스레드가 아닌 고정 크기 스레드 풀(기본: 코어 수의 절반)에서 수행하며,
+ * 대기열이 가득 차면 작업을 버리고 주기적인 점검({@link #sweep()})에서 다시 가져간다.
+ * 추출 결과는 실패·시간 초과를 포함해 모두 기록하므로 같은 파일을 반복해서 시도하지 않는다.
+ * </p>
+ * <ul>
+ *     <li>등록/수정 커밋 후: 해당 공지사항의 미추출 PDF를 대기열에 넣는다.</li>
+ *     <li>수정/삭제 커밋 직전: 삭제된 첨부파일의 본문과 색인을 같은 트랜잭션에서 지운다.</li>
+ *     <li>주기 점검: 대기열에서 버려졌거나, 재기동·다른 노드 등으로 누락된 PDF를 가져간다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AttachmentTextExtractionWorker {
+
+    static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    private final Clock clock;
+    private final NoticeAttachmentRepository noticeAttachmentRepository;
+    private final AttachmentTextRepository attachmentTextRepository;
+    private final AttachmentTextTermJdbcRepository attachmentTextTermRepository;
+    private final StorageService storageService;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+    private final long maxFileSize;
+    private final int maxTerms;
+
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejected;
+
+    public AttachmentTextExtractionWorker(
+            Clock clock,
+            NoticeAttachmentRepository noticeAttachmentRepository,
+            AttachmentTextRepository attachmentTextRepository,
+            AttachmentTextTermJdbcRepository attachmentTextTermRepository,
+            StorageService storageService,
+            PdfTextExtractor pdfTextExtractor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notice.attachment-text.threads:0}") int threads,
+            @Value("${notice.attachment-text.queue-capacity:100}") int queueCapacity,
+            @Value("${notice.attachment-text.timeout:PT30S}") Duration timeout,
+            @Value("${notice.attachment-text.max-file-size:50MB}") DataSize maxFileSize,
+            @Value("${notice.attachment-text.max-terms:50000}") int maxTerms) {
+        this.clock = clock;
+        this.noticeAttachmentRepository = noticeAttachmentRepository;
+        this.attachmentTextRepository = attachmentTextRepository;
+        this.attachmentTextTermRepository = attachmentTextTermRepository;
+        this.storageService = storageService;
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxTerms = maxTerms;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("attachment-text-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("notice.attachment-text.rejected")
+                .description("대기열이 가득 차 다음 점검으로 미룬 추출 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.attachment-text.queued", executor, e -> e.getQueue().size())
+                .description("추출 대기 중인 첨부파일 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void removeDetached(NoticeChangedEvent event) {
+        if (event.changeType() == NoticeChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        int terms = attachmentTextRepository.deleteDetachedTerms(event.noticeId());
+        int texts = attachmentTextRepository.deleteDetached(event.noticeId());
+        if (texts > 0) {
+            log.debug("삭제된 첨부파일의 본문 색인 정리: noticeId={}, texts={}, terms={}", event.noticeId(), texts, terms);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeCommitted(NoticeChangedEvent event) {
+        if (event.changeType() == NoticeChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        // 대상 조회도 응답 경로 밖에서 수행한다.
+        lookupExecutor.execute(() -> {
+            try {
+                noticeAttachmentRepository.findTextExtractionTargetsByNoticeId(event.noticeId(), PDF_CONTENT_TYPE)
+                        .forEach(this::submit);
+            } catch (DataAccessException e) {
+                log.warn("본문 추출 대상 조회 실패, 주기 점검에서 다시 시도합니다: noticeId={}", event.noticeId(), e);
+            }
+        });
+    }
+
+    /**
+     * 본문이 추출되지 않은 PDF를 대기열의 남은 자리만큼 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${notice.attachment-text.sweep-interval:PT1M}")
+    public void sweep() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        try {
+            List<TextExtractionTarget> targets =
+                    noticeAttachmentRepository.findTextExtractionTargets(PDF_CONTENT_TYPE, Limit.of(capacity));
+            targets.forEach(this::submit);
+        } catch (DataAccessException e) {
+            log.warn("본문 추출 대상 점검 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private void submit(TextExtractionTarget target) {
+        if (!inFlight.add(target.attachmentId())) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(target);
+                } finally {
+                    inFlight.remove(target.attachmentId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(target.attachmentId());
+            rejected.increment();
+            log.debug("본문 추출 대기열이 가득 차 다음 점검으로 미룹니다: attachmentId={}", target.attachmentId());
+        }
+    }
+
+    void process(TextExtractionTarget target) {
+        PdfTextExtractor.ExtractedText result = extract(target);
+        Set<String> terms = result.text() == null ? Set.of() : TextTokenizer.tokenize(result.text(), maxTerms);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 추출하는 사이 첨부파일이 삭제되었으면 기록하지 않는다.
+                if (!noticeAttachmentRepository.existsById(target.attachmentId())) {
+                    return;
+                }
+                attachmentTextRepository.save(AttachmentText.builder()
+                        .attachmentId(target.attachmentId())
+                        .noticeId(target.noticeId())
+                        .status(result.status())
+                        .body(result.text())
+                        .termCount(terms.size())
+                        .extractedAt(LocalDateTime.now(clock))
+                        .build());
+                attachmentTextTermRepository.replaceTerms(target.attachmentId(), target.noticeId(), terms);
+            });
+        } catch (DataAccessException e) {
+            log.warn("본문 추출 결과 저장 실패, 주기 점검에서 다시 시도합니다: attachmentId={}", target.attachmentId(), e);
+            return;
+        }
+
+        meterRegistry.counter("notice.attachment-text.extracted", "status", result.status().name()).increment();
+        log.info("첨부파일 본문 추출 완료: attachmentId={}, status={}, terms={}",
+                target.attachmentId(), result.status(), terms.size());
+    }
+
+    private PdfTextExtractor.ExtractedText extract(TextExtractionTarget target) {
+        if (target.fileSize() > maxFileSize) {
+            return new PdfTextExtractor.ExtractedText(AttachmentTextStatus.SKIPPED, null);
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        MessageDigest digest = ChecksumGenerator.newDigest();
+        try (InputStream content = new DigestInputStream(
+                storageService.loadAsResource(target.storedFileName()).getInputStream(), digest)) {
+            PdfTextExtractor.ExtractedText result = pdfTextExtractor.extract(content, deadline);
+            if (result.status() == AttachmentTextStatus.TIMED_OUT) {
+                return result;
+            }
+            // 파서가 읽지 않은 꼬리 바이트까지 해시에 포함한다.
+            content.transferTo(OutputStream.nullOutputStream());
+
+            if (!target.checksum().equals(ChecksumGenerator.toHex(digest))) {
+                log.error("보안 경고: 본문 추출 중 원본 무결성 검증 실패! (ID: {})", target.attachmentId());
+                return new PdfTextExtractor.ExtractedText(AttachmentTextStatus.FAILED, null);
+            }
+            return result;
+        } catch (IOException | FileStorageException e) {
+            log.warn("첨부파일 본문 추출 실패: attachmentId={}", target.attachmentId(), e);
+            return new PdfTextExtractor.ExtractedText(AttachmentTextStatus.FAILED, null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+}
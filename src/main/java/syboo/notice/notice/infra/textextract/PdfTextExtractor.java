@@ -0,0 +1,138 @@
+package syboo.notice.notice.infra.textextract;
+
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.pdf.PDFParser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.ContentHandlerDecorator;
+import org.apache.tika.sax.WriteOutContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import syboo.notice.notice.domain.AttachmentTextStatus;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+
+/**
+ * Apache Tika로 PDF 본문을 추출한다.
+ * <p>
+ * 추출 글자 수는 {@code max-chars}에서 자르고, 문서 하나에 쓸 수 있는 시간은 마감 시각(deadline)으로 제한한다.
+ * Tika 파서는 인터럽트에 반응하지 않으므로, 입력을 읽을 때와 본문을 내보낼 때마다 마감 시각을 확인해 예외로 파싱을 멈춘다.
+ * </p>
+ */
+@Component
+public class PdfTextExtractor {
+
+    private final int maxChars;
+
+    public PdfTextExtractor(@Value("${notice.attachment-text.max-chars:1000000}") int maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * @param content       PDF 스트림 (닫는 책임은 호출자에게 있음)
+     * @param deadlineNanos {@link System#nanoTime()} 기준 마감 시각
+     * @return 추출 결과 (실패 시 본문 없음)
+     */
+    public ExtractedText extract(InputStream content, long deadlineNanos) {
+        StringWriter writer = new StringWriter();
+        ContentHandler handler = new BodyContentHandler(
+                new DeadlineContentHandler(new WriteOutContentHandler(writer, maxChars), deadlineNanos));
+
+        try {
+            new PDFParser().parse(new DeadlineInputStream(content, deadlineNanos), handler, new Metadata(), new ParseContext());
+            return new ExtractedText(AttachmentTextStatus.EXTRACTED, writer.toString());
+        } catch (IOException | SAXException | TikaException e) {
+            if (WriteLimitReachedException.isWriteLimitReached(e)) {
+                return new ExtractedText(AttachmentTextStatus.TRUNCATED, writer.toString());
+            }
+            if (isDeadlineExceeded(e)) {
+                return new ExtractedText(AttachmentTextStatus.TIMED_OUT, null);
+            }
+            return new ExtractedText(AttachmentTextStatus.FAILED, null);
+        }
+    }
+
+    private static boolean isDeadlineExceeded(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeadlineExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void checkDeadline(long deadlineNanos) throws DeadlineExceededException {
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    public record ExtractedText(AttachmentTextStatus status, String text) {
+    }
+
+    private static final class DeadlineExceededException extends IOException {
+        private DeadlineExceededException() {
+            super("본문 추출 제한 시간 초과");
+        }
+    }
+
+    private static final class DeadlineInputStream extends FilterInputStream {
+
+        private final long deadlineNanos;
+
+        private DeadlineInputStream(InputStream in, long deadlineNanos) {
+            super(in);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeadline(deadlineNanos);
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkDeadline(deadlineNanos);
+            return super.read(b, off, len);
+        }
+    }
+
+    private static final class DeadlineContentHandler extends ContentHandlerDecorator {
+
+        private final long deadlineNanos;
+
+        private DeadlineContentHandler(ContentHandler handler, long deadlineNanos) {
+            super(handler);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String name, Attributes atts) throws SAXException {
+            check();
+            super.startElement(uri, localName, name, atts);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            check();
+            super.characters(ch, start, length);
+        }
+
+        private void check() throws SAXException {
+            try {
+                checkDeadline(deadlineNanos);
+            } catch (DeadlineExceededException e) {
+                throw new SAXException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package syboo.notice.notice.infra.thumbnail;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import syboo.notice.notice.application.AttachmentThumbnailService;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 공지사항 등록/수정이 커밋되면 첨부 이미지의 썸네일을 백그라운드에서 미리 만든다.
+ * <p>
+ * 업로드 요청의 응답 시간에 영향을 주지 않도록 가상 스레드에서 실행하며, 실제 동시 생성 수는
+ * {@link AttachmentThumbnailService}가 제한한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailPregenerator {
+
+    private final AttachmentThumbnailService attachmentThumbnailService;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.changeType() == NoticeChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        executor.execute(() -> attachmentThumbnailService.pregenerate(event.noticeId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package syboo.notice.notice.infra.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import syboo.notice.common.exception.FileInvalidException;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 이미지 첨부파일을 지정한 너비로 축소한 썸네일 바이트를 만든다.
+ * <p>
+ * 원본 해상도 전체를 메모리에 펼치지 않도록, 목표 크기의 2배 이상인 부분은 디코딩 단계에서 픽셀을 건너뛰며 읽고(subsampling)
+ * 나머지만 보간하여 줄인다. 원본보다 크게 늘리지는 않으며, 형식은 원본과 같게 유지한다(PNG의 투명도 보존).
+ * </p>
+ */
+@Component
+public class ThumbnailRenderer {
+
+    public static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png");
+
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+
+    public ThumbnailRenderer(
+            @Value("${notice.thumbnail.max-source-pixels:50000000}") long maxSourcePixels,
+            @Value("${notice.thumbnail.jpeg-quality:0.85}") float jpegQuality) {
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    public static String extension(String contentType) {
+        return "image/png".equals(contentType) ? "png" : "jpg";
+    }
+
+    /**
+     * @param original    원본 이미지 스트림 (닫는 책임은 호출자에게 있음)
+     * @param contentType 원본 MIME 타입 ({@link #SUPPORTED_TYPES})
+     * @param width       목표 너비 (원본이 더 작으면 원본 너비)
+     * @throws FileInvalidException 이미지를 해석할 수 없거나 픽셀 수가 허용 범위를 넘는 경우
+     */
+    public byte[] render(InputStream original, String contentType, int width) throws IOException {
+        BufferedImage decoded = decode(original, width);
+        boolean alpha = "image/png".equals(contentType);
+
+        int targetWidth = Math.min(width, decoded.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) decoded.getHeight() * targetWidth / decoded.getWidth()));
+
+        BufferedImage scaled = scale(decoded, targetWidth, targetHeight, alpha);
+        return alpha ? encodePng(scaled) : encodeJpeg(scaled);
+    }
+
+    private BufferedImage decode(InputStream original, int width) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new FileInvalidException("이미지를 해석할 수 없는 파일입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                // 헤더만 읽은 상태에서 크기를 확인해, 압축률이 극단적인 이미지(decompression bomb)는 디코딩하지 않는다.
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    throw new FileInvalidException("썸네일을 만들 수 없을 만큼 큰 이미지입니다: " + sourceWidth + "x" + sourceHeight);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IIOException e) {
+            throw new FileInvalidException("이미지를 해석할 수 없는 파일입니다.");
+        }
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로, 절반씩 줄인 뒤 마지막에 목표 크기로 맞춘다.
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
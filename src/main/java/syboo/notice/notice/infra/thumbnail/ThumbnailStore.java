@@ -0,0 +1,193 @@
+package syboo.notice.notice.infra.thumbnail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.exception.FileStorageException;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.storage.StoredFile;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 썸네일 파생 파일을 원본과 같은 저장소의 {@value #DIRECTORY} 디렉토리에 보관하고, 디스크 예산을 넘으면 가장 오래 쓰이지 않은 것부터 지운다(LRU).
+ * <p>
+ * 사용 순서는 노드 메모리에만 기록하며, 기동 시에는 파일의 마지막 수정 시각 순으로 복원한다.
+ * 파생 파일은 원본에서 언제든 다시 만들 수 있으므로, 지워진 파일은 다음 요청에서 다시 생성된다.
+ * 파일은 임시 이름으로 기록한 뒤 옮겨서, 기록 도중의 파일이 제공되지 않도록 한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ThumbnailStore {
+
+    static final String DIRECTORY = "thumbnails";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final StorageService storageService;
+    private final long diskBudget;
+    private final Counter evictions;
+
+    // 접근 순서로 정렬된 파생 파일명 -> 크기 (this로 동기화)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    public ThumbnailStore(
+            StorageService storageService,
+            MeterRegistry meterRegistry,
+            @Value("${notice.thumbnail.disk-budget:512MB}") DataSize diskBudget) {
+        this.storageService = storageService;
+        this.diskBudget = diskBudget.toBytes();
+
+        this.evictions = Counter.builder("notice.thumbnail.evicted")
+                .description("디스크 예산 초과로 삭제된 썸네일 수")
+                .register(meterRegistry);
+        Gauge.builder("notice.thumbnail.disk-bytes", this, ThumbnailStore::totalBytes)
+                .description("썸네일이 차지하는 디스크 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원본 저장 파일명과 너비로 파생 파일명을 만든다. 원본 파일명을 접두사로 써서 원본 삭제 시 함께 찾을 수 있다.
+     */
+    public static String derivativeName(String storedFileName, int width, String contentType) {
+        return DIRECTORY + "/" + storedFileName + ".w" + width + "." + ThumbnailRenderer.extension(contentType);
+    }
+
+    @PostConstruct
+    public void loadIndex() {
+        List<StoredFile> files = new ArrayList<>(storageService.list(DIRECTORY));
+        files.sort(Comparator.comparing(StoredFile::lastModified));
+
+        List<String> victims;
+        synchronized (this) {
+            for (StoredFile file : files) {
+                if (file.storedFileName().endsWith(TEMP_SUFFIX)) {
+                    // 기록 도중 중단된 파일
+                    storageService.delete(file.storedFileName());
+                    continue;
+                }
+                entries.put(file.storedFileName(), file.size());
+                totalBytes += file.size();
+            }
+            victims = evictOverBudget();
+        }
+        evict(victims);
+
+        log.info("썸네일 저장소 인덱스 복원: files={}, bytes={}", entries.size(), totalBytes);
+    }
+
+    /**
+     * 보관 중인 파생 파일을 반환하고 최근 사용으로 표시한다.
+     */
+    public Optional<Resource> find(String derivativeName) {
+        synchronized (this) {
+            if (entries.get(derivativeName) == null) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            return Optional.of(storageService.loadAsResource(derivativeName));
+        } catch (FileStorageException e) {
+            // 외부에서 지워진 파일은 인덱스에서도 빼고 다시 생성하게 한다.
+            log.warn("썸네일 파일이 없어 인덱스에서 제거합니다: {}", derivativeName);
+            forget(derivativeName);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 파생 파일을 기록하고, 디스크 예산을 넘으면 오래 쓰이지 않은 파일을 지운다.
+     */
+    public Resource save(String derivativeName, byte[] content) {
+        String tempName = derivativeName + TEMP_SUFFIX;
+        try {
+            storageService.storeStream(new ByteArrayInputStream(content), tempName);
+            storageService.move(tempName, derivativeName);
+        } catch (RuntimeException e) {
+            storageService.delete(tempName);
+            throw e;
+        }
+
+        List<String> victims;
+        synchronized (this) {
+            Long previous = entries.put(derivativeName, (long) content.length);
+            totalBytes += content.length - (previous == null ? 0 : previous);
+            victims = evictOverBudget();
+        }
+        evict(victims);
+
+        return storageService.loadAsResource(derivativeName);
+    }
+
+    /**
+     * 원본 첨부파일에서 만든 모든 너비의 파생 파일을 지운다.
+     */
+    public void deleteDerivatives(String storedFileName) {
+        String prefix = DIRECTORY + "/" + storedFileName + ".w";
+        List<String> targets = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    targets.add(entry.getKey());
+                    totalBytes -= entry.getValue();
+                    iterator.remove();
+                }
+            }
+        }
+        targets.forEach(storageService::delete);
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void forget(String derivativeName) {
+        Long size = entries.remove(derivativeName);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    /**
+     * 예산 안으로 들어올 때까지 가장 오래 쓰이지 않은 항목을 인덱스에서 빼고, 지울 파일명을 반환한다. (this 잠금 안에서 호출)
+     */
+    private List<String> evictOverBudget() {
+        List<String> victims = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > diskBudget && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            victims.add(eldest.getKey());
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+        return victims;
+    }
+
+    // 파일 삭제는 잠금 밖에서 수행해 다른 요청의 조회를 막지 않는다.
+    private void evict(List<String> victims) {
+        if (victims.isEmpty()) {
+            return;
+        }
+        victims.forEach(storageService::delete);
+        evictions.increment(victims.size());
+        log.debug("디스크 예산 초과로 썸네일 삭제: count={}, remainingBytes={}", victims.size(), totalBytes());
+    }
+}
@@ -0,0 +1,71 @@
+package syboo.notice.notice.infra.upload;
+
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽은 바이트 수를 세면서 파트 단위/요청 단위 용량 제한을 즉시 적용하는 스트림.
+ * <p>
+ * 제한을 넘는 순간 {@link MaxUploadSizeExceededException}을 던지므로,
+ * 초과 파일이 끝까지 디스크에 기록되기 전에 업로드가 중단된다.
+ * </p>
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxPartSize;
+    private final long maxRequestSize;
+    private final AtomicLong requestTotal;
+    private long partTotal;
+
+    public SizeLimitedInputStream(InputStream in, long maxSize) {
+        this(in, maxSize, maxSize, new AtomicLong());
+    }
+
+    SizeLimitedInputStream(InputStream in, long maxPartSize, long maxRequestSize, AtomicLong requestTotal) {
+        super(in);
+        this.maxPartSize = maxPartSize;
+        this.maxRequestSize = maxRequestSize;
+        this.requestTotal = requestTotal;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    private void count(long bytes) {
+        partTotal += bytes;
+        if (partTotal > maxPartSize) {
+            throw new MaxUploadSizeExceededException(maxPartSize);
+        }
+        if (requestTotal.addAndGet(bytes) > maxRequestSize) {
+            throw new MaxUploadSizeExceededException(maxRequestSize);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package syboo.notice.notice.infra.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.exception.FileInvalidException;
+import syboo.notice.common.exception.FileStorageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * multipart/form-data 요청 본문을 도착하는 순서대로 파트 단위로 읽어 전달한다.
+ * <p>
+ * 서블릿 컨테이너의 Part 파싱(임시 파일 스풀링)을 거치지 않고 요청 스트림을 직접 소비하므로,
+ * 파일 파트의 바이트는 핸들러가 읽는 속도에 맞춰서만 네트워크에서 당겨온다(TCP 흐름 제어에 의한 back-pressure).
+ * 파트 단위/요청 단위 용량 제한은 {@link SizeLimitedInputStream}을 통해 읽는 즉시 적용된다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StreamingMultipartReader {
+
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final long maxFieldSize;
+
+    public StreamingMultipartReader(
+            @Value("${notice.upload.stream.max-file-size:100MB}") DataSize maxFileSize,
+            @Value("${notice.upload.stream.max-request-size:500MB}") DataSize maxRequestSize,
+            @Value("${notice.upload.stream.max-field-size:1MB}") DataSize maxFieldSize) {
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxRequestSize = maxRequestSize.toBytes();
+        this.maxFieldSize = maxFieldSize.toBytes();
+    }
+
+    /**
+     * 파일 파트를 처리하는 콜백. 전달된 스트림은 해당 파트의 끝까지만 읽을 수 있으며,
+     * 콜백이 반환되면 다음 파트로 넘어간다.
+     */
+    @FunctionalInterface
+    public interface FilePartHandler {
+        void handle(String fieldName, String originFileName, InputStream content);
+    }
+
+    /**
+     * 요청 본문을 파트 단위로 순회한다.
+     *
+     * @param request      multipart/form-data 요청
+     * @param fieldHandler 일반 폼 필드(name, value) 처리 콜백
+     * @param fileHandler  파일 파트 처리 콜백
+     * @throws FileInvalidException multipart 요청이 아니거나 본문 형식이 잘못된 경우
+     * @throws org.springframework.web.multipart.MaxUploadSizeExceededException 용량 제한을 초과한 경우
+     */
+    public void read(HttpServletRequest request,
+                     BiConsumer<String, String> fieldHandler,
+                     FilePartHandler fileHandler) {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new FileInvalidException("multipart/form-data 요청이 아닙니다.");
+        }
+
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setHeaderCharset(StandardCharsets.UTF_8);
+
+        AtomicLong requestTotal = new AtomicLong();
+        int fileCount = 0;
+
+        try {
+            FileItemInputIterator iterator = upload.getItemIterator(request);
+
+            while (iterator.hasNext()) {
+                FileItemInput item = iterator.next();
+
+                try (InputStream limited = new SizeLimitedInputStream(
+                        item.getInputStream(),
+                        item.isFormField() ? maxFieldSize : maxFileSize,
+                        maxRequestSize,
+                        requestTotal)) {
+
+                    if (item.isFormField()) {
+                        fieldHandler.accept(item.getFieldName(),
+                                new String(limited.readAllBytes(), StandardCharsets.UTF_8));
+                        continue;
+                    }
+
+                    // 파일을 선택하지 않은 빈 파일 파트는 건너뛴다.
+                    if (!StringUtils.hasText(item.getName())) {
+                        continue;
+                    }
+
+                    log.debug("스트리밍 파일 파트 수신: field='{}', name='{}'", item.getFieldName(), item.getName());
+                    fileHandler.handle(item.getFieldName(), item.getName(), limited);
+                    fileCount++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("스트리밍 업로드 본문 읽기 실패: 수신 {} bytes", requestTotal.get(), e);
+            throw new FileStorageException("업로드 본문을 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        log.info("스트리밍 업로드 본문 처리 완료: files={}, total={} bytes", fileCount, requestTotal.get());
+    }
+}
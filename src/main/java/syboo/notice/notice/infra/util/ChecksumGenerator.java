@@ -53,20 +53,40 @@ public class ChecksumGenerator {
         }
     }
 
+    /**
+     * 스트리밍 업로드 시점: 바이트가 흘러가는 동안 누적할 SHA-256 다이제스트를 생성합니다.
+     * <p>
+     * {@link java.security.DigestInputStream}과 함께 사용하면 저장과 해싱을 한 번의 읽기로 처리할 수 있습니다.
+     * </p>
+     * @return 초기화된 SHA-256 {@link MessageDigest}
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FileStorageException("SHA-256 알고리즘 실행 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 누적이 끝난 다이제스트를 16진수 체크섬 문자열로 변환합니다.
+     */
+    public static String toHex(MessageDigest digest) {
+        return byteToHex(digest.digest());
+    }
+
     /**
      * 공통 해시 계산 로직 (중복 제거)
      */
     private static String calculateHash(InputStream is) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            MessageDigest digest = newDigest();
             byte[] buffer = new byte[8192];
             int bytesRead;
             while ((bytesRead = is.read(buffer)) != -1) {
                 digest.update(buffer, 0, bytesRead);
             }
             return byteToHex(digest.digest());
-        } catch (NoSuchAlgorithmException e) {
-            throw new FileStorageException("SHA-256 알고리즘 실행 중 오류 발생", e);
         } catch (IOException e) {
             throw new FileStorageException("파일을 읽는 중 시스템 오류가 발생했습니다.", e);
         }
@@ -20,6 +20,11 @@ public class FileValidator {
     private static final List<String> ALLOWED_MIME_TYPES = List.of("image/jpeg", "image/png", "application/pdf");
     private static final Tika TIKA = new Tika();
 
+    /**
+     * 스트리밍 업로드 시 MIME 타입 판별에 사용하는 선두 바이트 크기
+     */
+    public static final int MIME_SNIFF_BYTES = 8192;
+
     /**
      * 파일의 존재 여부와 실제 MIME 타입을 검증한 후, 분석된 타입을 반환합니다.
      *
@@ -36,17 +41,38 @@ public class FileValidator {
 
         try (InputStream is = file.getInputStream()) {
             // Apache Tika를 활용한 실제 파일 헤더(Magic Number) 분석
-            String detectedMimeType = TIKA.detect(is);
-
-            if (!ALLOWED_MIME_TYPES.contains(detectedMimeType)) {
-                log.warn("허용되지 않는 파일 형식 시도: {}", detectedMimeType);
-                throw new FileSecurityException("지원하지 않는 파일 형식이거나 위변조가 의심됨: " + detectedMimeType);
-            }
-
-            return detectedMimeType;
+            return verifyAllowed(TIKA.detect(is));
         } catch (IOException e) {
             // 물리 삭제 실패가 DB 트랜잭션 전체 롤백으로 이어지지 않도록 로그만 남김
             throw new FileException("파일 읽기 중 오류 발생", e);
         }
     }
+
+    /**
+     * 스트리밍 업로드에서 읽어 둔 선두 바이트만으로 실제 MIME 타입을 검증합니다.
+     * <p>
+     * 파일 전체를 임시 저장하지 않고, 첫 {@link #MIME_SNIFF_BYTES} 바이트의 Magic Number로 판별합니다.
+     * </p>
+     *
+     * @param head 파일 선두 바이트
+     * @return 분석된 실제 MIME 타입
+     * @throws FileInvalidException 읽은 바이트가 없을 경우
+     * @throws FileSecurityException 허용되지 않는 파일 형식일 경우
+     */
+    public String validateAndReturnMimeType(byte[] head) {
+        if (head == null || head.length == 0) {
+            throw new FileInvalidException("파일이 비어있음");
+        }
+
+        return verifyAllowed(TIKA.detect(head));
+    }
+
+    private String verifyAllowed(String detectedMimeType) {
+        if (!ALLOWED_MIME_TYPES.contains(detectedMimeType)) {
+            log.warn("허용되지 않는 파일 형식 시도: {}", detectedMimeType);
+            throw new FileSecurityException("지원하지 않는 파일 형식이거나 위변조가 의심됨: " + detectedMimeType);
+        }
+
+        return detectedMimeType;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package syboo.notice.notice.infra.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 요청(If-None-Match / If-Modified-Since) 처리에 사용할 검증자 값을 만든다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HttpValidators {
+
+    /**
+     * 바이트 단위로 동일함을 보장하는 강한 ETag (예: 파일 체크섬)
+     */
+    public static String strongETag(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * 의미상 동일함만 보장하는 약한 ETag.
+     * 조회수처럼 버전 증가 없이 바뀌는 값이 응답에 포함된 경우 사용한다.
+     */
+    public static String weakETag(Object... parts) {
+        StringBuilder value = new StringBuilder();
+        for (Object part : parts) {
+            if (!value.isEmpty()) {
+                value.append('-');
+            }
+            value.append(part);
+        }
+        return "W/\"" + value + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더용 epoch millis. 값이 없으면 -1(헤더 미사용)을 반환한다.
+     * 감사(Auditing) 시각은 시스템 기본 시간대의 Clock으로 기록되므로 같은 시간대로 변환한다.
+     */
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,74 @@
+package syboo.notice.notice.infra.view;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 고정 크기 Bloom 필터.
+ * <p>
+ * 비트 배열 크기와 해시 함수 개수는 예상 삽입 수와 목표 오탐률로부터 계산하며,
+ * 인덱스는 두 개의 64비트 해시를 조합하는 double hashing(Kirsch–Mitzenmacher)으로 만든다.
+ * </p>
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 삽입 수는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+
+        // m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((bits + 63) / 64);
+        this.words = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 원소를 추가하고, 새로 켜진 비트가 하나라도 있으면(이전에 없던 원소이면) {@code true}를 반환한다.
+     */
+    boolean put(long hash1, long hash2) {
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            long previous = words.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+            changed |= (previous & mask) == 0;
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+}
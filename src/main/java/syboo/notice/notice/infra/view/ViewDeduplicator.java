@@ -0,0 +1,142 @@
+package syboo.notice.notice.infra.view;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 같은 사용자의 반복 조회를 일정 시간 동안 조회수에서 제외하기 위한 중복 판별기.
+ * <p>
+ * (공지사항 ID + 클라이언트 지문)을 회전하는 두 개의 Bloom 필터(현재/이전 구간)에 기록한다.
+ * 구간 길이({@code window})가 지나면 이전 필터를 버리고 새 필터를 만들므로,
+ * 메모리 사용량은 예상 조회 수와 오탐률로 정해진 두 필터 크기를 넘지 않으며
+ * 같은 조회는 최소 {@code window}, 최대 {@code 2 * window} 동안 중복으로 판별된다.
+ * 오탐(처음 본 조회를 중복으로 판단)은 설정한 오탐률 이하로 조회수 누락을 일으킬 수 있다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ViewDeduplicator {
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration window;
+    private final long expectedViews;
+    private final double falsePositiveRate;
+
+    private final Counter countedViews;
+    private final Counter suppressedViews;
+
+    private volatile Generation generation;
+
+    public ViewDeduplicator(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${notice.view-dedup.enabled:true}") boolean enabled,
+            @Value("${notice.view-dedup.window:PT30M}") Duration window,
+            @Value("${notice.view-dedup.expected-views:1000000}") long expectedViews,
+            @Value("${notice.view-dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.window = window;
+        this.expectedViews = expectedViews;
+        this.falsePositiveRate = falsePositiveRate;
+
+        BloomFilter initial = new BloomFilter(expectedViews, falsePositiveRate);
+        this.generation = new Generation(initial, null, clock.instant());
+
+        this.countedViews = Counter.builder("notice.view.dedup")
+                .description("조회수 중복 판별 결과")
+                .tag("result", "counted")
+                .register(meterRegistry);
+        this.suppressedViews = Counter.builder("notice.view.dedup")
+                .description("조회수 중복 판별 결과")
+                .tag("result", "suppressed")
+                .register(meterRegistry);
+        Gauge.builder("notice.view.dedup.filter.insertions", this, d -> d.generation.current().insertions())
+                .description("현재 구간 Bloom 필터에 기록된 조회 수")
+                .register(meterRegistry);
+
+        log.info("조회수 중복 판별기 초기화: enabled={}, window={}, expectedViews={}, fpp={}, bits={}, hashes={}",
+                enabled, window, expectedViews, falsePositiveRate, initial.bitSize(), initial.hashCount());
+    }
+
+    /**
+     * 구간 내 첫 조회이면 기록 후 {@code true}, 이미 본 조회이면 {@code false}를 반환한다.
+     *
+     * @param noticeId    조회 대상 공지사항 ID
+     * @param fingerprint 클라이언트 지문 (IP, User-Agent 등)
+     */
+    public boolean isFirstView(Long noticeId, String fingerprint) {
+        if (!enabled) {
+            countedViews.increment();
+            return true;
+        }
+
+        Generation current = rotateIfExpired();
+        long hash1 = hash(noticeId, fingerprint, SEED_1);
+        long hash2 = hash(noticeId, fingerprint, SEED_2) | 1L;
+
+        boolean seenBefore = current.previous() != null && current.previous().mightContain(hash1, hash2);
+        boolean added = current.current().put(hash1, hash2);
+
+        if (added && !seenBefore) {
+            countedViews.increment();
+            return true;
+        }
+
+        suppressedViews.increment();
+        log.debug("중복 조회 제외: noticeId={}", noticeId);
+        return false;
+    }
+
+    private Generation rotateIfExpired() {
+        Generation current = generation;
+        Instant now = clock.instant();
+        if (Duration.between(current.startedAt(), now).compareTo(window) < 0) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = generation;
+            if (Duration.between(current.startedAt(), now).compareTo(window) >= 0) {
+                log.info("조회수 중복 판별 구간 교체: 직전 구간 기록 수={}", current.current().insertions());
+                current = new Generation(new BloomFilter(expectedViews, falsePositiveRate), current.current(), now);
+                generation = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 공지사항 ID와 지문을 섞은 64비트 해시 (FNV-1a 누적 후 SplitMix64 마무리)
+     */
+    private static long hash(Long noticeId, String fingerprint, long seed) {
+        long h = mix(seed ^ noticeId);
+        for (byte b : fingerprint.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Generation(BloomFilter current, BloomFilter previous, Instant startedAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package syboo.notice.notice.infra.viewstats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import syboo.notice.notice.domain.NoticeViewBucket;
+import syboo.notice.notice.repository.NoticeViewStatsJdbcRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상세 조회 이벤트를 (공지사항, 분) 단위로 메모리에 모았다가 주기적으로 한 번의 배치로 분 단위 조회수 테이블에 더한다.
+ * <p>
+ * 조회마다 행을 갱신하는 대신 {@code flush-interval}(기본 10초) 동안 같은 공지사항·같은 분의 조회를 하나의 증분으로 합치므로,
+ * DB 쓰기는 조회 수가 아니라 그 구간에 조회된 (공지사항, 분) 조합 수에 비례한다.
+ * 반영에 실패한 증분은 다음 주기에 다시 시도하며, 종료 시에도 남은 증분을 반영한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ViewEventAggregator {
+
+    private final Clock clock;
+    private final NoticeViewStatsJdbcRepository viewStatsRepository;
+
+    private final ConcurrentHashMap<NoticeViewBucket.Key, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter recordedViews;
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    public ViewEventAggregator(Clock clock, NoticeViewStatsJdbcRepository viewStatsRepository, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.viewStatsRepository = viewStatsRepository;
+
+        this.recordedViews = Counter.builder("notice.view-stats.recorded")
+                .description("조회수 시계열에 기록된 조회 수")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("notice.view-stats.flushed-rows")
+                .description("분 단위 조회수 테이블에 반영한 행 수")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("notice.view-stats.flush-failures")
+                .description("분 단위 조회수 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("notice.view-stats.pending", pending, Map::size)
+                .description("반영 대기 중인 (공지사항, 분) 조합 수")
+                .register(meterRegistry);
+    }
+
+    public void record(Long noticeId) {
+        LocalDateTime minute = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        pending.merge(new NoticeViewBucket.Key(noticeId, minute), 1L, Long::sum);
+        recordedViews.increment();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${notice.view-stats.flush-interval:PT10S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키 단위 remove는 같은 키의 merge와 원자적으로 수행되므로, 꺼내는 도중 들어온 조회도 빠지지 않는다.
+        Map<NoticeViewBucket.Key, Long> batch = new HashMap<>();
+        for (NoticeViewBucket.Key key : pending.keySet()) {
+            Long views = pending.remove(key);
+            if (views != null) {
+                batch.put(key, views);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            viewStatsRepository.addMinuteViews(batch);
+            flushedRows.increment(batch.size());
+            log.debug("분 단위 조회수 반영: rows={}", batch.size());
+        } catch (DataAccessException e) {
+            batch.forEach((key, views) -> pending.merge(key, views, Long::sum));
+            failedFlushes.increment();
+            log.warn("분 단위 조회수 반영 실패, 다음 주기에 재시도합니다: rows={}", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package syboo.notice.notice.infra.viewstats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import syboo.notice.notice.repository.NoticeViewStatsJdbcRepository;
+import syboo.notice.notice.repository.ViewGranularity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 분 단위 조회수를 시간/일 단위로 집계하고 보관 기간이 지난 행을 삭제한다.
+ * <p>
+ * 집계는 최근 {@code lookback} 구간(진행 중인 시간/일 포함)을 원본 테이블에서 다시 합산해 덮어쓰므로,
+ * 늦게 반영된 분 단위 증분도 다음 실행에서 포함되고 여러 노드가 동시에 실행해도 결과가 같다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ViewStatsRollupJob {
+
+    private final Clock clock;
+    private final NoticeViewStatsJdbcRepository viewStatsRepository;
+    private final Duration hourlyLookback;
+    private final Duration dailyLookback;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+    private final Duration dayRetention;
+
+    public ViewStatsRollupJob(
+            Clock clock,
+            NoticeViewStatsJdbcRepository viewStatsRepository,
+            @Value("${notice.view-stats.hourly-lookback:PT2H}") Duration hourlyLookback,
+            @Value("${notice.view-stats.daily-lookback:P2D}") Duration dailyLookback,
+            @Value("${notice.view-stats.minute-retention:P2D}") Duration minuteRetention,
+            @Value("${notice.view-stats.hour-retention:P90D}") Duration hourRetention,
+            @Value("${notice.view-stats.day-retention:P1825D}") Duration dayRetention) {
+        this.clock = clock;
+        this.viewStatsRepository = viewStatsRepository;
+        this.hourlyLookback = hourlyLookback;
+        this.dailyLookback = dailyLookback;
+        this.minuteRetention = minuteRetention;
+        this.hourRetention = hourRetention;
+        this.dayRetention = dayRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${notice.view-stats.rollup-interval:PT1M}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            rollup(ViewGranularity.MINUTE, ViewGranularity.HOUR, now, hourlyLookback);
+            rollup(ViewGranularity.HOUR, ViewGranularity.DAY, now, dailyLookback);
+
+            viewStatsRepository.deleteBefore(ViewGranularity.MINUTE, now.minus(minuteRetention));
+            viewStatsRepository.deleteBefore(ViewGranularity.HOUR, now.minus(hourRetention));
+            viewStatsRepository.deleteBefore(ViewGranularity.DAY, now.minus(dayRetention));
+        } catch (DataAccessException e) {
+            log.warn("조회수 집계 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private void rollup(ViewGranularity source, ViewGranularity target, LocalDateTime now, Duration lookback) {
+        LocalDateTime from = target.truncate(now.minus(lookback));
+        LocalDateTime to = target.truncate(now).plus(1, target.unit());
+        int rows = viewStatsRepository.rollup(source, target, from, to);
+        log.debug("조회수 집계: {} -> {}, range=[{}, {}), rows={}", source, target, from, to, rows);
+    }
+}
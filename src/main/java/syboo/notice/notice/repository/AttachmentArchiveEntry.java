@@ -0,0 +1,14 @@
+package syboo.notice.notice.repository;
+
+/**
+ * 첨부파일 묶음(ZIP) 다운로드에 필요한 첨부파일 정보. 파일 바이너리는 스트리밍 중에 저장소에서 읽는다.
+ */
+public record AttachmentArchiveEntry(
+        Long id,
+        String originFileName,
+        String storedFileName,
+        long fileSize,
+        String contentType,
+        String checksum
+) {
+}
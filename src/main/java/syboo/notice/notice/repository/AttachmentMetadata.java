@@ -0,0 +1,33 @@
+package syboo.notice.notice.repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 다운로드 요청을 처리하는 데 필요한 첨부파일 정보와 소속 공지사항의 게시 기간.
+ * 첨부파일과 공지사항을 한 번의 조인으로 읽으며, 메모리 캐시에 보관할 수 있도록 엔티티를 참조하지 않는다.
+ */
+public record AttachmentMetadata(
+        Long id,
+        Long noticeId,
+        String originFileName,
+        String storedFileName,
+        String checksum,
+        long fileSize,
+        String contentType,
+        LocalDateTime createdDate,
+        LocalDateTime noticeStartAt,
+        LocalDateTime noticeEndAt
+) {
+
+    /**
+     * 시작일시 <= 현재시간 <= 종료일시 ({@link syboo.notice.notice.domain.Notice#isViewable(Clock)}와 동일한 기준)
+     */
+    public boolean isViewable(Clock clock) {
+        return new NoticePeriod(noticeId, noticeStartAt, noticeEndAt).contains(LocalDateTime.now(clock));
+    }
+
+    public AttachmentRevision toRevision() {
+        return new AttachmentRevision(id, checksum, createdDate, noticeStartAt, noticeEndAt);
+    }
+}
@@ -0,0 +1,28 @@
+package syboo.notice.notice.repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 바이너리를 읽지 않고 조건부 다운로드 요청을 판단하기 위한 경량 조회 결과.
+ * <p>
+ * 첨부파일은 저장 후 변경되지 않으므로 SHA-256 체크섬을 그대로 검증자로 사용하며,
+ * 304 응답 전에도 게시 기간을 확인할 수 있도록 공지사항의 기간을 함께 조회한다.
+ * </p>
+ */
+public record AttachmentRevision(
+        Long id,
+        String checksum,
+        LocalDateTime createdDate,
+        LocalDateTime noticeStartAt,
+        LocalDateTime noticeEndAt
+) {
+    /**
+     * 시작일시 <= 현재시간 <= 종료일시 ({@link syboo.notice.notice.domain.Notice#isViewable(Clock)}와 동일한 기준)
+     */
+    public boolean isViewable(Clock clock) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return (noticeStartAt == null || !now.isBefore(noticeStartAt))
+                && (noticeEndAt == null || !now.isAfter(noticeEndAt));
+    }
+}
@@ -0,0 +1,30 @@
+package syboo.notice.notice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import syboo.notice.notice.domain.AttachmentText;
+
+public interface AttachmentTextRepository extends JpaRepository<AttachmentText, Long> {
+
+    /**
+     * 공지사항에서 떨어져 나간(삭제된) 첨부파일의 추출 본문을 지운다.
+     */
+    @Modifying
+    @Query("delete from AttachmentText t where t.noticeId = :noticeId " +
+            "and not exists (select 1 from NoticeAttachment a where a.id = t.attachmentId)")
+    int deleteDetached(@Param("noticeId") Long noticeId);
+
+    /**
+     * 공지사항에서 떨어져 나간(삭제된) 첨부파일의 검색어 색인을 지운다.
+     */
+    @Modifying
+    @Query("delete from AttachmentTextTerm t where t.noticeId = :noticeId " +
+            "and not exists (select 1 from NoticeAttachment a where a.id = t.attachmentId)")
+    int deleteDetachedTerms(@Param("noticeId") Long noticeId);
+
+    @Query("select new syboo.notice.notice.repository.AttachmentTextRevision(count(t), max(t.extractedAt)) " +
+            "from AttachmentText t")
+    AttachmentTextRevision findIndexRevision();
+}
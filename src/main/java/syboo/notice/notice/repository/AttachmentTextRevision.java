@@ -0,0 +1,16 @@
+package syboo.notice.notice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 본문 색인의 변경 여부를 판단하기 위한 집계값.
+ * <p>
+ * 본문 추출 결과는 공지사항 버전을 올리지 않고 백그라운드에서 기록되므로, 첨부파일 본문 검색 결과의 검증에는
+ * 목록 집계값({@link NoticeListRevision})과 함께 이 값을 사용한다. 추출이 기록되면 건수와 마지막 추출 시각이 달라진다.
+ * </p>
+ */
+public record AttachmentTextRevision(
+        Long count,
+        LocalDateTime lastExtractedAt
+) {
+}
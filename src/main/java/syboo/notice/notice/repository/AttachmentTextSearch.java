@@ -0,0 +1,42 @@
+package syboo.notice.notice.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import syboo.notice.notice.domain.TextTokenizer;
+
+import java.util.Set;
+
+import static syboo.notice.notice.domain.QAttachmentTextTerm.attachmentTextTerm;
+
+/**
+ * 첨부파일 본문 검색({@code searchType=ATTACHMENT}) 조건.
+ * <p>
+ * 검색어를 본문 색인과 같은 규칙으로 나눈 뒤, 모든 term을 가진 공지사항 ID를 (term, 공지사항 ID) 인덱스만 읽어 찾는다.
+ * term은 공지사항 단위로 모으므로 한 공지사항의 여러 첨부파일에 나뉘어 있어도 일치한다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class AttachmentTextSearch {
+
+    // 지나치게 긴 검색어가 큰 IN 목록이 되지 않도록 제한
+    private static final int MAX_QUERY_TERMS = 16;
+
+    static BooleanExpression matches(NumberPath<Long> noticeId, String query) {
+        Set<String> terms = TextTokenizer.tokenize(query, MAX_QUERY_TERMS);
+        if (terms.isEmpty()) {
+            // 글자/숫자가 없는 검색어는 아무것도 찾지 않는다.
+            return Expressions.FALSE.isTrue();
+        }
+
+        return noticeId.in(JPAExpressions
+                .select(attachmentTextTerm.noticeId)
+                .from(attachmentTextTerm)
+                .where(attachmentTextTerm.term.in(terms))
+                .groupBy(attachmentTextTerm.noticeId)
+                .having(attachmentTextTerm.term.countDistinct().eq((long) terms.size())));
+    }
+}
@@ -0,0 +1,37 @@
+package syboo.notice.notice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 첨부파일 본문 검색어 색인({@code attachment_text_terms}) 쓰기.
+ * <p>
+ * 문서 하나에 수천~수만 개의 검색어가 생기므로 엔티티를 만들지 않고 JDBC 배치로 넣는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentTextTermJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "insert into attachment_text_terms (term, notice_id, attachment_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 첨부파일의 검색어 색인을 새로 쓴다. 이전에 기록된 색인은 지운다.
+     */
+    public void replaceTerms(Long attachmentId, Long noticeId, Collection<String> terms) {
+        jdbcTemplate.update("delete from attachment_text_terms where notice_id = ? and attachment_id = ?",
+                noticeId, attachmentId);
+
+        List<Object[]> args = new ArrayList<>(terms.size());
+        terms.forEach(term -> args.add(new Object[]{term, noticeId, attachmentId}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
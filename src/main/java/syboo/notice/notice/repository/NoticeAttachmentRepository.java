@@ -1,7 +1,55 @@
 package syboo.notice.notice.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import syboo.notice.notice.domain.NoticeAttachment;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface NoticeAttachmentRepository extends JpaRepository<NoticeAttachment, Long> {
-}
\ No newline at end of file
+
+    @Query("select new syboo.notice.notice.repository.AttachmentMetadata(" +
+            "a.id, n.id, a.originFileName, a.storedFileName, a.checksum, a.fileSize, a.contentType, " +
+            "a.createdDate, n.noticeStartAt, n.noticeEndAt) " +
+            "from NoticeAttachment a join a.notice n where a.id = :id")
+    Optional<AttachmentMetadata> findMetadataById(@Param("id") Long id);
+
+    @Query("select new syboo.notice.notice.repository.AttachmentMetadata(" +
+            "a.id, n.id, a.originFileName, a.storedFileName, a.checksum, a.fileSize, a.contentType, " +
+            "a.createdDate, n.noticeStartAt, n.noticeEndAt) " +
+            "from NoticeAttachment a join a.notice n where n.id = :noticeId")
+    List<AttachmentMetadata> findMetadataByNoticeId(@Param("noticeId") Long noticeId);
+
+    @Query("select new syboo.notice.notice.repository.AttachmentArchiveEntry(" +
+            "a.id, a.originFileName, a.storedFileName, a.fileSize, a.contentType, a.checksum) " +
+            "from NoticeAttachment a where a.notice.id = :noticeId order by a.id")
+    List<AttachmentArchiveEntry> findArchiveEntriesByNoticeId(@Param("noticeId") Long noticeId);
+
+    @Query("select new syboo.notice.notice.repository.ThumbnailSource(" +
+            "a.id, a.storedFileName, a.contentType, a.checksum) " +
+            "from NoticeAttachment a where a.id = :id")
+    Optional<ThumbnailSource> findThumbnailSourceById(@Param("id") Long id);
+
+    @Query("select new syboo.notice.notice.repository.ThumbnailSource(" +
+            "a.id, a.storedFileName, a.contentType, a.checksum) " +
+            "from NoticeAttachment a where a.notice.id = :noticeId and a.contentType in :contentTypes order by a.id")
+    List<ThumbnailSource> findThumbnailSourcesByNoticeId(@Param("noticeId") Long noticeId,
+                                                         @Param("contentTypes") Collection<String> contentTypes);
+
+    @Query("select new syboo.notice.notice.repository.TextExtractionTarget(" +
+            "a.id, a.notice.id, a.storedFileName, a.fileSize, a.checksum) " +
+            "from NoticeAttachment a where a.contentType = :contentType " +
+            "and not exists (select 1 from AttachmentText t where t.attachmentId = a.id) order by a.id")
+    List<TextExtractionTarget> findTextExtractionTargets(@Param("contentType") String contentType, Limit limit);
+
+    @Query("select new syboo.notice.notice.repository.TextExtractionTarget(" +
+            "a.id, a.notice.id, a.storedFileName, a.fileSize, a.checksum) " +
+            "from NoticeAttachment a where a.notice.id = :noticeId and a.contentType = :contentType " +
+            "and not exists (select 1 from AttachmentText t where t.attachmentId = a.id) order by a.id")
+    List<TextExtractionTarget> findTextExtractionTargetsByNoticeId(@Param("noticeId") Long noticeId,
+                                                                   @Param("contentType") String contentType);
+}
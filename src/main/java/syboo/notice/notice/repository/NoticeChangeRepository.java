@@ -0,0 +1,26 @@
+package syboo.notice.notice.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import syboo.notice.notice.domain.NoticeChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NoticeChangeRepository extends JpaRepository<NoticeChange, Long> {
+
+    List<NoticeChange> findBySeqGreaterThanOrderBySeqAsc(long since, Limit limit);
+
+    /**
+     * 보관 중인 가장 오래된 변경 번호. 변경이 없으면 0
+     */
+    @Query("select coalesce(min(c.seq), 0L) from NoticeChange c")
+    long findOldestSeq();
+
+    @Modifying
+    @Query("delete from NoticeChange c where c.changedAt < :before")
+    int deleteByChangedAtBefore(@Param("before") LocalDateTime before);
+}
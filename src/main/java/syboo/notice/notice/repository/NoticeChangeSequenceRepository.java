@@ -0,0 +1,17 @@
+package syboo.notice.notice.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import syboo.notice.notice.domain.NoticeChangeSequence;
+
+import java.util.Optional;
+
+public interface NoticeChangeSequenceRepository extends JpaRepository<NoticeChangeSequence, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from NoticeChangeSequence s where s.id = :id")
+    Optional<NoticeChangeSequence> findForUpdate(@Param("id") Long id);
+}
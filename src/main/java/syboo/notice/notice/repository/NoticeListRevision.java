@@ -0,0 +1,14 @@
+package syboo.notice.notice.repository;
+
+/**
+ * 공지사항 목록 전체의 변경 여부를 판단하기 위한 집계값.
+ * <p>
+ * 등록(건수·최대 ID 증가), 삭제(건수 감소), 수정(버전 합 증가) 중 하나라도 일어나면 값이 달라진다.
+ * </p>
+ */
+public record NoticeListRevision(
+        Long count,
+        Long versionSum,
+        Long maxId
+) {
+}
@@ -0,0 +1,21 @@
+package syboo.notice.notice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항의 게시 기간만 담은 경량 조회 결과. 활성 공지사항 인덱스를 구성할 때 사용한다.
+ */
+public record NoticePeriod(
+        Long id,
+        LocalDateTime noticeStartAt,
+        LocalDateTime noticeEndAt
+) {
+
+    /**
+     * 시작일시 <= 기준시각 <= 종료일시 이면 게시 중이다. ({@link syboo.notice.notice.domain.Notice#isViewable}과 동일한 규칙)
+     */
+    public boolean contains(LocalDateTime now) {
+        return (noticeStartAt == null || !now.isBefore(noticeStartAt))
+                && (noticeEndAt == null || !now.isAfter(noticeEndAt));
+    }
+}
@@ -5,6 +5,15 @@ import org.springframework.data.domain.Pageable;
 import syboo.notice.notice.api.request.NoticeSearchCondition;
 import syboo.notice.notice.api.response.NoticeListResponse;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface NoticeQueryRepository {
+    Page<NoticeListResponse> findNoticeList(Pageable pageable);
+
     Page<NoticeListResponse> search(NoticeSearchCondition condition, Pageable pageable);
+
+    Page<NoticeListResponse> findNoticeListByIds(Collection<Long> ids, Pageable pageable);
+
+    Page<NoticeListResponse> findActiveNoticeList(LocalDateTime now, Pageable pageable);
 }
\ No newline at end of file
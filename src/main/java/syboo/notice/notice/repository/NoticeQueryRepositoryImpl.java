@@ -19,6 +19,8 @@ import syboo.notice.notice.api.response.NoticeListResponse;
 import syboo.notice.notice.domain.Notice;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static syboo.notice.notice.domain.QNotice.notice;
@@ -29,12 +31,49 @@ public class NoticeQueryRepositoryImpl implements NoticeQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 검색 조건 없이 공지사항 목록을 조회한다.
+     * <p>
+     * 엔티티 대신 목록에 필요한 컬럼만 DTO로 직접 조회하므로, 본문(content TEXT) 컬럼을 읽지 않고
+     * 영속성 컨텍스트 스냅샷도 만들지 않는다.
+     * </p>
+     */
+    @Override
+    public Page<NoticeListResponse> findNoticeList(Pageable pageable) {
+        return fetchPage(pageable);
+    }
+
+    /**
+     * 지정한 ID의 공지사항 목록을 조회한다. 활성 공지사항 인덱스가 계산한 ID 집합을 PK 조건으로 조회할 때 사용한다.
+     */
+    @Override
+    public Page<NoticeListResponse> findNoticeListByIds(Collection<Long> ids, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return fetchPage(pageable, notice.id.in(ids));
+    }
+
+    /**
+     * 기준 시각에 게시 중인 공지사항 목록을 조회한다. (게시 기간 복합 인덱스를 사용하는 cold path)
+     */
+    @Override
+    public Page<NoticeListResponse> findActiveNoticeList(LocalDateTime now, Pageable pageable) {
+        return fetchPage(pageable, notice.noticeStartAt.loe(now), notice.noticeEndAt.goe(now));
+    }
+
     // 제목, 내용, 등록일자
     @Override
     public Page<NoticeListResponse> search(NoticeSearchCondition condition, Pageable pageable) {
         log.debug("Notice search started with condition: {}", condition);
         NoticeSearchCondition cond = (condition != null) ? condition : new NoticeSearchCondition(null, null, null, null);
 
+        return fetchPage(pageable,
+                combineSearch(cond.query(), cond.searchType()),
+                dateBetween(cond.startDate(), cond.endDate()));
+    }
+
+    private Page<NoticeListResponse> fetchPage(Pageable pageable, BooleanExpression... conditions) {
         // 1. 컨텐츠 조회 (DTO 직접 조회로 메모리 절약)
         JPAQuery<NoticeListResponse> query = queryFactory
                 .select(Projections.constructor(NoticeListResponse.class,
@@ -46,12 +85,35 @@ public class NoticeQueryRepositoryImpl implements NoticeQueryRepository {
                         notice.hasAttachment
                 ))
                 .from(notice)
-                .where(
-                        combineSearch(cond.query(), cond.searchType()),
-                        dateBetween(cond.startDate(), cond.endDate())
-                );
+                .where(conditions)
+                .orderBy(toOrderSpecifiers(pageable.getSort()));
+
+        List<NoticeListResponse> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        for (Sort.Order o : pageable.getSort()) {
+        // 2. 카운트 쿼리 (첫 페이지이면서 페이지 사이즈보다 적은 데이터일 경우 쿼리 생략됨)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(notice.count())
+                .from(notice)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 허용된 정렬 필드만 OrderSpecifier로 변환한다.
+     * <p>
+     * 정렬 조건이 없으면 최신순(createdDate DESC, id DESC)을 적용하고, 정렬 조건이 있으면 첫 정렬과 같은 방향의 id를
+     * 동점 처리 기준으로 덧붙인다. 정렬 키마다 (정렬 컬럼, id) 복합 인덱스가 있으므로 전체 정렬 없이 인덱스 순서대로 읽는다.
+     * </p>
+     */
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        boolean orderedById = false;
+
+        for (Sort.Order o : sort) {
             Order direction = o.isAscending() ? Order.ASC : Order.DESC;
 
             OrderSpecifier<?> orderSpecifier = switch (o.getProperty()) {
@@ -66,33 +128,26 @@ public class NoticeQueryRepositoryImpl implements NoticeQueryRepository {
             };
 
             if (orderSpecifier != null) {
-                query.orderBy(orderSpecifier);
+                orders.add(orderSpecifier);
+                orderedById |= "id".equals(o.getProperty());
             }
         }
 
         // 정렬 조건이 없거나 잘못된 경우 기본 정렬 추가 (최신순)
-        query.orderBy(notice.createdDate.desc(), notice.id.desc());
-
-        List<NoticeListResponse> content = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 2. 카운트 쿼리 (첫 페이지이면서 페이지 사이즈보다 적은 데이터일 경우 쿼리 생략됨)
-        JPAQuery<Long> countQuery = queryFactory
-                .select(notice.count())
-                .from(notice)
-                .where(
-                        combineSearch(cond.query(), cond.searchType()),
-                        dateBetween(cond.startDate(), cond.endDate())
-                );
+        if (orders.isEmpty()) {
+            orders.add(notice.createdDate.desc());
+        }
+        if (!orderedById) {
+            orders.add(new OrderSpecifier<>(orders.getFirst().getOrder(), notice.id));
+        }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return orders.toArray(OrderSpecifier[]::new);
     }
 
     /**
      * 제목과 내용 검색 로직 통합
      * - 제목과 내용 파라미터가 모두 전달되면 (제목 OR 내용) 조건으로 검색 (요구사항: 제목+내용)
+     * - 첨부파일 검색이면 PDF 첨부파일에서 추출한 본문 색인으로 검색
      * - 제목만 전달되면 제목에서만 검색
      */
     private BooleanExpression combineSearch(String query, String searchType) {
@@ -102,7 +157,12 @@ public class NoticeQueryRepositoryImpl implements NoticeQueryRepository {
 
         // "제목 + 내용" 검색
         if ("TITLE_CONTENT".equals(searchType)) {
-            return notice.title.contains(query).or(notice.content.contains(query));
+            return notice.title.contains(query).or(notice.noticeContent.body.contains(query));
+        }
+
+        // "첨부파일 본문" 검색
+        if ("ATTACHMENT".equals(searchType)) {
+            return AttachmentTextSearch.matches(notice.id, query);
         }
 
         // 기본값: "제목" 검색
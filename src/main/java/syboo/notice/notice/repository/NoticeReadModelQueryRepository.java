@@ -0,0 +1,23 @@
+package syboo.notice.notice.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import syboo.notice.notice.api.request.NoticeSearchCondition;
+import syboo.notice.notice.api.response.NoticeListResponse;
+
+public interface NoticeReadModelQueryRepository {
+
+    Page<NoticeListResponse> findNoticeList(Pageable pageable);
+
+    /**
+     * 제목/등록일 조건 검색. 본문 검색(TITLE_CONTENT)은 읽기 모델에 본문이 없으므로 지원하지 않는다.
+     */
+    Page<NoticeListResponse> search(NoticeSearchCondition condition, Pageable pageable);
+
+    /**
+     * 원본과 다른 조회수 스냅샷을 원본 값으로 맞춘다.
+     *
+     * @return 갱신된 행 수
+     */
+    int syncViewCounts();
+}
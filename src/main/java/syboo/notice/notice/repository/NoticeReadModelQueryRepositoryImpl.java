@@ -0,0 +1,145 @@
+package syboo.notice.notice.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+import syboo.notice.notice.api.request.NoticeSearchCondition;
+import syboo.notice.notice.api.response.NoticeListResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static syboo.notice.notice.domain.QNoticeReadModel.noticeReadModel;
+
+/**
+ * 읽기 모델 목록/검색 쿼리. 원본 쿼리({@link NoticeQueryRepositoryImpl})와 같은 정렬 규칙을 따르되,
+ * 본문·첨부파일 테이블과 조인하지 않고 읽기 모델 한 테이블에서 페이지와 카운트를 만든다.
+ */
+@RequiredArgsConstructor
+public class NoticeReadModelQueryRepositoryImpl implements NoticeReadModelQueryRepository {
+
+    // 조회수만 갱신하는 JDBC 쿼리 (네이티브 벌크 UPDATE는 Hibernate 2차 캐시 전체를 비우므로 JPA를 거치지 않는다)
+    private static final String SYNC_VIEW_COUNTS_SQL = """
+            update notice_read_model r
+            set view_count = (select n.view_count from notices n where n.id = r.notice_id)
+            where exists (select 1 from notices n where n.id = r.notice_id and n.view_count <> r.view_count)
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<NoticeListResponse> findNoticeList(Pageable pageable) {
+        return fetchPage(pageable);
+    }
+
+    @Override
+    public Page<NoticeListResponse> search(NoticeSearchCondition condition, Pageable pageable) {
+        if (condition == null) {
+            return fetchPage(pageable);
+        }
+        return fetchPage(pageable,
+                queryCondition(condition.query(), condition.searchType()),
+                dateBetween(condition.startDate(), condition.endDate()));
+    }
+
+    @Override
+    public int syncViewCounts() {
+        return jdbcTemplate.update(SYNC_VIEW_COUNTS_SQL);
+    }
+
+    private BooleanExpression queryCondition(String query, String searchType) {
+        if (!StringUtils.hasText(query)) {
+            return null;
+        }
+        if ("ATTACHMENT".equals(searchType)) {
+            return AttachmentTextSearch.matches(noticeReadModel.noticeId, query);
+        }
+        return noticeReadModel.title.contains(query);
+    }
+
+    private Page<NoticeListResponse> fetchPage(Pageable pageable, BooleanExpression... conditions) {
+        JPAQuery<NoticeListResponse> query = queryFactory
+                .select(Projections.constructor(NoticeListResponse.class,
+                        noticeReadModel.noticeId,
+                        noticeReadModel.title,
+                        noticeReadModel.author,
+                        noticeReadModel.createdDate,
+                        noticeReadModel.viewCount,
+                        noticeReadModel.attachmentCount.gt(0)
+                ))
+                .from(noticeReadModel)
+                .where(conditions)
+                .orderBy(toOrderSpecifiers(pageable.getSort()));
+
+        List<NoticeListResponse> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(noticeReadModel.count())
+                .from(noticeReadModel)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 허용된 정렬 필드만 변환하고, 첫 정렬과 같은 방향의 ID를 동점 처리 기준으로 덧붙인다. (정렬 키별 (컬럼, ID) 인덱스 사용)
+     */
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        boolean orderedById = false;
+
+        for (Sort.Order o : sort) {
+            Order direction = o.isAscending() ? Order.ASC : Order.DESC;
+
+            OrderSpecifier<?> orderSpecifier = switch (o.getProperty()) {
+                case "id" -> new OrderSpecifier<>(direction, noticeReadModel.noticeId);
+                case "title" -> new OrderSpecifier<>(direction, noticeReadModel.title);
+                case "viewCount" -> new OrderSpecifier<>(direction, noticeReadModel.viewCount);
+                case "createdDate" -> new OrderSpecifier<>(direction, noticeReadModel.createdDate);
+                default -> null;
+            };
+
+            if (orderSpecifier != null) {
+                orders.add(orderSpecifier);
+                orderedById |= "id".equals(o.getProperty());
+            }
+        }
+
+        if (orders.isEmpty()) {
+            orders.add(noticeReadModel.createdDate.desc());
+        }
+        if (!orderedById) {
+            orders.add(new OrderSpecifier<>(orders.getFirst().getOrder(), noticeReadModel.noticeId));
+        }
+
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    private BooleanExpression dateBetween(LocalDateTime start, LocalDateTime end) {
+        if (start != null && end != null) {
+            return noticeReadModel.createdDate.between(start, end);
+        }
+        if (start != null) {
+            return noticeReadModel.createdDate.goe(start);
+        }
+        if (end != null) {
+            return noticeReadModel.createdDate.loe(end);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package syboo.notice.notice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import syboo.notice.notice.domain.NoticeReadModel;
+
+public interface NoticeReadModelRepository extends JpaRepository<NoticeReadModel, Long>, NoticeReadModelQueryRepository {
+
+    /**
+     * 원본이 없는 행을 지운다. (재구성 중 삭제된 공지사항 정리용)
+     */
+    @Modifying
+    @Query("delete from NoticeReadModel r where not exists (select n.id from Notice n where n.id = r.noticeId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,36 @@
+package syboo.notice.notice.repository;
+
+import syboo.notice.notice.domain.NoticeReadModel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 모델 한 행을 만들기 위한 원본 집계 (공지사항 + 첨부파일 수/크기 합계). 본문은 읽지 않는다.
+ */
+public record NoticeReadModelSource(
+        Long id,
+        String title,
+        String author,
+        LocalDateTime createdDate,
+        LocalDateTime noticeStartAt,
+        LocalDateTime noticeEndAt,
+        long viewCount,
+        long attachmentCount,
+        long attachmentBytes
+) {
+
+    public NoticeReadModel toReadModel(LocalDateTime now) {
+        return NoticeReadModel.builder()
+                .noticeId(id)
+                .title(title)
+                .author(author)
+                .createdDate(createdDate)
+                .noticeStartAt(noticeStartAt)
+                .noticeEndAt(noticeEndAt)
+                .attachmentCount(Math.toIntExact(attachmentCount))
+                .attachmentBytes(attachmentBytes)
+                .viewCount(viewCount)
+                .syncedAt(now)
+                .build();
+    }
+}
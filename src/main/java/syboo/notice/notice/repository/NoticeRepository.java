@@ -1,14 +1,62 @@
 package syboo.notice.notice.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import syboo.notice.notice.domain.Notice;
 
-public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeQueryRepository {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
-    @Modifying(clearAutomatically = true)
-    @Query("update Notice n set n.viewCount = n.viewCount + 1 where n.id = :id")
-    void updateViewCount(@Param("id") Long id);
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeQueryRepository, NoticeViewCountRepository {
+
+    /**
+     * 본문 행을 로딩하지 않고 식별자로 바로 삭제한다. 참조하는 공지사항 행이 먼저 삭제(flush)되어 있어야 한다.
+     */
+    @Modifying
+    @Query("delete from NoticeContent c where c.id = :id")
+    void deleteContentById(@Param("id") Long id);
+
+    @Query("select new syboo.notice.notice.repository.NoticeRevision(n.id, n.version, n.updateDate, n.viewCount) " +
+            "from Notice n where n.id = :id")
+    Optional<NoticeRevision> findRevisionById(@Param("id") Long id);
+
+    // 공지사항 추가/수정/삭제 시 Hibernate가 notices 테이블의 쿼리 캐시 타임스탬프를 갱신하므로 캐시해도 안전하다.
+    // (조회수는 집계값에 포함되지 않으므로 조회수 갱신이 캐시를 무효화할 필요가 없다)
+    // 지연된 replica의 값이 캐시되면 다음 변경 전까지 남으므로 primary에서만 조회한다. (NoticeQueryService#getNoticeListRevision)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new syboo.notice.notice.repository.NoticeListRevision(" +
+            "count(n), coalesce(sum(n.version), 0L), coalesce(max(n.id), 0L)) from Notice n")
+    NoticeListRevision findListRevision();
+
+    @Query("select new syboo.notice.notice.repository.NoticePeriod(n.id, n.noticeStartAt, n.noticeEndAt) from Notice n")
+    List<NoticePeriod> findAllPeriods();
+
+    @Query("select new syboo.notice.notice.repository.NoticePeriod(n.id, n.noticeStartAt, n.noticeEndAt) " +
+            "from Notice n where n.id in :ids")
+    List<NoticePeriod> findPeriodsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 읽기 모델 재구성용. {@code after}보다 큰 ID를 ID 순으로 읽는다 (키셋 페이징).
+     */
+    @Query("select new syboo.notice.notice.repository.NoticeReadModelSource(" +
+            "n.id, n.title, n.author, n.createdDate, n.noticeStartAt, n.noticeEndAt, n.viewCount, " +
+            "count(a.id), coalesce(sum(a.fileSize), 0L)) " +
+            "from Notice n left join n.attachments a where n.id > :after " +
+            "group by n.id, n.title, n.author, n.createdDate, n.noticeStartAt, n.noticeEndAt, n.viewCount " +
+            "order by n.id")
+    List<NoticeReadModelSource> findReadModelSourcesAfter(@Param("after") long after, Limit limit);
+
+    @Query("select new syboo.notice.notice.repository.NoticeReadModelSource(" +
+            "n.id, n.title, n.author, n.createdDate, n.noticeStartAt, n.noticeEndAt, n.viewCount, " +
+            "count(a.id), coalesce(sum(a.fileSize), 0L)) " +
+            "from Notice n left join n.attachments a where n.id in :ids " +
+            "group by n.id, n.title, n.author, n.createdDate, n.noticeStartAt, n.noticeEndAt, n.viewCount")
+    List<NoticeReadModelSource> findReadModelSourcesByIdIn(@Param("ids") Collection<Long> ids);
 }
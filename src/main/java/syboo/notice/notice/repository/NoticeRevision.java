@@ -0,0 +1,18 @@
+package syboo.notice.notice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 본문을 읽지 않고 변경 여부만 판단하기 위한 경량 조회 결과.
+ * <p>
+ * 본문/첨부파일이 바뀌면 {@code version}이 증가하므로 조건부 요청(ETag)과 응답 캐시의 검증자로 사용한다.
+ * 조회수는 버전과 무관하게 바뀌므로 캐시된 응답에 최신 값을 채워 넣을 수 있도록 함께 조회한다.
+ * </p>
+ */
+public record NoticeRevision(
+        Long id,
+        Long version,
+        LocalDateTime updateDate,
+        long viewCount
+) {
+}
@@ -0,0 +1,14 @@
+package syboo.notice.notice.repository;
+
+public interface NoticeViewCountRepository {
+
+    /**
+     * 조회수를 1 증가시킨다.
+     * <p>
+     * 2차 캐시 전체를 비우는 JPQL 벌크 연산 대신 JDBC로 직접 갱신하고, 해당 공지사항의 캐시 항목만 제거한다.
+     * </p>
+     *
+     * @param id 공지사항 ID
+     */
+    void updateViewCount(Long id);
+}
@@ -0,0 +1,62 @@
+package syboo.notice.notice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import syboo.notice.notice.domain.Notice;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 조회수 증가 쿼리 구현체.
+ * <p>
+ * Hibernate는 JPQL/네이티브 벌크 UPDATE를 실행하면 대상 엔티티의 2차 캐시 리전 전체(네이티브 쿼리는 모든 리전)를 비운다.
+ * 조회수는 상세 조회마다 갱신되므로 이 경로를 쓰면 공지사항 캐시가 사실상 동작하지 않는다.
+ * 따라서 세션의 JDBC 커넥션으로 직접 갱신해 벌크 정리 로직을 우회하고, 갱신된 공지사항 한 건만 캐시에서 제거한다.
+ * </p>
+ * <ul>
+ *     <li>갱신 직후 제거: 같은 트랜잭션과 이후 조회가 오래된 조회수를 캐시에서 읽지 않도록 한다.</li>
+ *     <li>커밋 후 재제거: 커밋 전에 다른 트랜잭션이 옛 값을 다시 캐시에 올린 경우를 정리한다.</li>
+ * </ul>
+ */
+@Slf4j
+public class NoticeViewCountRepositoryImpl implements NoticeViewCountRepository {
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "update notices set view_count = view_count + 1 where id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void updateViewCount(Long id) {
+        // 기존 @Modifying(clearAutomatically = true)와 동일하게, 영속성 컨텍스트의 엔티티가 옛 조회수를 들고 있지 않도록 비운다.
+        entityManager.flush();
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_VIEW_COUNT_SQL)) {
+                statement.setLong(1, id);
+                statement.executeUpdate();
+            }
+        });
+
+        entityManager.clear();
+        evict(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    private void evict(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Notice.class, id);
+        log.trace("공지사항 2차 캐시 항목 제거: id={}", id);
+    }
+}
@@ -0,0 +1,15 @@
+package syboo.notice.notice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 구간의 조회수.
+ *
+ * @param bucketStart 구간 시작 시각
+ * @param views       구간 내 조회수
+ */
+public record NoticeViewPoint(
+        LocalDateTime bucketStart,
+        long views
+) {
+}
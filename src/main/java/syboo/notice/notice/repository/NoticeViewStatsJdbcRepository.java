@@ -0,0 +1,121 @@
+package syboo.notice.notice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import syboo.notice.notice.domain.NoticeViewBucket;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 시계열 테이블(분/시간/일) 접근.
+ * <p>
+ * 여러 노드가 같은 행에 동시에 더하거나 집계 결과를 덮어쓰므로, 엔티티를 읽고 고치는 대신 한 문장의 upsert로 반영한다.
+ * PostgreSQL의 {@code MERGE}는 없는 키에 대해 동시에 실행되면 둘 다 insert 분기로 들어가 한쪽이 unique 위반으로 실패하므로,
+ * PostgreSQL에서는 기본 키 충돌을 원자적으로 처리하는 {@code INSERT ... ON CONFLICT ... DO UPDATE}를 쓴다.
+ * 그 외 DB(테스트용 H2)는 {@code ON CONFLICT ... DO UPDATE}를 지원하지 않아 표준 SQL {@code MERGE}를 쓴다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoticeViewStatsJdbcRepository {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String ADD_MINUTE_VIEWS_UPSERT_SQL = """
+            insert into notice_view_minutes (notice_id, bucket_start, views)
+            values (?, ?, ?)
+            on conflict (notice_id, bucket_start) do update set views = notice_view_minutes.views + excluded.views
+            """;
+
+    private static final String ROLLUP_UPSERT_SQL = """
+            insert into %1$s (notice_id, bucket_start, views)
+            select notice_id, date_trunc('%2$s', bucket_start), sum(views)
+            from %3$s
+            where bucket_start >= ? and bucket_start < ?
+            group by notice_id, date_trunc('%2$s', bucket_start)
+            on conflict (notice_id, bucket_start) do update set views = excluded.views
+            """;
+
+    private static final String ADD_MINUTE_VIEWS_MERGE_SQL = """
+            merge into notice_view_minutes t
+            using (select cast(? as bigint) as notice_id, cast(? as timestamp) as bucket_start, cast(? as bigint) as views) s
+            on t.notice_id = s.notice_id and t.bucket_start = s.bucket_start
+            when matched then update set views = t.views + s.views
+            when not matched then insert (notice_id, bucket_start, views) values (s.notice_id, s.bucket_start, s.views)
+            """;
+
+    private static final String ROLLUP_MERGE_SQL = """
+            merge into %1$s t
+            using (select notice_id, date_trunc('%2$s', bucket_start) as bucket_start, sum(views) as views
+                   from %3$s
+                   where bucket_start >= ? and bucket_start < ?
+                   group by notice_id, date_trunc('%2$s', bucket_start)) s
+            on t.notice_id = s.notice_id and t.bucket_start = s.bucket_start
+            when matched then update set views = s.views
+            when not matched then insert (notice_id, bucket_start, views) values (s.notice_id, s.bucket_start, s.views)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    /**
+     * 분 단위 조회수 증분을 한 번의 배치로 더한다.
+     */
+    public void addMinuteViews(Map<NoticeViewBucket.Key, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((key, views) -> args.add(new Object[]{key.noticeId(), key.bucketStart(), views}));
+        jdbcTemplate.batchUpdate(isPostgres() ? ADD_MINUTE_VIEWS_UPSERT_SQL : ADD_MINUTE_VIEWS_MERGE_SQL, args);
+    }
+
+    /**
+     * {@code source} 단위 조회수를 {@code target} 단위로 합산해 덮어쓴다. 같은 구간을 여러 번 집계해도 결과가 같다.
+     *
+     * @param from 집계할 원본 구간의 시작 (포함, {@code target} 단위로 정렬된 시각)
+     * @param to   집계할 원본 구간의 끝 (제외)
+     * @return 반영된 행 수
+     */
+    public int rollup(ViewGranularity source, ViewGranularity target, LocalDateTime from, LocalDateTime to) {
+        String sql = isPostgres() ? ROLLUP_UPSERT_SQL : ROLLUP_MERGE_SQL;
+        return jdbcTemplate.update(sql.formatted(target.table(), target.truncField(), source.table()), from, to);
+    }
+
+    /**
+     * 보관 기간이 지난 행을 삭제한다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteBefore(ViewGranularity granularity, LocalDateTime before) {
+        return jdbcTemplate.update("delete from " + granularity.table() + " where bucket_start < ?", before);
+    }
+
+    /**
+     * 공지사항의 구간별 조회수를 시간순으로 조회한다. 조회가 없던 구간은 포함되지 않는다.
+     */
+    public List<NoticeViewPoint> findHistory(Long noticeId, ViewGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "select bucket_start, views from " + granularity.table()
+                        + " where notice_id = ? and bucket_start >= ? and bucket_start < ? order by bucket_start",
+                (rs, rowNum) -> new NoticeViewPoint(rs.getObject("bucket_start", LocalDateTime.class), rs.getLong("views")),
+                noticeId, from, to);
+    }
+
+    /**
+     * 접속한 DB가 PostgreSQL인지 처음 한 번만 확인한다. 기동 중에 DB에 접속하지 않도록 첫 사용 시점에 확인한다.
+     */
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+}
@@ -0,0 +1,13 @@
+package syboo.notice.notice.repository;
+
+/**
+ * 본문을 아직 추출하지 않은 첨부파일.
+ */
+public record TextExtractionTarget(
+        Long attachmentId,
+        Long noticeId,
+        String storedFileName,
+        long fileSize,
+        String checksum
+) {
+}
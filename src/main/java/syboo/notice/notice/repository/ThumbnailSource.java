@@ -0,0 +1,12 @@
+package syboo.notice.notice.repository;
+
+/**
+ * 썸네일 생성에 필요한 원본 첨부파일 정보.
+ */
+public record ThumbnailSource(
+        Long attachmentId,
+        String storedFileName,
+        String contentType,
+        String checksum
+) {
+}
@@ -0,0 +1,12 @@
+package syboo.notice.notice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import syboo.notice.notice.domain.UploadSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    List<UploadSession> findAllByExpiresAtBefore(LocalDateTime now);
+}
@@ -0,0 +1,42 @@
+package syboo.notice.notice.repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조회수 시계열의 집계 단위와 해당 테이블.
+ */
+public enum ViewGranularity {
+    MINUTE("notice_view_minutes", ChronoUnit.MINUTES, "minute"),
+    HOUR("notice_view_hours", ChronoUnit.HOURS, "hour"),
+    DAY("notice_view_days", ChronoUnit.DAYS, "day");
+
+    private final String table;
+    private final ChronoUnit unit;
+    private final String truncField;
+
+    ViewGranularity(String table, ChronoUnit unit, String truncField) {
+        this.table = table;
+        this.unit = unit;
+        this.truncField = truncField;
+    }
+
+    String table() {
+        return table;
+    }
+
+    /**
+     * SQL {@code date_trunc}에 전달할 필드명
+     */
+    String truncField() {
+        return truncField;
+    }
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+}
@@ -0,0 +1,82 @@
+package syboo.notice.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import syboo.notice.config.TestClockConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB(primary: notice_test, replica: notice_replica_test)로 라우팅을 검증한다.
+ * 복제는 구성하지 않으므로 스키마 대신 접속한 DB 이름으로 어느 풀이 선택되었는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "notice.datasource.replica.jdbc-url=jdbc:h2:mem:notice_replica_test;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "notice.datasource.replica.username=syboo",
+        "notice.datasource.replica.lag-query="
+})
+@Import(TestClockConfig.class)
+@ActiveProfiles("test")
+class ReplicationRoutingDataSourceTest {
+
+    private static final String CURRENT_DATABASE = "select database()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 읽기 전용 트랜잭션은 replica로 라우팅된다")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("notice_replica_test");
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 쓰기 트랜잭션은 primary로 라우팅된다")
+    void readWriteTransaction_RoutesToPrimary() {
+        assertThat(currentDatabase(false)).isEqualToIgnoringCase("notice_test");
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 직전에 변경 요청을 보낸 클라이언트의 읽기 전용 트랜잭션은 primary로 고정된다")
+    void readOnlyTransaction_PinnedAfterWrite_RoutesToPrimary() {
+        // given
+        ReadYourWritesContext.pinPrimary();
+
+        // when & then
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("notice_test");
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 공유 캐시에 들어갈 조회는 작업 동안만 primary로 고정되고, 끝나면 replica로 돌아간다")
+    void callOnPrimary_RoutesToPrimaryOnlyDuringTask() {
+        // when
+        String database = ReadYourWritesContext.callOnPrimary(() -> currentDatabase(true));
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("notice_test");
+        assertThat(ReadYourWritesContext.isPrimaryPinned()).isFalse();
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("notice_replica_test");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+    }
+}
@@ -0,0 +1,121 @@
+package syboo.notice.notice.api;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ChunkedUploadControllerTest extends IntegrationTestSupport {
+
+    // JPEG 시그니처(FF D8 FF E0)로 시작하는 10바이트 파일을 6 + 4 바이트 청크로 나누어 전송
+    private static final byte[] FIRST_CHUNK = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10};
+    private static final byte[] SECOND_CHUNK = {0x4A, 0x46, 0x49, 0x46};
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    private Long noticeId;
+
+    @BeforeEach
+    void setUp() {
+        noticeId = noticeRepository.save(Notice.builder()
+                .title("청크 업로드 공지")
+                .content("대용량 첨부파일 테스트")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 청크를 나누어 업로드한 뒤 완료하면 공지사항에 첨부된다")
+    void chunkedUpload_Success() throws Exception {
+        // given: 세션 생성
+        String sessionId = createSession("chunked.jpg", FIRST_CHUNK.length + SECOND_CHUNK.length);
+
+        // when: 두 개의 청크를 순서대로 전송
+        mockMvc.perform(put("/api/notices/uploads/{sessionId}", sessionId)
+                        .param("offset", "0")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(FIRST_CHUNK))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Upload-Offset", String.valueOf(FIRST_CHUNK.length)));
+
+        mockMvc.perform(put("/api/notices/uploads/{sessionId}", sessionId)
+                        .param("offset", String.valueOf(FIRST_CHUNK.length))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(SECOND_CHUNK))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.receivedBytes").value(10));
+
+        // and: 업로드 완료
+        mockMvc.perform(post("/api/notices/uploads/{sessionId}/complete", sessionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"noticeId\": " + noticeId + "}"))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"));
+
+        // then: 상세 조회 시 첨부파일로 노출되고, 세션은 정리된다
+        mockMvc.perform(get("/api/notices/{id}", noticeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachments.length()").value(1))
+                .andExpect(jsonPath("$.attachments[0].originFileName").value("chunked.jpg"))
+                .andExpect(jsonPath("$.attachments[0].fileSize").value(10))
+                .andExpect(jsonPath("$.attachments[0].contentType").value("image/jpeg"));
+
+        mockMvc.perform(get("/api/notices/uploads/{sessionId}", sessionId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("UPLOAD_SESSION_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("실패 케이스: 확정 오프셋과 다른 위치의 청크는 409와 함께 현재 오프셋을 알려준다")
+    void uploadChunk_Fail_OffsetMismatch() throws Exception {
+        // given
+        String sessionId = createSession("chunked.jpg", FIRST_CHUNK.length + SECOND_CHUNK.length);
+
+        mockMvc.perform(put("/api/notices/uploads/{sessionId}", sessionId)
+                        .param("offset", "0")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(FIRST_CHUNK))
+                .andExpect(status().isOk());
+
+        // when & then: 이미 확정된 첫 청크를 다시 보내면 거부된다
+        mockMvc.perform(put("/api/notices/uploads/{sessionId}", sessionId)
+                        .param("offset", "0")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(FIRST_CHUNK))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Upload-Offset", String.valueOf(FIRST_CHUNK.length)))
+                .andExpect(jsonPath("$.error").value("UPLOAD_OFFSET_MISMATCH"));
+
+        // and: 모든 청크가 도착하기 전에는 완료할 수 없다
+        mockMvc.perform(post("/api/notices/uploads/{sessionId}/complete", sessionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"noticeId\": " + noticeId + "}"))
+                .andExpect(status().isConflict());
+    }
+
+    private String createSession(String fileName, long fileSize) throws Exception {
+        String body = mockMvc.perform(post("/api/notices/uploads")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileName\": \"" + fileName + "\", \"fileSize\": " + fileSize + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.receivedBytes").value(0))
+                .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(body, "$.sessionId");
+    }
+}
@@ -6,6 +6,10 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import syboo.notice.IntegrationTestSupport;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -95,6 +99,55 @@ class NoticeControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.content[?(@.title == '파일 없는 공지')].hasAttachment").value(false));
     }
 
+    @Test
+    @DisplayName("해피 케이스: 스트리밍 업로드로 등록한 공지사항의 첨부파일이 정상적으로 조회되어야 한다")
+    void createNoticeStreaming_Success() throws Exception {
+        // Given: 파일 파트가 폼 필드보다 먼저 오는 multipart 본문을 직접 구성
+        String boundary = "notice-stream-boundary";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeFilePart(body, boundary, "attachments", "stream.jpg",
+                new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0});
+        writeFieldPart(body, boundary, "title", "스트리밍 공지");
+        writeFieldPart(body, boundary, "content", "스트리밍 내용");
+        writeFieldPart(body, boundary, "author", "tester");
+        writeFieldPart(body, boundary, "noticeStartAt", "2026-01-25T00:00:00");
+        writeFieldPart(body, boundary, "noticeEndAt", "2026-12-31T23:59:59");
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        // When: 스트리밍 엔드포인트로 원본 본문 전송
+        String location = mockMvc.perform(post("/api/notices/stream")
+                        .contentType("multipart/form-data; boundary=" + boundary)
+                        .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+
+        // Then: Location은 컬렉션 경로 기준이며, 첨부파일이 매핑되어 있어야 함
+        String targetId = location.substring(location.lastIndexOf("/") + 1);
+
+        mockMvc.perform(get("/api/notices/" + targetId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("스트리밍 공지"))
+                .andExpect(jsonPath("$.attachments.length()").value(1))
+                .andExpect(jsonPath("$.attachments[0].originFileName").value("stream.jpg"))
+                .andExpect(jsonPath("$.attachments[0].fileSize").value(4))
+                .andExpect(jsonPath("$.attachments[0].contentType").value("image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 스트리밍 업로드에서 필수 필드가 누락되면 400 에러를 반환한다")
+    void createNoticeStreaming_Fail_InvalidInput() throws Exception {
+        String boundary = "notice-stream-boundary";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeFieldPart(body, boundary, "content", "제목 없는 스트리밍 공지");
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(post("/api/notices/stream")
+                        .contentType("multipart/form-data; boundary=" + boundary)
+                        .content(body.toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
+    }
+
     @Test
     @DisplayName("예외 케이스: 존재하지 않는 공지사항 상세 조회 시 404 에러를 반환한다")
     void getNotice_Fail_NotFound() throws Exception {
@@ -133,4 +186,19 @@ class NoticeControllerTest extends IntegrationTestSupport {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
     }
+
+    private static void writeFieldPart(ByteArrayOutputStream body, String boundary, String name, String value) throws IOException {
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeFilePart(ByteArrayOutputStream body, String boundary, String name,
+                                      String fileName, byte[] content) throws IOException {
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
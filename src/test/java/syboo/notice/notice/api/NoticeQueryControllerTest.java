@@ -5,16 +5,32 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import syboo.notice.IntegrationTestSupport;
 import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.domain.AttachmentText;
+import syboo.notice.notice.domain.AttachmentTextStatus;
 import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.domain.TextTokenizer;
+import syboo.notice.notice.repository.AttachmentTextRepository;
+import syboo.notice.notice.repository.AttachmentTextTermJdbcRepository;
 import syboo.notice.notice.repository.NoticeRepository;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,6 +38,12 @@ class NoticeQueryControllerTest extends IntegrationTestSupport {
     @Autowired
     private NoticeRepository noticeRepository;
 
+    @Autowired
+    private AttachmentTextRepository attachmentTextRepository;
+
+    @Autowired
+    private AttachmentTextTermJdbcRepository attachmentTextTermRepository;
+
 
     @BeforeEach
     void setUp() {
@@ -94,12 +116,12 @@ class NoticeQueryControllerTest extends IntegrationTestSupport {
         Notice targetNotice = noticeRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).getLast();
         Long targetId = targetNotice.getId();
 
-        // When: 두 번 조회
-        mockMvc.perform(get("/api/notices/" + targetId));
-        mockMvc.perform(get("/api/notices/" + targetId));
+        // When: 서로 다른 클라이언트가 두 번 조회
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.0.1")));
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.0.2")));
 
         // Then: 조회수가 3가 되어야 함
-        mockMvc.perform(get("/api/notices/" + targetId))
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.0.3")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").exists())
                 .andExpect(jsonPath("$.content").exists())
@@ -109,6 +131,193 @@ class NoticeQueryControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.viewCount").value(3));
     }
 
+    @Test
+    @DisplayName("해피 케이스: ETag가 일치하면 상세 조회는 본문 없이 304를 반환하고, 수정 후에는 다시 200을 반환한다")
+    void getNotice_ConditionalGet() throws Exception {
+        // Given: 최초 조회로 ETag와 Last-Modified를 받는다
+        Long targetId = noticeRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).getFirst().getId();
+
+        String eTag = mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.1.1")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: 같은 ETag로 재요청하면 304 (본문 없음)
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.1.2"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // And: 공지사항이 수정되면 기존 ETag로는 304가 아닌 새 본문을 받는다 (304 응답도 조회수에 반영됨)
+        Notice notice = noticeRepository.findById(targetId).orElseThrow();
+        notice.update("수정된 제목", notice.getContent(), notice.getNoticeStartAt(), notice.getNoticeEndAt());
+        noticeRepository.flush();
+
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.1.3"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.title").value("수정된 제목"))
+                .andExpect(jsonPath("$.viewCount").value(3));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 목록이 바뀌지 않았으면 304를, 공지사항이 추가되면 200을 반환한다")
+    void getNotices_ConditionalGet() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/notices"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: 변경이 없으면 304
+        mockMvc.perform(get("/api/notices")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // And: 새 공지사항이 등록되면 200
+        noticeRepository.save(Notice.builder()
+                .title("새 공지")
+                .content("새 내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW)
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build());
+
+        mockMvc.perform(get("/api/notices")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(12));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 조회수 정렬 목록은 목록 ETag가 같아도 304 없이 조회수 변경을 반영한다")
+    void getNotices_SortByViewCount_SkipsConditionalGet() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/notices"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Notice notice = noticeRepository.findAll().getFirst();
+        noticeRepository.updateViewCount(notice.getId());
+
+        // When & Then: 공지사항 버전은 그대로지만 조회수 정렬은 조건부 응답을 하지 않는다
+        mockMvc.perform(get("/api/notices")
+                        .param("sort", "viewCount,desc")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.content[0].id").value(notice.getId()));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 첨부파일 본문 검색은 공지사항 변경이 없어도 본문 추출이 기록되면 304 대신 새 결과를 반환한다")
+    void searchByAttachment_ConditionalGet_ReflectsExtraction() throws Exception {
+        // Given: 본문 추출 전 검색
+        Notice notice = Notice.builder()
+                .title("첨부 공지")
+                .content("첨부 내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW)
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build();
+        notice.addAttachment(NoticeAttachment.builder()
+                .originFileName("guide.pdf")
+                .storedFileName("stored-guide.pdf")
+                .fileSize(1_024L)
+                .contentType("application/pdf")
+                .checksum("checksum")
+                .build());
+        noticeRepository.saveAndFlush(notice);
+        Long attachmentId = notice.getAttachments().getFirst().getId();
+
+        String eTag = mockMvc.perform(get("/api/notices/search")
+                        .param("query", "설명서")
+                        .param("searchType", "ATTACHMENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When: 본문 추출 결과가 기록됨 (공지사항 버전은 그대로)
+        attachmentTextRepository.saveAndFlush(AttachmentText.builder()
+                .attachmentId(attachmentId)
+                .noticeId(notice.getId())
+                .status(AttachmentTextStatus.EXTRACTED)
+                .body("사용자 설명서")
+                .termCount(2)
+                .extractedAt(TestClockConfig.FIXED_NOW)
+                .build());
+        attachmentTextTermRepository.replaceTerms(attachmentId, notice.getId(), TextTokenizer.tokenize("사용자 설명서", 100));
+
+        // Then
+        mockMvc.perform(get("/api/notices/search")
+                        .param("query", "설명서")
+                        .param("searchType", "ATTACHMENT")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(notice.getId()));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: gzip을 허용하면 미리 압축된 상세 응답을 반환하고, 조회수는 요청마다 최신 값으로 채워진다")
+    void getNotice_GzipEncoded() throws Exception {
+        // Given: 압축 기준(1KB)을 넘는 본문
+        Long targetId = noticeRepository.save(Notice.builder()
+                .title("긴 공지")
+                .content("긴 본문입니다. ".repeat(500))
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW)
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build()).getId();
+
+        // When: 같은 공지를 두 번 gzip으로 조회 (두 번째는 캐시 적중)
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.2.1"))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk());
+
+        byte[] compressed = mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.2.2"))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then: 압축을 풀면 최신 조회수가 반영된 JSON이어야 한다
+        String json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(json).contains("\"viewCount\":2");
+        assertThat(json).contains("\"title\":\"긴 공지\"");
+
+        // And: gzip을 허용하지 않으면 압축하지 않은 JSON을 반환한다
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.2.3")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.viewCount").value(3));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 같은 클라이언트(IP + User-Agent)의 반복 조회는 조회수에 한 번만 반영된다")
+    void getNotice_DuplicateViewSuppressed() throws Exception {
+        // Given
+        Long targetId = noticeRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).getFirst().getId();
+
+        // When: 같은 클라이언트가 새로고침을 반복
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.3.1"))
+                            .header(HttpHeaders.USER_AGENT, "Mozilla/5.0"))
+                    .andExpect(status().isOk());
+        }
+
+        // Then: 조회수는 1, 다른 User-Agent(다른 클라이언트)의 조회는 별도로 집계된다
+        mockMvc.perform(get("/api/notices/" + targetId).with(client("10.0.3.1"))
+                        .header(HttpHeaders.USER_AGENT, "curl/8.5.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(2));
+    }
+
     @Test
     @DisplayName("해피 케이스: 등록일자 검색 기간을 조절하여 데이터 필터링을 검증한다")
     void searchByCreatedDateRange_Relative_Success() throws Exception {
@@ -223,4 +432,14 @@ class NoticeQueryControllerTest extends IntegrationTestSupport {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.page.totalElements").value(0)); // 논리적으로 0건 반환 확인
     }
-}
\ No newline at end of file
+
+    /**
+     * 조회수 중복 판별을 피하기 위해 요청마다 클라이언트 IP를 지정한다.
+     */
+    private static RequestPostProcessor client(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package syboo.notice.notice.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import syboo.notice.notice.api.response.NoticeChangeFeedResponse;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.NoticeChange;
+import syboo.notice.notice.domain.NoticeChangeSequence;
+import syboo.notice.notice.domain.NoticeChangeType;
+import syboo.notice.notice.repository.NoticeChangeRepository;
+import syboo.notice.notice.repository.NoticeChangeSequenceRepository;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NoticeChangeFeedServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 25, 20, 0);
+
+    @Mock
+    private NoticeChangeRepository changeRepository;
+
+    @Mock
+    private NoticeChangeSequenceRepository sequenceRepository;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @InjectMocks
+    private NoticeChangeFeedService changeFeedService;
+
+    @Test
+    @DisplayName("커서 없이 요청하면 변경 목록 없이 현재 커서만 반환한다")
+    void getChanges_WithoutCursor_ReturnsHead() {
+        // given
+        givenHead(7);
+
+        // when
+        NoticeChangeFeedResponse response = changeFeedService.getChanges(null, 100);
+
+        // then
+        assertThat(response.changes()).isEmpty();
+        assertThat(response.cursor()).isEqualTo(7L);
+        verify(changeRepository, never()).findBySeqGreaterThanOrderBySeqAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("같은 공지사항의 여러 변경은 마지막 것으로 합치고, 이후 삭제되어 요약이 없으면 삭제로 내려준다")
+    void getChanges_CollapsesAndMarksMissingAsDeleted() {
+        // given: 1번 생성 후 수정, 2번 생성(이후 삭제되어 조회되지 않음), 3번 삭제
+        givenHead(5);
+        given(changeRepository.findOldestSeq()).willReturn(1L);
+        given(changeRepository.findBySeqGreaterThanOrderBySeqAsc(0L, Limit.of(11))).willReturn(List.of(
+                change(1, 1L, NoticeChangeType.CREATED),
+                change(2, 2L, NoticeChangeType.CREATED),
+                change(3, 1L, NoticeChangeType.UPDATED),
+                change(4, 3L, NoticeChangeType.DELETED)));
+        given(noticeRepository.findNoticeListByIds(anyCollection(), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(new NoticeListResponse(1L, "수정된 공지", "tester", NOW, 0L, false))));
+
+        // when
+        NoticeChangeFeedResponse response = changeFeedService.getChanges(0L, 10);
+
+        // then
+        assertThat(response.changes())
+                .extracting(NoticeChangeFeedResponse.Change::seq, NoticeChangeFeedResponse.Change::noticeId,
+                        NoticeChangeFeedResponse.Change::type)
+                .containsExactly(
+                        tuple(2L, 2L, NoticeChangeType.DELETED),
+                        tuple(3L, 1L, NoticeChangeType.UPDATED),
+                        tuple(4L, 3L, NoticeChangeType.DELETED));
+        assertThat(response.changes().get(1).notice().title()).isEqualTo("수정된 공지");
+        assertThat(response.cursor()).isEqualTo(4L);
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("limit보다 많은 변경이 있으면 hasMore와 함께 마지막으로 읽은 번호를 커서로 반환한다")
+    void getChanges_ReturnsHasMore() {
+        // given
+        givenHead(3);
+        given(changeRepository.findOldestSeq()).willReturn(1L);
+        given(changeRepository.findBySeqGreaterThanOrderBySeqAsc(0L, Limit.of(3))).willReturn(List.of(
+                change(1, 1L, NoticeChangeType.DELETED),
+                change(2, 2L, NoticeChangeType.DELETED),
+                change(3, 3L, NoticeChangeType.DELETED)));
+
+        // when
+        NoticeChangeFeedResponse response = changeFeedService.getChanges(0L, 2);
+
+        // then
+        assertThat(response.changes()).hasSize(2);
+        assertThat(response.cursor()).isEqualTo(2L);
+        assertThat(response.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 다음 변경이 보관 기간이 지나 삭제되었으면 전체 재동기화를 요구한다")
+    void getChanges_CursorTooOld_RequiresResync() {
+        // given: 1~9번은 삭제되고 10번부터 보관 중
+        givenHead(12);
+        given(changeRepository.findOldestSeq()).willReturn(10L);
+
+        // when
+        NoticeChangeFeedResponse response = changeFeedService.getChanges(5L, 100);
+
+        // then
+        assertThat(response.resyncRequired()).isTrue();
+        assertThat(response.cursor()).isEqualTo(12L);
+        assertThat(response.changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("음수 커서나 범위를 벗어난 limit는 거부한다")
+    void getChanges_InvalidArguments() {
+        assertThatThrownBy(() -> changeFeedService.getChanges(-1L, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeFeedService.getChanges(0L, NoticeChangeFeedService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenHead(long lastValue) {
+        NoticeChangeSequence sequence = NoticeChangeSequence.initial();
+        for (long i = 0; i < lastValue; i++) {
+            sequence.next();
+        }
+        given(sequenceRepository.findById(NoticeChangeSequence.SINGLETON_ID)).willReturn(Optional.of(sequence));
+    }
+
+    private NoticeChange change(long seq, Long noticeId, NoticeChangeType type) {
+        return new NoticeChange(seq, noticeId, type, NOW);
+    }
+}
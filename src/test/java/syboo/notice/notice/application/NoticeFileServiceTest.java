@@ -1,5 +1,6 @@
 package syboo.notice.notice.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -7,21 +8,39 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import syboo.notice.common.exception.FileSecurityException;
 import syboo.notice.notice.api.response.FileDownloadResponse;
 import syboo.notice.notice.domain.Notice;
 import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.archive.AttachmentZipWriter;
+import syboo.notice.notice.infra.cache.AttachmentContentCache;
+import syboo.notice.notice.infra.cache.AttachmentMetadataCache;
+import syboo.notice.notice.infra.cache.CachedAttachment;
+import syboo.notice.notice.infra.coalesce.RequestCoalescer;
+import syboo.notice.notice.infra.download.DownloadGrant;
+import syboo.notice.notice.infra.download.DownloadTokenSigner;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
 import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.thumbnail.ThumbnailStore;
 import syboo.notice.notice.infra.util.ChecksumGenerator;
 import syboo.notice.notice.infra.util.FileValidator;
+import syboo.notice.notice.repository.AttachmentArchiveEntry;
+import syboo.notice.notice.repository.AttachmentMetadata;
 import syboo.notice.notice.repository.NoticeAttachmentRepository;
+import syboo.notice.notice.repository.NoticePeriod;
+import syboo.notice.notice.repository.NoticeRepository;
 
+import java.nio.ByteBuffer;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
@@ -32,6 +51,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -50,6 +70,30 @@ class NoticeFileServiceTest {
     @Mock
     private NoticeAttachmentRepository attachmentRepository;
 
+    @Mock
+    private ActiveNoticeIndex activeNoticeIndex;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private AttachmentZipWriter attachmentZipWriter;
+
+    @Mock
+    private ThumbnailStore thumbnailStore;
+
+    @Mock
+    private AttachmentContentCache attachmentContentCache;
+
+    @Mock
+    private AttachmentMetadataCache attachmentMetadataCache;
+
+    @Mock
+    private DownloadTokenSigner downloadTokenSigner;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
     private final LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 25, 20, 0);
     private final Clock clock = Clock.fixed(fixedNow.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
 
@@ -100,7 +144,7 @@ class NoticeFileServiceTest {
 
             Resource resource = new ByteArrayResource(content.getBytes());
 
-            given(attachmentRepository.findById(fileId)).willReturn(Optional.of(attachment));
+            givenMetadata(fileId, attachment);
             given(storageService.loadAsResource("stored.txt")).willReturn(resource);
 
             // When
@@ -111,6 +155,29 @@ class NoticeFileServiceTest {
             assertThat(response.resource()).isNotNull();
         }
 
+        @Test
+        @DisplayName("캐시에 검증된 내용이 있으면 저장소 파일을 읽지 않고 캐시 버퍼로 응답한다.")
+        void downloadFromCache() throws Exception {
+            // Given
+            Long fileId = 1L;
+            byte[] content = "Hello World".getBytes();
+            String hash = ChecksumGenerator.generate(new ByteArrayResource(content));
+
+            Notice notice = createNotice(fixedNow.minusDays(1), fixedNow.plusDays(1));
+            NoticeAttachment attachment = createAttachment(notice, "test.txt", "stored.txt", hash);
+
+            givenMetadata(fileId, attachment);
+            given(attachmentContentCache.find("stored.txt", hash))
+                    .willReturn(Optional.of(new CachedAttachment(hash, ByteBuffer.wrap(content))));
+
+            // When
+            FileDownloadResponse response = noticeFileService.downloadFile(fileId);
+
+            // Then
+            assertThat(response.resource().getContentAsByteArray()).isEqualTo(content);
+            verify(storageService, never()).loadAsResource(anyString());
+        }
+
         @Test
         @DisplayName("공지 기간이 종료된 후 다운로드 요청 시 FileSecurityException이 발생한다.")
         void downloadFailExpiredPeriod() {
@@ -129,7 +196,23 @@ class NoticeFileServiceTest {
             // 서비스 내부의 clock이 fixedClock을 바라보도록 설정 (ReflectionTestUtils 또는 @Spy 활용 가능)
             ReflectionTestUtils.setField(noticeFileService, "clock", fixedClock);
 
-            given(attachmentRepository.findById(fileId)).willReturn(Optional.of(attachment));
+            givenMetadata(fileId, attachment);
+
+            // When & Then
+            assertThatThrownBy(() -> noticeFileService.downloadFile(fileId))
+                    .isInstanceOf(FileSecurityException.class);
+        }
+
+        @Test
+        @DisplayName("활성 공지사항 인덱스가 게시 종료로 판단한 공지사항의 파일은 다운로드할 수 없다.")
+        void downloadFailWhenIndexReportsInactive() {
+            // Given: 엔티티 기준으로는 게시 중이지만 인덱스가 이미 만료를 반영한 상태
+            Long fileId = 1L;
+            Notice notice = createNotice(fixedNow.minusDays(1), fixedNow.plusDays(1));
+            NoticeAttachment attachment = createAttachment(notice, "test.txt", "stored.txt", "hash");
+
+            givenMetadata(fileId, attachment);
+            given(activeNoticeIndex.findViewability(any())).willReturn(Optional.of(false));
 
             // When & Then
             assertThatThrownBy(() -> noticeFileService.downloadFile(fileId))
@@ -147,7 +230,7 @@ class NoticeFileServiceTest {
 
             Resource realResource = new ByteArrayResource("Different Content".getBytes());
 
-            given(attachmentRepository.findById(fileId)).willReturn(Optional.of(attachment));
+            givenMetadata(fileId, attachment);
             given(storageService.loadAsResource("stored.txt")).willReturn(realResource);
 
             // When & Then
@@ -157,6 +240,83 @@ class NoticeFileServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("서명된 다운로드 링크는 DB를 조회하지 않고 검증하며, 인덱스가 게시 종료로 알거나 알지 못하는(삭제된) 공지사항의 링크는 거부한다")
+    void verifyDownloadToken_UsesTokenAndIndexOnly() {
+        // given
+        DownloadGrant active = new DownloadGrant(10L, 1L, "a.pdf", "stored-a.pdf", "hash", 3L, null, null);
+        DownloadGrant ended = new DownloadGrant(20L, 2L, "b.pdf", "stored-b.pdf", "hash", 3L, null, null);
+        DownloadGrant deleted = new DownloadGrant(30L, 3L, "c.pdf", "stored-c.pdf", "hash", 3L, null, null);
+        given(downloadTokenSigner.verify("active")).willReturn(active);
+        given(downloadTokenSigner.verify("ended")).willReturn(ended);
+        given(downloadTokenSigner.verify("deleted")).willReturn(deleted);
+        given(activeNoticeIndex.isReady()).willReturn(true);
+        given(activeNoticeIndex.findViewability(1L)).willReturn(Optional.of(true));
+        given(activeNoticeIndex.findViewability(2L)).willReturn(Optional.of(false));
+        given(activeNoticeIndex.findViewability(3L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(noticeFileService.verifyDownloadToken("active")).isEqualTo(active);
+        assertThatThrownBy(() -> noticeFileService.verifyDownloadToken("ended"))
+                .isInstanceOf(FileSecurityException.class);
+        assertThatThrownBy(() -> noticeFileService.verifyDownloadToken("deleted"))
+                .isInstanceOf(FileSecurityException.class);
+        verify(attachmentMetadataCache, never()).get(any());
+        verify(attachmentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("인덱스 구성 전에는 서명된 게시 기간만으로 다운로드 링크를 판단한다")
+    void verifyDownloadToken_TrustsSignedPeriodBeforeIndexReady() {
+        // given
+        DownloadGrant grant = new DownloadGrant(10L, 1L, "a.pdf", "stored-a.pdf", "hash", 3L, null, null);
+        given(downloadTokenSigner.verify("token")).willReturn(grant);
+        given(activeNoticeIndex.isReady()).willReturn(false);
+        given(activeNoticeIndex.findViewability(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(noticeFileService.verifyDownloadToken("token")).isEqualTo(grant);
+    }
+
+    @Test
+    @DisplayName("청크 업로드 확정 트랜잭션이 롤백되면 옮긴 파일을 스테이징 위치로 되돌린다")
+    void attachStaged_RestoresStagedFileOnRollback() {
+        // given
+        Notice notice = createNotice(fixedNow.minusDays(1), fixedNow.plusDays(1));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            NoticeAttachment attachment = noticeFileService.attachStaged(notice, "staging/session-1", "big.zip",
+                    10L, "application/zip", "hash");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(storageService).move("staging/session-1", attachment.getStoredFileName());
+            verify(storageService).move(attachment.getStoredFileName(), "staging/session-1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("첨부파일 묶음 다운로드는 게시 기간을 먼저 확인하고, 기간이 아니면 첨부파일을 조회하지 않는다")
+    void prepareArchive_ChecksPeriod() {
+        // given
+        given(noticeRepository.findPeriodsByIdIn(List.of(1L)))
+                .willReturn(List.of(new NoticePeriod(1L, fixedNow.minusDays(1), fixedNow.plusDays(1))));
+        given(noticeRepository.findPeriodsByIdIn(List.of(2L)))
+                .willReturn(List.of(new NoticePeriod(2L, fixedNow.minusDays(3), fixedNow.minusDays(1))));
+        AttachmentArchiveEntry entry = new AttachmentArchiveEntry(10L, "a.pdf", "stored-a.pdf", 3L, "application/pdf", "hash");
+        given(attachmentRepository.findArchiveEntriesByNoticeId(1L)).willReturn(List.of(entry));
+
+        // when & then
+        assertThat(noticeFileService.prepareArchive(1L)).containsExactly(entry);
+        assertThatThrownBy(() -> noticeFileService.prepareArchive(2L))
+                .isInstanceOf(FileSecurityException.class);
+        verify(attachmentRepository, never()).findArchiveEntriesByNoticeId(2L);
+    }
+
     // Helper Methods
     private Notice createNotice(LocalDateTime start, LocalDateTime end) {
         return Notice.builder()
@@ -168,6 +328,14 @@ class NoticeFileServiceTest {
                 .build();
     }
 
+    private void givenMetadata(Long fileId, NoticeAttachment attachment) {
+        Notice notice = attachment.getNotice();
+        given(attachmentMetadataCache.get(fileId)).willReturn(Optional.of(new AttachmentMetadata(
+                fileId, 100L, attachment.getOriginFileName(), attachment.getStoredFileName(), attachment.getChecksum(),
+                attachment.getFileSize(), attachment.getContentType(), fixedNow,
+                notice.getNoticeStartAt(), notice.getNoticeEndAt())));
+    }
+
     private NoticeAttachment createAttachment(Notice notice, String origin, String stored, String hash) {
         NoticeAttachment att = NoticeAttachment.builder()
                 .originFileName(origin)
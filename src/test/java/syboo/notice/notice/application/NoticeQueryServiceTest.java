@@ -8,15 +8,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +33,17 @@ import syboo.notice.notice.api.response.NoticeDetailResponse;
 import syboo.notice.notice.api.response.NoticeListResponse;
 import syboo.notice.notice.domain.Notice;
 import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.infra.download.DownloadGrant;
+import syboo.notice.notice.infra.download.DownloadTokenSigner;
+import syboo.notice.notice.infra.period.ActiveNoticeIndex;
+import syboo.notice.notice.infra.readmodel.NoticeReadModelRebuilder;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
 import syboo.notice.notice.repository.NoticeRepository;
+import syboo.notice.notice.repository.NoticeRevision;
+import syboo.notice.notice.repository.NoticeViewPoint;
+import syboo.notice.notice.repository.NoticeViewStatsJdbcRepository;
+import syboo.notice.notice.repository.ViewGranularity;
+import syboo.notice.notice.api.response.NoticeViewHistoryResponse;
 
 @ExtendWith(MockitoExtension.class)
 class NoticeQueryServiceTest {
@@ -35,6 +51,21 @@ class NoticeQueryServiceTest {
     @Mock
     private NoticeRepository noticeRepository;
 
+    @Mock
+    private ActiveNoticeIndex activeNoticeIndex;
+
+    @Mock
+    private NoticeViewStatsJdbcRepository viewStatsRepository;
+
+    @Mock
+    private NoticeReadModelRepository readModelRepository;
+
+    @Mock
+    private NoticeReadModelRebuilder readModelRebuilder;
+
+    @Mock
+    private DownloadTokenSigner downloadTokenSigner;
+
     @InjectMocks
     private NoticeQueryService noticeQueryService;
 
@@ -60,11 +91,14 @@ class NoticeQueryServiceTest {
         // given
         Pageable pageable = PageRequest.of(0, 10, Sort.by("createdDate").descending());
 
-        // Mockito를 사용하여 15개 중 첫 10개만 포함된 Page 객체 반환 설정
-        List<Notice> pagedNotices = savedNotices.subList(0, 10);
-        Page<Notice> noticePage = new PageImpl<>(pagedNotices, pageable, savedNotices.size());
+        // Mockito를 사용하여 15개 중 첫 10개만 포함된 Page 객체 반환 설정 (Repository에서 DTO로 직접 조회)
+        List<NoticeListResponse> pagedNotices = savedNotices.subList(0, 10).stream()
+                .map(n -> new NoticeListResponse(n.getId(), n.getTitle(), n.getAuthor(),
+                        n.getCreatedDate(), n.getViewCount(), n.isHasAttachment()))
+                .toList();
+        Page<NoticeListResponse> noticePage = new PageImpl<>(pagedNotices, pageable, savedNotices.size());
 
-        given(noticeRepository.findAll(any(Pageable.class))).willReturn(noticePage);
+        given(noticeRepository.findNoticeList(any(Pageable.class))).willReturn(noticePage);
 
         // when
         Page<NoticeListResponse> result = noticeQueryService.getNoticeList(pageable);
@@ -83,6 +117,41 @@ class NoticeQueryServiceTest {
         assertThat(secondResponse.hasAttachment()).isTrue(); // 2는 짝수이므로 true
     }
 
+    @Test
+    @DisplayName("게시 중 목록 조회 시 활성 공지사항 인덱스가 준비되어 있으면 게시 중 ID 집합으로 조회한다")
+    void getActiveNoticeList_UsesIndex() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdDate").descending());
+        given(activeNoticeIndex.canServeList()).willReturn(true);
+        given(activeNoticeIndex.activeIds()).willReturn(Set.of(1L, 2L));
+        given(noticeRepository.findNoticeListByIds(Set.of(1L, 2L), pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        noticeQueryService.getActiveNoticeList(pageable);
+
+        // then
+        verify(noticeRepository).findNoticeListByIds(Set.of(1L, 2L), pageable);
+        verify(noticeRepository, never()).findActiveNoticeList(any(), any());
+    }
+
+    @Test
+    @DisplayName("게시 중 목록 조회 시 인덱스를 사용할 수 없으면 게시 기간 조건으로 DB에서 조회한다")
+    void getActiveNoticeList_FallsBackToPeriodQuery() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdDate").descending());
+        ReflectionTestUtils.setField(noticeQueryService, "clock",
+                Clock.fixed(fixedNow.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        given(activeNoticeIndex.canServeList()).willReturn(false);
+        given(noticeRepository.findActiveNoticeList(fixedNow, pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        noticeQueryService.getActiveNoticeList(pageable);
+
+        // then
+        verify(noticeRepository).findActiveNoticeList(eq(fixedNow), eq(pageable));
+        verify(noticeRepository, never()).findNoticeListByIds(anyCollection(), any());
+    }
+
     @Test
     @DisplayName("성공: 존재하는 ID로 상세 조회 시 상세 정보와 첨부파일 리스트를 반환한다")
     void getNoticeDetail_Success() {
@@ -107,6 +176,9 @@ class NoticeQueryServiceTest {
         ReflectionTestUtils.setField(targetNotice, "viewCount", 10L);
 
         given(noticeRepository.findById(noticeId)).willReturn(Optional.of(targetNotice));
+        ReflectionTestUtils.setField(noticeQueryService, "clock",
+                Clock.fixed(fixedNow.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        given(downloadTokenSigner.sign(any(DownloadGrant.class))).willReturn("signed-token");
 
         // when
         NoticeDetailResponse result = noticeQueryService.getNoticeDetail(noticeId);
@@ -123,6 +195,7 @@ class NoticeQueryServiceTest {
         assertThat(result.attachments().get(0).id()).isEqualTo(100L); // ID 검증 추가 가능
         assertThat(result.attachments().get(0).originFileName()).isEqualTo("file1.txt");
         assertThat(result.attachments().get(0).fileSize()).isEqualTo(123L);
+        assertThat(result.attachments().get(0).downloadUrl()).isEqualTo("/api/notices/downloads/signed-token");
     }
 
     @Test
@@ -143,6 +216,29 @@ class NoticeQueryServiceTest {
                 .isInstanceOf(NoticeNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("읽기 모델이 준비되어 있으면 목록과 제목 검색을 읽기 모델에서, 본문 검색은 원본에서 조회한다")
+    void getNoticeList_UsesReadModelWhenServing() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdDate").descending());
+        NoticeSearchCondition titleSearch = new NoticeSearchCondition("제목", "TITLE", null, null);
+        NoticeSearchCondition contentSearch = new NoticeSearchCondition("내용", "TITLE_CONTENT", null, null);
+        given(readModelRebuilder.canServe()).willReturn(true);
+        given(readModelRepository.findNoticeList(pageable)).willReturn(Page.empty(pageable));
+        given(readModelRepository.search(titleSearch, pageable)).willReturn(Page.empty(pageable));
+        given(noticeRepository.search(contentSearch, pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        noticeQueryService.getNoticeList(pageable);
+        noticeQueryService.searchNotices(titleSearch, pageable);
+        noticeQueryService.searchNotices(contentSearch, pageable);
+
+        // then
+        verify(noticeRepository, never()).findNoticeList(any());
+        verify(readModelRepository).search(titleSearch, pageable);
+        verify(noticeRepository).search(contentSearch, pageable);
+    }
+
     @Test
     @DisplayName("검색 조건으로 조회 시 레포지토리를 호출하고 결과를 반환한다.")
     void searchNotices_Success() {
@@ -171,6 +267,42 @@ class NoticeQueryServiceTest {
         verify(noticeRepository).search(condition, pageable);
     }
 
+    @Test
+    @DisplayName("조회수 이력 조회 시 기간을 생략하면 단위별 기본 기간을 현재 구간까지 조회한다")
+    void getViewHistory_DefaultRange() {
+        // given
+        ReflectionTestUtils.setField(noticeQueryService, "clock",
+                Clock.fixed(fixedNow.plusMinutes(30).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        given(noticeRepository.findRevisionById(1L))
+                .willReturn(Optional.of(new NoticeRevision(1L, 0L, fixedNow, 10L)));
+        LocalDateTime end = fixedNow.plusHours(1);
+        given(viewStatsRepository.findHistory(1L, ViewGranularity.HOUR, end.minusDays(2), end))
+                .willReturn(List.of(new NoticeViewPoint(fixedNow, 10L)));
+
+        // when
+        NoticeViewHistoryResponse result = noticeQueryService.getViewHistory(1L, ViewGranularity.HOUR, null, null);
+
+        // then
+        assertThat(result.from()).isEqualTo(end.minusDays(2));
+        assertThat(result.to()).isEqualTo(end);
+        assertThat(result.points()).containsExactly(new NoticeViewHistoryResponse.Point(fixedNow, 10L));
+    }
+
+    @Test
+    @DisplayName("조회수 이력 조회 시 구간 수가 상한을 넘으면 IllegalArgumentException이 발생한다")
+    void getViewHistory_Fail_RangeTooLong() {
+        // given
+        given(noticeRepository.findRevisionById(1L))
+                .willReturn(Optional.of(new NoticeRevision(1L, 0L, fixedNow, 10L)));
+
+        // when & then
+        org.assertj.core.api.Assertions.assertThatThrownBy(() ->
+                        noticeQueryService.getViewHistory(1L, ViewGranularity.MINUTE, fixedNow.minusDays(7), fixedNow)
+                )
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(viewStatsRepository, never()).findHistory(any(), any(), any(), any());
+    }
+
     /**
      * 테스트 데이터 생성을 위한 공통 메서드
      */
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import syboo.notice.notice.application.command.CreateNoticeCommand;
@@ -36,6 +37,9 @@ class NoticeServiceTest {
     @Mock
     private NoticeFileService noticeFileService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 25, 20, 0);
 
     @Test
@@ -243,6 +247,7 @@ class NoticeServiceTest {
 
         // then
         verify(noticeRepository).delete(notice);
+        verify(noticeRepository).deleteContentById(notice.getContentId());
     }
 
     @Test
@@ -0,0 +1,127 @@
+package syboo.notice.notice.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.notice.infra.storage.LocalStorageService;
+import syboo.notice.notice.infra.storage.StorageDurability;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대용량 업로드가 몰리는 동안 자주 내려받는 작은 파일의 읽기 지연을 일반 쓰기와 Direct I/O 쓰기로 비교한다.
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ * 페이지 캐시 오염 효과는 업로드 총량이 여유 메모리를 넘을 때 드러나므로,
+ * 의미 있는 결과를 보려면 {@code UPLOAD_SIZE}·{@code UPLOADS}를 장비 메모리에 맞게 늘리고 실제 디스크(tmpfs가 아닌) 위에서 실행한다.
+ * </p>
+ */
+@Tag("benchmark")
+class DirectIoUploadBenchmarkTest {
+
+    private static final int HOT_FILES = 200;
+    private static final int HOT_FILE_SIZE = 32 * 1024;
+    private static final int UPLOAD_SIZE = 64 * 1024 * 1024;
+    private static final int UPLOADS = 32;
+    private static final int UPLOADERS = 4;
+
+    @TempDir
+    private Path root;
+
+    @Test
+    @DisplayName("벤치마크: 업로드 폭주 중 인기 파일 다운로드 지연 (일반 쓰기 vs Direct I/O)")
+    void hotFileLatency_DuringUploadStorm() throws Exception {
+        byte[] upload = new byte[UPLOAD_SIZE];
+        ThreadLocalRandom.current().nextBytes(upload);
+
+        System.out.printf("[direct io benchmark] hot files=%d x %,d bytes, uploads=%d x %,d bytes, uploaders=%d%n",
+                HOT_FILES, HOT_FILE_SIZE, UPLOADS, UPLOAD_SIZE, UPLOADERS);
+
+        for (boolean directIo : new boolean[]{false, true}) {
+            long[] latencies = measure(directIo, upload);
+            System.out.printf("  %-8s : p50=%,d us, p99=%,d us, max=%,d us (reads=%,d)%n",
+                    directIo ? "direct" : "buffered",
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1],
+                    latencies.length);
+            assertThat(latencies).isNotEmpty();
+        }
+    }
+
+    private long[] measure(boolean directIo, byte[] upload) throws Exception {
+        LocalStorageService storage = new LocalStorageService(
+                root.resolve(directIo ? "direct" : "buffered").toString(), StorageDurability.NONE, Duration.ZERO,
+                directIo, DataSize.ofMegabytes(8), DataSize.ofMegabytes(1));
+        storage.init();
+
+        try {
+            // 인기 파일을 저장하고 한 번씩 읽어 캐시에 올린다.
+            byte[] hot = new byte[HOT_FILE_SIZE];
+            ThreadLocalRandom.current().nextBytes(hot);
+            for (int i = 0; i < HOT_FILES; i++) {
+                storage.storeStream(new ByteArrayInputStream(hot), "hot/" + i + ".jpg");
+            }
+            for (int i = 0; i < HOT_FILES; i++) {
+                read(storage, "hot/" + i + ".jpg");
+            }
+
+            AtomicBoolean storming = new AtomicBoolean(true);
+            List<Long> latencies = new ArrayList<>();
+
+            try (ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADERS)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < UPLOADS; i++) {
+                    int index = i;
+                    futures.add(uploaders.submit(() -> storage.storeStream(
+                            new ByteArrayInputStream(upload), "bulk/" + index + ".pdf")));
+                }
+                uploaders.submit(() -> {
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                    storming.set(false);
+                    return null;
+                });
+
+                // 업로드가 진행되는 동안 인기 파일을 계속 내려받는다.
+                int next = 0;
+                while (storming.get()) {
+                    long start = System.nanoTime();
+                    read(storage, "hot/" + (next++ % HOT_FILES) + ".jpg");
+                    latencies.add((System.nanoTime() - start) / 1_000);
+                }
+            }
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        } finally {
+            storage.close();
+        }
+    }
+
+    private static void read(LocalStorageService storage, String storedFileName) throws Exception {
+        try (InputStream in = storage.loadAsResource(storedFileName).getInputStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
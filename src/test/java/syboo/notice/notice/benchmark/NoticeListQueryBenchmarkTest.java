@@ -0,0 +1,139 @@
+package syboo.notice.notice.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공지사항 목록 조회의 엔티티 조회 방식과 DTO 프로젝션 방식을 비교한다.
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ * 측정 항목은 페이지당 DB에서 전달받는 행 데이터 크기(근사치)와 페이지 조회 1회당 힙 할당량이다.
+ * </p>
+ */
+@Tag("benchmark")
+class NoticeListQueryBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int NOTICE_COUNT = 1_000;
+    private static final int CONTENT_LENGTH = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 고정 시계로 등록일시가 모두 같으므로 두 방식의 결과 순서를 맞추기 위해 id를 함께 정렬한다.
+    private final Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+    @BeforeEach
+    void setUp() {
+        String content = "가".repeat(CONTENT_LENGTH);
+        for (int i = 0; i < NOTICE_COUNT; i++) {
+            noticeRepository.save(Notice.builder()
+                    .title("벤치마크 공지 " + i)
+                    .content(content)
+                    .author("tester")
+                    .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                    .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("벤치마크: 프로젝션 목록 조회는 엔티티 조회보다 DB 전송량과 힙 할당량이 적다")
+    void listQuery_EntityVsProjection() {
+        // given: 같은 페이지를 조회하는 두 방식
+        Supplier<Page<NoticeListResponse>> entityQuery = () -> noticeRepository.findAll(pageable)
+                .map(n -> new NoticeListResponse(n.getId(), n.getTitle(), n.getAuthor(),
+                        n.getCreatedDate(), n.getViewCount(), n.isHasAttachment()));
+        Supplier<Page<NoticeListResponse>> projectionQuery = () -> noticeRepository.findNoticeList(pageable);
+
+        // when: 페이지당 행 데이터 크기
+        long entityBytes = rowPayloadBytes("select * from notices order by created_date desc, id desc limit " + PAGE_SIZE);
+        long projectionBytes = rowPayloadBytes("select id, title, author, created_date, view_count, has_attachment"
+                + " from notices order by created_date desc, id desc limit " + PAGE_SIZE);
+
+        // and: 페이지 조회 1회당 힙 할당량
+        long entityAllocated = allocatedBytesPerCall(entityQuery);
+        long projectionAllocated = allocatedBytesPerCall(projectionQuery);
+
+        System.out.printf("[list benchmark] rows/page=%d%n", PAGE_SIZE);
+        System.out.printf("  entity     : db payload=%,d bytes/page, heap=%,d bytes/page%n", entityBytes, entityAllocated);
+        System.out.printf("  projection : db payload=%,d bytes/page, heap=%,d bytes/page%n", projectionBytes, projectionAllocated);
+
+        // then: 두 방식의 결과는 같고, 프로젝션 쪽이 더 적게 읽고 할당한다
+        assertThat(projectionQuery.get().getContent()).isEqualTo(entityQuery.get().getContent());
+        assertThat(projectionBytes).isLessThan(entityBytes);
+        assertThat(projectionAllocated).isLessThan(entityAllocated);
+    }
+
+    /**
+     * 조회 결과 행의 값 크기를 합산한다. 문자열은 UTF-8 바이트 수, 그 외 값은 문자열 표현 길이로 근사한다.
+     */
+    private long rowPayloadBytes(String sql) {
+        long total = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList(sql)) {
+            for (Object value : row.values()) {
+                if (value != null) {
+                    total += value.toString().getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 현재 스레드의 누적 할당량 차이로 호출 1회당 평균 힙 할당량을 구한다.
+     * 매 호출 뒤 영속성 컨텍스트를 비워 1차 캐시 재사용 효과를 제외한다.
+     */
+    private long allocatedBytesPerCall(Supplier<Page<NoticeListResponse>> call) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARM_UP; i++) {
+            call.get();
+            em.clear();
+        }
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<NoticeListResponse> content = call.get().getContent();
+            assertThat(content).hasSize(PAGE_SIZE);
+            em.clear();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,83 @@
+package syboo.notice.notice.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.notice.infra.storage.LocalStorageService;
+import syboo.notice.notice.infra.storage.StorageDurability;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 저장소의 내구성 수준별 업로드 처리량을 비교한다.
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ * 여러 스레드가 같은 디렉토리에 64KB 파일을 동시에 저장할 때의 초당 업로드 수를 측정한다.
+ * 결과는 디스크와 파일 시스템(저널, 쓰기 캐시)에 크게 좌우되므로 수준 간 상대 비교로만 본다.
+ * </p>
+ */
+@Tag("benchmark")
+class StorageDurabilityBenchmarkTest {
+
+    private static final int FILE_SIZE = 64 * 1024;
+    private static final int WRITERS = 16;
+    private static final int FILES_PER_WRITER = 50;
+
+    @TempDir
+    private Path root;
+
+    @Test
+    @DisplayName("벤치마크: 내구성 수준별 동시 업로드 처리량")
+    void uploadsPerSecond_ByDurability() throws Exception {
+        byte[] payload = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(payload);
+
+        System.out.printf("[storage benchmark] writers=%d, files=%d, size=%,d bytes%n",
+                WRITERS, WRITERS * FILES_PER_WRITER, FILE_SIZE);
+
+        for (StorageDurability durability : StorageDurability.values()) {
+            double uploadsPerSecond = measure(durability, payload);
+            System.out.printf("  %-6s : %,.0f uploads/s%n", durability, uploadsPerSecond);
+            assertThat(uploadsPerSecond).isPositive();
+        }
+    }
+
+    private double measure(StorageDurability durability, byte[] payload) throws Exception {
+        LocalStorageService storage = new LocalStorageService(
+                root.resolve(durability.name()).toString(), durability, Duration.ZERO,
+                false, DataSize.ofMegabytes(8), DataSize.ofMegabytes(1));
+        storage.init();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < FILES_PER_WRITER; i++) {
+                        storage.storeStream(new ByteArrayInputStream(payload), "files/" + writer + "-" + i + ".bin");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            return WRITERS * FILES_PER_WRITER / (elapsed / 1_000_000_000.0);
+        } finally {
+            storage.close();
+        }
+    }
+}
@@ -50,9 +50,13 @@ class NoticeConcurrencyTest {
 
         // When: 10개의 스레드에서 동시에 API 호출
         for (int i = 0; i < threadCount; i++) {
+            String remoteAddr = "10.0.0." + (i + 1); // 서로 다른 사용자 (중복 조회 제외 대상이 아님)
             executorService.submit(() -> {
                 try {
-                    mockMvc.perform(get("/api/notices/" + targetId));
+                    mockMvc.perform(get("/api/notices/" + targetId).with(request -> {
+                        request.setRemoteAddr(remoteAddr);
+                        return request;
+                    }));
                 } catch (Exception e) {
                     e.printStackTrace();
                 } finally {
@@ -63,7 +67,10 @@ class NoticeConcurrencyTest {
         latch.await(); // 모든 스레드가 끝날 때까지 대기
 
         // Then: 조회수가 정확히 10이 되었는지 확인
-        mockMvc.perform(get("/api/notices/" + targetId))
+        mockMvc.perform(get("/api/notices/" + targetId).with(request -> {
+                    request.setRemoteAddr("10.0.1.1");
+                    return request;
+                }))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.viewCount").value(11)); // 기존 10번 + 마지막 확인용 1번 = 11
     }
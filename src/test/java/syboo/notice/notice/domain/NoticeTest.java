@@ -67,6 +67,26 @@ class NoticeTest {
         assertThat(notice.getTitle()).isEqualTo("new title");
     }
 
+    @Test
+    void update_notice_content_hash_changes_only_when_content_changes() {
+        // given
+        Notice notice = createNotice();
+        String originalHash = notice.getContentHash();
+
+        // when: 본문은 그대로 두고 제목만 수정
+        notice.update("new title", notice.getContent(), fixedNow, fixedNow.plusDays(1));
+
+        // then
+        assertThat(notice.getContentHash()).isEqualTo(originalHash);
+
+        // when: 본문 수정
+        notice.update("new title", "new content", fixedNow, fixedNow.plusDays(1));
+
+        // then
+        assertThat(notice.getContent()).isEqualTo("new content");
+        assertThat(notice.getContentHash()).isNotEqualTo(originalHash);
+    }
+
     @Test
     void increase_view_count() {
         // given
@@ -0,0 +1,30 @@
+package syboo.notice.notice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextTokenizerTest {
+
+    @Test
+    @DisplayName("라틴 문자는 소문자 단어로, 한글은 두 글자씩 겹쳐 나눈다")
+    void tokenize_SplitsWordsAndBigrams() {
+        assertThat(TextTokenizer.tokenize("Release NOTE v2: 공지사항을 확인", 100))
+                .containsExactly("release", "note", "v2", "공지", "지사", "사항", "항을", "확인");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 본문도 검색어의 term을 모두 포함한다")
+    void tokenize_QueryTermsAreSubsetOfDocumentTerms() {
+        assertThat(TextTokenizer.tokenize("시스템 점검 안내문을 첨부합니다", 100))
+                .containsAll(TextTokenizer.tokenize("안내문", 100));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 term은 버린다")
+    void tokenize_RespectsMaxTerms() {
+        assertThat(TextTokenizer.tokenize("a1 b2 c3 d4", 2)).containsExactly("a1", "b2");
+        assertThat(TextTokenizer.tokenize("  !!  ", 10)).isEmpty();
+    }
+}
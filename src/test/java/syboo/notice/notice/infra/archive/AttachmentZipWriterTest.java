@@ -0,0 +1,86 @@
+package syboo.notice.notice.infra.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import syboo.notice.common.exception.FileSecurityException;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+import syboo.notice.notice.repository.AttachmentArchiveEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentZipWriterTest {
+
+    @Mock
+    private StorageService storageService;
+
+    @InjectMocks
+    private AttachmentZipWriter zipWriter;
+
+    @Test
+    @DisplayName("첨부파일을 원본 파일명으로 묶고, 같은 이름은 번호를 붙여 구분한다")
+    void write_ArchivesAllFiles() throws IOException {
+        // given
+        AttachmentArchiveEntry pdf = givenStored(1L, "안내문.pdf", "application/pdf", "pdf-bytes");
+        AttachmentArchiveEntry text = givenStored(2L, "안내문.pdf", "text/plain", "text ".repeat(1_000));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        zipWriter.write(List.of(pdf, text), out);
+
+        // then
+        assertThat(unzip(out.toByteArray())).containsExactly(
+                Map.entry("안내문.pdf", "pdf-bytes"),
+                Map.entry("안내문 (2).pdf", "text ".repeat(1_000)));
+    }
+
+    @Test
+    @DisplayName("저장된 파일이 체크섬과 다르면 묶음을 완성하지 않고 중단한다")
+    void write_FailsOnChecksumMismatch() {
+        // given
+        AttachmentArchiveEntry tampered = new AttachmentArchiveEntry(1L, "a.txt", "stored-a", 5L, "text/plain", "wrong");
+        given(storageService.loadAsResource("stored-a"))
+                .willReturn(new ByteArrayResource("hello".getBytes(StandardCharsets.UTF_8)));
+
+        // when & then
+        assertThatThrownBy(() -> zipWriter.write(List.of(tampered), new ByteArrayOutputStream()))
+                .isInstanceOf(FileSecurityException.class);
+    }
+
+    private AttachmentArchiveEntry givenStored(Long id, String originFileName, String contentType, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String storedFileName = "stored-" + id;
+        given(storageService.loadAsResource(storedFileName)).willReturn(new ByteArrayResource(bytes));
+        return new AttachmentArchiveEntry(id, originFileName, storedFileName, bytes.length, contentType,
+                ChecksumGenerator.generate(new ByteArrayResource(bytes)));
+    }
+
+    private Map<String, String> unzip(byte[] archive) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                files.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,100 @@
+package syboo.notice.notice.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.notice.infra.util.ChecksumGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentContentCacheTest {
+
+    private static final byte[] CONTENT = "월간 공지 PDF".getBytes(StandardCharsets.UTF_8);
+    private static final String CHECKSUM = ChecksumGenerator.generate(new ByteArrayResource(CONTENT));
+
+    private final AttachmentContentCache cache = new AttachmentContentCache(
+            new SimpleMeterRegistry(), DataSize.ofKilobytes(64), DataSize.ofKilobytes(16), 100);
+
+    @Test
+    @DisplayName("처음 요청된 파일은 기억만 하고, 두 번째 요청부터 캐시에 올린다")
+    void shouldLoad_AdmitsOnSecondRequest() {
+        assertThat(cache.shouldLoad("a.pdf", CONTENT.length)).isFalse();
+        assertThat(cache.shouldLoad("a.pdf", CONTENT.length)).isTrue();
+    }
+
+    @Test
+    @DisplayName("항목 최대 크기를 넘는 파일은 캐시하지 않는다")
+    void shouldLoad_BypassesLargeFiles() {
+        long size = DataSize.ofKilobytes(17).toBytes();
+
+        assertThat(cache.shouldLoad("large.pdf", size)).isFalse();
+        assertThat(cache.shouldLoad("large.pdf", size)).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크섬이 일치하는 내용만 캐시에 저장하고, 캐시 응답은 원본과 같은 바이트를 돌려준다")
+    void load_CachesOnlyVerifiedContent() {
+        // when
+        CachedAttachment loaded = cache.load(1L, "a.pdf", CHECKSUM, new ByteArrayResource(CONTENT), CONTENT.length);
+        CachedAttachment tampered = cache.load(1L, "b.pdf", CHECKSUM,
+                new ByteArrayResource("변조된 내용".getBytes(StandardCharsets.UTF_8)), CONTENT.length);
+
+        // then
+        assertThat(loaded.checksum()).isEqualTo(CHECKSUM);
+        assertThat(tampered.checksum()).isNotEqualTo(CHECKSUM);
+        assertThat(cache.find("b.pdf", CHECKSUM)).isEmpty();
+        assertThat(cache.find("a.pdf", "other")).isEmpty();
+        assertThat(cache.find("a.pdf", CHECKSUM)).hasValueSatisfying(cached ->
+                assertThat(readAll(cached)).isEqualTo(CONTENT));
+        // 같은 버퍼를 여러 번 읽어도 매번 처음부터 읽는다
+        assertThat(readAll(cache.find("a.pdf", CHECKSUM).orElseThrow())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("삭제된 파일은 캐시에서 비운다")
+    void invalidate_RemovesEntry() {
+        // given
+        cache.load(1L, "a.pdf", CHECKSUM, new ByteArrayResource(CONTENT), CONTENT.length);
+
+        // when
+        cache.invalidate("a.pdf");
+
+        // then
+        assertThat(cache.find("a.pdf", CHECKSUM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경된 공지사항의 첨부파일은 소속 공지사항 ID로 비우고, 다른 공지사항의 항목은 남긴다")
+    void invalidateNotices_RemovesEntriesOfNotices() {
+        // given
+        cache.load(1L, "a.pdf", CHECKSUM, new ByteArrayResource(CONTENT), CONTENT.length);
+        cache.load(2L, "b.pdf", CHECKSUM, new ByteArrayResource(CONTENT), CONTENT.length);
+
+        // when
+        cache.invalidateNotices(List.of(1L));
+
+        // then
+        assertThat(cache.find("a.pdf", CHECKSUM)).isEmpty();
+        assertThat(cache.find("b.pdf", CHECKSUM)).isPresent();
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertThat(cache.find("b.pdf", CHECKSUM)).isEmpty();
+    }
+
+    private static byte[] readAll(CachedAttachment cached) {
+        try {
+            return cached.toResource("test").getContentAsByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
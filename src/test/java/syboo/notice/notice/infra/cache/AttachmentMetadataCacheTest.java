@@ -0,0 +1,112 @@
+package syboo.notice.notice.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.repository.AttachmentMetadata;
+import syboo.notice.notice.repository.NoticeAttachmentRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentMetadataCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 25, 20, 0);
+
+    @Mock
+    private NoticeAttachmentRepository noticeAttachmentRepository;
+
+    private AttachmentMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AttachmentMetadataCache(noticeAttachmentRepository, new SimpleMeterRegistry(), 1_000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 첨부파일 메타데이터는 다시 DB를 조회하지 않는다")
+    void get_LoadsOnce() {
+        // given
+        given(noticeAttachmentRepository.findMetadataById(10L)).willReturn(Optional.of(metadata(10L, 1L)));
+
+        // when
+        cache.get(10L);
+        Optional<AttachmentMetadata> found = cache.get(10L);
+
+        // then
+        assertThat(found).map(AttachmentMetadata::storedFileName).hasValue("stored-10.pdf");
+        verify(noticeAttachmentRepository, times(1)).findMetadataById(10L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 첨부파일은 캐시하지 않는다")
+    void get_DoesNotCacheMissing() {
+        // given
+        given(noticeAttachmentRepository.findMetadataById(99L)).willReturn(Optional.empty());
+
+        // when
+        cache.get(99L);
+        Optional<AttachmentMetadata> found = cache.get(99L);
+
+        // then
+        assertThat(found).isEmpty();
+        verify(noticeAttachmentRepository, times(2)).findMetadataById(99L);
+    }
+
+    @Test
+    @DisplayName("공지사항이 삭제되면 그 공지사항의 첨부파일 항목만 비운다")
+    void onNoticeChanged_EvictsNoticeEntries() {
+        // given
+        given(noticeAttachmentRepository.findMetadataById(10L)).willReturn(Optional.of(metadata(10L, 1L)));
+        given(noticeAttachmentRepository.findMetadataById(20L)).willReturn(Optional.of(metadata(20L, 2L)));
+        cache.get(10L);
+        cache.get(20L);
+
+        // when
+        cache.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+        cache.get(10L);
+        cache.get(20L);
+
+        // then
+        verify(noticeAttachmentRepository, times(2)).findMetadataById(10L);
+        verify(noticeAttachmentRepository, times(1)).findMetadataById(20L);
+    }
+
+    @Test
+    @DisplayName("공지사항 수정이 커밋되면 새 첨부파일 정보로 미리 채워 다음 다운로드가 DB를 거치지 않는다")
+    void onNoticeChanged_PreloadsUpdatedNotice() throws InterruptedException {
+        // given
+        given(noticeAttachmentRepository.findMetadataByNoticeId(1L)).willReturn(List.of(metadata(11L, 1L)));
+
+        // when
+        cache.onNoticeChanged(NoticeChangedEvent.updated(1L));
+
+        // then: 미리 채우기는 가상 스레드에서 실행된다
+        verify(noticeAttachmentRepository, timeout(1_000)).findMetadataByNoticeId(1L);
+        for (int i = 0; i < 100 && !cache.contains(11L); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get(11L)).isPresent();
+        verify(noticeAttachmentRepository, never()).findMetadataById(11L);
+    }
+
+    private static AttachmentMetadata metadata(Long id, Long noticeId) {
+        return new AttachmentMetadata(id, noticeId, "file-" + id + ".pdf", "stored-" + id + ".pdf", "hash-" + id,
+                100L, "application/pdf", NOW, NOW.minusDays(1), NOW.plusDays(1));
+    }
+}
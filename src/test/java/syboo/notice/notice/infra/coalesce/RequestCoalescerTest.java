@@ -0,0 +1,137 @@
+package syboo.notice.notice.infra.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 계산되고 결과를 공유한다")
+    void execute_CoalescesConcurrentLoads() throws Exception {
+        // given: leader가 계산을 끝내지 못한 상태
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        };
+        CompletableFuture<Object> leader = start(() -> coalescer.execute("test", 1L, loader));
+        waitUntilInFlight();
+
+        // when: 나머지 요청이 모두 leader의 결과를 기다리는 상태에서 계산 완료
+        List<CompletableFuture<Object>> waiters = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            waiters.add(startAndWaitUntilBlocked(() -> coalescer.execute("test", 1L, loader)));
+        }
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        for (CompletableFuture<Object> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notice.coalesce.requests", "namespace", "test", "result", "coalesced").count())
+                .isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("예외 케이스: leader의 예외는 기다리던 요청에도 그대로 전달된다")
+    void execute_SharesFailure() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> leader = start(() -> coalescer.execute("test", 2L, () -> {
+            await(release);
+            throw new IllegalArgumentException("load failed");
+        }));
+        waitUntilInFlight();
+
+        // when
+        CompletableFuture<Object> waiter = startAndWaitUntilBlocked(() -> coalescer.execute("test", 2L, () -> "unexpected"));
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("load failed");
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 대기 시간을 넘기면 leader를 기다리지 않고 직접 계산한다")
+    void execute_FallsBackOnTimeout() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        start(() -> coalescer.execute("test", 3L, () -> {
+            await(release);
+            return "leader";
+        }));
+        waitUntilInFlight();
+
+        // when
+        String result = coalescer.execute("test", 3L, Duration.ofMillis(50), () -> "fallback");
+
+        // then
+        assertThat(result).isEqualTo("fallback");
+        assertThat(meterRegistry.counter("notice.coalesce.requests", "namespace", "test", "result", "timeout").count())
+                .isEqualTo(1.0);
+        release.countDown();
+    }
+
+    private CompletableFuture<Object> start(Supplier<Object> task) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread.ofPlatform().start(() -> run(task, result));
+        return result;
+    }
+
+    /**
+     * 요청 스레드를 시작하고, 그 스레드가 leader의 결과를 기다리며 멈출 때까지 대기한다.
+     */
+    private CompletableFuture<Object> startAndWaitUntilBlocked(Supplier<Object> task) throws InterruptedException {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread thread = Thread.ofPlatform().start(() -> run(task, result));
+        while (thread.getState() != Thread.State.TIMED_WAITING && thread.isAlive()) {
+            Thread.sleep(1);
+        }
+        return result;
+    }
+
+    private void run(Supplier<Object> task, CompletableFuture<Object> result) {
+        try {
+            result.complete(task.get());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        while (meterRegistry.get("notice.coalesce.in-flight").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package syboo.notice.notice.infra.download;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import syboo.notice.common.exception.FileSecurityException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownloadTokenSignerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-25T11:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final DownloadTokenSigner signer = new DownloadTokenSigner(Clock.fixed(NOW, ZONE), "test-secret");
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 담긴 첨부파일 정보를 그대로 돌려받는다")
+    void verify_ReturnsSignedGrant() {
+        // given
+        DownloadGrant grant = grant(NOW.minusSeconds(3_600), NOW.plusSeconds(3_600));
+
+        // when
+        String token = signer.sign(grant);
+
+        // then
+        assertThat(signer.verify(token)).isEqualTo(grant);
+        assertThat(signer.sign(grant)).isEqualTo(token);
+        assertThat(signer.verify(signer.sign(grant(null, null)))).isEqualTo(grant(null, null));
+    }
+
+    @Test
+    @DisplayName("내용이나 서명이 바뀐 토큰, 다른 키로 서명한 토큰은 거부한다")
+    void verify_RejectsTamperedToken() {
+        // given
+        String token = signer.sign(grant(null, NOW.plusSeconds(3_600)));
+        String otherPayload = new DownloadTokenSigner(Clock.fixed(NOW, ZONE), "test-secret")
+                .sign(new DownloadGrant(11L, 1L, "a.pdf", "../../etc/passwd", "hash", 10L, null, null));
+        String forged = otherPayload.substring(0, otherPayload.indexOf('.')) + token.substring(token.indexOf('.'));
+        String otherKey = new DownloadTokenSigner(Clock.fixed(NOW, ZONE), "other-secret")
+                .sign(grant(null, NOW.plusSeconds(3_600)));
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(forged)).isInstanceOf(FileSecurityException.class);
+        assertThatThrownBy(() -> signer.verify(otherKey)).isInstanceOf(FileSecurityException.class);
+        assertThatThrownBy(() -> signer.verify("not-a-token")).isInstanceOf(FileSecurityException.class);
+        assertThatThrownBy(() -> signer.verify("!!!.???")).isInstanceOf(FileSecurityException.class);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 거부한다")
+    void verify_RejectsExpiredToken() {
+        // given
+        String token = signer.sign(grant(null, NOW.minusSeconds(1)));
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(token))
+                .isInstanceOf(FileSecurityException.class)
+                .hasMessageContaining("만료");
+    }
+
+    @Test
+    @DisplayName("게시 시작 시각 전의 토큰은 거부한다")
+    void verify_RejectsTokenBeforeStart() {
+        // given
+        String token = signer.sign(grant(NOW.plusSeconds(60), null));
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(token))
+                .isInstanceOf(FileSecurityException.class)
+                .hasMessageContaining("공지 기간");
+    }
+
+    private static DownloadGrant grant(Instant startsAt, Instant expiresAt) {
+        return new DownloadGrant(10L, 1L, "월간 공지.pdf", "uuid_월간 공지.pdf", "abc123", 2_048L, startsAt, expiresAt);
+    }
+}
@@ -0,0 +1,56 @@
+package syboo.notice.notice.infra.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationMessageTest {
+
+    private static final String NODE_ID = "node-1";
+
+    @Test
+    @DisplayName("ID 목록을 인코딩한 메시지는 같은 노드 ID와 ID 목록으로 디코딩된다")
+    void encodeDecode_RoundTrip() {
+        // when
+        List<String> payloads = InvalidationMessage.encode(NODE_ID, List.of(1L, 2L, 3L));
+        InvalidationMessage message = InvalidationMessage.decode(payloads.get(0));
+
+        // then
+        assertThat(payloads).hasSize(1);
+        assertThat(message.nodeId()).isEqualTo(NODE_ID);
+        assertThat(message.all()).isFalse();
+        assertThat(message.noticeIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("ID가 많으면 NOTIFY 페이로드 제한을 넘지 않도록 여러 메시지로 나뉜다")
+    void encode_SplitsLargeBatch() {
+        // given
+        Set<Long> ids = LongStream.rangeClosed(1_000_000_000L, 1_000_002_000L).boxed().collect(Collectors.toSet());
+
+        // when
+        List<String> payloads = InvalidationMessage.encode(NODE_ID, ids);
+
+        // then
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allMatch(p -> p.length() <= InvalidationMessage.MAX_PAYLOAD_BYTES);
+        assertThat(payloads.stream()
+                .flatMap(p -> InvalidationMessage.decode(p).noticeIds().stream())
+                .collect(Collectors.toSet()))
+                .isEqualTo(ids);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 메시지와 형식이 잘못된 메시지는 모두 전체 무효화로 해석된다")
+    void decode_FlushAllAndMalformed() {
+        assertThat(InvalidationMessage.decode(InvalidationMessage.flushAll(NODE_ID).encode()).all()).isTrue();
+        assertThat(InvalidationMessage.decode("garbage").all()).isTrue();
+        assertThat(InvalidationMessage.decode(NODE_ID + "|1,x").all()).isTrue();
+    }
+}
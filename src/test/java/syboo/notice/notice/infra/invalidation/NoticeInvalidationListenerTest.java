@@ -0,0 +1,78 @@
+package syboo.notice.notice.infra.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGNotification;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NoticeInvalidationListenerTest {
+
+    @Mock
+    private LocalNoticeCacheInvalidator invalidator;
+
+    private NoticeInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NoticeInvalidationListener(new DataSourceProperties(), invalidator, new NodeIdentity(),
+                new SimpleMeterRegistry(), Duration.ofSeconds(1), 500);
+    }
+
+    @Test
+    @DisplayName("메시지 반영 중 예외가 나면 구독 스레드로 던지지 않고 전체 무효화로 대신한다")
+    void apply_FallsBackToFullFlushOnFailure() {
+        // given
+        willThrow(new IllegalStateException("캐시 오류")).given(invalidator).invalidate(anyCollection());
+
+        // when & then
+        assertThatCode(() -> listener.apply(new PGNotification[]{notification(1L)})).doesNotThrowAnyException();
+        verify(invalidator).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("전체 무효화마저 실패해도 구독 스레드로 예외를 던지지 않는다")
+    void apply_SurvivesFullFlushFailure() {
+        // given
+        willThrow(new IllegalStateException("캐시 오류")).given(invalidator).invalidate(anyCollection());
+        willThrow(new IllegalStateException("캐시 오류")).given(invalidator).invalidateAll();
+
+        // when & then
+        assertThatCode(() -> listener.apply(new PGNotification[]{notification(1L)})).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 메시지를 받아도 전체 무효화로 대신한다")
+    void apply_FallsBackToFullFlushOnMalformedMessage() {
+        // given
+        PGNotification malformed = mock(PGNotification.class);
+        given(malformed.getParameter()).willReturn("other-node|not-a-number");
+
+        // when
+        listener.apply(new PGNotification[]{malformed});
+
+        // then
+        verify(invalidator).invalidateAll();
+    }
+
+    private static PGNotification notification(Long noticeId) {
+        PGNotification notification = mock(PGNotification.class);
+        given(notification.getParameter()).willReturn(InvalidationMessage.encode("other-node", List.of(noticeId)).get(0));
+        return notification;
+    }
+}
@@ -0,0 +1,178 @@
+package syboo.notice.notice.infra.period;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import syboo.notice.notice.application.event.NoticeActivityChangedEvent;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.repository.NoticePeriod;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveNoticeIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 25, 20, 0);
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private ActiveNoticeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.atZone(ZONE).toInstant(), ZONE);
+        index = new ActiveNoticeIndex(clock, noticeRepository, eventPublisher, new SimpleMeterRegistry(),
+                Duration.ofSeconds(1), 60, 1000);
+    }
+
+    @Test
+    @DisplayName("기동 시 게시 기간을 읽어 현재 게시 중인 공지사항만 활성 집합에 넣는다")
+    void rebuild_ClassifiesByPeriod() {
+        // given
+        given(noticeRepository.findAllPeriods()).willReturn(List.of(
+                new NoticePeriod(1L, NOW.minusDays(1), NOW.plusDays(1)),
+                new NoticePeriod(2L, NOW.plusHours(1), NOW.plusDays(1)),
+                new NoticePeriod(3L, NOW.minusDays(2), NOW.minusDays(1))));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.activeIds()).containsExactly(1L);
+        assertThat(index.findViewability(2L)).contains(false);
+        assertThat(index.findViewability(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시 시작/종료 시각이 지나면 타이머가 상태를 전이시키고 세대가 증가한다")
+    void advance_FiresActivationAndExpiry() {
+        // given: 10초 뒤 시작, 2시간 뒤 종료 (종료는 휠 한 바퀴(60초)보다 멀다)
+        given(noticeRepository.findAllPeriods()).willReturn(List.of(
+                new NoticePeriod(1L, NOW.plusSeconds(10), NOW.plusHours(2))));
+        index.rebuild();
+        long before = index.generation();
+
+        // when & then: 시작 전
+        clock.advance(Duration.ofSeconds(9));
+        index.advance();
+        assertThat(index.activeIds()).isEmpty();
+
+        // when & then: 시작
+        clock.advance(Duration.ofSeconds(1));
+        index.advance();
+        assertThat(index.activeIds()).containsExactly(1L);
+        assertThat(index.generation()).isGreaterThan(before);
+        verify(eventPublisher).publishEvent(new NoticeActivityChangedEvent(List.of(1L), List.of()));
+
+        // when & then: 종료일시 당일까지는 게시 중, 그 직후 만료
+        clock.advance(Duration.ofHours(2).minusSeconds(10));
+        index.advance();
+        assertThat(index.activeIds()).containsExactly(1L);
+
+        clock.advance(Duration.ofSeconds(1));
+        index.advance();
+        assertThat(index.activeIds()).isEmpty();
+        assertThat(index.findViewability(1L)).contains(false);
+        verify(eventPublisher).publishEvent(new NoticeActivityChangedEvent(List.of(), List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 해당 공지사항만 다시 읽어 반영하고, 삭제된 공지사항은 제거한다")
+    void onNoticeChanged_RefreshesSingleNotice() {
+        // given
+        given(noticeRepository.findAllPeriods()).willReturn(List.of(
+                new NoticePeriod(1L, NOW.minusDays(1), NOW.plusDays(1))));
+        index.rebuild();
+
+        // when: 게시 기간이 미래로 바뀐 경우
+        given(noticeRepository.findPeriodsByIdIn(List.of(1L))).willReturn(List.of(
+                new NoticePeriod(1L, NOW.plusDays(1), NOW.plusDays(2))));
+        index.onNoticeChanged(NoticeChangedEvent.updated(1L));
+
+        // then
+        assertThat(index.activeIds()).isEmpty();
+        assertThat(index.findViewability(1L)).contains(false);
+
+        // when: 삭제된 경우
+        given(noticeRepository.findPeriodsByIdIn(List.of(1L))).willReturn(List.of());
+        index.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+
+        // then: 인덱스가 모르는 공지사항은 DB로 판단하도록 비워 둔다
+        assertThat(index.findViewability(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시 중 집합의 해시는 세대와 무관하게 집합이 같으면 같고, 집합이 바뀌면 달라진다")
+    void activeFingerprint_DependsOnlyOnActiveSet() {
+        // given: 세대가 다른 두 노드의 인덱스
+        given(noticeRepository.findAllPeriods()).willReturn(List.of(
+                new NoticePeriod(1L, NOW.minusDays(1), NOW.plusDays(1)),
+                new NoticePeriod(2L, NOW.minusDays(1), NOW.plusSeconds(5))));
+        ActiveNoticeIndex otherNode = new ActiveNoticeIndex(clock, noticeRepository, eventPublisher,
+                new SimpleMeterRegistry(), Duration.ofSeconds(1), 60, 1000);
+        index.rebuild();
+        otherNode.rebuild();
+        otherNode.rebuild();
+        String before = index.activeFingerprint();
+
+        // when & then
+        assertThat(otherNode.generation()).isNotEqualTo(index.generation());
+        assertThat(otherNode.activeFingerprint()).isEqualTo(before);
+
+        clock.advance(Duration.ofSeconds(6));
+        index.advance();
+        assertThat(index.activeFingerprint()).isNotEqualTo(before);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package syboo.notice.notice.infra.popular;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.api.response.PopularNoticeResponse;
+import syboo.notice.notice.application.event.NoticeChangedEvent;
+import syboo.notice.notice.repository.NoticeRepository;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PopularNoticeTrackerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 25, 20, 0);
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private MutableClock clock;
+    private PopularNoticeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.atZone(ZONE).toInstant(), ZONE);
+        tracker = newTracker();
+    }
+
+    @Test
+    @DisplayName("구간별로 해당 기간의 조회만 집계하여 순위를 매긴다")
+    void refresh_RanksPerWindow() {
+        // given: 2시간 전에는 1번이, 최근에는 2번이 많이 조회됨
+        givenSummariesExist();
+        recordViews(1L, 5);
+        clock.advance(Duration.ofHours(2));
+        recordViews(2L, 3);
+
+        // when
+        tracker.refresh();
+
+        // then
+        assertThat(tracker.getTop(PopularWindow.HOUR, 10))
+                .extracting(PopularNoticeResponse::id, PopularNoticeResponse::views)
+                .containsExactly(tuple(2L, 3L));
+        assertThat(tracker.getTop(PopularWindow.DAY, 10))
+                .extracting(PopularNoticeResponse::rank, PopularNoticeResponse::id, PopularNoticeResponse::views)
+                .containsExactly(
+                        tuple(1, 1L, 5L),
+                        tuple(2, 2L, 3L));
+        assertThat(tracker.getTop(PopularWindow.DAY, 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("목록 정보는 순위에 새로 오른 공지사항만 조회하고, 삭제된 공지사항은 순위에서 제외한다")
+    void refresh_LoadsOnlyNewSummariesAndSkipsDeleted() {
+        // given
+        givenSummariesExist();
+        recordViews(1L, 2);
+        recordViews(2L, 1);
+        tracker.refresh();
+        clearInvocations(noticeRepository);
+
+        // when: 변경 없이 다시 계산
+        tracker.refresh();
+
+        // then
+        verify(noticeRepository, never()).findNoticeListByIds(anyCollection(), any());
+
+        // when: 1번이 삭제됨
+        tracker.onNoticeChanged(NoticeChangedEvent.deleted(1L));
+        tracker.refresh();
+
+        // then
+        assertThat(tracker.getTop(PopularWindow.WEEK, 10))
+                .extracting(PopularNoticeResponse::rank, PopularNoticeResponse::id)
+                .containsExactly(tuple(1, 2L));
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷으로 재기동 후에도 집계가 유지된다")
+    void snapshot_RestoresAfterRestart() {
+        // given
+        givenSummariesExist();
+        recordViews(1L, 4);
+        tracker.saveSnapshot();
+
+        // when
+        PopularNoticeTracker restarted = newTracker();
+        restarted.restoreSnapshot();
+        restarted.refresh();
+
+        // then
+        assertThat(restarted.getTop(PopularWindow.WEEK, 10))
+                .extracting(PopularNoticeResponse::id, PopularNoticeResponse::views)
+                .containsExactly(tuple(1L, 4L));
+    }
+
+    private PopularNoticeTracker newTracker() {
+        return new PopularNoticeTracker(clock, noticeRepository, JsonMapper.builder().build(),
+                new SimpleMeterRegistry(), Duration.ofMinutes(10), 50, 20,
+                tempDir.resolve("popular.json").toString());
+    }
+
+    private void recordViews(Long id, int count) {
+        for (int i = 0; i < count; i++) {
+            tracker.recordView(id);
+        }
+    }
+
+    private void givenSummariesExist() {
+        given(noticeRepository.findNoticeListByIds(anyCollection(), any(Pageable.class))).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return new PageImpl<>(ids.stream()
+                    .map(id -> new NoticeListResponse(id, "공지 " + id, "tester", NOW, 0L, false))
+                    .toList());
+        });
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
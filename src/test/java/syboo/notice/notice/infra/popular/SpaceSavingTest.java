@@ -0,0 +1,84 @@
+package syboo.notice.notice.infra.popular;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("카운터 수보다 종류가 적으면 빈도를 정확히 센다")
+    void offer_ExactWhenUnderCapacity() {
+        // given
+        SpaceSaving summary = new SpaceSaving(10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            summary.offer(1L);
+        }
+        summary.offer(2L);
+        summary.offer(2L);
+        summary.offer(3L);
+
+        // then
+        assertThat(summary.top(2)).containsExactly(
+                new SpaceSaving.Counter(1L, 5, 0),
+                new SpaceSaving.Counter(2L, 2, 0));
+        assertThat(summary.total()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("긴 꼬리 속에서도 자주 조회된 항목은 추적되며, 추정값은 실제 빈도 이상이고 오차 범위 안에 있다")
+    void offer_KeepsHeavyHittersWithinErrorBound() {
+        // given: 3개의 인기 항목(각 1,000회)과 5,000개 항목이 1~2회씩 섞인 스트림
+        SpaceSaving summary = new SpaceSaving(50);
+        Random random = new Random(42);
+        long[] heavy = {7L, 11L, 13L};
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            for (long id : heavy) {
+                summary.offer(id);
+            }
+            for (int j = 0; j < 8; j++) {
+                summary.offer(1_000L + random.nextInt(5_000));
+            }
+        }
+
+        // then
+        List<SpaceSaving.Counter> top = summary.top(3);
+        assertThat(top).extracting(SpaceSaving.Counter::id).containsExactlyInAnyOrder(7L, 11L, 13L);
+        assertThat(top).allSatisfy(counter -> {
+            assertThat(counter.count()).isGreaterThanOrEqualTo(1_000);
+            assertThat(counter.count() - counter.error()).isLessThanOrEqualTo(1_000);
+            assertThat(counter.error()).isLessThanOrEqualTo(summary.total() / 50);
+        });
+    }
+
+    @Test
+    @DisplayName("여러 구간의 요약을 병합하면 같은 항목의 빈도가 합산된다")
+    void merge_SumsCounters() {
+        // given
+        SpaceSaving first = new SpaceSaving(10);
+        SpaceSaving second = new SpaceSaving(10);
+        first.offer(1L);
+        first.offer(1L);
+        second.offer(1L);
+        second.offer(2L);
+
+        // when
+        SpaceSaving merged = new SpaceSaving(10);
+        merged.merge(first);
+        merged.merge(second);
+
+        // then
+        assertThat(merged.top(10)).containsExactly(
+                new SpaceSaving.Counter(1L, 3, 0),
+                new SpaceSaving.Counter(2L, 1, 0));
+        assertThat(merged.total()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,157 @@
+package syboo.notice.notice.infra.push;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import syboo.notice.notice.api.response.NoticeChangeFeedResponse;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.application.NoticeChangeFeedService;
+import syboo.notice.notice.domain.NoticeChangeType;
+import syboo.notice.notice.infra.changefeed.ChangeFeedSignal;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class NoticePushBroadcasterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 25, 20, 0);
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    @Mock
+    private NoticeChangeFeedService changeFeedService;
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NoticePushBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new NoticePushBroadcaster(changeFeedService, noticeRepository,
+                new ChangeFeedSignal(meterRegistry), meterRegistry, Duration.ofMinutes(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 놓친 변경을 재생한 뒤, 겹치는 실시간 이벤트는 건너뛰고 이어 보낸다")
+    void register_ReplaysThenSkipsDuplicates() throws Exception {
+        // given: 기동 시점 커서 2, 재연결한 클라이언트는 1까지 받음
+        given(changeFeedService.getChanges(isNull(), anyInt())).willReturn(NoticeChangeFeedResponse.empty(2));
+        broadcaster.pump();
+        given(changeFeedService.getChanges(eq(1L), anyInt())).willReturn(feed(3, change(2), change(3)));
+        given(changeFeedService.getChanges(eq(2L), anyInt())).willReturn(feed(3, change(3)));
+        given(changeFeedService.getChanges(eq(3L), anyInt())).willReturn(NoticeChangeFeedResponse.empty(3));
+
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        // when: 재생과 실시간 전파(3번)가 겹침
+        broadcaster.register(emitter, 1L);
+        broadcaster.pump();
+        broadcaster.heartbeat();
+
+        // then: heartbeat까지 도착했다면 앞선 이벤트는 모두 처리된 상태
+        assertThat(emitter.heartbeat.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.eventIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊는다")
+    void broadcast_DropsSlowSubscriber() throws Exception {
+        // given: 첫 전송에서 멈춰 있는 구독자
+        given(changeFeedService.getChanges(isNull(), anyInt())).willReturn(NoticeChangeFeedResponse.empty(0));
+        broadcaster.pump();
+        given(changeFeedService.getChanges(eq(0L), anyInt()))
+                .willReturn(feed(4, change(1), change(2), change(3), change(4)));
+
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(slow, null);
+
+        try {
+            // when: 버퍼(2)보다 많은 변경
+            broadcaster.pump();
+
+            // then
+            assertThat(meterRegistry.get("notice.push.dropped").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("notice.push.subscribers").gauge().value()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private NoticeChangeFeedResponse feed(long cursor, NoticeChangeFeedResponse.Change... changes) {
+        return new NoticeChangeFeedResponse(List.of(changes), cursor, false, false);
+    }
+
+    private NoticeChangeFeedResponse.Change change(long seq) {
+        return new NoticeChangeFeedResponse.Change(seq, seq, NoticeChangeType.UPDATED, NOW,
+                new NoticeListResponse(seq, "공지 " + seq, "tester", NOW, 0L, false));
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 emitter. {@code block}이 주어지면 전송마다 풀릴 때까지 멈춘다.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch block;
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch heartbeat = new CountDownLatch(1);
+
+        private RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            sent.add(text.toString());
+            if (text.toString().startsWith(":heartbeat")) {
+                heartbeat.countDown();
+            }
+        }
+
+        List<Long> eventIds() {
+            return sent.stream()
+                    .map(EVENT_ID::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .toList();
+        }
+    }
+}
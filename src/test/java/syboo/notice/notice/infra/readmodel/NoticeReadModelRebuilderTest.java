@@ -0,0 +1,113 @@
+package syboo.notice.notice.infra.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.domain.NoticeReadModel;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class NoticeReadModelRebuilderTest extends IntegrationTestSupport {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private NoticeReadModelRepository readModelRepository;
+
+    @Autowired
+    private NoticeReadModelRebuilder rebuilder;
+
+    @Autowired
+    private NoticeReadModelProjector projector;
+
+    private Notice withAttachment;
+    private Notice plain;
+
+    @BeforeEach
+    void setUp() {
+        withAttachment = newNotice("첨부 공지");
+        withAttachment.addAttachment(NoticeAttachment.builder()
+                .originFileName("a.pdf")
+                .storedFileName("stored-a.pdf")
+                .fileSize(1_024L)
+                .contentType("application/pdf")
+                .checksum("checksum")
+                .build());
+        noticeRepository.save(withAttachment);
+        plain = noticeRepository.save(newNotice("일반 공지"));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 원본에서 재구성하고 원본이 없는 행은 지운다")
+    void rebuild_RegeneratesFromSource() {
+        // given: 원본이 없는 행
+        readModelRepository.save(NoticeReadModel.builder()
+                .noticeId(9_999L)
+                .title("사라진 공지")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW)
+                .noticeEndAt(TestClockConfig.FIXED_NOW)
+                .syncedAt(TestClockConfig.FIXED_NOW)
+                .build());
+
+        // when
+        NoticeReadModelRebuilder.RebuildResult result = rebuilder.rebuild();
+
+        // then
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.orphansRemoved()).isEqualTo(1);
+        assertThat(readModelRepository.findById(withAttachment.getId())).get()
+                .satisfies(row -> {
+                    assertThat(row.getAttachmentCount()).isEqualTo(1);
+                    assertThat(row.getAttachmentBytes()).isEqualTo(1_024L);
+                });
+        assertThat(readModelRepository.findNoticeList(PageRequest.of(0, 10, Sort.by("id").ascending())).getContent())
+                .extracting(NoticeListResponse::id, NoticeListResponse::hasAttachment)
+                .containsExactly(
+                        tuple(withAttachment.getId(), true),
+                        tuple(plain.getId(), false));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 변경된 공지사항만 다시 반영하고, 삭제된 공지사항은 읽기 모델에서도 지운다")
+    void project_UpsertsAndRemoves() {
+        // given
+        projector.project(List.of(withAttachment.getId(), plain.getId()));
+        noticeRepository.updateViewCount(plain.getId());
+        readModelRepository.syncViewCounts();
+
+        // when
+        noticeRepository.deleteById(withAttachment.getId());
+        noticeRepository.flush();
+        projector.project(List.of(withAttachment.getId()));
+
+        // then
+        assertThat(readModelRepository.findNoticeList(PageRequest.of(0, 10)).getContent())
+                .extracting(NoticeListResponse::id, NoticeListResponse::viewCount)
+                .containsExactly(tuple(plain.getId(), 1L));
+    }
+
+    private Notice newNotice(String title) {
+        return Notice.builder()
+                .title(title)
+                .content(title + " 내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package syboo.notice.notice.infra.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.api.request.NoticeSearchCondition;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.domain.TextTokenizer;
+import syboo.notice.notice.repository.AttachmentTextTermJdbcRepository;
+import syboo.notice.notice.repository.NoticeReadModelRepository;
+import syboo.notice.notice.repository.NoticeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 읽기 모델을 켠 상태에서 목록/검색을 검증한다. 테스트 트랜잭션은 커밋되지 않아 커밋 직전 이벤트가 발생하지 않으므로,
+ * 저장한 공지사항은 프로젝터로 직접 읽기 모델에 반영한다.
+ */
+@TestPropertySource(properties = "notice.read-model.enabled=true")
+class NoticeReadModelSearchTest extends IntegrationTestSupport {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private NoticeReadModelRepository readModelRepository;
+
+    @Autowired
+    private NoticeReadModelProjector projector;
+
+    @Autowired
+    private NoticeReadModelRebuilder rebuilder;
+
+    @Autowired
+    private AttachmentTextTermJdbcRepository attachmentTextTermRepository;
+
+    private Notice manual;
+    private Notice schedule;
+
+    @BeforeEach
+    void setUp() {
+        manual = saveWithAttachment("사용자 매뉴얼 배포", "manual.pdf");
+        schedule = saveWithAttachment("점검 일정 안내", "schedule.pdf");
+
+        index(manual, "시스템 사용자 설명서를 첨부합니다.");
+        index(schedule, "정기 점검은 매월 첫째 주에 진행합니다.");
+
+        projector.project(List.of(manual.getId(), schedule.getId()));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 읽기 모델이 준비되면 목록/검색을 읽기 모델에서 처리하고, 읽기 모델에 없는 공지사항은 나오지 않는다")
+    void search_UsesReadModel() {
+        // given: 읽기 모델에 반영되지 않은 공지사항
+        noticeRepository.saveAndFlush(newNotice("점검 결과"));
+
+        // when & then
+        assertThat(rebuilder.canServe()).isTrue();
+        assertThat(search("점검", "TITLE")).containsExactly(schedule.getId());
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 검색 타입을 생략하거나 TITLE이면 읽기 모델의 제목으로 검색한다")
+    void search_ByTitle() {
+        assertThat(search("매뉴얼", null)).containsExactly(manual.getId());
+        assertThat(search("매뉴얼", "TITLE")).containsExactly(manual.getId());
+        assertThat(search("설명서", "TITLE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: ATTACHMENT 검색은 읽기 모델 행을 첨부파일 본문 색인으로 거른다")
+    void search_ByAttachment() {
+        assertThat(search("설명서", "ATTACHMENT")).containsExactly(manual.getId());
+        assertThat(search("정기 점검", "ATTACHMENT")).containsExactly(schedule.getId());
+        assertThat(search("매뉴얼", "ATTACHMENT")).isEmpty();
+        assertThat(search("설명서 점검", "ATTACHMENT")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 등록일자 기간 조건을 읽기 모델의 등록일시로 적용한다")
+    void search_ByCreatedDateRange() {
+        LocalDateTime startOfToday = TestClockConfig.FIXED_NOW.toLocalDate().atStartOfDay();
+
+        assertThat(readModelRepository.search(new NoticeSearchCondition(null, null, startOfToday, startOfToday.plusDays(1)),
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+        assertThat(readModelRepository.search(new NoticeSearchCondition(null, null, startOfToday.minusDays(1), startOfToday.minusSeconds(1)),
+                PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 검색 API는 검색 타입별로 읽기 모델 결과를 응답하고, 본문 검색(TITLE_CONTENT)은 원본에서 처리한다")
+    void searchApi_EachSearchType() throws Exception {
+        mockMvc.perform(get("/api/notices/search")
+                        .param("query", "매뉴얼")
+                        .param("searchType", "TITLE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(manual.getId()))
+                .andExpect(jsonPath("$.content[0].hasAttachment").value(true));
+
+        mockMvc.perform(get("/api/notices/search")
+                        .param("query", "정기 점검")
+                        .param("searchType", "ATTACHMENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(schedule.getId()));
+
+        mockMvc.perform(get("/api/notices/search")
+                        .param("query", "점검 일정 안내 내용")
+                        .param("searchType", "TITLE_CONTENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(schedule.getId()));
+
+        mockMvc.perform(get("/api/notices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(2));
+    }
+
+    private List<Long> search(String query, String searchType) {
+        return readModelRepository.search(new NoticeSearchCondition(query, searchType, null, null), PageRequest.of(0, 10))
+                .getContent().stream()
+                .map(NoticeListResponse::id)
+                .toList();
+    }
+
+    private void index(Notice notice, String text) {
+        Long attachmentId = notice.getAttachments().getFirst().getId();
+        attachmentTextTermRepository.replaceTerms(attachmentId, notice.getId(), TextTokenizer.tokenize(text, 1_000));
+    }
+
+    private Notice saveWithAttachment(String title, String fileName) {
+        Notice notice = newNotice(title);
+        notice.addAttachment(NoticeAttachment.builder()
+                .originFileName(fileName)
+                .storedFileName("stored-" + fileName)
+                .fileSize(1_024L)
+                .contentType("application/pdf")
+                .checksum("checksum")
+                .build());
+        return noticeRepository.saveAndFlush(notice);
+    }
+
+    private Notice newNotice(String title) {
+        return Notice.builder()
+                .title(title)
+                .content(title + " 내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build();
+    }
+}
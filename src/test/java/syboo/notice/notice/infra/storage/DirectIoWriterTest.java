@@ -0,0 +1,81 @@
+package syboo.notice.notice.infra.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectIoWriterTest {
+
+    private static final int THRESHOLD = 16 * 1024;
+
+    @TempDir
+    private Path tempDir;
+
+    private final DirectIoWriter writer = new DirectIoWriter(THRESHOLD, 8 * 1024);
+
+    @Test
+    @DisplayName("임계값을 넘는 파일도 블록 단위로 채워 쓴 뒤 실제 크기로 잘라내 내용이 그대로 보존된다")
+    void write_LargeFileKeepsExactContent() throws IOException {
+        // given: 임계값을 넘고 블록 크기로 나누어떨어지지 않는 크기
+        byte[] content = randomBytes(THRESHOLD * 3 + 123);
+        Path file = tempDir.resolve("large.bin");
+
+        // when
+        long written = writer.write(new ByteArrayInputStream(content), file, 0, true);
+
+        // then
+        assertThat(written).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 파일은 그대로 기록된다")
+    void write_SmallFile() throws IOException {
+        // given
+        byte[] content = randomBytes(100);
+        Path file = tempDir.resolve("small.bin");
+
+        // when
+        long written = writer.write(new ByteArrayInputStream(content), file, 0, false);
+
+        // then
+        assertThat(written).isEqualTo(100);
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("정렬되지 않은 오프셋부터 이어 쓰면 오프셋 이후의 기존 데이터를 대체한다")
+    void write_AppendFromUnalignedOffset() throws IOException {
+        // given: 이전 기록이 오프셋 뒤까지 남아 있는 파일
+        byte[] head = randomBytes(THRESHOLD + 1000);
+        byte[] tail = randomBytes(THRESHOLD * 2 + 7);
+        Path file = tempDir.resolve("chunked.bin");
+        Files.write(file, randomBytes(head.length + 5000));
+        Files.write(file, head, StandardOpenOption.WRITE);
+
+        // when
+        long written = writer.write(new ByteArrayInputStream(tail), file, head.length, false);
+
+        // then
+        byte[] expected = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, expected, head.length, tail.length);
+        assertThat(written).isEqualTo(tail.length);
+        assertThat(Files.readAllBytes(file)).isEqualTo(expected);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
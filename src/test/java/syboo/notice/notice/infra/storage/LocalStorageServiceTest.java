@@ -0,0 +1,150 @@
+package syboo.notice.notice.infra.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.common.exception.FileStorageException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageServiceTest {
+
+    @TempDir
+    private Path root;
+
+    private LocalStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new LocalStorageService(root.toString(), StorageDurability.GROUP, Duration.ZERO,
+                false, DataSize.ofMegabytes(8), DataSize.ofMegabytes(1));
+        storageService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageService.close();
+    }
+
+    @Test
+    @DisplayName("저장이 끝나면 최종 경로에 파일이 있고 임시 파일은 남지 않는다")
+    void storeStream_LeavesNoTempFile() throws IOException {
+        // when
+        long written = storageService.storeStream(stream("hello"), "2026/01/a.txt");
+
+        // then
+        assertThat(written).isEqualTo(5);
+        assertThat(Files.readString(root.resolve("2026/01/a.txt"))).isEqualTo("hello");
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록 중 실패하면 기존 파일은 그대로 남고 부분 파일이 생기지 않는다")
+    void storeStream_FailureKeepsPreviousFile() throws IOException {
+        // given
+        storageService.storeStream(stream("old"), "a.txt");
+        InputStream broken = new InputStream() {
+            private int remaining = 3;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- > 0) {
+                    return 'x';
+                }
+                throw new IOException("연결 끊김");
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> storageService.storeStream(broken, "a.txt"))
+                .isInstanceOf(FileStorageException.class);
+        assertThatThrownBy(() -> storageService.storeStream(broken, "b.txt"))
+                .isInstanceOf(FileStorageException.class);
+
+        assertThat(Files.readString(root.resolve("a.txt"))).isEqualTo("old");
+        assertThat(root.resolve("b.txt")).doesNotExist();
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 디렉토리 동기화 요청은 묶어서 한 번에 처리한다")
+    void directorySync_BatchesConcurrentRequests() throws Exception {
+        // given
+        DirectorySyncGroup group = new DirectorySyncGroup(Duration.ofMillis(20));
+        int writers = 16;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                futures.add(executor.submit(() -> {
+                    group.sync(root);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            group.close();
+        }
+
+        // then: 지연 시간 동안 모인 요청은 한 번의 fsync로 처리된다
+        assertThat(group.requestCount()).isEqualTo(writers);
+        assertThat(group.flushCount()).isLessThan(writers);
+    }
+
+    @Test
+    @DisplayName("종료된 뒤의 디렉토리 동기화 요청은 기다리지 않고 실패한다")
+    void directorySync_FailsFastAfterClose() {
+        // given
+        DirectorySyncGroup group = new DirectorySyncGroup(Duration.ZERO);
+        group.close();
+
+        // when & then
+        assertThatThrownBy(() -> group.sync(root)).isInstanceOf(InterruptedIOException.class);
+    }
+
+    @Test
+    @DisplayName("기동 시 이전 실행에서 남은 임시 파일을 정리한다")
+    void init_ClearsLeftoverTempFiles() throws IOException {
+        // given
+        Path leftover = root.resolve(LocalStorageService.TEMP_DIRECTORY).resolve("crashed.tmp");
+        Files.createDirectories(leftover.getParent());
+        Files.writeString(leftover, "partial");
+
+        // when
+        storageService.init();
+
+        // then
+        assertThat(leftover).doesNotExist();
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (var files = Files.list(root.resolve(LocalStorageService.TEMP_DIRECTORY))) {
+            return files.toList();
+        }
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package syboo.notice.notice.infra.textextract;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import syboo.notice.notice.domain.AttachmentTextStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfTextExtractorTest {
+
+    private static final long NO_DEADLINE = Duration.ofMinutes(1).toNanos();
+
+    @Test
+    @DisplayName("PDF 본문을 추출하고, 최대 글자 수를 넘으면 잘라낸다")
+    void extract_ReadsTextAndTruncates() throws IOException {
+        // given
+        byte[] pdf = pdf("Quarterly maintenance schedule");
+
+        // when
+        PdfTextExtractor.ExtractedText full = new PdfTextExtractor(10_000)
+                .extract(new ByteArrayInputStream(pdf), System.nanoTime() + NO_DEADLINE);
+        PdfTextExtractor.ExtractedText truncated = new PdfTextExtractor(9)
+                .extract(new ByteArrayInputStream(pdf), System.nanoTime() + NO_DEADLINE);
+
+        // then
+        assertThat(full.status()).isEqualTo(AttachmentTextStatus.EXTRACTED);
+        assertThat(full.text()).contains("Quarterly maintenance schedule");
+        assertThat(truncated.status()).isEqualTo(AttachmentTextStatus.TRUNCATED);
+        assertThat(truncated.text()).hasSizeLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 파싱을 멈추고, 손상된 문서는 실패로 기록한다")
+    void extract_StopsAtDeadlineAndReportsFailure() throws IOException {
+        // given
+        PdfTextExtractor extractor = new PdfTextExtractor(10_000);
+        byte[] pdf = pdf("late");
+
+        // when
+        PdfTextExtractor.ExtractedText timedOut = extractor.extract(new ByteArrayInputStream(pdf), System.nanoTime() - 1);
+        PdfTextExtractor.ExtractedText broken = extractor.extract(
+                new ByteArrayInputStream("%PDF-1.7 broken".getBytes()), System.nanoTime() + NO_DEADLINE);
+
+        // then
+        assertThat(timedOut.status()).isEqualTo(AttachmentTextStatus.TIMED_OUT);
+        assertThat(broken.status()).isEqualTo(AttachmentTextStatus.FAILED);
+        assertThat(broken.text()).isNull();
+    }
+
+    private static byte[] pdf(String text) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                stream.beginText();
+                stream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                stream.newLineAtOffset(72, 700);
+                stream.showText(text);
+                stream.endText();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package syboo.notice.notice.infra.thumbnail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import syboo.notice.common.exception.FileInvalidException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailRendererTest {
+
+    private final ThumbnailRenderer renderer = new ThumbnailRenderer(50_000_000L, 0.85f);
+
+    @Test
+    @DisplayName("원본 비율을 유지하며 목표 너비로 줄이고, 원본보다 크게 늘리지 않는다")
+    void render_ScalesDownKeepingAspectRatio() throws IOException {
+        // given
+        byte[] jpeg = image(1200, 800, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        // when
+        BufferedImage small = read(renderer.render(new ByteArrayInputStream(jpeg), "image/jpeg", 160));
+        BufferedImage large = read(renderer.render(new ByteArrayInputStream(jpeg), "image/jpeg", 4000));
+
+        // then
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isBetween(106, 107);
+        assertThat(large.getWidth()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("PNG 원본은 투명도를 유지한 PNG 썸네일로 만든다")
+    void render_KeepsPngAlpha() throws IOException {
+        // given
+        byte[] png = image(640, 640, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // when
+        BufferedImage thumbnail = read(renderer.render(new ByteArrayInputStream(png), "image/png", 160));
+
+        // then
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 이미지는 디코딩하지 않고 거부한다")
+    void render_RejectsOversizedSource() throws IOException {
+        // given
+        ThumbnailRenderer strict = new ThumbnailRenderer(100 * 100, 0.85f);
+        byte[] png = image(200, 200, BufferedImage.TYPE_INT_RGB, "png");
+
+        // when & then
+        assertThatThrownBy(() -> strict.render(new ByteArrayInputStream(png), "image/png", 160))
+                .isInstanceOf(FileInvalidException.class);
+        assertThatThrownBy(() -> renderer.render(new ByteArrayInputStream("not an image".getBytes()), "image/png", 160))
+                .isInstanceOf(FileInvalidException.class);
+    }
+
+    private static byte[] image(int width, int height, int type, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,91 @@
+package syboo.notice.notice.infra.thumbnail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.unit.DataSize;
+import syboo.notice.notice.infra.storage.StorageService;
+import syboo.notice.notice.infra.storage.StoredFile;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailStoreTest {
+
+    @Mock
+    private StorageService storageService;
+
+    private ThumbnailStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ThumbnailStore(storageService, new SimpleMeterRegistry(), DataSize.ofBytes(300));
+    }
+
+    @Test
+    @DisplayName("디스크 예산을 넘으면 가장 오래 쓰이지 않은 썸네일부터 삭제한다")
+    void save_EvictsLeastRecentlyUsed() {
+        // given: a, b 저장 후 a를 다시 사용
+        given(storageService.loadAsResource(anyString())).willReturn(new ByteArrayResource(new byte[0]));
+        store.save("thumbnails/a.w160.jpg", new byte[100]);
+        store.save("thumbnails/b.w160.jpg", new byte[100]);
+        assertThat(store.find("thumbnails/a.w160.jpg")).isPresent();
+
+        // when
+        store.save("thumbnails/c.w160.jpg", new byte[150]);
+
+        // then
+        verify(storageService).delete("thumbnails/b.w160.jpg");
+        verify(storageService, never()).delete("thumbnails/a.w160.jpg");
+        assertThat(store.find("thumbnails/b.w160.jpg")).isEmpty();
+        assertThat(store.totalBytes()).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("기동 시 기존 썸네일을 수정 시각 순으로 복원하고, 기록 도중 남은 임시 파일은 지운다")
+    void loadIndex_RestoresFromStorage() {
+        // given
+        given(storageService.list(ThumbnailStore.DIRECTORY)).willReturn(List.of(
+                new StoredFile("thumbnails/new.w160.jpg", 200, Instant.parse("2026-01-25T11:00:00Z")),
+                new StoredFile("thumbnails/old.w160.jpg", 200, Instant.parse("2026-01-25T10:00:00Z")),
+                new StoredFile("thumbnails/partial.w160.jpg.tmp", 50, Instant.parse("2026-01-25T12:00:00Z"))));
+
+        // when
+        store.loadIndex();
+
+        // then
+        verify(storageService).delete("thumbnails/partial.w160.jpg.tmp");
+        verify(storageService).delete("thumbnails/old.w160.jpg");
+        assertThat(store.totalBytes()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("원본 첨부파일이 삭제되면 모든 너비의 썸네일을 함께 지운다")
+    void deleteDerivatives_RemovesAllWidths() {
+        // given
+        store.save(ThumbnailStore.derivativeName("x.png", 160, "image/png"), new byte[10]);
+        store.save(ThumbnailStore.derivativeName("x.png", 480, "image/png"), new byte[20]);
+        store.save(ThumbnailStore.derivativeName("y.png", 160, "image/png"), new byte[30]);
+
+        // when
+        store.deleteDerivatives("x.png");
+
+        // then
+        verify(storageService).delete("thumbnails/x.png.w160.png");
+        verify(storageService).delete("thumbnails/x.png.w480.png");
+        verify(storageService, never()).delete("thumbnails/y.png.w160.png");
+        assertThat(store.totalBytes()).isEqualTo(30);
+    }
+}
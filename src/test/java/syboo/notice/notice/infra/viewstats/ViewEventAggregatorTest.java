@@ -0,0 +1,98 @@
+package syboo.notice.notice.infra.viewstats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import syboo.notice.notice.domain.NoticeViewBucket;
+import syboo.notice.notice.repository.NoticeViewStatsJdbcRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewEventAggregatorTest {
+
+    private final LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 25, 20, 0, 30);
+    private final Clock clock = Clock.fixed(fixedNow.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    @Mock
+    private NoticeViewStatsJdbcRepository viewStatsRepository;
+
+    private ViewEventAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ViewEventAggregator(clock, viewStatsRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 공지사항·같은 분의 조회는 하나의 증분으로 합쳐 한 번의 배치로 반영한다")
+    void flush_CoalescesViewsPerMinute() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            aggregator.record(1L);
+        }
+        aggregator.record(2L);
+
+        // when
+        aggregator.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<NoticeViewBucket.Key, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(viewStatsRepository, times(1)).addMinuteViews(captor.capture());
+        LocalDateTime minute = fixedNow.withSecond(0);
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                new NoticeViewBucket.Key(1L, minute), 100L,
+                new NoticeViewBucket.Key(2L, minute), 1L));
+
+        // and: 반영된 증분은 다시 보내지 않는다
+        aggregator.flush();
+        verify(viewStatsRepository, times(1)).addMinuteViews(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 버리지 않고 다음 주기에 새 조회와 합쳐 다시 반영한다")
+    void flush_RetriesFailedBatch() {
+        // given: 첫 반영은 실패
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .willDoNothing()
+                .given(viewStatsRepository).addMinuteViews(anyMap());
+        aggregator.record(1L);
+        aggregator.flush();
+
+        // when
+        aggregator.record(1L);
+        aggregator.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<NoticeViewBucket.Key, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(viewStatsRepository, times(2)).addMinuteViews(captor.capture());
+        assertThat(captor.getAllValues().get(1))
+                .containsExactly(Map.entry(new NoticeViewBucket.Key(1L, fixedNow.withSecond(0)), 2L));
+    }
+
+    @Test
+    @DisplayName("대기 중인 조회가 없으면 DB에 접근하지 않는다")
+    void flush_SkipsWhenEmpty() {
+        aggregator.flush();
+
+        verify(viewStatsRepository, never()).addMinuteViews(anyMap());
+    }
+}
@@ -0,0 +1,97 @@
+package syboo.notice.notice.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.api.request.NoticeSearchCondition;
+import syboo.notice.notice.api.response.NoticeListResponse;
+import syboo.notice.notice.domain.Notice;
+import syboo.notice.notice.domain.NoticeAttachment;
+import syboo.notice.notice.domain.TextTokenizer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentTextSearchTest extends IntegrationTestSupport {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private AttachmentTextRepository attachmentTextRepository;
+
+    @Autowired
+    private AttachmentTextTermJdbcRepository attachmentTextTermRepository;
+
+    private Notice manual;
+    private Notice schedule;
+
+    @BeforeEach
+    void setUp() {
+        manual = saveWithAttachment("사용자 매뉴얼 배포", "manual.pdf");
+        schedule = saveWithAttachment("점검 일정", "schedule.pdf");
+
+        index(manual, "시스템 사용자 설명서를 첨부합니다. Version 2 release");
+        index(schedule, "정기 점검은 매월 첫째 주에 진행합니다.");
+    }
+
+    @Test
+    @DisplayName("ATTACHMENT 검색은 제목이 아닌 첨부파일 본문에서 모든 검색어를 포함한 공지사항을 찾는다")
+    void search_MatchesAttachmentText() {
+        assertThat(search("설명서")).containsExactly(manual.getId());
+        assertThat(search("release VERSION")).containsExactly(manual.getId());
+        assertThat(search("정기 점검")).containsExactly(schedule.getId());
+        assertThat(search("매뉴얼")).isEmpty();
+        assertThat(search("설명서 점검")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("첨부파일이 삭제되면 본문 색인도 정리되어 더 이상 검색되지 않는다")
+    void deleteDetached_RemovesRemovedAttachmentTerms() {
+        // given
+        manual.removeAttachment(manual.getAttachments().getFirst());
+        noticeRepository.flush();
+
+        // when
+        attachmentTextRepository.deleteDetachedTerms(manual.getId());
+        attachmentTextRepository.deleteDetached(manual.getId());
+
+        // then
+        assertThat(search("설명서")).isEmpty();
+    }
+
+    private List<Long> search(String query) {
+        return noticeRepository.search(new NoticeSearchCondition(query, "ATTACHMENT", null, null), PageRequest.of(0, 10))
+                .getContent().stream()
+                .map(NoticeListResponse::id)
+                .toList();
+    }
+
+    private void index(Notice notice, String text) {
+        Long attachmentId = notice.getAttachments().getFirst().getId();
+        attachmentTextTermRepository.replaceTerms(attachmentId, notice.getId(), TextTokenizer.tokenize(text, 1_000));
+    }
+
+    private Notice saveWithAttachment(String title, String fileName) {
+        Notice notice = Notice.builder()
+                .title(title)
+                .content(title + " 내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build();
+        notice.addAttachment(NoticeAttachment.builder()
+                .originFileName(fileName)
+                .storedFileName("stored-" + fileName)
+                .fileSize(1_024L)
+                .contentType("application/pdf")
+                .checksum("checksum")
+                .build());
+        return noticeRepository.saveAndFlush(notice);
+    }
+}
@@ -0,0 +1,97 @@
+package syboo.notice.notice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.common.config.SecondLevelCacheConfig;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.domain.Notice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeSecondLevelCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Long noticeId;
+
+    @BeforeEach
+    void setUp() {
+        noticeId = noticeRepository.save(Notice.builder()
+                .title("캐시 테스트")
+                .content("내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build()).getId();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 한 번 조회된 공지사항은 이후 2차 캐시에서 읽힌다")
+    void findById_ServedFromSecondLevelCache() {
+        // given
+        CacheRegionStatistics statistics = regionStatistics();
+        long hitsBefore = statistics.getHitCount();
+
+        noticeRepository.findById(noticeId).orElseThrow();
+        em.clear();
+
+        // when
+        Notice notice = noticeRepository.findById(noticeId).orElseThrow();
+
+        // then
+        assertThat(notice.getTitle()).isEqualTo("캐시 테스트");
+        assertThat(emf.getCache().contains(Notice.class, noticeId)).isTrue();
+        assertThat(statistics.getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 조회수 갱신은 해당 공지사항의 캐시 항목만 제거하여 오래된 조회수를 읽지 않는다")
+    void updateViewCount_EvictsOnlyAffectedEntry() {
+        // given: 두 공지사항이 모두 캐시에 올라간 상태
+        Long otherId = noticeRepository.save(Notice.builder()
+                .title("다른 공지")
+                .content("내용")
+                .author("tester")
+                .noticeStartAt(TestClockConfig.FIXED_NOW.minusDays(1))
+                .noticeEndAt(TestClockConfig.FIXED_NOW.plusDays(7))
+                .build()).getId();
+        em.flush();
+        em.clear();
+
+        noticeRepository.findById(noticeId).orElseThrow();
+        noticeRepository.findById(otherId).orElseThrow();
+        em.clear();
+        assertThat(emf.getCache().contains(Notice.class, noticeId)).isTrue();
+
+        // when
+        noticeRepository.updateViewCount(noticeId);
+
+        // then: 갱신 대상만 제거되고 다른 항목은 유지된다
+        assertThat(emf.getCache().contains(Notice.class, noticeId)).isFalse();
+        assertThat(emf.getCache().contains(Notice.class, otherId)).isTrue();
+
+        // and: 다시 조회하면 DB의 최신 조회수를 읽는다
+        assertThat(noticeRepository.findById(noticeId).orElseThrow().getViewCount()).isEqualTo(1L);
+    }
+
+    private CacheRegionStatistics regionStatistics() {
+        return emf.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(SecondLevelCacheConfig.NOTICE_REGION);
+    }
+}
@@ -0,0 +1,81 @@
+package syboo.notice.notice.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import syboo.notice.IntegrationTestSupport;
+import syboo.notice.config.TestClockConfig;
+import syboo.notice.notice.domain.NoticeViewBucket;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeViewStatsJdbcRepositoryTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime HOUR_START = TestClockConfig.FIXED_NOW.withMinute(0);
+
+    @Autowired
+    private NoticeViewStatsJdbcRepository viewStatsRepository;
+
+    @Test
+    @DisplayName("해피 케이스: 같은 분의 증분은 여러 번 반영해도 하나의 행에 더해진다")
+    void addMinuteViews_AccumulatesIntoSameRow() {
+        // given
+        NoticeViewBucket.Key key = new NoticeViewBucket.Key(1L, HOUR_START.plusMinutes(5));
+
+        // when
+        viewStatsRepository.addMinuteViews(Map.of(key, 3L));
+        viewStatsRepository.addMinuteViews(Map.of(key, 2L));
+
+        // then
+        assertThat(viewStatsRepository.findHistory(1L, ViewGranularity.MINUTE, HOUR_START, HOUR_START.plusHours(1)))
+                .containsExactly(new NoticeViewPoint(HOUR_START.plusMinutes(5), 5L));
+    }
+
+    @Test
+    @DisplayName("해피 케이스: 분 단위 조회수를 시간/일 단위로 집계하며, 다시 집계해도 결과가 같다")
+    void rollup_IsIdempotent() {
+        // given: 같은 시간대의 두 분과 다음 시간대의 한 분
+        viewStatsRepository.addMinuteViews(Map.of(
+                new NoticeViewBucket.Key(1L, HOUR_START.plusMinutes(1)), 2L,
+                new NoticeViewBucket.Key(1L, HOUR_START.plusMinutes(30)), 3L,
+                new NoticeViewBucket.Key(1L, HOUR_START.plusHours(1).plusMinutes(2)), 4L,
+                new NoticeViewBucket.Key(2L, HOUR_START.plusMinutes(1)), 7L));
+        LocalDateTime dayStart = HOUR_START.toLocalDate().atStartOfDay();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            viewStatsRepository.rollup(ViewGranularity.MINUTE, ViewGranularity.HOUR, HOUR_START, HOUR_START.plusHours(2));
+            viewStatsRepository.rollup(ViewGranularity.HOUR, ViewGranularity.DAY, dayStart, dayStart.plusDays(2));
+        }
+
+        // then
+        assertThat(viewStatsRepository.findHistory(1L, ViewGranularity.HOUR, HOUR_START, HOUR_START.plusHours(2)))
+                .containsExactly(
+                        new NoticeViewPoint(HOUR_START, 5L),
+                        new NoticeViewPoint(HOUR_START.plusHours(1), 4L));
+        assertThat(viewStatsRepository.findHistory(1L, ViewGranularity.DAY, dayStart, dayStart.plusDays(2)))
+                .extracting(NoticeViewPoint::views)
+                .containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("예외 케이스: 보관 기간이 지난 행은 삭제된다")
+    void deleteBefore_RemovesExpiredRows() {
+        // given
+        viewStatsRepository.addMinuteViews(Map.of(
+                new NoticeViewBucket.Key(1L, HOUR_START.minusDays(3)), 1L,
+                new NoticeViewBucket.Key(1L, HOUR_START), 1L));
+
+        // when
+        int deleted = viewStatsRepository.deleteBefore(ViewGranularity.MINUTE, HOUR_START.minusDays(2));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(viewStatsRepository.findHistory(1L, ViewGranularity.MINUTE, HOUR_START.minusDays(4), HOUR_START.plusHours(1)))
+                .extracting(NoticeViewPoint::bucketStart)
+                .containsExactly(HOUR_START);
+    }
+}